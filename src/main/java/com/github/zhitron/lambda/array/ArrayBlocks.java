@@ -0,0 +1,115 @@
+package com.github.zhitron.lambda.array;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 数组分块并行执行的内部工具类，负责块的划分以及在 {@link ForkJoinPool#commonPool()} 上并行执行块任务。
+ *
+ * @author zhitron
+ */
+final class ArrayBlocks {
+
+    /**
+     * 单个块的最小长度，小于该长度的数组直接顺序执行。
+     */
+    static final int MIN_BLOCK_LENGTH = 1 << 13;
+
+    /**
+     * 每个并行度分配的块数量，适当过量划分以平衡各线程负载。
+     */
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    private ArrayBlocks() {
+    }
+
+    /**
+     * 计算给定长度的区间应划分的块数量，返回 1 表示应当顺序执行。
+     *
+     * @param length 区间长度
+     * @return 块数量
+     */
+    static int blockCount(int length) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (parallelism <= 1 || length < MIN_BLOCK_LENGTH << 1) {
+            return 1;
+        }
+        return Math.min(parallelism * BLOCKS_PER_THREAD, length / MIN_BLOCK_LENGTH);
+    }
+
+    /**
+     * 计算第 block 个块的起始下标（包含），最后一个块的结束位置即 {@code blockStart(..., blockCount)}。
+     *
+     * @param fromIndex  区间起始下标（包含）
+     * @param length     区间长度
+     * @param blockCount 块数量
+     * @param block      块序号
+     * @return 块的起始下标
+     */
+    static int blockStart(int fromIndex, int length, int blockCount, int block) {
+        return fromIndex + (int) ((long) length * block / blockCount);
+    }
+
+    /**
+     * 校验区间是否位于数组范围内。
+     *
+     * @param arrayLength 数组长度
+     * @param fromIndex   区间起始下标（包含）
+     * @param toIndex     区间结束下标（不包含）
+     * @throws IllegalArgumentException       当 fromIndex 大于 toIndex 时抛出
+     * @throws ArrayIndexOutOfBoundsException 当区间超出数组范围时抛出
+     */
+    static void checkRange(int arrayLength, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * 并行执行 [0, blockCount) 范围内每个块序号对应的操作，并等待全部完成。
+     *
+     * @param blockCount 块数量
+     * @param action     针对单个块序号执行的操作
+     */
+    static void forEachBlock(int blockCount, SingleConsumerInt action) {
+        if (blockCount == 1) {
+            action.accept(0);
+        } else {
+            ForkJoinPool.commonPool().invoke(new BlockAction(action, 0, blockCount));
+        }
+    }
+
+    /**
+     * 对块序号区间进行二分拆分的并行任务。
+     */
+    private static final class BlockAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final SingleConsumerInt action;
+        private final int from;
+        private final int to;
+
+        BlockAction(SingleConsumerInt action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BlockAction(action, from, middle), new BlockAction(action, middle, to));
+        }
+    }
+}
@@ -0,0 +1,1236 @@
+package com.github.zhitron.lambda.array;
+
+import com.github.zhitron.lambda.function.TwiceFunctionDoubleToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionIntToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionLongToInt;
+import com.github.zhitron.lambda.predicate.SinglePredicateBoolean;
+import com.github.zhitron.lambda.predicate.SinglePredicateByte;
+import com.github.zhitron.lambda.predicate.SinglePredicateChar;
+import com.github.zhitron.lambda.predicate.SinglePredicateDouble;
+import com.github.zhitron.lambda.predicate.SinglePredicateFloat;
+import com.github.zhitron.lambda.predicate.SinglePredicateInt;
+import com.github.zhitron.lambda.predicate.SinglePredicateLong;
+import com.github.zhitron.lambda.predicate.SinglePredicateObject;
+import com.github.zhitron.lambda.predicate.SinglePredicateShort;
+
+/**
+ * 基于谓词与比较器回调的原始类型数组查找、划分与选择工具类。
+ * <p>
+ * {@code lowerBound} 在按谓词划分的数组上进行二分查找，{@code partition} 按谓词原地划分数组，
+ * {@code nthElement} 使用快速选择将第 n 小的元素放到其排序后的位置上，而无需对整个数组排序。
+ * 比较器约定与 {@link ArraySorter} 一致。
+ *
+ * @author zhitron
+ */
+public final class ArraySelector {
+
+    /**
+     * 小于该长度的区间直接使用插入排序完成选择。
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private ArraySelector() {
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 boolean 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(boolean[] array, SinglePredicateBoolean predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 boolean 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(boolean[] array, int fromIndex, int toIndex, SinglePredicateBoolean predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 boolean 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(boolean[] array, SinglePredicateBoolean predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 boolean 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(boolean[] array, int fromIndex, int toIndex, SinglePredicateBoolean predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            boolean value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 byte 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(byte[] array, SinglePredicateByte predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 byte 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(byte[] array, int fromIndex, int toIndex, SinglePredicateByte predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 byte 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(byte[] array, SinglePredicateByte predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 byte 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(byte[] array, int fromIndex, int toIndex, SinglePredicateByte predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            byte value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    /**
+     * 使用快速选择重排整个 byte 数组，使下标 n 处的元素等于数组排序后该位置的元素，
+     * 其前面的元素都不大于它，其后面的元素都不小于它。
+     *
+     * @param array      待重排的数组
+     * @param n          目标下标
+     * @param comparator 元素比较器
+     * @return 排序后位于下标 n 的元素
+     */
+    public static byte nthElement(byte[] array, int n, TwiceFunctionIntToInt comparator) {
+        return nthElement(array, 0, array.length, n, comparator);
+    }
+
+    /**
+     * 使用快速选择重排 byte 数组的指定区间，使下标 n 处的元素等于该区间排序后该位置的元素。
+     *
+     * @param array      待重排的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param n          目标下标，必须位于区间内
+     * @param comparator 元素比较器
+     * @return 区间排序后位于下标 n 的元素
+     */
+    public static byte nthElement(byte[] array, int fromIndex, int toIndex, int n, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException(n);
+        }
+        int left = fromIndex, right = toIndex - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                ArraySorter.sort(array, left, right + 1, comparator);
+                return array[n];
+            }
+            int middle = (left + right) >>> 1;
+            sort2(array, left, middle, comparator);
+            sort2(array, middle, right, comparator);
+            sort2(array, left, middle, comparator);
+            byte pivot = array[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (comparator.apply(array[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.apply(array[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    byte value = array[i];
+                    array[i++] = array[j];
+                    array[j--] = value;
+                }
+            }
+            if (n <= j) {
+                right = j;
+            } else if (n >= i) {
+                left = i;
+            } else {
+                return array[n];
+            }
+        }
+        ArraySorter.sort(array, left, right + 1, comparator);
+        return array[n];
+    }
+
+    private static void sort2(byte[] array, int i, int j, TwiceFunctionIntToInt comparator) {
+        if (comparator.apply(array[j], array[i]) < 0) {
+            byte value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 char 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(char[] array, SinglePredicateChar predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 char 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(char[] array, int fromIndex, int toIndex, SinglePredicateChar predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 char 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(char[] array, SinglePredicateChar predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 char 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(char[] array, int fromIndex, int toIndex, SinglePredicateChar predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            char value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    /**
+     * 使用快速选择重排整个 char 数组，使下标 n 处的元素等于数组排序后该位置的元素，
+     * 其前面的元素都不大于它，其后面的元素都不小于它。
+     *
+     * @param array      待重排的数组
+     * @param n          目标下标
+     * @param comparator 元素比较器
+     * @return 排序后位于下标 n 的元素
+     */
+    public static char nthElement(char[] array, int n, TwiceFunctionIntToInt comparator) {
+        return nthElement(array, 0, array.length, n, comparator);
+    }
+
+    /**
+     * 使用快速选择重排 char 数组的指定区间，使下标 n 处的元素等于该区间排序后该位置的元素。
+     *
+     * @param array      待重排的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param n          目标下标，必须位于区间内
+     * @param comparator 元素比较器
+     * @return 区间排序后位于下标 n 的元素
+     */
+    public static char nthElement(char[] array, int fromIndex, int toIndex, int n, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException(n);
+        }
+        int left = fromIndex, right = toIndex - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                ArraySorter.sort(array, left, right + 1, comparator);
+                return array[n];
+            }
+            int middle = (left + right) >>> 1;
+            sort2(array, left, middle, comparator);
+            sort2(array, middle, right, comparator);
+            sort2(array, left, middle, comparator);
+            char pivot = array[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (comparator.apply(array[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.apply(array[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    char value = array[i];
+                    array[i++] = array[j];
+                    array[j--] = value;
+                }
+            }
+            if (n <= j) {
+                right = j;
+            } else if (n >= i) {
+                left = i;
+            } else {
+                return array[n];
+            }
+        }
+        ArraySorter.sort(array, left, right + 1, comparator);
+        return array[n];
+    }
+
+    private static void sort2(char[] array, int i, int j, TwiceFunctionIntToInt comparator) {
+        if (comparator.apply(array[j], array[i]) < 0) {
+            char value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 short 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(short[] array, SinglePredicateShort predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 short 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(short[] array, int fromIndex, int toIndex, SinglePredicateShort predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 short 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(short[] array, SinglePredicateShort predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 short 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(short[] array, int fromIndex, int toIndex, SinglePredicateShort predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            short value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    /**
+     * 使用快速选择重排整个 short 数组，使下标 n 处的元素等于数组排序后该位置的元素，
+     * 其前面的元素都不大于它，其后面的元素都不小于它。
+     *
+     * @param array      待重排的数组
+     * @param n          目标下标
+     * @param comparator 元素比较器
+     * @return 排序后位于下标 n 的元素
+     */
+    public static short nthElement(short[] array, int n, TwiceFunctionIntToInt comparator) {
+        return nthElement(array, 0, array.length, n, comparator);
+    }
+
+    /**
+     * 使用快速选择重排 short 数组的指定区间，使下标 n 处的元素等于该区间排序后该位置的元素。
+     *
+     * @param array      待重排的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param n          目标下标，必须位于区间内
+     * @param comparator 元素比较器
+     * @return 区间排序后位于下标 n 的元素
+     */
+    public static short nthElement(short[] array, int fromIndex, int toIndex, int n, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException(n);
+        }
+        int left = fromIndex, right = toIndex - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                ArraySorter.sort(array, left, right + 1, comparator);
+                return array[n];
+            }
+            int middle = (left + right) >>> 1;
+            sort2(array, left, middle, comparator);
+            sort2(array, middle, right, comparator);
+            sort2(array, left, middle, comparator);
+            short pivot = array[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (comparator.apply(array[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.apply(array[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    short value = array[i];
+                    array[i++] = array[j];
+                    array[j--] = value;
+                }
+            }
+            if (n <= j) {
+                right = j;
+            } else if (n >= i) {
+                left = i;
+            } else {
+                return array[n];
+            }
+        }
+        ArraySorter.sort(array, left, right + 1, comparator);
+        return array[n];
+    }
+
+    private static void sort2(short[] array, int i, int j, TwiceFunctionIntToInt comparator) {
+        if (comparator.apply(array[j], array[i]) < 0) {
+            short value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 int 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(int[] array, SinglePredicateInt predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 int 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(int[] array, int fromIndex, int toIndex, SinglePredicateInt predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 int 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(int[] array, SinglePredicateInt predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 int 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(int[] array, int fromIndex, int toIndex, SinglePredicateInt predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            int value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    /**
+     * 使用快速选择重排整个 int 数组，使下标 n 处的元素等于数组排序后该位置的元素，
+     * 其前面的元素都不大于它，其后面的元素都不小于它。
+     *
+     * @param array      待重排的数组
+     * @param n          目标下标
+     * @param comparator 元素比较器
+     * @return 排序后位于下标 n 的元素
+     */
+    public static int nthElement(int[] array, int n, TwiceFunctionIntToInt comparator) {
+        return nthElement(array, 0, array.length, n, comparator);
+    }
+
+    /**
+     * 使用快速选择重排 int 数组的指定区间，使下标 n 处的元素等于该区间排序后该位置的元素。
+     *
+     * @param array      待重排的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param n          目标下标，必须位于区间内
+     * @param comparator 元素比较器
+     * @return 区间排序后位于下标 n 的元素
+     */
+    public static int nthElement(int[] array, int fromIndex, int toIndex, int n, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException(n);
+        }
+        int left = fromIndex, right = toIndex - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                ArraySorter.sort(array, left, right + 1, comparator);
+                return array[n];
+            }
+            int middle = (left + right) >>> 1;
+            sort2(array, left, middle, comparator);
+            sort2(array, middle, right, comparator);
+            sort2(array, left, middle, comparator);
+            int pivot = array[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (comparator.apply(array[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.apply(array[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    int value = array[i];
+                    array[i++] = array[j];
+                    array[j--] = value;
+                }
+            }
+            if (n <= j) {
+                right = j;
+            } else if (n >= i) {
+                left = i;
+            } else {
+                return array[n];
+            }
+        }
+        ArraySorter.sort(array, left, right + 1, comparator);
+        return array[n];
+    }
+
+    private static void sort2(int[] array, int i, int j, TwiceFunctionIntToInt comparator) {
+        if (comparator.apply(array[j], array[i]) < 0) {
+            int value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 long 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(long[] array, SinglePredicateLong predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 long 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(long[] array, int fromIndex, int toIndex, SinglePredicateLong predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 long 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(long[] array, SinglePredicateLong predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 long 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(long[] array, int fromIndex, int toIndex, SinglePredicateLong predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            long value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    /**
+     * 使用快速选择重排整个 long 数组，使下标 n 处的元素等于数组排序后该位置的元素，
+     * 其前面的元素都不大于它，其后面的元素都不小于它。
+     *
+     * @param array      待重排的数组
+     * @param n          目标下标
+     * @param comparator 元素比较器
+     * @return 排序后位于下标 n 的元素
+     */
+    public static long nthElement(long[] array, int n, TwiceFunctionLongToInt comparator) {
+        return nthElement(array, 0, array.length, n, comparator);
+    }
+
+    /**
+     * 使用快速选择重排 long 数组的指定区间，使下标 n 处的元素等于该区间排序后该位置的元素。
+     *
+     * @param array      待重排的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param n          目标下标，必须位于区间内
+     * @param comparator 元素比较器
+     * @return 区间排序后位于下标 n 的元素
+     */
+    public static long nthElement(long[] array, int fromIndex, int toIndex, int n, TwiceFunctionLongToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException(n);
+        }
+        int left = fromIndex, right = toIndex - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                ArraySorter.sort(array, left, right + 1, comparator);
+                return array[n];
+            }
+            int middle = (left + right) >>> 1;
+            sort2(array, left, middle, comparator);
+            sort2(array, middle, right, comparator);
+            sort2(array, left, middle, comparator);
+            long pivot = array[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (comparator.apply(array[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.apply(array[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    long value = array[i];
+                    array[i++] = array[j];
+                    array[j--] = value;
+                }
+            }
+            if (n <= j) {
+                right = j;
+            } else if (n >= i) {
+                left = i;
+            } else {
+                return array[n];
+            }
+        }
+        ArraySorter.sort(array, left, right + 1, comparator);
+        return array[n];
+    }
+
+    private static void sort2(long[] array, int i, int j, TwiceFunctionLongToInt comparator) {
+        if (comparator.apply(array[j], array[i]) < 0) {
+            long value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 float 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(float[] array, SinglePredicateFloat predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 float 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(float[] array, int fromIndex, int toIndex, SinglePredicateFloat predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 float 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(float[] array, SinglePredicateFloat predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 float 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(float[] array, int fromIndex, int toIndex, SinglePredicateFloat predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            float value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    /**
+     * 使用快速选择重排整个 float 数组，使下标 n 处的元素等于数组排序后该位置的元素，
+     * 其前面的元素都不大于它，其后面的元素都不小于它。
+     *
+     * @param array      待重排的数组
+     * @param n          目标下标
+     * @param comparator 元素比较器
+     * @return 排序后位于下标 n 的元素
+     */
+    public static float nthElement(float[] array, int n, TwiceFunctionDoubleToInt comparator) {
+        return nthElement(array, 0, array.length, n, comparator);
+    }
+
+    /**
+     * 使用快速选择重排 float 数组的指定区间，使下标 n 处的元素等于该区间排序后该位置的元素。
+     *
+     * @param array      待重排的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param n          目标下标，必须位于区间内
+     * @param comparator 元素比较器
+     * @return 区间排序后位于下标 n 的元素
+     */
+    public static float nthElement(float[] array, int fromIndex, int toIndex, int n, TwiceFunctionDoubleToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException(n);
+        }
+        int left = fromIndex, right = toIndex - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                ArraySorter.sort(array, left, right + 1, comparator);
+                return array[n];
+            }
+            int middle = (left + right) >>> 1;
+            sort2(array, left, middle, comparator);
+            sort2(array, middle, right, comparator);
+            sort2(array, left, middle, comparator);
+            float pivot = array[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (comparator.apply(array[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.apply(array[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    float value = array[i];
+                    array[i++] = array[j];
+                    array[j--] = value;
+                }
+            }
+            if (n <= j) {
+                right = j;
+            } else if (n >= i) {
+                left = i;
+            } else {
+                return array[n];
+            }
+        }
+        ArraySorter.sort(array, left, right + 1, comparator);
+        return array[n];
+    }
+
+    private static void sort2(float[] array, int i, int j, TwiceFunctionDoubleToInt comparator) {
+        if (comparator.apply(array[j], array[i]) < 0) {
+            float value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 double 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static int lowerBound(double[] array, SinglePredicateDouble predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 double 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static int lowerBound(double[] array, int fromIndex, int toIndex, SinglePredicateDouble predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 double 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static int partition(double[] array, SinglePredicateDouble predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 double 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static int partition(double[] array, int fromIndex, int toIndex, SinglePredicateDouble predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            double value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+
+    /**
+     * 使用快速选择重排整个 double 数组，使下标 n 处的元素等于数组排序后该位置的元素，
+     * 其前面的元素都不大于它，其后面的元素都不小于它。
+     *
+     * @param array      待重排的数组
+     * @param n          目标下标
+     * @param comparator 元素比较器
+     * @return 排序后位于下标 n 的元素
+     */
+    public static double nthElement(double[] array, int n, TwiceFunctionDoubleToInt comparator) {
+        return nthElement(array, 0, array.length, n, comparator);
+    }
+
+    /**
+     * 使用快速选择重排 double 数组的指定区间，使下标 n 处的元素等于该区间排序后该位置的元素。
+     *
+     * @param array      待重排的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param n          目标下标，必须位于区间内
+     * @param comparator 元素比较器
+     * @return 区间排序后位于下标 n 的元素
+     */
+    public static double nthElement(double[] array, int fromIndex, int toIndex, int n, TwiceFunctionDoubleToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException(n);
+        }
+        int left = fromIndex, right = toIndex - 1;
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                ArraySorter.sort(array, left, right + 1, comparator);
+                return array[n];
+            }
+            int middle = (left + right) >>> 1;
+            sort2(array, left, middle, comparator);
+            sort2(array, middle, right, comparator);
+            sort2(array, left, middle, comparator);
+            double pivot = array[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (comparator.apply(array[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.apply(array[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    double value = array[i];
+                    array[i++] = array[j];
+                    array[j--] = value;
+                }
+            }
+            if (n <= j) {
+                right = j;
+            } else if (n >= i) {
+                left = i;
+            } else {
+                return array[n];
+            }
+        }
+        ArraySorter.sort(array, left, right + 1, comparator);
+        return array[n];
+    }
+
+    private static void sort2(double[] array, int i, int j, TwiceFunctionDoubleToInt comparator) {
+        if (comparator.apply(array[j], array[i]) < 0) {
+            double value = array[i];
+            array[i] = array[j];
+            array[j] = value;
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在整个 对象 数组中二分查找第一个满足谓词的元素下标。数组必须已按谓词划分，即所有不满足谓词的元素都位于满足谓词的元素之前，
+     * 例如对升序数组使用 {@code v -> v >= key} 即得到经典的下界位置。
+     *
+     * @param array     已按谓词划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回数组长度
+     */
+    public static <T> int lowerBound(T[] array, SinglePredicateObject<T> predicate) {
+        return lowerBound(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 在 对象 数组的指定区间中二分查找第一个满足谓词的元素下标，区间必须已按谓词划分。
+     *
+     * @param array     已按谓词划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 第一个满足谓词的元素下标，没有元素满足时返回 toIndex
+     */
+    public static <T> int lowerBound(T[] array, int fromIndex, int toIndex, SinglePredicateObject<T> predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (predicate.test(array[middle])) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 按谓词原地划分整个 对象 数组，满足谓词的元素移动到数组前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param predicate 划分谓词
+     * @return 第一个不满足谓词的元素下标，即满足谓词的元素数量
+     */
+    public static <T> int partition(T[] array, SinglePredicateObject<T> predicate) {
+        return partition(array, 0, array.length, predicate);
+    }
+
+    /**
+     * 按谓词原地划分 对象 数组的指定区间，满足谓词的元素移动到区间前部，划分不保证元素的相对顺序。
+     *
+     * @param array     待划分的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param predicate 划分谓词
+     * @return 区间内第一个不满足谓词的元素下标
+     */
+    public static <T> int partition(T[] array, int fromIndex, int toIndex, SinglePredicateObject<T> predicate) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int low = fromIndex, high = toIndex - 1;
+        while (true) {
+            while (low <= high && predicate.test(array[low])) {
+                low++;
+            }
+            while (low < high && !predicate.test(array[high])) {
+                high--;
+            }
+            if (low >= high) {
+                return low;
+            }
+            T value = array[low];
+            array[low++] = array[high];
+            array[high--] = value;
+        }
+    }
+}
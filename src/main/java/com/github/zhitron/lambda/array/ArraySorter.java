@@ -0,0 +1,1550 @@
+package com.github.zhitron.lambda.array;
+
+import com.github.zhitron.lambda.function.SingleFunctionIntToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionIntToLong;
+import com.github.zhitron.lambda.function.TwiceFunctionDoubleToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionIntToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionLongToInt;
+
+/**
+ * 使用原始类型比较器对原始类型数组排序的工具类，避免装箱为包装类型数组。
+ * <p>
+ * 顺序排序采用双轴快速排序，小区间退化为插入排序，递归过深时退化为堆排序以保证 O(n log n) 的最坏复杂度；
+ * 并行排序在公共池上对子区间分别排序后并行归并。比较器返回负数、零、正数分别表示第一个参数小于、等于、大于第二个参数，
+ * byte、char、short 使用 {@link TwiceFunctionIntToInt}，float 使用 {@link TwiceFunctionDoubleToInt} 作为比较器。
+ * 这些排序都不是稳定排序。
+ *
+ * @author zhitron
+ */
+public final class ArraySorter {
+
+    /**
+     * 小于该长度的区间使用插入排序。
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private ArraySorter() {
+    }
+
+    /**
+     * 计算区间长度对应的快速排序最大递归深度，超过后退化为堆排序。
+     *
+     * @param length 区间长度
+     * @return 最大递归深度
+     */
+    private static int depthLimit(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用给定比较器对整个 byte 数组排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void sort(byte[] array, TwiceFunctionIntToInt comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器对 byte 数组的指定区间排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void sort(byte[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            quickSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+        }
+    }
+
+    /**
+     * 使用给定比较器并行排序整个 byte 数组，数组较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(byte[] array, TwiceFunctionIntToInt comparator) {
+        parallelSort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器并行排序 byte 数组的指定区间，区间较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(byte[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (!ParallelMergeSort.isParallel(toIndex - fromIndex)) {
+            sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        byte[] buffer = new byte[toIndex - fromIndex];
+        ParallelMergeSort.sort(new ParallelMergeSort.Segment() {
+            @Override
+            public void sort(int from, int to) {
+                quickSort(array, from, to - 1, depthLimit(to - from), comparator);
+            }
+
+            @Override
+            public void copyToBuffer(int from, int to) {
+                System.arraycopy(array, from, buffer, from - fromIndex, to - from);
+            }
+
+            @Override
+            public int lowerBound(int from, int to, int keyIndex) {
+                byte key = buffer[keyIndex - fromIndex];
+                int low = from, high = to;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (comparator.apply(buffer[middle - fromIndex], key) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                return low;
+            }
+
+            @Override
+            public void merge(int low1, int high1, int low2, int high2, int destIndex) {
+                int i = low1 - fromIndex, j = low2 - fromIndex, end1 = high1 - fromIndex, end2 = high2 - fromIndex, k = destIndex;
+                while (i < end1 && j < end2) {
+                    array[k++] = comparator.apply(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < end1) {
+                    array[k++] = buffer[i++];
+                }
+                while (j < end2) {
+                    array[k++] = buffer[j++];
+                }
+            }
+        }, fromIndex, toIndex);
+    }
+
+    private static void quickSort(byte[] a, int left, int right, int depth, TwiceFunctionIntToInt c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right, c);
+                return;
+            }
+            int seventh = ((right - left + 1) >> 3) + ((right - left + 1) >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh, e4 = e3 + seventh, e5 = e4 + seventh;
+            sort2(a, e1, e2, c);
+            sort2(a, e4, e5, c);
+            sort2(a, e3, e5, c);
+            sort2(a, e3, e4, c);
+            sort2(a, e2, e5, c);
+            sort2(a, e1, e4, c);
+            sort2(a, e1, e3, c);
+            sort2(a, e2, e4, c);
+            sort2(a, e2, e3, c);
+            swap(a, e2, left);
+            swap(a, e4, right);
+            byte pivot1 = a[left], pivot2 = a[right];
+            int less = left + 1, great = right - 1;
+            for (int k = less; k <= great; k++) {
+                byte ak = a[k];
+                if (c.apply(ak, pivot1) < 0) {
+                    a[k] = a[less];
+                    a[less++] = ak;
+                } else if (c.apply(ak, pivot2) > 0) {
+                    while (k < great && c.apply(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    a[k] = a[great];
+                    a[great--] = ak;
+                    ak = a[k];
+                    if (c.apply(ak, pivot1) < 0) {
+                        a[k] = a[less];
+                        a[less++] = ak;
+                    }
+                }
+            }
+            swap(a, left, --less);
+            swap(a, right, ++great);
+            quickSort(a, left, less - 1, depth, c);
+            if (c.apply(pivot1, pivot2) != 0) {
+                quickSort(a, less + 1, great - 1, depth, c);
+            }
+            left = great + 1;
+        }
+        insertionSort(a, left, right, c);
+    }
+
+    private static void insertionSort(byte[] a, int left, int right, TwiceFunctionIntToInt c) {
+        for (int i = left + 1; i <= right; i++) {
+            byte ai = a[i];
+            int j = i - 1;
+            while (j >= left && c.apply(ai, a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = ai;
+        }
+    }
+
+    private static void heapSort(byte[] a, int left, int right, TwiceFunctionIntToInt c) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, left, i, length, c);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, left, left + end);
+            siftDown(a, left, 0, end, c);
+        }
+    }
+
+    private static void siftDown(byte[] a, int base, int index, int length, TwiceFunctionIntToInt c) {
+        byte value = a[base + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && c.apply(a[base + child], a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.apply(value, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + index] = a[base + child];
+            index = child;
+        }
+        a[base + index] = value;
+    }
+
+    private static void sort2(byte[] a, int i, int j, TwiceFunctionIntToInt c) {
+        if (c.apply(a[j], a[i]) < 0) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void swap(byte[] a, int i, int j) {
+        byte t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用给定比较器对整个 char 数组排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void sort(char[] array, TwiceFunctionIntToInt comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器对 char 数组的指定区间排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void sort(char[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            quickSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+        }
+    }
+
+    /**
+     * 使用给定比较器并行排序整个 char 数组，数组较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(char[] array, TwiceFunctionIntToInt comparator) {
+        parallelSort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器并行排序 char 数组的指定区间，区间较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(char[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (!ParallelMergeSort.isParallel(toIndex - fromIndex)) {
+            sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        char[] buffer = new char[toIndex - fromIndex];
+        ParallelMergeSort.sort(new ParallelMergeSort.Segment() {
+            @Override
+            public void sort(int from, int to) {
+                quickSort(array, from, to - 1, depthLimit(to - from), comparator);
+            }
+
+            @Override
+            public void copyToBuffer(int from, int to) {
+                System.arraycopy(array, from, buffer, from - fromIndex, to - from);
+            }
+
+            @Override
+            public int lowerBound(int from, int to, int keyIndex) {
+                char key = buffer[keyIndex - fromIndex];
+                int low = from, high = to;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (comparator.apply(buffer[middle - fromIndex], key) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                return low;
+            }
+
+            @Override
+            public void merge(int low1, int high1, int low2, int high2, int destIndex) {
+                int i = low1 - fromIndex, j = low2 - fromIndex, end1 = high1 - fromIndex, end2 = high2 - fromIndex, k = destIndex;
+                while (i < end1 && j < end2) {
+                    array[k++] = comparator.apply(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < end1) {
+                    array[k++] = buffer[i++];
+                }
+                while (j < end2) {
+                    array[k++] = buffer[j++];
+                }
+            }
+        }, fromIndex, toIndex);
+    }
+
+    private static void quickSort(char[] a, int left, int right, int depth, TwiceFunctionIntToInt c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right, c);
+                return;
+            }
+            int seventh = ((right - left + 1) >> 3) + ((right - left + 1) >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh, e4 = e3 + seventh, e5 = e4 + seventh;
+            sort2(a, e1, e2, c);
+            sort2(a, e4, e5, c);
+            sort2(a, e3, e5, c);
+            sort2(a, e3, e4, c);
+            sort2(a, e2, e5, c);
+            sort2(a, e1, e4, c);
+            sort2(a, e1, e3, c);
+            sort2(a, e2, e4, c);
+            sort2(a, e2, e3, c);
+            swap(a, e2, left);
+            swap(a, e4, right);
+            char pivot1 = a[left], pivot2 = a[right];
+            int less = left + 1, great = right - 1;
+            for (int k = less; k <= great; k++) {
+                char ak = a[k];
+                if (c.apply(ak, pivot1) < 0) {
+                    a[k] = a[less];
+                    a[less++] = ak;
+                } else if (c.apply(ak, pivot2) > 0) {
+                    while (k < great && c.apply(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    a[k] = a[great];
+                    a[great--] = ak;
+                    ak = a[k];
+                    if (c.apply(ak, pivot1) < 0) {
+                        a[k] = a[less];
+                        a[less++] = ak;
+                    }
+                }
+            }
+            swap(a, left, --less);
+            swap(a, right, ++great);
+            quickSort(a, left, less - 1, depth, c);
+            if (c.apply(pivot1, pivot2) != 0) {
+                quickSort(a, less + 1, great - 1, depth, c);
+            }
+            left = great + 1;
+        }
+        insertionSort(a, left, right, c);
+    }
+
+    private static void insertionSort(char[] a, int left, int right, TwiceFunctionIntToInt c) {
+        for (int i = left + 1; i <= right; i++) {
+            char ai = a[i];
+            int j = i - 1;
+            while (j >= left && c.apply(ai, a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = ai;
+        }
+    }
+
+    private static void heapSort(char[] a, int left, int right, TwiceFunctionIntToInt c) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, left, i, length, c);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, left, left + end);
+            siftDown(a, left, 0, end, c);
+        }
+    }
+
+    private static void siftDown(char[] a, int base, int index, int length, TwiceFunctionIntToInt c) {
+        char value = a[base + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && c.apply(a[base + child], a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.apply(value, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + index] = a[base + child];
+            index = child;
+        }
+        a[base + index] = value;
+    }
+
+    private static void sort2(char[] a, int i, int j, TwiceFunctionIntToInt c) {
+        if (c.apply(a[j], a[i]) < 0) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void swap(char[] a, int i, int j) {
+        char t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用给定比较器对整个 short 数组排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void sort(short[] array, TwiceFunctionIntToInt comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器对 short 数组的指定区间排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void sort(short[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            quickSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+        }
+    }
+
+    /**
+     * 使用给定比较器并行排序整个 short 数组，数组较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(short[] array, TwiceFunctionIntToInt comparator) {
+        parallelSort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器并行排序 short 数组的指定区间，区间较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(short[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (!ParallelMergeSort.isParallel(toIndex - fromIndex)) {
+            sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        short[] buffer = new short[toIndex - fromIndex];
+        ParallelMergeSort.sort(new ParallelMergeSort.Segment() {
+            @Override
+            public void sort(int from, int to) {
+                quickSort(array, from, to - 1, depthLimit(to - from), comparator);
+            }
+
+            @Override
+            public void copyToBuffer(int from, int to) {
+                System.arraycopy(array, from, buffer, from - fromIndex, to - from);
+            }
+
+            @Override
+            public int lowerBound(int from, int to, int keyIndex) {
+                short key = buffer[keyIndex - fromIndex];
+                int low = from, high = to;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (comparator.apply(buffer[middle - fromIndex], key) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                return low;
+            }
+
+            @Override
+            public void merge(int low1, int high1, int low2, int high2, int destIndex) {
+                int i = low1 - fromIndex, j = low2 - fromIndex, end1 = high1 - fromIndex, end2 = high2 - fromIndex, k = destIndex;
+                while (i < end1 && j < end2) {
+                    array[k++] = comparator.apply(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < end1) {
+                    array[k++] = buffer[i++];
+                }
+                while (j < end2) {
+                    array[k++] = buffer[j++];
+                }
+            }
+        }, fromIndex, toIndex);
+    }
+
+    private static void quickSort(short[] a, int left, int right, int depth, TwiceFunctionIntToInt c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right, c);
+                return;
+            }
+            int seventh = ((right - left + 1) >> 3) + ((right - left + 1) >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh, e4 = e3 + seventh, e5 = e4 + seventh;
+            sort2(a, e1, e2, c);
+            sort2(a, e4, e5, c);
+            sort2(a, e3, e5, c);
+            sort2(a, e3, e4, c);
+            sort2(a, e2, e5, c);
+            sort2(a, e1, e4, c);
+            sort2(a, e1, e3, c);
+            sort2(a, e2, e4, c);
+            sort2(a, e2, e3, c);
+            swap(a, e2, left);
+            swap(a, e4, right);
+            short pivot1 = a[left], pivot2 = a[right];
+            int less = left + 1, great = right - 1;
+            for (int k = less; k <= great; k++) {
+                short ak = a[k];
+                if (c.apply(ak, pivot1) < 0) {
+                    a[k] = a[less];
+                    a[less++] = ak;
+                } else if (c.apply(ak, pivot2) > 0) {
+                    while (k < great && c.apply(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    a[k] = a[great];
+                    a[great--] = ak;
+                    ak = a[k];
+                    if (c.apply(ak, pivot1) < 0) {
+                        a[k] = a[less];
+                        a[less++] = ak;
+                    }
+                }
+            }
+            swap(a, left, --less);
+            swap(a, right, ++great);
+            quickSort(a, left, less - 1, depth, c);
+            if (c.apply(pivot1, pivot2) != 0) {
+                quickSort(a, less + 1, great - 1, depth, c);
+            }
+            left = great + 1;
+        }
+        insertionSort(a, left, right, c);
+    }
+
+    private static void insertionSort(short[] a, int left, int right, TwiceFunctionIntToInt c) {
+        for (int i = left + 1; i <= right; i++) {
+            short ai = a[i];
+            int j = i - 1;
+            while (j >= left && c.apply(ai, a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = ai;
+        }
+    }
+
+    private static void heapSort(short[] a, int left, int right, TwiceFunctionIntToInt c) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, left, i, length, c);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, left, left + end);
+            siftDown(a, left, 0, end, c);
+        }
+    }
+
+    private static void siftDown(short[] a, int base, int index, int length, TwiceFunctionIntToInt c) {
+        short value = a[base + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && c.apply(a[base + child], a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.apply(value, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + index] = a[base + child];
+            index = child;
+        }
+        a[base + index] = value;
+    }
+
+    private static void sort2(short[] a, int i, int j, TwiceFunctionIntToInt c) {
+        if (c.apply(a[j], a[i]) < 0) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void swap(short[] a, int i, int j) {
+        short t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用给定比较器对整个 int 数组排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void sort(int[] array, TwiceFunctionIntToInt comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器对 int 数组的指定区间排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void sort(int[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            quickSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+        }
+    }
+
+    /**
+     * 使用给定比较器并行排序整个 int 数组，数组较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(int[] array, TwiceFunctionIntToInt comparator) {
+        parallelSort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器并行排序 int 数组的指定区间，区间较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(int[] array, int fromIndex, int toIndex, TwiceFunctionIntToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (!ParallelMergeSort.isParallel(toIndex - fromIndex)) {
+            sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        int[] buffer = new int[toIndex - fromIndex];
+        ParallelMergeSort.sort(new ParallelMergeSort.Segment() {
+            @Override
+            public void sort(int from, int to) {
+                quickSort(array, from, to - 1, depthLimit(to - from), comparator);
+            }
+
+            @Override
+            public void copyToBuffer(int from, int to) {
+                System.arraycopy(array, from, buffer, from - fromIndex, to - from);
+            }
+
+            @Override
+            public int lowerBound(int from, int to, int keyIndex) {
+                int key = buffer[keyIndex - fromIndex];
+                int low = from, high = to;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (comparator.apply(buffer[middle - fromIndex], key) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                return low;
+            }
+
+            @Override
+            public void merge(int low1, int high1, int low2, int high2, int destIndex) {
+                int i = low1 - fromIndex, j = low2 - fromIndex, end1 = high1 - fromIndex, end2 = high2 - fromIndex, k = destIndex;
+                while (i < end1 && j < end2) {
+                    array[k++] = comparator.apply(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < end1) {
+                    array[k++] = buffer[i++];
+                }
+                while (j < end2) {
+                    array[k++] = buffer[j++];
+                }
+            }
+        }, fromIndex, toIndex);
+    }
+
+    private static void quickSort(int[] a, int left, int right, int depth, TwiceFunctionIntToInt c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right, c);
+                return;
+            }
+            int seventh = ((right - left + 1) >> 3) + ((right - left + 1) >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh, e4 = e3 + seventh, e5 = e4 + seventh;
+            sort2(a, e1, e2, c);
+            sort2(a, e4, e5, c);
+            sort2(a, e3, e5, c);
+            sort2(a, e3, e4, c);
+            sort2(a, e2, e5, c);
+            sort2(a, e1, e4, c);
+            sort2(a, e1, e3, c);
+            sort2(a, e2, e4, c);
+            sort2(a, e2, e3, c);
+            swap(a, e2, left);
+            swap(a, e4, right);
+            int pivot1 = a[left], pivot2 = a[right];
+            int less = left + 1, great = right - 1;
+            for (int k = less; k <= great; k++) {
+                int ak = a[k];
+                if (c.apply(ak, pivot1) < 0) {
+                    a[k] = a[less];
+                    a[less++] = ak;
+                } else if (c.apply(ak, pivot2) > 0) {
+                    while (k < great && c.apply(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    a[k] = a[great];
+                    a[great--] = ak;
+                    ak = a[k];
+                    if (c.apply(ak, pivot1) < 0) {
+                        a[k] = a[less];
+                        a[less++] = ak;
+                    }
+                }
+            }
+            swap(a, left, --less);
+            swap(a, right, ++great);
+            quickSort(a, left, less - 1, depth, c);
+            if (c.apply(pivot1, pivot2) != 0) {
+                quickSort(a, less + 1, great - 1, depth, c);
+            }
+            left = great + 1;
+        }
+        insertionSort(a, left, right, c);
+    }
+
+    private static void insertionSort(int[] a, int left, int right, TwiceFunctionIntToInt c) {
+        for (int i = left + 1; i <= right; i++) {
+            int ai = a[i];
+            int j = i - 1;
+            while (j >= left && c.apply(ai, a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = ai;
+        }
+    }
+
+    private static void heapSort(int[] a, int left, int right, TwiceFunctionIntToInt c) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, left, i, length, c);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, left, left + end);
+            siftDown(a, left, 0, end, c);
+        }
+    }
+
+    private static void siftDown(int[] a, int base, int index, int length, TwiceFunctionIntToInt c) {
+        int value = a[base + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && c.apply(a[base + child], a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.apply(value, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + index] = a[base + child];
+            index = child;
+        }
+        a[base + index] = value;
+    }
+
+    private static void sort2(int[] a, int i, int j, TwiceFunctionIntToInt c) {
+        if (c.apply(a[j], a[i]) < 0) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用给定比较器对整个 long 数组排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void sort(long[] array, TwiceFunctionLongToInt comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器对 long 数组的指定区间排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void sort(long[] array, int fromIndex, int toIndex, TwiceFunctionLongToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            quickSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+        }
+    }
+
+    /**
+     * 使用给定比较器并行排序整个 long 数组，数组较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(long[] array, TwiceFunctionLongToInt comparator) {
+        parallelSort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器并行排序 long 数组的指定区间，区间较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(long[] array, int fromIndex, int toIndex, TwiceFunctionLongToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (!ParallelMergeSort.isParallel(toIndex - fromIndex)) {
+            sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        long[] buffer = new long[toIndex - fromIndex];
+        ParallelMergeSort.sort(new ParallelMergeSort.Segment() {
+            @Override
+            public void sort(int from, int to) {
+                quickSort(array, from, to - 1, depthLimit(to - from), comparator);
+            }
+
+            @Override
+            public void copyToBuffer(int from, int to) {
+                System.arraycopy(array, from, buffer, from - fromIndex, to - from);
+            }
+
+            @Override
+            public int lowerBound(int from, int to, int keyIndex) {
+                long key = buffer[keyIndex - fromIndex];
+                int low = from, high = to;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (comparator.apply(buffer[middle - fromIndex], key) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                return low;
+            }
+
+            @Override
+            public void merge(int low1, int high1, int low2, int high2, int destIndex) {
+                int i = low1 - fromIndex, j = low2 - fromIndex, end1 = high1 - fromIndex, end2 = high2 - fromIndex, k = destIndex;
+                while (i < end1 && j < end2) {
+                    array[k++] = comparator.apply(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < end1) {
+                    array[k++] = buffer[i++];
+                }
+                while (j < end2) {
+                    array[k++] = buffer[j++];
+                }
+            }
+        }, fromIndex, toIndex);
+    }
+
+    private static void quickSort(long[] a, int left, int right, int depth, TwiceFunctionLongToInt c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right, c);
+                return;
+            }
+            int seventh = ((right - left + 1) >> 3) + ((right - left + 1) >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh, e4 = e3 + seventh, e5 = e4 + seventh;
+            sort2(a, e1, e2, c);
+            sort2(a, e4, e5, c);
+            sort2(a, e3, e5, c);
+            sort2(a, e3, e4, c);
+            sort2(a, e2, e5, c);
+            sort2(a, e1, e4, c);
+            sort2(a, e1, e3, c);
+            sort2(a, e2, e4, c);
+            sort2(a, e2, e3, c);
+            swap(a, e2, left);
+            swap(a, e4, right);
+            long pivot1 = a[left], pivot2 = a[right];
+            int less = left + 1, great = right - 1;
+            for (int k = less; k <= great; k++) {
+                long ak = a[k];
+                if (c.apply(ak, pivot1) < 0) {
+                    a[k] = a[less];
+                    a[less++] = ak;
+                } else if (c.apply(ak, pivot2) > 0) {
+                    while (k < great && c.apply(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    a[k] = a[great];
+                    a[great--] = ak;
+                    ak = a[k];
+                    if (c.apply(ak, pivot1) < 0) {
+                        a[k] = a[less];
+                        a[less++] = ak;
+                    }
+                }
+            }
+            swap(a, left, --less);
+            swap(a, right, ++great);
+            quickSort(a, left, less - 1, depth, c);
+            if (c.apply(pivot1, pivot2) != 0) {
+                quickSort(a, less + 1, great - 1, depth, c);
+            }
+            left = great + 1;
+        }
+        insertionSort(a, left, right, c);
+    }
+
+    private static void insertionSort(long[] a, int left, int right, TwiceFunctionLongToInt c) {
+        for (int i = left + 1; i <= right; i++) {
+            long ai = a[i];
+            int j = i - 1;
+            while (j >= left && c.apply(ai, a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = ai;
+        }
+    }
+
+    private static void heapSort(long[] a, int left, int right, TwiceFunctionLongToInt c) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, left, i, length, c);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, left, left + end);
+            siftDown(a, left, 0, end, c);
+        }
+    }
+
+    private static void siftDown(long[] a, int base, int index, int length, TwiceFunctionLongToInt c) {
+        long value = a[base + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && c.apply(a[base + child], a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.apply(value, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + index] = a[base + child];
+            index = child;
+        }
+        a[base + index] = value;
+    }
+
+    private static void sort2(long[] a, int i, int j, TwiceFunctionLongToInt c) {
+        if (c.apply(a[j], a[i]) < 0) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void swap(long[] a, int i, int j) {
+        long t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用给定比较器对整个 float 数组排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void sort(float[] array, TwiceFunctionDoubleToInt comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器对 float 数组的指定区间排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void sort(float[] array, int fromIndex, int toIndex, TwiceFunctionDoubleToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            quickSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+        }
+    }
+
+    /**
+     * 使用给定比较器并行排序整个 float 数组，数组较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(float[] array, TwiceFunctionDoubleToInt comparator) {
+        parallelSort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器并行排序 float 数组的指定区间，区间较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(float[] array, int fromIndex, int toIndex, TwiceFunctionDoubleToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (!ParallelMergeSort.isParallel(toIndex - fromIndex)) {
+            sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        float[] buffer = new float[toIndex - fromIndex];
+        ParallelMergeSort.sort(new ParallelMergeSort.Segment() {
+            @Override
+            public void sort(int from, int to) {
+                quickSort(array, from, to - 1, depthLimit(to - from), comparator);
+            }
+
+            @Override
+            public void copyToBuffer(int from, int to) {
+                System.arraycopy(array, from, buffer, from - fromIndex, to - from);
+            }
+
+            @Override
+            public int lowerBound(int from, int to, int keyIndex) {
+                float key = buffer[keyIndex - fromIndex];
+                int low = from, high = to;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (comparator.apply(buffer[middle - fromIndex], key) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                return low;
+            }
+
+            @Override
+            public void merge(int low1, int high1, int low2, int high2, int destIndex) {
+                int i = low1 - fromIndex, j = low2 - fromIndex, end1 = high1 - fromIndex, end2 = high2 - fromIndex, k = destIndex;
+                while (i < end1 && j < end2) {
+                    array[k++] = comparator.apply(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < end1) {
+                    array[k++] = buffer[i++];
+                }
+                while (j < end2) {
+                    array[k++] = buffer[j++];
+                }
+            }
+        }, fromIndex, toIndex);
+    }
+
+    private static void quickSort(float[] a, int left, int right, int depth, TwiceFunctionDoubleToInt c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right, c);
+                return;
+            }
+            int seventh = ((right - left + 1) >> 3) + ((right - left + 1) >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh, e4 = e3 + seventh, e5 = e4 + seventh;
+            sort2(a, e1, e2, c);
+            sort2(a, e4, e5, c);
+            sort2(a, e3, e5, c);
+            sort2(a, e3, e4, c);
+            sort2(a, e2, e5, c);
+            sort2(a, e1, e4, c);
+            sort2(a, e1, e3, c);
+            sort2(a, e2, e4, c);
+            sort2(a, e2, e3, c);
+            swap(a, e2, left);
+            swap(a, e4, right);
+            float pivot1 = a[left], pivot2 = a[right];
+            int less = left + 1, great = right - 1;
+            for (int k = less; k <= great; k++) {
+                float ak = a[k];
+                if (c.apply(ak, pivot1) < 0) {
+                    a[k] = a[less];
+                    a[less++] = ak;
+                } else if (c.apply(ak, pivot2) > 0) {
+                    while (k < great && c.apply(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    a[k] = a[great];
+                    a[great--] = ak;
+                    ak = a[k];
+                    if (c.apply(ak, pivot1) < 0) {
+                        a[k] = a[less];
+                        a[less++] = ak;
+                    }
+                }
+            }
+            swap(a, left, --less);
+            swap(a, right, ++great);
+            quickSort(a, left, less - 1, depth, c);
+            if (c.apply(pivot1, pivot2) != 0) {
+                quickSort(a, less + 1, great - 1, depth, c);
+            }
+            left = great + 1;
+        }
+        insertionSort(a, left, right, c);
+    }
+
+    private static void insertionSort(float[] a, int left, int right, TwiceFunctionDoubleToInt c) {
+        for (int i = left + 1; i <= right; i++) {
+            float ai = a[i];
+            int j = i - 1;
+            while (j >= left && c.apply(ai, a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = ai;
+        }
+    }
+
+    private static void heapSort(float[] a, int left, int right, TwiceFunctionDoubleToInt c) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, left, i, length, c);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, left, left + end);
+            siftDown(a, left, 0, end, c);
+        }
+    }
+
+    private static void siftDown(float[] a, int base, int index, int length, TwiceFunctionDoubleToInt c) {
+        float value = a[base + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && c.apply(a[base + child], a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.apply(value, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + index] = a[base + child];
+            index = child;
+        }
+        a[base + index] = value;
+    }
+
+    private static void sort2(float[] a, int i, int j, TwiceFunctionDoubleToInt c) {
+        if (c.apply(a[j], a[i]) < 0) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void swap(float[] a, int i, int j) {
+        float t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用给定比较器对整个 double 数组排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void sort(double[] array, TwiceFunctionDoubleToInt comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器对 double 数组的指定区间排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void sort(double[] array, int fromIndex, int toIndex, TwiceFunctionDoubleToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            quickSort(array, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), comparator);
+        }
+    }
+
+    /**
+     * 使用给定比较器并行排序整个 double 数组，数组较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(double[] array, TwiceFunctionDoubleToInt comparator) {
+        parallelSort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * 使用给定比较器并行排序 double 数组的指定区间，区间较小或公共池并行度为 1 时顺序排序。
+     *
+     * @param array      待排序的数组
+     * @param fromIndex  区间起始下标（包含）
+     * @param toIndex    区间结束下标（不包含）
+     * @param comparator 元素比较器
+     */
+    public static void parallelSort(double[] array, int fromIndex, int toIndex, TwiceFunctionDoubleToInt comparator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        if (!ParallelMergeSort.isParallel(toIndex - fromIndex)) {
+            sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        double[] buffer = new double[toIndex - fromIndex];
+        ParallelMergeSort.sort(new ParallelMergeSort.Segment() {
+            @Override
+            public void sort(int from, int to) {
+                quickSort(array, from, to - 1, depthLimit(to - from), comparator);
+            }
+
+            @Override
+            public void copyToBuffer(int from, int to) {
+                System.arraycopy(array, from, buffer, from - fromIndex, to - from);
+            }
+
+            @Override
+            public int lowerBound(int from, int to, int keyIndex) {
+                double key = buffer[keyIndex - fromIndex];
+                int low = from, high = to;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (comparator.apply(buffer[middle - fromIndex], key) < 0) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                return low;
+            }
+
+            @Override
+            public void merge(int low1, int high1, int low2, int high2, int destIndex) {
+                int i = low1 - fromIndex, j = low2 - fromIndex, end1 = high1 - fromIndex, end2 = high2 - fromIndex, k = destIndex;
+                while (i < end1 && j < end2) {
+                    array[k++] = comparator.apply(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+                }
+                while (i < end1) {
+                    array[k++] = buffer[i++];
+                }
+                while (j < end2) {
+                    array[k++] = buffer[j++];
+                }
+            }
+        }, fromIndex, toIndex);
+    }
+
+    private static void quickSort(double[] a, int left, int right, int depth, TwiceFunctionDoubleToInt c) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(a, left, right, c);
+                return;
+            }
+            int seventh = ((right - left + 1) >> 3) + ((right - left + 1) >> 6) + 1;
+            int e3 = (left + right) >>> 1;
+            int e2 = e3 - seventh, e1 = e2 - seventh, e4 = e3 + seventh, e5 = e4 + seventh;
+            sort2(a, e1, e2, c);
+            sort2(a, e4, e5, c);
+            sort2(a, e3, e5, c);
+            sort2(a, e3, e4, c);
+            sort2(a, e2, e5, c);
+            sort2(a, e1, e4, c);
+            sort2(a, e1, e3, c);
+            sort2(a, e2, e4, c);
+            sort2(a, e2, e3, c);
+            swap(a, e2, left);
+            swap(a, e4, right);
+            double pivot1 = a[left], pivot2 = a[right];
+            int less = left + 1, great = right - 1;
+            for (int k = less; k <= great; k++) {
+                double ak = a[k];
+                if (c.apply(ak, pivot1) < 0) {
+                    a[k] = a[less];
+                    a[less++] = ak;
+                } else if (c.apply(ak, pivot2) > 0) {
+                    while (k < great && c.apply(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    a[k] = a[great];
+                    a[great--] = ak;
+                    ak = a[k];
+                    if (c.apply(ak, pivot1) < 0) {
+                        a[k] = a[less];
+                        a[less++] = ak;
+                    }
+                }
+            }
+            swap(a, left, --less);
+            swap(a, right, ++great);
+            quickSort(a, left, less - 1, depth, c);
+            if (c.apply(pivot1, pivot2) != 0) {
+                quickSort(a, less + 1, great - 1, depth, c);
+            }
+            left = great + 1;
+        }
+        insertionSort(a, left, right, c);
+    }
+
+    private static void insertionSort(double[] a, int left, int right, TwiceFunctionDoubleToInt c) {
+        for (int i = left + 1; i <= right; i++) {
+            double ai = a[i];
+            int j = i - 1;
+            while (j >= left && c.apply(ai, a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = ai;
+        }
+    }
+
+    private static void heapSort(double[] a, int left, int right, TwiceFunctionDoubleToInt c) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, left, i, length, c);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, left, left + end);
+            siftDown(a, left, 0, end, c);
+        }
+    }
+
+    private static void siftDown(double[] a, int base, int index, int length, TwiceFunctionDoubleToInt c) {
+        double value = a[base + index];
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && c.apply(a[base + child], a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.apply(value, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + index] = a[base + child];
+            index = child;
+        }
+        a[base + index] = value;
+    }
+
+    private static void sort2(double[] a, int i, int j, TwiceFunctionDoubleToInt c) {
+        if (c.apply(a[j], a[i]) < 0) {
+            swap(a, i, j);
+        }
+    }
+
+    private static void swap(double[] a, int i, int j) {
+        double t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 创建 [0, length) 的下标排列，并按照每个下标对应的 long 键升序排序。
+     *
+     * @param length 下标数量
+     * @param key    下标到排序键的映射，每个下标只调用一次
+     * @return 按键排序后的下标排列
+     */
+    public static int[] sortedIndices(int length, SingleFunctionIntToLong key) {
+        int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        sortIndices(indices, key);
+        return indices;
+    }
+
+    /**
+     * 按照每个下标对应的 long 键对下标排列原地升序排序，键相同时按下标值升序，因此对初始为升序的排列是稳定的。
+     * 每个下标的键只提取一次并保存在 long 数组中，排序过程不会装箱。
+     *
+     * @param indices 待排序的下标排列
+     * @param key     下标到排序键的映射
+     */
+    public static void sortIndices(int[] indices, SingleFunctionIntToLong key) {
+        long[] keys = new long[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            keys[i] = key.apply(indices[i]);
+        }
+        if (indices.length > 1) {
+            quickSort(keys, indices, 0, indices.length - 1, depthLimit(indices.length));
+        }
+    }
+
+    /**
+     * 按照每个下标对应的 double 键对下标排列原地升序排序，键的顺序与 {@link Double#compare(double, double)} 一致，
+     * 键相同时按下标值升序。
+     *
+     * @param indices 待排序的下标排列
+     * @param key     下标到排序键的映射
+     */
+    public static void sortIndicesByDouble(int[] indices, SingleFunctionIntToDouble key) {
+        sortIndices(indices, index -> {
+            long bits = Double.doubleToLongBits(key.apply(index));
+            return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        });
+    }
+
+    private static int compare(long[] keys, int[] indices, int i, long key, int index) {
+        int result = Long.compare(keys[i], key);
+        return result != 0 ? result : Integer.compare(indices[i], index);
+    }
+
+    private static void quickSort(long[] keys, int[] indices, int left, int right, int depth) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(keys, indices, left, right);
+                return;
+            }
+            int middle = (left + right) >>> 1;
+            sort2(keys, indices, left, middle);
+            sort2(keys, indices, middle, right);
+            sort2(keys, indices, left, middle);
+            long pivotKey = keys[middle];
+            int pivotIndex = indices[middle];
+            int i = left, j = right;
+            while (i <= j) {
+                while (compare(keys, indices, i, pivotKey, pivotIndex) < 0) {
+                    i++;
+                }
+                while (compare(keys, indices, j, pivotKey, pivotIndex) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, indices, i++, j--);
+                }
+            }
+            if (j - left < right - i) {
+                quickSort(keys, indices, left, j, depth);
+                left = i;
+            } else {
+                quickSort(keys, indices, i, right, depth);
+                right = j;
+            }
+        }
+        for (int i = left + 1; i <= right; i++) {
+            long k = keys[i];
+            int index = indices[i];
+            int j = i - 1;
+            while (j >= left && compare(keys, indices, j, k, index) > 0) {
+                keys[j + 1] = keys[j];
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            keys[j + 1] = k;
+            indices[j + 1] = index;
+        }
+    }
+
+    private static void heapSort(long[] keys, int[] indices, int left, int right) {
+        int length = right - left + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(keys, indices, left, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(keys, indices, left, left + end);
+            siftDown(keys, indices, left, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] keys, int[] indices, int base, int index, int length) {
+        int child;
+        while ((child = (index << 1) + 1) < length) {
+            if (child + 1 < length && compare(keys, indices, base + child, keys[base + child + 1], indices[base + child + 1]) < 0) {
+                child++;
+            }
+            if (compare(keys, indices, base + index, keys[base + child], indices[base + child]) >= 0) {
+                break;
+            }
+            swap(keys, indices, base + index, base + child);
+            index = child;
+        }
+    }
+
+    private static void sort2(long[] keys, int[] indices, int i, int j) {
+        if (compare(keys, indices, j, keys[i], indices[i]) < 0) {
+            swap(keys, indices, i, j);
+        }
+    }
+
+    private static void swap(long[] keys, int[] indices, int i, int j) {
+        long k = keys[i];
+        keys[i] = keys[j];
+        keys[j] = k;
+        int index = indices[i];
+        indices[i] = indices[j];
+        indices[j] = index;
+    }
+}
@@ -0,0 +1,1433 @@
+package com.github.zhitron.lambda.array;
+
+import com.github.zhitron.lambda.operator.BooleanTwiceOperator;
+import com.github.zhitron.lambda.operator.ByteTwiceOperator;
+import com.github.zhitron.lambda.operator.CharTwiceOperator;
+import com.github.zhitron.lambda.operator.DoubleTwiceOperator;
+import com.github.zhitron.lambda.operator.FloatTwiceOperator;
+import com.github.zhitron.lambda.operator.IntTwiceOperator;
+import com.github.zhitron.lambda.operator.LongTwiceOperator;
+import com.github.zhitron.lambda.operator.ObjectTwiceOperator;
+import com.github.zhitron.lambda.operator.ShortTwiceOperator;
+
+/**
+ * 基于分块两遍扫描算法的并行数组归约与前缀扫描工具类，覆盖全部九种 {@code *TwiceOperator} 类型。
+ * <p>
+ * 第一遍在 {@link java.util.concurrent.ForkJoinPool#commonPool()} 上并行计算各块的局部归约值，随后顺序合并出每个块的前缀值，
+ * 第二遍再并行地在各块内部完成扫描。数组长度较小或公共池并行度为 1 时直接顺序执行。
+ * 运算符必须满足结合律，但不要求满足交换律；各元素始终按下标顺序参与运算。
+ *
+ * @author zhitron
+ */
+public final class ParallelArrays {
+
+    private ParallelArrays() {
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 boolean 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static boolean reduce(boolean[] array, boolean identity, BooleanTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 boolean 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static boolean reduce(boolean[] array, int fromIndex, int toIndex, boolean identity, BooleanTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        boolean[] partials = new boolean[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 boolean 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(boolean[] array, BooleanTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 boolean 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(boolean[] array, int fromIndex, int toIndex, BooleanTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        boolean[] carries = new boolean[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 boolean 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(boolean[] array, boolean identity, BooleanTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 boolean 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(boolean[] array, int fromIndex, int toIndex, boolean identity, BooleanTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        boolean[] carries = new boolean[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static boolean reduceBlock(boolean[] array, int fromIndex, int toIndex, boolean identity, BooleanTwiceOperator operator) {
+        boolean result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(boolean[] array, int fromIndex, int toIndex, BooleanTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(boolean[] array, int fromIndex, int toIndex, boolean carry, BooleanTwiceOperator operator) {
+        boolean result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(boolean[] array, int fromIndex, int toIndex, boolean carry, BooleanTwiceOperator operator) {
+        boolean result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            boolean value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 byte 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static byte reduce(byte[] array, byte identity, ByteTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 byte 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static byte reduce(byte[] array, int fromIndex, int toIndex, byte identity, ByteTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        byte[] partials = new byte[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 byte 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(byte[] array, ByteTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 byte 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(byte[] array, int fromIndex, int toIndex, ByteTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        byte[] carries = new byte[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 byte 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(byte[] array, byte identity, ByteTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 byte 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(byte[] array, int fromIndex, int toIndex, byte identity, ByteTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        byte[] carries = new byte[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static byte reduceBlock(byte[] array, int fromIndex, int toIndex, byte identity, ByteTwiceOperator operator) {
+        byte result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(byte[] array, int fromIndex, int toIndex, ByteTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(byte[] array, int fromIndex, int toIndex, byte carry, ByteTwiceOperator operator) {
+        byte result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(byte[] array, int fromIndex, int toIndex, byte carry, ByteTwiceOperator operator) {
+        byte result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            byte value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 char 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static char reduce(char[] array, char identity, CharTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 char 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static char reduce(char[] array, int fromIndex, int toIndex, char identity, CharTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        char[] partials = new char[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 char 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(char[] array, CharTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 char 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(char[] array, int fromIndex, int toIndex, CharTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        char[] carries = new char[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 char 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(char[] array, char identity, CharTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 char 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(char[] array, int fromIndex, int toIndex, char identity, CharTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        char[] carries = new char[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static char reduceBlock(char[] array, int fromIndex, int toIndex, char identity, CharTwiceOperator operator) {
+        char result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(char[] array, int fromIndex, int toIndex, CharTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(char[] array, int fromIndex, int toIndex, char carry, CharTwiceOperator operator) {
+        char result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(char[] array, int fromIndex, int toIndex, char carry, CharTwiceOperator operator) {
+        char result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            char value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 short 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static short reduce(short[] array, short identity, ShortTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 short 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static short reduce(short[] array, int fromIndex, int toIndex, short identity, ShortTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        short[] partials = new short[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 short 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(short[] array, ShortTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 short 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(short[] array, int fromIndex, int toIndex, ShortTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        short[] carries = new short[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 short 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(short[] array, short identity, ShortTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 short 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(short[] array, int fromIndex, int toIndex, short identity, ShortTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        short[] carries = new short[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static short reduceBlock(short[] array, int fromIndex, int toIndex, short identity, ShortTwiceOperator operator) {
+        short result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(short[] array, int fromIndex, int toIndex, ShortTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(short[] array, int fromIndex, int toIndex, short carry, ShortTwiceOperator operator) {
+        short result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(short[] array, int fromIndex, int toIndex, short carry, ShortTwiceOperator operator) {
+        short result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            short value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 int 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static int reduce(int[] array, int identity, IntTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 int 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static int reduce(int[] array, int fromIndex, int toIndex, int identity, IntTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        int[] partials = new int[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 int 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(int[] array, IntTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 int 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(int[] array, int fromIndex, int toIndex, IntTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        int[] carries = new int[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 int 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(int[] array, int identity, IntTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 int 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(int[] array, int fromIndex, int toIndex, int identity, IntTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        int[] carries = new int[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static int reduceBlock(int[] array, int fromIndex, int toIndex, int identity, IntTwiceOperator operator) {
+        int result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(int[] array, int fromIndex, int toIndex, IntTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(int[] array, int fromIndex, int toIndex, int carry, IntTwiceOperator operator) {
+        int result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(int[] array, int fromIndex, int toIndex, int carry, IntTwiceOperator operator) {
+        int result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            int value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 long 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static long reduce(long[] array, long identity, LongTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 long 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static long reduce(long[] array, int fromIndex, int toIndex, long identity, LongTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        long[] partials = new long[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 long 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(long[] array, LongTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 long 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(long[] array, int fromIndex, int toIndex, LongTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        long[] carries = new long[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 long 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(long[] array, long identity, LongTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 long 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(long[] array, int fromIndex, int toIndex, long identity, LongTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        long[] carries = new long[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static long reduceBlock(long[] array, int fromIndex, int toIndex, long identity, LongTwiceOperator operator) {
+        long result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(long[] array, int fromIndex, int toIndex, LongTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(long[] array, int fromIndex, int toIndex, long carry, LongTwiceOperator operator) {
+        long result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(long[] array, int fromIndex, int toIndex, long carry, LongTwiceOperator operator) {
+        long result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 float 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static float reduce(float[] array, float identity, FloatTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 float 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static float reduce(float[] array, int fromIndex, int toIndex, float identity, FloatTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        float[] partials = new float[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 float 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(float[] array, FloatTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 float 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(float[] array, int fromIndex, int toIndex, FloatTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        float[] carries = new float[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 float 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(float[] array, float identity, FloatTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 float 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(float[] array, int fromIndex, int toIndex, float identity, FloatTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        float[] carries = new float[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static float reduceBlock(float[] array, int fromIndex, int toIndex, float identity, FloatTwiceOperator operator) {
+        float result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(float[] array, int fromIndex, int toIndex, FloatTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(float[] array, int fromIndex, int toIndex, float carry, FloatTwiceOperator operator) {
+        float result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(float[] array, int fromIndex, int toIndex, float carry, FloatTwiceOperator operator) {
+        float result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            float value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 double 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static double reduce(double[] array, double identity, DoubleTwiceOperator operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 double 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    public static double reduce(double[] array, int fromIndex, int toIndex, double identity, DoubleTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        double[] partials = new double[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 double 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScan(double[] array, DoubleTwiceOperator operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 double 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScan(double[] array, int fromIndex, int toIndex, DoubleTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        double[] carries = new double[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 double 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static void prefixScanExclusive(double[] array, double identity, DoubleTwiceOperator operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 double 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    public static void prefixScanExclusive(double[] array, int fromIndex, int toIndex, double identity, DoubleTwiceOperator operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        double[] carries = new double[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static double reduceBlock(double[] array, int fromIndex, int toIndex, double identity, DoubleTwiceOperator operator) {
+        double result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static void scanBlock(double[] array, int fromIndex, int toIndex, DoubleTwiceOperator operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static void scanBlock(double[] array, int fromIndex, int toIndex, double carry, DoubleTwiceOperator operator) {
+        double result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static void scanExclusiveBlock(double[] array, int fromIndex, int toIndex, double carry, DoubleTwiceOperator operator) {
+        double result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            double value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 使用满足结合律的运算符并行归约整个 对象 数组。
+     *
+     * @param array    待归约的数组
+     * @param identity 运算符的单位元，数组为空时直接返回该值
+     * @param operator 满足结合律的运算符
+     * @return 归约结果
+     */
+    public static <T> T reduce(T[] array, T identity, ObjectTwiceOperator<T, T, T> operator) {
+        return reduce(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 使用满足结合律的运算符并行归约 对象 数组的指定区间。
+     *
+     * @param array     待归约的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元，区间为空时直接返回该值
+     * @param operator  满足结合律的运算符
+     * @return 归约结果
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T reduce(T[] array, int fromIndex, int toIndex, T identity, ObjectTwiceOperator<T, T, T> operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            return reduceBlock(array, fromIndex, toIndex, identity, operator);
+        }
+        T[] partials = (T[]) new Object[blockCount];
+        ArrayBlocks.forEachBlock(blockCount, block -> partials[block] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        return reduceBlock(partials, 0, blockCount, identity, operator);
+    }
+
+    /**
+     * 对整个 对象 数组原地执行并行的包含式前缀扫描，扫描后 {@code array[i]} 为前 i + 1 个元素的归约结果。
+     *
+     * @param array    待扫描的数组
+     * @param operator 满足结合律的运算符
+     */
+    public static <T> void prefixScan(T[] array, ObjectTwiceOperator<T, T, T> operator) {
+        prefixScan(array, 0, array.length, operator);
+    }
+
+    /**
+     * 对 对象 数组的指定区间原地执行并行的包含式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param operator  满足结合律的运算符
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void prefixScan(T[] array, int fromIndex, int toIndex, ObjectTwiceOperator<T, T, T> operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanBlock(array, fromIndex, toIndex, operator);
+            return;
+        }
+        T[] carries = (T[]) new Object[blockCount];
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            carries[block + 1] = reduceBlock(array, start + 1, end, array[start], operator);
+        });
+        for (int block = 2; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(fromIndex, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1);
+            if (block == 0) {
+                scanBlock(array, start, end, operator);
+            } else {
+                scanBlock(array, start, end, carries[block], operator);
+            }
+        });
+    }
+
+    /**
+     * 对整个 对象 数组原地执行并行的排他式前缀扫描，扫描后 {@code array[i]} 为前 i 个元素的归约结果，{@code array[0]} 为单位元。
+     *
+     * @param array    待扫描的数组
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     */
+    public static <T> void prefixScanExclusive(T[] array, T identity, ObjectTwiceOperator<T, T, T> operator) {
+        prefixScanExclusive(array, 0, array.length, identity, operator);
+    }
+
+    /**
+     * 对 对象 数组的指定区间原地执行并行的排他式前缀扫描。
+     *
+     * @param array     待扫描的数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param identity  运算符的单位元
+     * @param operator  满足结合律的运算符
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void prefixScanExclusive(T[] array, int fromIndex, int toIndex, T identity, ObjectTwiceOperator<T, T, T> operator) {
+        ArrayBlocks.checkRange(array.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int blockCount = ArrayBlocks.blockCount(length);
+        if (blockCount == 1) {
+            scanExclusiveBlock(array, fromIndex, toIndex, identity, operator);
+            return;
+        }
+        T[] carries = (T[]) new Object[blockCount];
+        carries[0] = identity;
+        ArrayBlocks.forEachBlock(blockCount - 1, block -> carries[block + 1] = reduceBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), identity, operator));
+        for (int block = 1; block < blockCount; block++) {
+            carries[block] = operator.apply(carries[block - 1], carries[block]);
+        }
+        ArrayBlocks.forEachBlock(blockCount, block -> scanExclusiveBlock(array,
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block),
+                ArrayBlocks.blockStart(fromIndex, length, blockCount, block + 1), carries[block], operator));
+    }
+
+    private static <T> T reduceBlock(T[] array, int fromIndex, int toIndex, T identity, ObjectTwiceOperator<T, T, T> operator) {
+        T result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+        }
+        return result;
+    }
+
+    private static <T> void scanBlock(T[] array, int fromIndex, int toIndex, ObjectTwiceOperator<T, T, T> operator) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = operator.apply(array[i - 1], array[i]);
+        }
+    }
+
+    private static <T> void scanBlock(T[] array, int fromIndex, int toIndex, T carry, ObjectTwiceOperator<T, T, T> operator) {
+        T result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = operator.apply(result, array[i]);
+            array[i] = result;
+        }
+    }
+
+    private static <T> void scanExclusiveBlock(T[] array, int fromIndex, int toIndex, T carry, ObjectTwiceOperator<T, T, T> operator) {
+        T result = carry;
+        for (int i = fromIndex; i < toIndex; i++) {
+            T value = array[i];
+            array[i] = result;
+            result = operator.apply(result, value);
+        }
+    }
+}
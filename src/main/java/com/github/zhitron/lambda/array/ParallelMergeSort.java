@@ -0,0 +1,161 @@
+package com.github.zhitron.lambda.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 与元素类型无关的并行归并排序骨架，具体类型的排序、拷贝、查找与归并由 {@link Segment} 实现提供。
+ * <p>
+ * 区间先在公共池上递归拆分并分别排序，随后将两个有序子区间拷贝到缓冲区，再通过二分查找拆分的方式并行归并回原数组。
+ *
+ * @author zhitron
+ */
+final class ParallelMergeSort {
+
+    /**
+     * 小于该长度的区间直接使用顺序排序。
+     */
+    static final int MIN_SORT_LENGTH = 1 << 13;
+
+    /**
+     * 小于该长度的归并直接顺序执行。
+     */
+    private static final int MIN_MERGE_LENGTH = 1 << 13;
+
+    private ParallelMergeSort() {
+    }
+
+    /**
+     * 判断给定长度的区间是否值得并行排序。
+     *
+     * @param length 区间长度
+     * @return 如果应当并行排序返回 true
+     */
+    static boolean isParallel(int length) {
+        return length > MIN_SORT_LENGTH && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * 在公共池上并行排序 [fromIndex, toIndex) 区间。
+     *
+     * @param segment   具体类型的区间操作
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     */
+    static void sort(Segment segment, int fromIndex, int toIndex) {
+        ForkJoinPool.commonPool().invoke(new SortTask(segment, fromIndex, toIndex));
+    }
+
+    /**
+     * 具体元素类型的区间操作，缓冲区与原数组使用相同的绝对下标。
+     */
+    interface Segment {
+
+        /**
+         * 顺序排序原数组的 [fromIndex, toIndex) 区间。
+         *
+         * @param fromIndex 区间起始下标（包含）
+         * @param toIndex   区间结束下标（不包含）
+         */
+        void sort(int fromIndex, int toIndex);
+
+        /**
+         * 将原数组的 [fromIndex, toIndex) 区间拷贝到缓冲区。
+         *
+         * @param fromIndex 区间起始下标（包含）
+         * @param toIndex   区间结束下标（不包含）
+         */
+        void copyToBuffer(int fromIndex, int toIndex);
+
+        /**
+         * 在缓冲区的有序区间 [fromIndex, toIndex) 中查找第一个不小于 {@code buffer[keyIndex]} 的位置。
+         *
+         * @param fromIndex 区间起始下标（包含）
+         * @param toIndex   区间结束下标（不包含）
+         * @param keyIndex  查找键在缓冲区中的下标
+         * @return 第一个不小于查找键的位置，不存在时返回 toIndex
+         */
+        int lowerBound(int fromIndex, int toIndex, int keyIndex);
+
+        /**
+         * 将缓冲区中的两个有序区间顺序归并到原数组从 destIndex 开始的位置。
+         *
+         * @param low1      第一个区间起始下标（包含）
+         * @param high1     第一个区间结束下标（不包含）
+         * @param low2      第二个区间起始下标（包含）
+         * @param high2     第二个区间结束下标（不包含）
+         * @param destIndex 原数组中的目标起始下标
+         */
+        void merge(int low1, int high1, int low2, int high2, int destIndex);
+    }
+
+    /**
+     * 递归拆分并排序区间的任务。
+     */
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Segment segment;
+        private final int fromIndex;
+        private final int toIndex;
+
+        SortTask(Segment segment, int fromIndex, int toIndex) {
+            this.segment = segment;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= MIN_SORT_LENGTH) {
+                segment.sort(fromIndex, toIndex);
+                return;
+            }
+            int middle = (fromIndex + toIndex) >>> 1;
+            invokeAll(new SortTask(segment, fromIndex, middle), new SortTask(segment, middle, toIndex));
+            segment.copyToBuffer(fromIndex, toIndex);
+            new MergeTask(segment, fromIndex, middle, middle, toIndex, fromIndex).compute();
+        }
+    }
+
+    /**
+     * 以二分查找拆分两个有序区间并并行归并的任务。
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Segment segment;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int destIndex;
+
+        MergeTask(Segment segment, int low1, int high1, int low2, int high2, int destIndex) {
+            this.segment = segment;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.destIndex = destIndex;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1, length2 = high2 - low2;
+            if (length1 + length2 <= MIN_MERGE_LENGTH || length1 == 0 || length2 == 0) {
+                segment.merge(low1, high1, low2, high2, destIndex);
+                return;
+            }
+            int split1, split2;
+            if (length1 >= length2) {
+                split1 = (low1 + high1) >>> 1;
+                split2 = segment.lowerBound(low2, high2, split1);
+            } else {
+                split2 = (low2 + high2) >>> 1;
+                split1 = segment.lowerBound(low1, high1, split2);
+            }
+            int splitDest = destIndex + (split1 - low1) + (split2 - low2);
+            invokeAll(new MergeTask(segment, low1, split1, low2, split2, destIndex),
+                    new MergeTask(segment, split1, high1, split2, high2, splitDest));
+        }
+    }
+}
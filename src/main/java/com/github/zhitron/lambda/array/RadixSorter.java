@@ -0,0 +1,253 @@
+package com.github.zhitron.lambda.array;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToInt;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToLong;
+
+/**
+ * 按照原始类型整数键对对象数组进行基数排序的工具类。
+ * <p>
+ * 每个元素的键只提取一次并保存到原始类型的临时数组中，随后以 8 位为一个数位进行 LSD 基数排序，
+ * 所有数位的直方图在一次遍历中统计完成，所有元素落在同一个桶中的数位会被直接跳过。
+ * 排序是稳定的，键按照有符号整数升序排列。并行版本在公共池上分块并行提取键并统计直方图，
+ * 此时键提取函数会被多个线程同时调用。
+ *
+ * @author zhitron
+ */
+public final class RadixSorter {
+
+    /**
+     * 每个数位的位数。
+     */
+    private static final int DIGIT_BITS = 8;
+
+    /**
+     * 每个数位的桶数量。
+     */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    /**
+     * 数位掩码。
+     */
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    private RadixSorter() {
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 按照 int 键对整个对象数组进行稳定的基数排序。
+     *
+     * @param items 待排序的对象数组
+     * @param key   对象到排序键的映射，每个元素只调用一次
+     * @param <T>   元素类型
+     */
+    public static <T> void radixSortByInt(T[] items, SingleFunctionObjectToInt<T> key) {
+        sortByInt(items, 0, items.length, key, false);
+    }
+
+    /**
+     * 按照 int 键对对象数组的指定区间进行稳定的基数排序。
+     *
+     * @param items     待排序的对象数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param key       对象到排序键的映射，每个元素只调用一次
+     * @param <T>       元素类型
+     */
+    public static <T> void radixSortByInt(T[] items, int fromIndex, int toIndex, SingleFunctionObjectToInt<T> key) {
+        sortByInt(items, fromIndex, toIndex, key, false);
+    }
+
+    /**
+     * 按照 int 键对整个对象数组进行稳定的基数排序，键提取与直方图统计在公共池上并行执行。
+     *
+     * @param items 待排序的对象数组
+     * @param key   对象到排序键的映射，需要支持并发调用
+     * @param <T>   元素类型
+     */
+    public static <T> void parallelRadixSortByInt(T[] items, SingleFunctionObjectToInt<T> key) {
+        sortByInt(items, 0, items.length, key, true);
+    }
+
+    /**
+     * 按照 int 键对对象数组的指定区间进行稳定的基数排序，键提取与直方图统计在公共池上并行执行。
+     *
+     * @param items     待排序的对象数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param key       对象到排序键的映射，需要支持并发调用
+     * @param <T>       元素类型
+     */
+    public static <T> void parallelRadixSortByInt(T[] items, int fromIndex, int toIndex, SingleFunctionObjectToInt<T> key) {
+        sortByInt(items, fromIndex, toIndex, key, true);
+    }
+
+    private static <T> void sortByInt(T[] items, int fromIndex, int toIndex, SingleFunctionObjectToInt<T> key, boolean parallel) {
+        ArrayBlocks.checkRange(items.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < 2) {
+            return;
+        }
+        int digits = Integer.SIZE / DIGIT_BITS;
+        int blockCount = parallel ? ArrayBlocks.blockCount(length) : 1;
+        int[] keys = new int[length];
+        int[][] blockCounts = new int[blockCount][];
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(0, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(0, length, blockCount, block + 1);
+            int[] counts = new int[digits * RADIX];
+            for (int i = start; i < end; i++) {
+                int k = key.apply(items[fromIndex + i]) ^ Integer.MIN_VALUE;
+                keys[i] = k;
+                for (int digit = 0; digit < digits; digit++) {
+                    counts[digit * RADIX + ((k >>> (digit * DIGIT_BITS)) & DIGIT_MASK)]++;
+                }
+            }
+            blockCounts[block] = counts;
+        });
+        int[] counts = blockCounts[0];
+        for (int block = 1; block < blockCount; block++) {
+            int[] other = blockCounts[block];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other[i];
+            }
+        }
+        Object[] sourceItems = new Object[length], targetItems = new Object[length];
+        System.arraycopy(items, fromIndex, sourceItems, 0, length);
+        int[] sourceKeys = keys, targetKeys = new int[length];
+        int[] offsets = new int[RADIX];
+        for (int digit = 0; digit < digits; digit++) {
+            int base = digit * RADIX, shift = digit * DIGIT_BITS;
+            if (counts[base + ((sourceKeys[0] >>> shift) & DIGIT_MASK)] == length) {
+                continue;
+            }
+            for (int bucket = 0, sum = 0; bucket < RADIX; bucket++) {
+                offsets[bucket] = sum;
+                sum += counts[base + bucket];
+            }
+            for (int i = 0; i < length; i++) {
+                int k = sourceKeys[i];
+                int position = offsets[(k >>> shift) & DIGIT_MASK]++;
+                targetKeys[position] = k;
+                targetItems[position] = sourceItems[i];
+            }
+            int[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            Object[] swapItems = sourceItems;
+            sourceItems = targetItems;
+            targetItems = swapItems;
+        }
+        System.arraycopy(sourceItems, 0, items, fromIndex, length);
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 按照 long 键对整个对象数组进行稳定的基数排序。
+     *
+     * @param items 待排序的对象数组
+     * @param key   对象到排序键的映射，每个元素只调用一次
+     * @param <T>   元素类型
+     */
+    public static <T> void radixSortByLong(T[] items, SingleFunctionObjectToLong<T> key) {
+        sortByLong(items, 0, items.length, key, false);
+    }
+
+    /**
+     * 按照 long 键对对象数组的指定区间进行稳定的基数排序。
+     *
+     * @param items     待排序的对象数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param key       对象到排序键的映射，每个元素只调用一次
+     * @param <T>       元素类型
+     */
+    public static <T> void radixSortByLong(T[] items, int fromIndex, int toIndex, SingleFunctionObjectToLong<T> key) {
+        sortByLong(items, fromIndex, toIndex, key, false);
+    }
+
+    /**
+     * 按照 long 键对整个对象数组进行稳定的基数排序，键提取与直方图统计在公共池上并行执行。
+     *
+     * @param items 待排序的对象数组
+     * @param key   对象到排序键的映射，需要支持并发调用
+     * @param <T>   元素类型
+     */
+    public static <T> void parallelRadixSortByLong(T[] items, SingleFunctionObjectToLong<T> key) {
+        sortByLong(items, 0, items.length, key, true);
+    }
+
+    /**
+     * 按照 long 键对对象数组的指定区间进行稳定的基数排序，键提取与直方图统计在公共池上并行执行。
+     *
+     * @param items     待排序的对象数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @param key       对象到排序键的映射，需要支持并发调用
+     * @param <T>       元素类型
+     */
+    public static <T> void parallelRadixSortByLong(T[] items, int fromIndex, int toIndex, SingleFunctionObjectToLong<T> key) {
+        sortByLong(items, fromIndex, toIndex, key, true);
+    }
+
+    private static <T> void sortByLong(T[] items, int fromIndex, int toIndex, SingleFunctionObjectToLong<T> key, boolean parallel) {
+        ArrayBlocks.checkRange(items.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        if (length < 2) {
+            return;
+        }
+        int digits = Long.SIZE / DIGIT_BITS;
+        int blockCount = parallel ? ArrayBlocks.blockCount(length) : 1;
+        long[] keys = new long[length];
+        int[][] blockCounts = new int[blockCount][];
+        ArrayBlocks.forEachBlock(blockCount, block -> {
+            int start = ArrayBlocks.blockStart(0, length, blockCount, block);
+            int end = ArrayBlocks.blockStart(0, length, blockCount, block + 1);
+            int[] counts = new int[digits * RADIX];
+            for (int i = start; i < end; i++) {
+                long k = key.apply(items[fromIndex + i]) ^ Long.MIN_VALUE;
+                keys[i] = k;
+                for (int digit = 0; digit < digits; digit++) {
+                    counts[digit * RADIX + ((int) (k >>> (digit * DIGIT_BITS)) & DIGIT_MASK)]++;
+                }
+            }
+            blockCounts[block] = counts;
+        });
+        int[] counts = blockCounts[0];
+        for (int block = 1; block < blockCount; block++) {
+            int[] other = blockCounts[block];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other[i];
+            }
+        }
+        Object[] sourceItems = new Object[length], targetItems = new Object[length];
+        System.arraycopy(items, fromIndex, sourceItems, 0, length);
+        long[] sourceKeys = keys, targetKeys = new long[length];
+        int[] offsets = new int[RADIX];
+        for (int digit = 0; digit < digits; digit++) {
+            int base = digit * RADIX, shift = digit * DIGIT_BITS;
+            if (counts[base + ((int) (sourceKeys[0] >>> shift) & DIGIT_MASK)] == length) {
+                continue;
+            }
+            for (int bucket = 0, sum = 0; bucket < RADIX; bucket++) {
+                offsets[bucket] = sum;
+                sum += counts[base + bucket];
+            }
+            for (int i = 0; i < length; i++) {
+                long k = sourceKeys[i];
+                int position = offsets[(int) (k >>> shift) & DIGIT_MASK]++;
+                targetKeys[position] = k;
+                targetItems[position] = sourceItems[i];
+            }
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            Object[] swapItems = sourceItems;
+            sourceItems = targetItems;
+            targetItems = swapItems;
+        }
+        System.arraycopy(sourceItems, 0, items, fromIndex, length);
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.zhitron.lambda.collection;
+
+/**
+ * 布隆过滤器的位集与探测逻辑，与键类型无关，只接收键的 64 位散列值。
+ * <p>
+ * k 个探测位置由一个 64 位散列值以双重散列推导：{@code g(i) = h1 + i * h2}，其中 h1 为散列值本身，
+ * h2 为再次打散后的奇数，从而只需调用一次用户散列函数。
+ *
+ * @author zhitron
+ */
+final class BloomBits {
+
+    /**
+     * 位集的最大位数，受限于 int 下标的 long 单元数量。
+     */
+    private static final long MAX_BIT_SIZE = (long) Integer.MAX_VALUE << 6;
+
+    private final LongCells cells;
+    private final long bitSize;
+    private final int hashCount;
+
+    BloomBits(long bitSize, int hashCount, boolean concurrent) {
+        if (bitSize <= 0 || bitSize > MAX_BIT_SIZE) {
+            throw new IllegalArgumentException("Illegal bit size: " + bitSize);
+        }
+        if (hashCount <= 0) {
+            throw new IllegalArgumentException("Illegal hash count: " + hashCount);
+        }
+        int words = (int) ((bitSize + 63) >>> 6);
+        this.cells = LongCells.of(words, concurrent);
+        this.bitSize = (long) words << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 计算期望元素数量与误判率下的最优位数。
+     *
+     * @param expectedInsertions 期望插入的元素数量
+     * @param fpp                期望的误判率
+     * @return 位数
+     */
+    static long optimalBitSize(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Illegal expected insertions: " + expectedInsertions);
+        }
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("Illegal false positive probability: " + fpp);
+        }
+        return Math.max(64L, (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+    }
+
+    /**
+     * 计算给定位数与期望元素数量下的最优散列函数个数。
+     *
+     * @param expectedInsertions 期望插入的元素数量
+     * @param bitSize            位数
+     * @return 散列函数个数
+     */
+    static int optimalHashCount(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    boolean put(long hash) {
+        long step = LongCells.mix64(hash) | 1L;
+        long combined = hash;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++, combined += step) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            changed |= cells.setBits((int) (bit >>> 6), 1L << bit);
+        }
+        return changed;
+    }
+
+    boolean mightContain(long hash) {
+        long step = LongCells.mix64(hash) | 1L;
+        long combined = hash;
+        for (int i = 0; i < hashCount; i++, combined += step) {
+            long bit = (combined & Long.MAX_VALUE) % bitSize;
+            if ((cells.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long approximateElementCount() {
+        double fraction = (double) cells.bitCount() / bitSize;
+        return Math.round(-Math.log1p(-fraction) * bitSize / hashCount);
+    }
+
+    double expectedFpp() {
+        return Math.pow((double) cells.bitCount() / bitSize, hashCount);
+    }
+}
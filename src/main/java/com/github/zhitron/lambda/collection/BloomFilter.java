@@ -0,0 +1,113 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToLong;
+
+/**
+ * 以 {@code long[]} 位集实现的布隆过滤器，用户只需提供一个 64 位散列函数，k 个探测位置由双重散列推导。
+ * <p>
+ * 占用空间只由位数决定，与元素数量和元素大小无关，位数上限约为 1.37e11。
+ * 以并发模式创建时 {@link #put} 以 CAS 无锁置位，可以被多个线程同时调用，{@link #mightContain} 始终是线程安全的读取；
+ * 普通模式不是线程安全的。
+ *
+ * @param <T> 元素类型
+ * @author zhitron
+ */
+public final class BloomFilter<T> {
+
+    /**
+     * 位集与探测逻辑。
+     */
+    private final BloomBits bits;
+
+    /**
+     * 元素的 64 位散列函数。
+     */
+    private final SingleFunctionObjectToLong<T> hashing;
+
+    /**
+     * 以指定的位数与散列函数个数创建过滤器。
+     *
+     * @param bitSize    位数，会向上取整到 64 的倍数
+     * @param hashCount  每个元素的探测位置个数
+     * @param hashing    元素的 64 位散列函数
+     * @param concurrent 是否允许多线程无锁并发写入
+     */
+    public BloomFilter(long bitSize, int hashCount, SingleFunctionObjectToLong<T> hashing, boolean concurrent) {
+        this.bits = new BloomBits(bitSize, hashCount, concurrent);
+        this.hashing = hashing;
+    }
+
+    /**
+     * 按期望元素数量与误判率创建位数与散列函数个数都为最优的过滤器。
+     *
+     * @param expectedInsertions 期望插入的元素数量
+     * @param fpp                期望的误判率，取值范围为 (0, 1)
+     * @param hashing            元素的 64 位散列函数
+     * @param concurrent         是否允许多线程无锁并发写入
+     * @param <T>                元素类型
+     * @return 新的过滤器
+     */
+    public static <T> BloomFilter<T> create(long expectedInsertions, double fpp, SingleFunctionObjectToLong<T> hashing, boolean concurrent) {
+        long bitSize = BloomBits.optimalBitSize(expectedInsertions, fpp);
+        return new BloomFilter<>(bitSize, BloomBits.optimalHashCount(expectedInsertions, bitSize), hashing, concurrent);
+    }
+
+    /**
+     * 加入元素。
+     * <p>
+     * 返回 true 说明元素一定是第一次加入，可以直接用于去重；返回 false 说明元素可能已经加入过。
+     * 并发模式下多个线程同时加入同一个新元素时可能都返回 true。
+     *
+     * @param element 元素
+     * @return 有位从 0 变为 1 时返回 true
+     */
+    public boolean put(T element) {
+        return bits.put(hashing.apply(element));
+    }
+
+    /**
+     * 判断元素是否可能已经加入过，返回 false 时一定没有加入过。
+     *
+     * @param element 元素
+     * @return 可能加入过时返回 true
+     */
+    public boolean mightContain(T element) {
+        return bits.mightContain(hashing.apply(element));
+    }
+
+    /**
+     * 获取位数。
+     *
+     * @return 位数
+     */
+    public long bitSize() {
+        return bits.bitSize();
+    }
+
+    /**
+     * 获取每个元素的探测位置个数。
+     *
+     * @return 探测位置个数
+     */
+    public int hashCount() {
+        return bits.hashCount();
+    }
+
+    /**
+     * 根据已置位的比例估算加入过的不同元素数量。
+     *
+     * @return 估算的元素数量
+     */
+    public long approximateElementCount() {
+        return bits.approximateElementCount();
+    }
+
+    /**
+     * 根据已置位的比例估算当前的误判率。
+     *
+     * @return 估算的误判率
+     */
+    public double expectedFpp() {
+        return bits.expectedFpp();
+    }
+}
@@ -0,0 +1,455 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.BasicConstant;
+import com.github.zhitron.lambda.consumer.SingleConsumerBoolean;
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+import com.github.zhitron.lambda.operator.BooleanTwiceOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateInt;
+
+import java.util.Arrays;
+
+/**
+ * 定长的位压缩布尔向量，每 64 个元素压缩在一个 long 中，内存占用是 {@code boolean[]} 的八分之一。
+ * <p>
+ * 批量操作都以整字为单位进行：{@link #setWhere(SinglePredicateInt)} 先在寄存器中拼好一整个字再写回，
+ * {@link #combine(BooleanVector, BooleanTwiceOperator)} 把二元运算符归约为按位运算，
+ * {@link #forEachSet(SingleConsumerInt)} 与 {@link #cardinality()} 借助 {@link Long#numberOfTrailingZeros(long)}
+ * 与 {@link Long#bitCount(long)} 跳过空白区域。最后一个字中超出长度的位始终保持为 0。
+ * 该类不是线程安全的。
+ *
+ * @author zhitron
+ */
+public final class BooleanVector {
+
+    /**
+     * 按位与运算符，用于 {@link #combine(BooleanVector, BooleanTwiceOperator)} 时直接映射为 {@code a & b}。
+     */
+    public static final BooleanTwiceOperator AND = (v1, v2) -> v1 & v2;
+
+    /**
+     * 按位或运算符，用于 {@link #combine(BooleanVector, BooleanTwiceOperator)} 时直接映射为 {@code a | b}。
+     */
+    public static final BooleanTwiceOperator OR = (v1, v2) -> v1 | v2;
+
+    /**
+     * 按位异或运算符，用于 {@link #combine(BooleanVector, BooleanTwiceOperator)} 时直接映射为 {@code a ^ b}。
+     */
+    public static final BooleanTwiceOperator XOR = (v1, v2) -> v1 ^ v2;
+
+    /**
+     * 按位与非运算符，用于 {@link #combine(BooleanVector, BooleanTwiceOperator)} 时直接映射为 {@code a & ~b}。
+     */
+    public static final BooleanTwiceOperator AND_NOT = (v1, v2) -> v1 & !v2;
+
+    private static final int ADDRESS_BITS = 6;
+    private static final int WORD_BITS = 1 << ADDRESS_BITS;
+    private static final long WORD_MASK = -1L;
+
+    /**
+     * 真值表编码：第 0 位为 op(false, false)，第 1 位为 op(false, true)，第 2 位为 op(true, false)，第 3 位为 op(true, true)。
+     */
+    private static final int TABLE_AND = 0b1000, TABLE_OR = 0b1110, TABLE_XOR = 0b0110, TABLE_AND_NOT = 0b0100;
+
+    /**
+     * 压缩后的位。
+     */
+    private final long[] words;
+
+    /**
+     * 向量长度。
+     */
+    private final int size;
+
+    /**
+     * 创建指定长度、所有元素为 false 的向量。
+     *
+     * @param size 向量长度
+     * @throws IllegalArgumentException 当长度为负数时抛出
+     */
+    public BooleanVector(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Illegal size: " + size);
+        }
+        this.size = size;
+        this.words = new long[wordCount(size)];
+    }
+
+    private BooleanVector(int size, long[] words) {
+        this.size = size;
+        this.words = words;
+    }
+
+    /**
+     * 由布尔数组创建向量。
+     *
+     * @param values 布尔数组
+     * @return 新的向量
+     */
+    public static BooleanVector of(boolean[] values) {
+        BooleanVector vector = new BooleanVector(values.length);
+        vector.setWhere(i -> values[i]);
+        return vector;
+    }
+
+    /**
+     * 创建指定长度、下标满足谓词的元素为 true 的向量。
+     *
+     * @param size      向量长度
+     * @param predicate 下标谓词
+     * @return 新的向量
+     */
+    public static BooleanVector of(int size, SinglePredicateInt predicate) {
+        BooleanVector vector = new BooleanVector(size);
+        vector.setWhere(predicate);
+        return vector;
+    }
+
+    /**
+     * 获取向量长度。
+     *
+     * @return 向量长度
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取指定下标的元素。
+     *
+     * @param index 下标
+     * @return 元素值
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words[index >>> ADDRESS_BITS] & (1L << index)) != 0;
+    }
+
+    /**
+     * 将指定下标的元素置为 true。
+     *
+     * @param index 下标
+     */
+    public void set(int index) {
+        checkIndex(index);
+        words[index >>> ADDRESS_BITS] |= 1L << index;
+    }
+
+    /**
+     * 设置指定下标的元素。
+     *
+     * @param index 下标
+     * @param value 元素值
+     */
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        } else {
+            clear(index);
+        }
+    }
+
+    /**
+     * 将指定下标的元素置为 false。
+     *
+     * @param index 下标
+     */
+    public void clear(int index) {
+        checkIndex(index);
+        words[index >>> ADDRESS_BITS] &= ~(1L << index);
+    }
+
+    /**
+     * 翻转指定下标的元素。
+     *
+     * @param index 下标
+     */
+    public void flip(int index) {
+        checkIndex(index);
+        words[index >>> ADDRESS_BITS] ^= 1L << index;
+    }
+
+    /**
+     * 将所有元素设置为给定值。
+     *
+     * @param value 元素值
+     */
+    public void fill(boolean value) {
+        Arrays.fill(words, value ? WORD_MASK : 0L);
+        clearTail();
+    }
+
+    /**
+     * 翻转所有元素。
+     */
+    public void flipAll() {
+        long[] words = this.words;
+        for (int i = 0; i < words.length; i++) {
+            words[i] = ~words[i];
+        }
+        clearTail();
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 将下标满足谓词的元素置为 true，其余元素保持不变。每个字在寄存器中拼好后只写回一次。
+     *
+     * @param predicate 下标谓词
+     */
+    public void setWhere(SinglePredicateInt predicate) {
+        long[] words = this.words;
+        for (int w = 0, base = 0; w < words.length; w++, base += WORD_BITS) {
+            words[w] |= collect(base, Math.min(WORD_BITS, size - base), predicate);
+        }
+    }
+
+    /**
+     * 将下标满足谓词的元素置为 false，其余元素保持不变。
+     *
+     * @param predicate 下标谓词
+     */
+    public void clearWhere(SinglePredicateInt predicate) {
+        long[] words = this.words;
+        for (int w = 0, base = 0; w < words.length; w++, base += WORD_BITS) {
+            words[w] &= ~collect(base, Math.min(WORD_BITS, size - base), predicate);
+        }
+    }
+
+    /**
+     * 以当前向量为左操作数、另一个等长向量为右操作数，逐元素应用运算符并把结果写回当前向量。
+     * <p>
+     * 运算符被视为纯函数：先以 4 种输入组合求出真值表，再转换为整字的按位运算，
+     * 因此 {@link #AND}、{@link #OR}、{@link #XOR}、{@link #AND_NOT} 以及任意等价的 lambda 都不会逐元素调用。
+     *
+     * @param other    右操作数向量
+     * @param operator 二元布尔运算符
+     * @return 当前向量
+     * @throws IllegalArgumentException 当两个向量长度不同时抛出
+     */
+    public BooleanVector combine(BooleanVector other, BooleanTwiceOperator operator) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("size(" + size + ") != other.size(" + other.size + ")");
+        }
+        long[] a = this.words, b = other.words;
+        int table = truthTable(operator);
+        switch (table) {
+            case TABLE_AND:
+                for (int i = 0; i < a.length; i++) {
+                    a[i] &= b[i];
+                }
+                return this;
+            case TABLE_OR:
+                for (int i = 0; i < a.length; i++) {
+                    a[i] |= b[i];
+                }
+                return this;
+            case TABLE_XOR:
+                for (int i = 0; i < a.length; i++) {
+                    a[i] ^= b[i];
+                }
+                return this;
+            case TABLE_AND_NOT:
+                for (int i = 0; i < a.length; i++) {
+                    a[i] &= ~b[i];
+                }
+                return this;
+            default:
+                long m0 = (table & 1) != 0 ? WORD_MASK : 0L;
+                long m1 = (table & 2) != 0 ? WORD_MASK : 0L;
+                long m2 = (table & 4) != 0 ? WORD_MASK : 0L;
+                long m3 = (table & 8) != 0 ? WORD_MASK : 0L;
+                for (int i = 0; i < a.length; i++) {
+                    long x = a[i], y = b[i];
+                    a[i] = (~x & ~y & m0) | (~x & y & m1) | (x & ~y & m2) | (x & y & m3);
+                }
+                clearTail();
+                return this;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 获取值为 true 的元素数量。
+     *
+     * @return 值为 true 的元素数量
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 查找从给定下标开始的第一个值为 true 的元素。
+     *
+     * @param fromIndex 起始下标（包含）
+     * @return 元素下标，不存在时返回 -1
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        }
+        if (fromIndex >= size) {
+            return -1;
+        }
+        int w = fromIndex >>> ADDRESS_BITS;
+        long word = words[w] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return (w << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    /**
+     * 按升序把每个值为 true 的元素下标推送给消费者，全 0 的字整体跳过。
+     *
+     * @param action 下标的消费者
+     */
+    public void forEachSet(SingleConsumerInt action) {
+        long[] words = this.words;
+        for (int w = 0, base = 0; w < words.length; w++, base += WORD_BITS) {
+            long word = words[w];
+            while (word != 0) {
+                action.accept(base + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * 按下标顺序把每个元素推送给消费者。
+     *
+     * @param action 元素的消费者
+     */
+    public void forEach(SingleConsumerBoolean action) {
+        long[] words = this.words;
+        for (int w = 0, base = 0; w < words.length; w++, base += WORD_BITS) {
+            long word = words[w];
+            for (int i = 0, n = Math.min(WORD_BITS, size - base); i < n; i++) {
+                action.accept((word & (1L << i)) != 0);
+            }
+        }
+    }
+
+    /**
+     * 获取所有值为 true 的元素下标。
+     *
+     * @return 升序排列的下标数组
+     */
+    public int[] toIndices() {
+        int[] indices = new int[cardinality()];
+        long[] words = this.words;
+        int k = 0;
+        for (int w = 0, base = 0; w < words.length; w++, base += WORD_BITS) {
+            long word = words[w];
+            while (word != 0) {
+                indices[k++] = base + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * 转换为布尔数组。
+     *
+     * @return 布尔数组
+     */
+    public boolean[] toBooleanArray() {
+        if (size == 0) {
+            return BasicConstant.BOOLEAN_EMPTY_ARRAY;
+        }
+        boolean[] values = new boolean[size];
+        forEachSet(i -> values[i] = true);
+        return values;
+    }
+
+    /**
+     * 创建当前向量的副本。
+     *
+     * @return 副本
+     */
+    public BooleanVector copy() {
+        return new BooleanVector(size, words.clone());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BooleanVector)) {
+            return false;
+        }
+        BooleanVector that = (BooleanVector) o;
+        return size == that.size && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(size + 2).append('[');
+        forEach(v -> builder.append(v ? '1' : '0'));
+        return builder.append(']').toString();
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private static int wordCount(int size) {
+        return (size + WORD_BITS - 1) >>> ADDRESS_BITS;
+    }
+
+    private static long collect(int base, int count, SinglePredicateInt predicate) {
+        long word = 0L;
+        for (int i = 0; i < count; i++) {
+            if (predicate.test(base + i)) {
+                word |= 1L << i;
+            }
+        }
+        return word;
+    }
+
+    private static int truthTable(BooleanTwiceOperator operator) {
+        if (operator == AND) {
+            return TABLE_AND;
+        }
+        if (operator == OR) {
+            return TABLE_OR;
+        }
+        if (operator == XOR) {
+            return TABLE_XOR;
+        }
+        if (operator == AND_NOT) {
+            return TABLE_AND_NOT;
+        }
+        return (operator.apply(false, false) ? 1 : 0)
+                | (operator.apply(false, true) ? 2 : 0)
+                | (operator.apply(true, false) ? 4 : 0)
+                | (operator.apply(true, true) ? 8 : 0);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void clearTail() {
+        int tail = size & (WORD_BITS - 1);
+        if (tail != 0) {
+            words[words.length - 1] &= WORD_MASK >>> (WORD_BITS - tail);
+        }
+    }
+}
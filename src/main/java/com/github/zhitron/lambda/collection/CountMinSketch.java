@@ -0,0 +1,109 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToLong;
+
+/**
+ * Count-Min 频率草图，用户只需提供一个 64 位散列函数，每一行的列由双重散列推导。
+ * <p>
+ * 估计值不会小于真实计数，以概率 1 - delta 不超过真实计数加上 epsilon 乘以总计数。
+ * 计数器保存在一个 long 数组中，以并发模式创建时 {@link #add} 以原子加法无锁累加，可以被多个线程同时调用；
+ * 普通模式不是线程安全的。
+ *
+ * @param <T> 元素类型
+ * @author zhitron
+ */
+public final class CountMinSketch<T> {
+
+    /**
+     * 计数器表与探测逻辑。
+     */
+    private final CountMinTable table;
+
+    /**
+     * 元素的 64 位散列函数。
+     */
+    private final SingleFunctionObjectToLong<T> hashing;
+
+    /**
+     * 以指定的宽度与深度创建草图。
+     *
+     * @param width      每一行的计数器个数
+     * @param depth      行数
+     * @param hashing    元素的 64 位散列函数
+     * @param concurrent 是否允许多线程无锁并发写入
+     */
+    public CountMinSketch(int width, int depth, SingleFunctionObjectToLong<T> hashing, boolean concurrent) {
+        this.table = new CountMinTable(width, depth, concurrent);
+        this.hashing = hashing;
+    }
+
+    /**
+     * 按误差上限与置信度创建草图。
+     *
+     * @param epsilon    相对于总计数的误差上限，取值范围为 (0, 1)
+     * @param delta      误差超出上限的概率，取值范围为 (0, 1)
+     * @param hashing    元素的 64 位散列函数
+     * @param concurrent 是否允许多线程无锁并发写入
+     * @param <T>        元素类型
+     * @return 新的草图
+     */
+    public static <T> CountMinSketch<T> create(double epsilon, double delta, SingleFunctionObjectToLong<T> hashing, boolean concurrent) {
+        return new CountMinSketch<>(CountMinTable.widthFor(epsilon), CountMinTable.depthFor(delta), hashing, concurrent);
+    }
+
+    /**
+     * 把元素的计数加 1。
+     *
+     * @param element 元素
+     */
+    public void add(T element) {
+        table.add(hashing.apply(element), 1L);
+    }
+
+    /**
+     * 把元素的计数加上给定值。
+     *
+     * @param element 元素
+     * @param count   非负的计数
+     */
+    public void add(T element, long count) {
+        table.add(hashing.apply(element), count);
+    }
+
+    /**
+     * 估计元素的计数，结果不会小于真实计数。
+     *
+     * @param element 元素
+     * @return 估计的计数
+     */
+    public long estimateCount(T element) {
+        return table.estimate(hashing.apply(element));
+    }
+
+    /**
+     * 获取所有加入的计数之和。
+     *
+     * @return 总计数
+     */
+    public long totalCount() {
+        return table.totalCount();
+    }
+
+    /**
+     * 获取每一行的计数器个数。
+     *
+     * @return 宽度
+     */
+    public int width() {
+        return table.width();
+    }
+
+    /**
+     * 获取行数。
+     *
+     * @return 深度
+     */
+    public int depth() {
+        return table.depth();
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.zhitron.lambda.collection;
+
+/**
+ * Count-Min 草图的计数器表与探测逻辑，与键类型无关，只接收键的 64 位散列值。
+ * <p>
+ * 计数器按行优先保存在一个 long 单元数组中，每一行的列由一个 64 位散列值以双重散列推导：
+ * {@code g(i) = h1 + i * h2}，其中 h1 为散列值本身，h2 为再次打散后的奇数。
+ *
+ * @author zhitron
+ */
+final class CountMinTable {
+
+    private final LongCells cells;
+    private final int width;
+    private final int depth;
+
+    CountMinTable(int width, int depth, boolean concurrent) {
+        if (width <= 0 || depth <= 0 || (long) width * depth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal dimension: width=" + width + ", depth=" + depth);
+        }
+        this.cells = LongCells.of(width * depth, concurrent);
+        this.width = width;
+        this.depth = depth;
+    }
+
+    /**
+     * 计算相对误差上限对应的宽度。
+     *
+     * @param epsilon 相对于总计数的误差上限
+     * @return 宽度
+     */
+    static int widthFor(double epsilon) {
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException("Illegal epsilon: " + epsilon);
+        }
+        return (int) Math.ceil(Math.E / epsilon);
+    }
+
+    /**
+     * 计算误差超出上限的概率对应的深度。
+     *
+     * @param delta 误差超出上限的概率
+     * @return 深度
+     */
+    static int depthFor(double delta) {
+        if (!(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("Illegal delta: " + delta);
+        }
+        return (int) Math.ceil(Math.log(1 / delta));
+    }
+
+    int width() {
+        return width;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    void add(long hash, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        long step = LongCells.mix64(hash) | 1L;
+        long combined = hash;
+        for (int row = 0, base = 0; row < depth; row++, base += width, combined += step) {
+            cells.add(base + (int) ((combined & Long.MAX_VALUE) % width), count);
+        }
+    }
+
+    long totalCount() {
+        long total = 0;
+        for (int i = 0; i < width; i++) {
+            total += cells.get(i);
+        }
+        return total;
+    }
+
+    long estimate(long hash) {
+        long step = LongCells.mix64(hash) | 1L;
+        long combined = hash;
+        long min = Long.MAX_VALUE;
+        for (int row = 0, base = 0; row < depth; row++, base += width, combined += step) {
+            min = Math.min(min, cells.get(base + (int) ((combined & Long.MAX_VALUE) % width)));
+        }
+        return min;
+    }
+}
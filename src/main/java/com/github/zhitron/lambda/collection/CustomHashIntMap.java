@@ -0,0 +1,225 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerObjectInt;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToInt;
+import com.github.zhitron.lambda.predicate.TwicePredicateObject;
+
+import java.util.ConcurrentModificationException;
+
+/**
+ * 值为 int 的开放寻址散列映射，使用自定义散列函数与相等谓词，线性探测，删除时反向移位。
+ * 值直接保存在 {@code int[]} 列中，读写都不会装箱。
+ * <p>
+ * 散列与相等由构造时传入的函数决定，因此可以直接以 {@code byte[]}、忽略大小写的字符串等作为键，
+ * 而不需要为每个键包装规范化的键对象；异构查找方法允许以任意探针查找，查找过程不分配对象。
+ * 键不能为 null。该类不是线程安全的。
+ *
+ * @param <K> 键类型
+ * @author zhitron
+ */
+public final class CustomHashIntMap<K> extends CustomHashTable<K> {
+
+    /**
+     * 与键数组下标对应的值数组。
+     */
+    private int[] values;
+
+    /**
+     * 创建使用默认期望大小与负载因子的空映射。
+     *
+     * @param hashing  键的散列函数
+     * @param equality 键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashIntMap(SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR, hashing, equality);
+    }
+
+    /**
+     * 创建能容纳期望数量元素而不扩容的空映射。
+     *
+     * @param expectedSize 期望的元素数量
+     * @param hashing      键的散列函数
+     * @param equality     键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashIntMap(int expectedSize, SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, hashing, equality);
+    }
+
+    /**
+     * 创建能容纳期望数量元素而不扩容、使用指定负载因子的空映射。
+     *
+     * @param expectedSize 期望的元素数量
+     * @param loadFactor   负载因子，取值范围为 (0, 1)
+     * @param hashing      键的散列函数
+     * @param equality     键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashIntMap(int expectedSize, float loadFactor, SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        super(expectedSize, loadFactor, hashing, equality);
+        this.values = new int[keys.length];
+    }
+
+    /**
+     * 判断是否包含键。
+     *
+     * @param key 键
+     * @return 包含时返回 true
+     */
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * 以异构探针判断是否包含键。
+     *
+     * @param probe    探针
+     * @param hashing  探针的散列函数，必须与映射的散列函数对相等的键给出相同的散列值
+     * @param equality 探针与键的相等谓词
+     * @param <Q>      探针类型
+     * @return 包含时返回 true
+     */
+    public <Q> boolean containsKey(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality) {
+        return find(probe, hashing, equality) >= 0;
+    }
+
+    /**
+     * 获取键对应的值，不存在时返回默认值。
+     *
+     * @param key          键
+     * @param defaultValue 默认值
+     * @return 值或默认值
+     */
+    public int getOrDefault(K key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * 以异构探针获取值，不存在时返回默认值。
+     *
+     * @param probe        探针
+     * @param hashing      探针的散列函数，必须与映射的散列函数对相等的键给出相同的散列值
+     * @param equality     探针与键的相等谓词
+     * @param defaultValue 默认值
+     * @param <Q>          探针类型
+     * @return 值或默认值
+     */
+    public <Q> int getOrDefault(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality, int defaultValue) {
+        int slot = find(probe, hashing, equality);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * 设置键对应的值。
+     *
+     * @param key   键，不能为 null
+     * @param value 值
+     * @return 键原本不存在时返回 true
+     */
+    public boolean put(K key, int value) {
+        int slot = insert(key);
+        if (slot >= 0) {
+            values[slot] = value;
+            return false;
+        }
+        values[~slot] = value;
+        added();
+        return true;
+    }
+
+    /**
+     * 获取键对应的值，不存在时以函数计算值并放入映射。
+     *
+     * @param key    键，不能为 null
+     * @param mapper 由键计算值的函数
+     * @return 已存在的值或新计算的值
+     * @throws ConcurrentModificationException 如果函数自己放入了同一个键
+     */
+    public int computeIfAbsent(K key, SingleFunctionObjectToInt<K> mapper) {
+        int slot = find(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        int value = mapper.apply(key);
+        slot = insert(key);
+        if (slot >= 0) {
+            throw new ConcurrentModificationException();
+        }
+        values[~slot] = value;
+        added();
+        return value;
+    }
+
+    /**
+     * 把增量累加到键对应的值上，键不存在时以 0 为初始值。
+     *
+     * @param key       键，不能为 null
+     * @param increment 增量
+     * @return 累加后的值
+     */
+    public int addTo(K key, int increment) {
+        int slot = insert(key);
+        if (slot >= 0) {
+            return values[slot] += increment;
+        }
+        values[~slot] = increment;
+        added();
+        return increment;
+    }
+
+    /**
+     * 删除键。
+     *
+     * @param key 键
+     * @return 键原本存在时返回 true
+     */
+    public boolean remove(K key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * 把每个键值对推送给消费者，顺序不确定。遍历期间不能修改映射。
+     *
+     * @param action 键值对的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(TwiceConsumerObjectInt<K> action) {
+        Object[] keys = this.keys;
+        int[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            Object k = keys[i];
+            if (k != null) {
+                action.accept((K) k, values[i]);
+            }
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+    }
+
+    @Override
+    void clearValues() {
+    }
+
+    @Override
+    void rehashValues(int[] newSlots, int newCapacity) {
+        int[] oldValues = this.values;
+        int[] newValues = new int[newCapacity];
+        for (int j = 0; j < newSlots.length; j++) {
+            if (newSlots[j] >= 0) {
+                newValues[newSlots[j]] = oldValues[j];
+            }
+        }
+        this.values = newValues;
+    }
+}
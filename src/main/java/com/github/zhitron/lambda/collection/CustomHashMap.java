@@ -0,0 +1,260 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerObject;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToInt;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObject;
+import com.github.zhitron.lambda.predicate.TwicePredicateObject;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+
+/**
+ * 使用自定义散列函数与相等谓词的开放寻址散列映射，线性探测，删除时反向移位，键与值分别保存在两个并行数组中。
+ * <p>
+ * 散列与相等由构造时传入的函数决定，因此可以直接以 {@code byte[]}、忽略大小写的字符串等作为键，
+ * 而不需要为每个键包装规范化的键对象；异构查找方法允许以任意探针查找，查找过程不分配对象。
+ * 键不能为 null。该类不是线程安全的。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author zhitron
+ */
+public final class CustomHashMap<K, V> extends CustomHashTable<K> {
+
+    /**
+     * 与键数组下标对应的值数组。
+     */
+    private Object[] values;
+
+    /**
+     * 创建使用默认期望大小与负载因子的空映射。
+     *
+     * @param hashing  键的散列函数
+     * @param equality 键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashMap(SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR, hashing, equality);
+    }
+
+    /**
+     * 创建能容纳期望数量元素而不扩容的空映射。
+     *
+     * @param expectedSize 期望的元素数量
+     * @param hashing      键的散列函数
+     * @param equality     键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashMap(int expectedSize, SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, hashing, equality);
+    }
+
+    /**
+     * 创建能容纳期望数量元素而不扩容、使用指定负载因子的空映射。
+     *
+     * @param expectedSize 期望的元素数量
+     * @param loadFactor   负载因子，取值范围为 (0, 1)
+     * @param hashing      键的散列函数
+     * @param equality     键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashMap(int expectedSize, float loadFactor, SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        super(expectedSize, loadFactor, hashing, equality);
+        this.values = new Object[keys.length];
+    }
+
+    /**
+     * 判断是否包含键。
+     *
+     * @param key 键
+     * @return 包含时返回 true
+     */
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * 以异构探针判断是否包含键。
+     *
+     * @param probe    探针
+     * @param hashing  探针的散列函数，必须与映射的散列函数对相等的键给出相同的散列值
+     * @param equality 探针与键的相等谓词
+     * @param <Q>      探针类型
+     * @return 包含时返回 true
+     */
+    public <Q> boolean containsKey(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality) {
+        return find(probe, hashing, equality) >= 0;
+    }
+
+    /**
+     * 获取键对应的值。
+     *
+     * @param key 键
+     * @return 值，不存在时返回 null
+     */
+    public V get(K key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * 以异构探针获取值。
+     *
+     * @param probe    探针
+     * @param hashing  探针的散列函数，必须与映射的散列函数对相等的键给出相同的散列值
+     * @param equality 探针与键的相等谓词
+     * @param <Q>      探针类型
+     * @return 值，不存在时返回 null
+     */
+    public <Q> V get(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality) {
+        return getOrDefault(probe, hashing, equality, null);
+    }
+
+    /**
+     * 获取键对应的值，不存在时返回默认值。
+     *
+     * @param key          键
+     * @param defaultValue 默认值
+     * @return 值或默认值
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : (V) values[slot];
+    }
+
+    /**
+     * 以异构探针获取值，不存在时返回默认值。
+     *
+     * @param probe        探针
+     * @param hashing      探针的散列函数，必须与映射的散列函数对相等的键给出相同的散列值
+     * @param equality     探针与键的相等谓词
+     * @param defaultValue 默认值
+     * @param <Q>          探针类型
+     * @return 值或默认值
+     */
+    @SuppressWarnings("unchecked")
+    public <Q> V getOrDefault(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality, V defaultValue) {
+        int slot = find(probe, hashing, equality);
+        return slot < 0 ? defaultValue : (V) values[slot];
+    }
+
+    /**
+     * 设置键对应的值。
+     *
+     * @param key   键，不能为 null
+     * @param value 值
+     * @return 原来的值，不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int slot = insert(key);
+        if (slot >= 0) {
+            V old = (V) values[slot];
+            values[slot] = value;
+            return old;
+        }
+        values[~slot] = value;
+        added();
+        return null;
+    }
+
+    /**
+     * 键不存在时设置值。
+     *
+     * @param key   键，不能为 null
+     * @param value 值
+     * @return 已存在的值，原本不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(K key, V value) {
+        int slot = insert(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        values[~slot] = value;
+        added();
+        return null;
+    }
+
+    /**
+     * 获取键对应的值，不存在时以函数计算值并放入映射。
+     *
+     * @param key    键，不能为 null
+     * @param mapper 由键计算值的函数
+     * @return 已存在的值或新计算的值
+     * @throws ConcurrentModificationException 如果函数自己放入了同一个键
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, SingleFunctionObjectToObject<K, V> mapper) {
+        int slot = find(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        V value = mapper.apply(key);
+        slot = insert(key);
+        if (slot >= 0) {
+            throw new ConcurrentModificationException();
+        }
+        values[~slot] = value;
+        added();
+        return value;
+    }
+
+    /**
+     * 删除键。
+     *
+     * @param key 键
+     * @return 原来的值，不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V old = (V) values[slot];
+        removeAt(slot);
+        return old;
+    }
+
+    /**
+     * 把每个键值对推送给消费者，顺序不确定。遍历期间不能修改映射。
+     *
+     * @param action 键值对的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(TwiceConsumerObject<K, V> action) {
+        Object[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            Object k = keys[i];
+            if (k != null) {
+                action.accept((K) k, (V) values[i]);
+            }
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        values[slot] = null;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, null);
+    }
+
+    @Override
+    void rehashValues(int[] newSlots, int newCapacity) {
+        Object[] oldValues = this.values;
+        Object[] newValues = new Object[newCapacity];
+        for (int j = 0; j < newSlots.length; j++) {
+            if (newSlots[j] >= 0) {
+                newValues[newSlots[j]] = oldValues[j];
+            }
+        }
+        this.values = newValues;
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToInt;
+import com.github.zhitron.lambda.predicate.TwicePredicateObject;
+
+/**
+ * 使用自定义散列函数与相等谓词的开放寻址散列集合，线性探测，删除时反向移位。
+ * <p>
+ * 散列与相等由构造时传入的函数决定，因此可以直接以 {@code byte[]}、忽略大小写的字符串等作为元素，
+ * 而不需要为每个元素包装规范化的键对象。{@link #get(Object, SingleFunctionObjectToInt, TwicePredicateObject)}
+ * 等异构查找方法允许以任意探针（例如数组切片的描述）查找，查找过程不分配对象。
+ * 元素不能为 null。该类不是线程安全的。
+ *
+ * @param <K> 元素类型
+ * @author zhitron
+ */
+public final class CustomHashSet<K> extends CustomHashTable<K> {
+
+    /**
+     * 创建使用默认期望大小与负载因子的空集合。
+     *
+     * @param hashing  键的散列函数
+     * @param equality 键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashSet(SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR, hashing, equality);
+    }
+
+    /**
+     * 创建能容纳期望数量元素而不扩容的空集合。
+     *
+     * @param expectedSize 期望的元素数量
+     * @param hashing      键的散列函数
+     * @param equality     键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashSet(int expectedSize, SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, hashing, equality);
+    }
+
+    /**
+     * 创建能容纳期望数量元素而不扩容、使用指定负载因子的空集合。
+     *
+     * @param expectedSize 期望的元素数量
+     * @param loadFactor   负载因子，取值范围为 (0, 1)
+     * @param hashing      键的散列函数
+     * @param equality     键的相等谓词，必须与散列函数一致
+     */
+    public CustomHashSet(int expectedSize, float loadFactor, SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        super(expectedSize, loadFactor, hashing, equality);
+    }
+
+    /**
+     * 添加元素。
+     *
+     * @param key 元素
+     * @return 元素原本不存在时返回 true
+     */
+    public boolean add(K key) {
+        if (insert(key) >= 0) {
+            return false;
+        }
+        added();
+        return true;
+    }
+
+    /**
+     * 判断是否包含元素。
+     *
+     * @param key 元素
+     * @return 包含时返回 true
+     */
+    public boolean contains(K key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * 以异构探针判断是否包含元素。
+     *
+     * @param probe    探针
+     * @param hashing  探针的散列函数，必须与集合的散列函数对相等的元素给出相同的散列值
+     * @param equality 探针与元素的相等谓词
+     * @param <Q>      探针类型
+     * @return 包含时返回 true
+     */
+    public <Q> boolean contains(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality) {
+        return find(probe, hashing, equality) >= 0;
+    }
+
+    /**
+     * 获取集合中与给定元素相等的元素，可用于规范化（驻留）。
+     *
+     * @param key 元素
+     * @return 集合中相等的元素，不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public K get(K key) {
+        int slot = find(key);
+        return slot < 0 ? null : (K) keys[slot];
+    }
+
+    /**
+     * 以异构探针获取集合中的元素。
+     *
+     * @param probe    探针
+     * @param hashing  探针的散列函数，必须与集合的散列函数对相等的元素给出相同的散列值
+     * @param equality 探针与元素的相等谓词
+     * @param <Q>      探针类型
+     * @return 集合中匹配的元素，不存在时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public <Q> K get(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality) {
+        int slot = find(probe, hashing, equality);
+        return slot < 0 ? null : (K) keys[slot];
+    }
+
+    /**
+     * 删除元素。
+     *
+     * @param key 元素
+     * @return 元素原本存在时返回 true
+     */
+    public boolean remove(K key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * 把每个元素推送给消费者，顺序不确定。遍历期间不能修改集合。
+     *
+     * @param action 元素的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(SingleConsumerObject<K> action) {
+        Object[] keys = this.keys;
+        for (Object k : keys) {
+            if (k != null) {
+                action.accept((K) k);
+            }
+        }
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+    }
+
+    @Override
+    void clearValue(int slot) {
+    }
+
+    @Override
+    void clearValues() {
+    }
+
+    @Override
+    void rehashValues(int[] newSlots, int newCapacity) {
+    }
+}
@@ -0,0 +1,299 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToInt;
+import com.github.zhitron.lambda.predicate.TwicePredicateObject;
+
+import java.util.Arrays;
+
+/**
+ * 使用自定义散列函数与相等谓词、以线性探测解决冲突的开放寻址散列表骨架，只管理键数组，值列由子类维护。
+ * <p>
+ * 删除时采用反向移位：把探测链上后续的键前移填补空位，因此不需要墓碑，查找长度不会随删除次数退化。
+ * 键移动、删除与扩容时分别通过 {@link #moveValue(int, int)}、{@link #clearValue(int)} 与
+ * {@link #rehashValues(int[], int)} 通知子类同步调整值列。键不能为 null，null 槽位表示空。
+ *
+ * @param <K> 键类型
+ * @author zhitron
+ */
+abstract class CustomHashTable<K> {
+
+    /**
+     * 默认的期望元素数量。
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    /**
+     * 默认的负载因子。
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.75F;
+
+    /**
+     * 最大的表容量。
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * 键的散列函数。
+     */
+    final SingleFunctionObjectToInt<K> hashing;
+
+    /**
+     * 键的相等谓词。
+     */
+    final TwicePredicateObject<K, K> equality;
+
+    /**
+     * 负载因子。
+     */
+    private final float loadFactor;
+
+    /**
+     * 键数组，长度总是 2 的幂，null 表示空槽位。
+     */
+    Object[] keys;
+
+    /**
+     * 槽位下标掩码。
+     */
+    private int mask;
+
+    /**
+     * 触发扩容的元素数量。
+     */
+    private int maxFill;
+
+    /**
+     * 元素数量。
+     */
+    int size;
+
+    CustomHashTable(int expectedSize, float loadFactor, SingleFunctionObjectToInt<K> hashing, TwicePredicateObject<K, K> equality) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Illegal expected size: " + expectedSize);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.hashing = hashing;
+        this.equality = equality;
+        this.loadFactor = loadFactor;
+        int capacity = capacityFor(expectedSize, loadFactor);
+        this.keys = new Object[capacity];
+        this.mask = capacity - 1;
+        this.maxFill = maxFill(capacity, loadFactor);
+    }
+
+    /**
+     * 获取元素数量。
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断是否为空。
+     *
+     * @return 为空时返回 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 删除所有元素，保留已分配的容量。
+     */
+    public void clear() {
+        if (size != 0) {
+            Arrays.fill(keys, null);
+            clearValues();
+            size = 0;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 打散用户散列值的低位，线性探测对散列值低位的质量非常敏感。
+     *
+     * @param hash 用户散列值
+     * @return 打散后的散列值
+     */
+    static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 查找键所在的槽位。
+     *
+     * @param key 键
+     * @return 槽位下标，不存在时返回 -1
+     */
+    @SuppressWarnings("unchecked")
+    final int find(K key) {
+        Object[] keys = this.keys;
+        int mask = this.mask;
+        int i = mix(hashing.apply(key)) & mask;
+        for (Object k; (k = keys[i]) != null; i = (i + 1) & mask) {
+            if (k == key || equality.test((K) k, key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 以异构探针查找槽位，探针的散列函数必须与表的散列函数对相等的键给出相同的散列值。
+     *
+     * @param probe    探针
+     * @param hashing  探针的散列函数
+     * @param equality 探针与键的相等谓词
+     * @param <Q>      探针类型
+     * @return 槽位下标，不存在时返回 -1
+     */
+    @SuppressWarnings("unchecked")
+    final <Q> int find(Q probe, SingleFunctionObjectToInt<Q> hashing, TwicePredicateObject<Q, K> equality) {
+        Object[] keys = this.keys;
+        int mask = this.mask;
+        int i = mix(hashing.apply(probe)) & mask;
+        for (Object k; (k = keys[i]) != null; i = (i + 1) & mask) {
+            if (equality.test(probe, (K) k)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 查找键所在的槽位，不存在时把键放入探测到的空槽位。放入新键后调用方写好值再调用 {@link #added()}。
+     *
+     * @param key 键，不能为 null
+     * @return 已存在时返回槽位下标，新放入时返回槽位下标的按位取反
+     */
+    @SuppressWarnings("unchecked")
+    final int insert(K key) {
+        if (key == null) {
+            throw new NullPointerException("key");
+        }
+        Object[] keys = this.keys;
+        int mask = this.mask;
+        int i = mix(hashing.apply(key)) & mask;
+        for (Object k; (k = keys[i]) != null; i = (i + 1) & mask) {
+            if (k == key || equality.test((K) k, key)) {
+                return i;
+            }
+        }
+        keys[i] = key;
+        return ~i;
+    }
+
+    /**
+     * 在新键的值写好之后更新元素数量，必要时扩容。
+     */
+    final void added() {
+        if (++size > maxFill) {
+            if (keys.length == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("Hash table is full");
+            }
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 删除槽位上的键，并把探测链上后续的键反向移位填补空位。
+     *
+     * @param slot 槽位下标
+     */
+    @SuppressWarnings("unchecked")
+    final void removeAt(int slot) {
+        Object[] keys = this.keys;
+        int mask = this.mask;
+        int last = slot, i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            Object k = keys[i];
+            if (k == null) {
+                break;
+            }
+            int home = mix(hashing.apply((K) k)) & mask;
+            // 键的初始槽位不在 (last, i] 循环区间内时才能前移到 last
+            if (last <= i ? (last >= home || home > i) : (last >= home && home > i)) {
+                keys[last] = k;
+                moveValue(i, last);
+                last = i;
+            }
+        }
+        keys[last] = null;
+        clearValue(last);
+        size--;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rehash(int newCapacity) {
+        Object[] oldKeys = this.keys;
+        Object[] newKeys = new Object[newCapacity];
+        int newMask = newCapacity - 1;
+        int[] newSlots = new int[oldKeys.length];
+        for (int j = 0; j < oldKeys.length; j++) {
+            Object k = oldKeys[j];
+            if (k == null) {
+                newSlots[j] = -1;
+                continue;
+            }
+            int i = mix(hashing.apply((K) k)) & newMask;
+            while (newKeys[i] != null) {
+                i = (i + 1) & newMask;
+            }
+            newKeys[i] = k;
+            newSlots[j] = i;
+        }
+        rehashValues(newSlots, newCapacity);
+        this.keys = newKeys;
+        this.mask = newMask;
+        this.maxFill = maxFill(newCapacity, loadFactor);
+    }
+
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (needed >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private static int maxFill(int capacity, float loadFactor) {
+        return Math.min((int) Math.ceil(capacity * (double) loadFactor), capacity - 1);
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 键从一个槽位移动到另一个槽位时同步移动值。
+     *
+     * @param from 原槽位下标
+     * @param to   新槽位下标
+     */
+    abstract void moveValue(int from, int to);
+
+    /**
+     * 槽位被清空时释放对应的值。
+     *
+     * @param slot 槽位下标
+     */
+    abstract void clearValue(int slot);
+
+    /**
+     * 清空全部值。
+     */
+    abstract void clearValues();
+
+    /**
+     * 扩容时按映射重新排列值列。
+     *
+     * @param newSlots    旧槽位到新槽位的映射，空槽位为 -1
+     * @param newCapacity 新的表容量
+     */
+    abstract void rehashValues(int[] newSlots, int newCapacity);
+}
@@ -0,0 +1,285 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.BasicConstant;
+import com.github.zhitron.lambda.function.TwiceFunctionIntToInt;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 元素为 int 的 d 叉堆，元素直接保存在 {@code int[]} 中，入堆出堆都不会装箱。
+ * <p>
+ * 堆顶是比较器意义下最小的元素；比较器为 null 时使用自然顺序，即最小堆，需要最大堆时传入反向比较器。
+ * 分叉数大于 2 时树更矮，上浮更快，下沉时同一个父节点的子节点在数组中连续存放，对缓存更加友好，
+ * 适合入堆远多于出堆或元素数量很大的场景；默认分叉数为 4。
+ * 该类不是线程安全的。
+ *
+ * @author zhitron
+ */
+public final class IntHeap {
+
+    /**
+     * 默认的分叉数。
+     */
+    static final int DEFAULT_ARITY = 4;
+
+    /**
+     * 默认的初始容量。
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * 分叉数。
+     */
+    private final int arity;
+
+    /**
+     * 元素比较器，为 null 时使用自然顺序。
+     */
+    private final TwiceFunctionIntToInt comparator;
+
+    /**
+     * 按堆序保存的元素。
+     */
+    private int[] elements;
+
+    /**
+     * 元素数量。
+     */
+    private int size;
+
+    /**
+     * 创建按自然顺序排列、使用默认分叉数的最小堆。
+     */
+    public IntHeap() {
+        this(DEFAULT_ARITY, null);
+    }
+
+    /**
+     * 创建使用给定比较器与默认分叉数的堆。
+     *
+     * @param comparator 元素比较器，为 null 时使用自然顺序
+     */
+    public IntHeap(TwiceFunctionIntToInt comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * 创建使用给定分叉数与比较器的堆。
+     *
+     * @param arity      分叉数，至少为 2
+     * @param comparator 元素比较器，为 null 时使用自然顺序
+     * @throws IllegalArgumentException 当分叉数小于 2 时抛出
+     */
+    public IntHeap(int arity, TwiceFunctionIntToInt comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.elements = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * 获取元素数量。
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断堆是否为空。
+     *
+     * @return 为空时返回 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 删除所有元素，保留已分配的容量。
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 加入元素。
+     *
+     * @param value 元素
+     */
+    public void push(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        siftUp(size++, value);
+    }
+
+    /**
+     * 批量加入元素，数量较多时以自底向上建堆代替逐个上浮。
+     *
+     * @param values 元素数组
+     */
+    public void pushAll(int[] values) {
+        if (values.length < size) {
+            for (int value : values) {
+                push(value);
+            }
+            return;
+        }
+        grow(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, elements[i]);
+        }
+    }
+
+    /**
+     * 获取堆顶元素。
+     *
+     * @return 堆顶元素
+     * @throws NoSuchElementException 如果堆为空
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[0];
+    }
+
+    /**
+     * 删除并返回堆顶元素。
+     *
+     * @return 堆顶元素
+     * @throws NoSuchElementException 如果堆为空
+     */
+    public int pop() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int top = elements[0];
+        int last = elements[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top;
+    }
+
+    /**
+     * 删除并返回堆顶元素，同时加入新元素，比先出堆再入堆少一次调整。
+     *
+     * @param value 新元素
+     * @return 原来的堆顶元素
+     * @throws NoSuchElementException 如果堆为空
+     */
+    public int replaceTop(int value) {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int top = elements[0];
+        siftDown(0, value);
+        return top;
+    }
+
+    /**
+     * 加入新元素后删除并返回堆顶元素；新元素本身就是最小元素时直接返回它而不修改堆。
+     * 用于维护前 K 大的元素时，堆中保存当前的前 K 个元素，每个候选元素只需调用一次该方法。
+     *
+     * @param value 新元素
+     * @return 加入新元素后的堆顶元素
+     */
+    public int pushPop(int value) {
+        if (size == 0 || !less(elements[0], value)) {
+            return value;
+        }
+        int top = elements[0];
+        siftDown(0, value);
+        return top;
+    }
+
+    /**
+     * 按内部的堆序返回全部元素的副本。
+     *
+     * @return 元素数组
+     */
+    public int[] toArray() {
+        return size == 0 ? BasicConstant.INT_EMPTY_ARRAY : Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * 依次删除全部元素，按出堆顺序返回。
+     *
+     * @return 有序的元素数组
+     */
+    public int[] drain() {
+        int[] result = new int[size];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = pop();
+        }
+        return result;
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private boolean less(int a, int b) {
+        return comparator == null ? a < b : comparator.apply(a, b) < 0;
+    }
+
+    private void siftUp(int index, int value) {
+        int[] elements = this.elements;
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            int p = elements[parent];
+            if (!less(value, p)) {
+                break;
+            }
+            elements[index] = p;
+            index = parent;
+        }
+        elements[index] = value;
+    }
+
+    private void siftDown(int index, int value) {
+        int[] elements = this.elements;
+        int size = this.size, arity = this.arity;
+        while (true) {
+            int first = index * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int best = first;
+            int bestValue = elements[first];
+            for (int c = first + 1, end = Math.min(first + arity, size); c < end; c++) {
+                int v = elements[c];
+                if (less(v, bestValue)) {
+                    best = c;
+                    bestValue = v;
+                }
+            }
+            if (!less(bestValue, value)) {
+                break;
+            }
+            elements[index] = bestValue;
+            index = best;
+        }
+        elements[index] = value;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity is too large");
+        }
+        int capacity = elements.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        if (newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
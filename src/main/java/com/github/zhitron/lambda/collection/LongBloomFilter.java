@@ -0,0 +1,129 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.function.SingleFunctionLongToLong;
+
+/**
+ * 键为 long 的布隆过滤器，以 {@code long[]} 位集实现，键经由 64 位混淆函数散列后以双重散列推导 k 个探测位置，
+ * 整个过程不装箱。
+ * <p>
+ * 占用空间只由位数决定，与元素数量和元素大小无关，位数上限约为 1.37e11。
+ * 以并发模式创建时 {@link #put} 以 CAS 无锁置位，可以被多个线程同时调用，{@link #mightContain} 始终是线程安全的读取；
+ * 普通模式不是线程安全的。
+ *
+ * @author zhitron
+ */
+public final class LongBloomFilter {
+
+    /**
+     * 默认的混淆函数，即 SplitMix64 的终结函数，对连续的键也能给出均匀分布的散列值。
+     */
+    public static final SingleFunctionLongToLong DEFAULT_MIXER = LongCells::mix64;
+
+    /**
+     * 位集与探测逻辑。
+     */
+    private final BloomBits bits;
+
+    /**
+     * 键的 64 位混淆函数。
+     */
+    private final SingleFunctionLongToLong hashing;
+
+    /**
+     * 以指定的位数与散列函数个数创建过滤器。
+     *
+     * @param bitSize    位数，会向上取整到 64 的倍数
+     * @param hashCount  每个元素的探测位置个数
+     * @param hashing    键的 64 位混淆函数
+     * @param concurrent 是否允许多线程无锁并发写入
+     */
+    public LongBloomFilter(long bitSize, int hashCount, SingleFunctionLongToLong hashing, boolean concurrent) {
+        this.bits = new BloomBits(bitSize, hashCount, concurrent);
+        this.hashing = hashing;
+    }
+
+    /**
+     * 按期望元素数量与误判率创建位数与散列函数个数都为最优的过滤器。
+     *
+     * @param expectedInsertions 期望插入的元素数量
+     * @param fpp                期望的误判率，取值范围为 (0, 1)
+     * @param hashing            键的 64 位混淆函数
+     * @param concurrent         是否允许多线程无锁并发写入
+     * @return 新的过滤器
+     */
+    public static LongBloomFilter create(long expectedInsertions, double fpp, SingleFunctionLongToLong hashing, boolean concurrent) {
+        long bitSize = BloomBits.optimalBitSize(expectedInsertions, fpp);
+        return new LongBloomFilter(bitSize, BloomBits.optimalHashCount(expectedInsertions, bitSize), hashing, concurrent);
+    }
+
+    /**
+     * 按期望元素数量与误判率创建使用 {@link #DEFAULT_MIXER} 的过滤器。
+     *
+     * @param expectedInsertions 期望插入的元素数量
+     * @param fpp                期望的误判率，取值范围为 (0, 1)
+     * @param concurrent         是否允许多线程无锁并发写入
+     * @return 新的过滤器
+     */
+    public static LongBloomFilter create(long expectedInsertions, double fpp, boolean concurrent) {
+        return create(expectedInsertions, fpp, DEFAULT_MIXER, concurrent);
+    }
+
+    /**
+     * 加入元素。
+     * <p>
+     * 返回 true 说明元素一定是第一次加入，可以直接用于去重；返回 false 说明元素可能已经加入过。
+     * 并发模式下多个线程同时加入同一个新元素时可能都返回 true。
+     *
+     * @param key 键
+     * @return 有位从 0 变为 1 时返回 true
+     */
+    public boolean put(long key) {
+        return bits.put(hashing.apply(key));
+    }
+
+    /**
+     * 判断元素是否可能已经加入过，返回 false 时一定没有加入过。
+     *
+     * @param key 键
+     * @return 可能加入过时返回 true
+     */
+    public boolean mightContain(long key) {
+        return bits.mightContain(hashing.apply(key));
+    }
+
+    /**
+     * 获取位数。
+     *
+     * @return 位数
+     */
+    public long bitSize() {
+        return bits.bitSize();
+    }
+
+    /**
+     * 获取每个元素的探测位置个数。
+     *
+     * @return 探测位置个数
+     */
+    public int hashCount() {
+        return bits.hashCount();
+    }
+
+    /**
+     * 根据已置位的比例估算加入过的不同元素数量。
+     *
+     * @return 估算的元素数量
+     */
+    public long approximateElementCount() {
+        return bits.approximateElementCount();
+    }
+
+    /**
+     * 根据已置位的比例估算当前的误判率。
+     *
+     * @return 估算的误判率
+     */
+    public double expectedFpp() {
+        return bits.expectedFpp();
+    }
+}
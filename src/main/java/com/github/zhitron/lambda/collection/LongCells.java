@@ -0,0 +1,159 @@
+package com.github.zhitron.lambda.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 概率数据结构使用的 long 单元数组，布隆过滤器把它当作位集，计数草图把它当作计数器。
+ * <p>
+ * 普通模式直接读写 {@code long[]}；并发模式基于 {@link AtomicLongArray}，置位使用 CAS 循环、累加使用原子加法，
+ * 多个线程可以无锁地同时写入。
+ *
+ * @author zhitron
+ */
+abstract class LongCells {
+
+    LongCells() {
+    }
+
+    /**
+     * 创建指定长度、所有单元为 0 的数组。
+     *
+     * @param length     单元数量
+     * @param concurrent 是否允许多线程无锁并发写入
+     * @return 单元数组
+     */
+    static LongCells of(int length, boolean concurrent) {
+        return concurrent ? new Atomic(length) : new Plain(length);
+    }
+
+    /**
+     * 使用 SplitMix64 的终结函数打散 64 位值。
+     *
+     * @param z 输入值
+     * @return 打散后的值
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 获取单元数量。
+     *
+     * @return 单元数量
+     */
+    abstract int length();
+
+    /**
+     * 读取单元。
+     *
+     * @param index 单元下标
+     * @return 单元的值
+     */
+    abstract long get(int index);
+
+    /**
+     * 把掩码中的位并入单元。
+     *
+     * @param index 单元下标
+     * @param mask  要置位的掩码
+     * @return 单元中至少有一位从 0 变为 1 时返回 true
+     */
+    abstract boolean setBits(int index, long mask);
+
+    /**
+     * 把增量累加到单元上。
+     *
+     * @param index 单元下标
+     * @param delta 增量
+     * @return 累加后的值
+     */
+    abstract long add(int index, long delta);
+
+    /**
+     * 统计全部单元中为 1 的位数。
+     *
+     * @return 为 1 的位数
+     */
+    final long bitCount() {
+        long count = 0;
+        for (int i = 0, n = length(); i < n; i++) {
+            count += Long.bitCount(get(i));
+        }
+        return count;
+    }
+
+    /**
+     * 基于普通数组的单元，不是线程安全的。
+     */
+    private static final class Plain extends LongCells {
+        private final long[] cells;
+
+        Plain(int length) {
+            this.cells = new long[length];
+        }
+
+        @Override
+        int length() {
+            return cells.length;
+        }
+
+        @Override
+        long get(int index) {
+            return cells[index];
+        }
+
+        @Override
+        boolean setBits(int index, long mask) {
+            long old = cells[index];
+            cells[index] = old | mask;
+            return (old & mask) != mask;
+        }
+
+        @Override
+        long add(int index, long delta) {
+            return cells[index] += delta;
+        }
+    }
+
+    /**
+     * 基于原子数组的单元，写入是无锁的。
+     */
+    private static final class Atomic extends LongCells {
+        private final AtomicLongArray cells;
+
+        Atomic(int length) {
+            this.cells = new AtomicLongArray(length);
+        }
+
+        @Override
+        int length() {
+            return cells.length();
+        }
+
+        @Override
+        long get(int index) {
+            return cells.get(index);
+        }
+
+        @Override
+        boolean setBits(int index, long mask) {
+            AtomicLongArray cells = this.cells;
+            while (true) {
+                long old = cells.get(index);
+                if ((old & mask) == mask) {
+                    return false;
+                }
+                if (cells.compareAndSet(index, old, old | mask)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        long add(int index, long delta) {
+            return cells.addAndGet(index, delta);
+        }
+    }
+}
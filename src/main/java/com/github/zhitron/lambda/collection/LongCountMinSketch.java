@@ -0,0 +1,119 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.function.SingleFunctionLongToLong;
+
+/**
+ * 键为 long 的 Count-Min 频率草图，键经由 64 位混淆函数散列后以双重散列推导每一行的列，整个过程不装箱。
+ * <p>
+ * 估计值不会小于真实计数，以概率 1 - delta 不超过真实计数加上 epsilon 乘以总计数。
+ * 计数器保存在一个 long 数组中，以并发模式创建时 {@link #add} 以原子加法无锁累加，可以被多个线程同时调用；
+ * 普通模式不是线程安全的。
+ *
+ * @author zhitron
+ */
+public final class LongCountMinSketch {
+
+    /**
+     * 计数器表与探测逻辑。
+     */
+    private final CountMinTable table;
+
+    /**
+     * 键的 64 位混淆函数。
+     */
+    private final SingleFunctionLongToLong hashing;
+
+    /**
+     * 以指定的宽度与深度创建草图。
+     *
+     * @param width      每一行的计数器个数
+     * @param depth      行数
+     * @param hashing    键的 64 位混淆函数
+     * @param concurrent 是否允许多线程无锁并发写入
+     */
+    public LongCountMinSketch(int width, int depth, SingleFunctionLongToLong hashing, boolean concurrent) {
+        this.table = new CountMinTable(width, depth, concurrent);
+        this.hashing = hashing;
+    }
+
+    /**
+     * 按误差上限与置信度创建草图。
+     *
+     * @param epsilon    相对于总计数的误差上限，取值范围为 (0, 1)
+     * @param delta      误差超出上限的概率，取值范围为 (0, 1)
+     * @param hashing    键的 64 位混淆函数
+     * @param concurrent 是否允许多线程无锁并发写入
+     * @return 新的草图
+     */
+    public static LongCountMinSketch create(double epsilon, double delta, SingleFunctionLongToLong hashing, boolean concurrent) {
+        return new LongCountMinSketch(CountMinTable.widthFor(epsilon), CountMinTable.depthFor(delta), hashing, concurrent);
+    }
+
+    /**
+     * 按误差上限与置信度创建使用 {@link LongBloomFilter#DEFAULT_MIXER} 的草图。
+     *
+     * @param epsilon    相对于总计数的误差上限，取值范围为 (0, 1)
+     * @param delta      误差超出上限的概率，取值范围为 (0, 1)
+     * @param concurrent 是否允许多线程无锁并发写入
+     * @return 新的草图
+     */
+    public static LongCountMinSketch create(double epsilon, double delta, boolean concurrent) {
+        return create(epsilon, delta, LongBloomFilter.DEFAULT_MIXER, concurrent);
+    }
+
+    /**
+     * 把键的计数加 1。
+     *
+     * @param key 键
+     */
+    public void add(long key) {
+        table.add(hashing.apply(key), 1L);
+    }
+
+    /**
+     * 把键的计数加上给定值。
+     *
+     * @param key     键
+     * @param count   非负的计数
+     */
+    public void add(long key, long count) {
+        table.add(hashing.apply(key), count);
+    }
+
+    /**
+     * 估计键的计数，结果不会小于真实计数。
+     *
+     * @param key 键
+     * @return 估计的计数
+     */
+    public long estimateCount(long key) {
+        return table.estimate(hashing.apply(key));
+    }
+
+    /**
+     * 获取所有加入的计数之和。
+     *
+     * @return 总计数
+     */
+    public long totalCount() {
+        return table.totalCount();
+    }
+
+    /**
+     * 获取每一行的计数器个数。
+     *
+     * @return 宽度
+     */
+    public int width() {
+        return table.width();
+    }
+
+    /**
+     * 获取行数。
+     *
+     * @return 深度
+     */
+    public int depth() {
+        return table.depth();
+    }
+}
@@ -0,0 +1,433 @@
+package com.github.zhitron.lambda.collection;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerLongDouble;
+import com.github.zhitron.lambda.function.TwiceFunctionDoubleToInt;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 以 long 为键、double 为优先级的索引 d 叉堆，每个键最多出现一次，支持按键修改优先级（decrease-key）与删除。
+ * <p>
+ * 键与优先级分别保存在两个并行数组中，键到堆中位置的索引是一个内置的线性探测散列表，整个过程不装箱。
+ * 堆顶是比较器意义下优先级最小的键；比较器为 null 时使用 {@link Double#compare(double, double)} 的自然顺序。
+ * 适合 Dijkstra、A* 以及定时调度等需要频繁调整优先级的场景。该类不是线程安全的。
+ *
+ * @author zhitron
+ */
+public final class LongDoubleHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * 分叉数。
+     */
+    private final int arity;
+
+    /**
+     * 优先级比较器，为 null 时使用自然顺序。
+     */
+    private final TwiceFunctionDoubleToInt comparator;
+
+    /**
+     * 按堆序保存的键。
+     */
+    private long[] keys;
+
+    /**
+     * 与键对应的优先级。
+     */
+    private double[] priorities;
+
+    /**
+     * 元素数量。
+     */
+    private int size;
+
+    /**
+     * 键到堆中位置的索引。
+     */
+    private final PositionIndex index = new PositionIndex();
+
+    /**
+     * 创建按优先级自然顺序排列、使用默认分叉数的最小堆。
+     */
+    public LongDoubleHeap() {
+        this(LongHeap.DEFAULT_ARITY, null);
+    }
+
+    /**
+     * 创建使用给定分叉数与优先级比较器的堆。
+     *
+     * @param arity      分叉数，至少为 2
+     * @param comparator 优先级比较器，为 null 时使用自然顺序
+     * @throws IllegalArgumentException 当分叉数小于 2 时抛出
+     */
+    public LongDoubleHeap(int arity, TwiceFunctionDoubleToInt comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        this.keys = new long[DEFAULT_CAPACITY];
+        this.priorities = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * 获取元素数量。
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断堆是否为空。
+     *
+     * @return 为空时返回 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 删除所有元素，保留已分配的容量。
+     */
+    public void clear() {
+        size = 0;
+        index.clear();
+    }
+
+    /**
+     * 判断键是否在堆中。
+     *
+     * @param key 键
+     * @return 在堆中时返回 true
+     */
+    public boolean contains(long key) {
+        return index.get(key) >= 0;
+    }
+
+    /**
+     * 获取键的优先级。
+     *
+     * @param key 键
+     * @return 优先级
+     * @throws NoSuchElementException 如果键不在堆中
+     */
+    public double priority(long key) {
+        int position = index.get(key);
+        if (position < 0) {
+            throw new NoSuchElementException("key: " + key);
+        }
+        return priorities[position];
+    }
+
+    /**
+     * 加入键，键已经在堆中时把它的优先级改为给定值。
+     *
+     * @param key      键
+     * @param priority 优先级
+     * @return 键原本不在堆中时返回 true
+     */
+    public boolean push(long key, double priority) {
+        int position = index.get(key);
+        if (position >= 0) {
+            update(position, priority);
+            return false;
+        }
+        if (size == keys.length) {
+            grow(size + 1);
+        }
+        siftUp(size++, key, priority);
+        return true;
+    }
+
+    /**
+     * 仅当给定优先级排在键当前的优先级之前时才修改它；键不在堆中时直接加入。
+     *
+     * @param key      键
+     * @param priority 新的优先级
+     * @return 键被加入或优先级被修改时返回 true
+     */
+    public boolean decreaseKey(long key, double priority) {
+        int position = index.get(key);
+        if (position < 0) {
+            return push(key, priority);
+        }
+        if (!less(priority, priorities[position])) {
+            return false;
+        }
+        siftUp(position, key, priority);
+        return true;
+    }
+
+    /**
+     * 删除键。
+     *
+     * @param key 键
+     * @return 键原本在堆中时返回 true
+     */
+    public boolean remove(long key) {
+        int position = index.get(key);
+        if (position < 0) {
+            return false;
+        }
+        index.remove(key);
+        removeAt(position);
+        return true;
+    }
+
+    /**
+     * 获取堆顶的键。
+     *
+     * @return 堆顶的键
+     * @throws NoSuchElementException 如果堆为空
+     */
+    public long peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    /**
+     * 获取堆顶的优先级。
+     *
+     * @return 堆顶的优先级
+     * @throws NoSuchElementException 如果堆为空
+     */
+    public double peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return priorities[0];
+    }
+
+    /**
+     * 删除并返回堆顶的键。
+     *
+     * @return 堆顶的键
+     * @throws NoSuchElementException 如果堆为空
+     */
+    public long popKey() {
+        long key = peekKey();
+        index.remove(key);
+        removeAt(0);
+        return key;
+    }
+
+    /**
+     * 删除堆顶元素，并把它的键与优先级推送给消费者。
+     *
+     * @param action 键与优先级的消费者
+     * @throws NoSuchElementException 如果堆为空
+     */
+    public void pop(TwiceConsumerLongDouble action) {
+        long key = peekKey();
+        double priority = priorities[0];
+        index.remove(key);
+        removeAt(0);
+        action.accept(key, priority);
+    }
+
+    /**
+     * 把每个键与优先级按内部的堆序推送给消费者。遍历期间不能修改堆。
+     *
+     * @param action 键与优先级的消费者
+     */
+    public void forEach(TwiceConsumerLongDouble action) {
+        long[] keys = this.keys;
+        double[] priorities = this.priorities;
+        for (int i = 0, n = size; i < n; i++) {
+            action.accept(keys[i], priorities[i]);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private boolean less(double a, double b) {
+        return comparator == null ? Double.compare(a, b) < 0 : comparator.apply(a, b) < 0;
+    }
+
+    private void update(int position, double priority) {
+        long key = keys[position];
+        if (less(priority, priorities[position])) {
+            siftUp(position, key, priority);
+        } else {
+            siftDown(position, key, priority);
+        }
+    }
+
+    private void removeAt(int position) {
+        int last = --size;
+        if (position != last) {
+            update(position, keys[last], priorities[last]);
+        }
+    }
+
+    private void update(int position, long key, double priority) {
+        if (position > 0 && less(priority, priorities[(position - 1) / arity])) {
+            siftUp(position, key, priority);
+        } else {
+            siftDown(position, key, priority);
+        }
+    }
+
+    private void siftUp(int position, long key, double priority) {
+        long[] keys = this.keys;
+        double[] priorities = this.priorities;
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            double p = priorities[parent];
+            if (!less(priority, p)) {
+                break;
+            }
+            place(position, keys[parent], p);
+            position = parent;
+        }
+        place(position, key, priority);
+    }
+
+    private void siftDown(int position, long key, double priority) {
+        double[] priorities = this.priorities;
+        int size = this.size, arity = this.arity;
+        while (true) {
+            int first = position * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int best = first;
+            double bestPriority = priorities[first];
+            for (int c = first + 1, end = Math.min(first + arity, size); c < end; c++) {
+                double p = priorities[c];
+                if (less(p, bestPriority)) {
+                    best = c;
+                    bestPriority = p;
+                }
+            }
+            if (!less(bestPriority, priority)) {
+                break;
+            }
+            place(position, keys[best], bestPriority);
+            position = best;
+        }
+        place(position, key, priority);
+    }
+
+    private void place(int position, long key, double priority) {
+        keys[position] = key;
+        priorities[position] = priority;
+        index.put(key, position);
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity is too large");
+        }
+        int capacity = keys.length;
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        if (newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        keys = Arrays.copyOf(keys, newCapacity);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+    }
+
+    /**
+     * 键到堆中位置的线性探测散列表，删除时反向移位，位置为 -1 表示空槽位。
+     */
+    private static final class PositionIndex {
+        private long[] keys = new long[DEFAULT_CAPACITY];
+        private int[] positions = newPositions(DEFAULT_CAPACITY);
+        private int mask = DEFAULT_CAPACITY - 1;
+        private int size;
+
+        private static int[] newPositions(int capacity) {
+            int[] positions = new int[capacity];
+            Arrays.fill(positions, -1);
+            return positions;
+        }
+
+        private int slot(long key) {
+            return (int) LongCells.mix64(key) & mask;
+        }
+
+        int get(long key) {
+            for (int i = slot(key); positions[i] >= 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return positions[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int position) {
+            int i = slot(key);
+            for (; positions[i] >= 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    positions[i] = position;
+                    return;
+                }
+            }
+            keys[i] = key;
+            positions[i] = position;
+            // 负载因子保持在 0.5 以下
+            if (++size > (mask + 1) >>> 1) {
+                rehash((mask + 1) << 1);
+            }
+        }
+
+        void remove(long key) {
+            int i = slot(key);
+            while (true) {
+                if (positions[i] < 0) {
+                    return;
+                }
+                if (keys[i] == key) {
+                    break;
+                }
+                i = (i + 1) & mask;
+            }
+            int last = i;
+            while (true) {
+                i = (i + 1) & mask;
+                if (positions[i] < 0) {
+                    break;
+                }
+                int home = slot(keys[i]);
+                if (last <= i ? (last >= home || home > i) : (last >= home && home > i)) {
+                    keys[last] = keys[i];
+                    positions[last] = positions[i];
+                    last = i;
+                }
+            }
+            positions[last] = -1;
+            size--;
+        }
+
+        void clear() {
+            Arrays.fill(positions, -1);
+            size = 0;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldPositions = positions;
+            keys = new long[capacity];
+            positions = newPositions(capacity);
+            mask = capacity - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldPositions[j] >= 0) {
+                    int i = slot(oldKeys[j]);
+                    while (positions[i] >= 0) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    positions[i] = oldPositions[j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.ActuatorThrow;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToDoubleThrow;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToIntThrow;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToLongThrow;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObjectThrow;
+import com.github.zhitron.lambda.supplier.DoubleSupplierThrow;
+import com.github.zhitron.lambda.supplier.IntSupplierThrow;
+import com.github.zhitron.lambda.supplier.LongSupplierThrow;
+import com.github.zhitron.lambda.supplier.ObjectSupplierThrow;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 在执行器上异步执行可抛出受检异常的函数的工具类。
+ * <p>
+ * 与 {@link CompletableFuture#supplyAsync(java.util.function.Supplier, Executor)} 不同，
+ * 这里直接调用函数的 {@code xxxThrow} 方法，异步计算以函数抛出的原始异常完成，不会被包装成 {@link RuntimeException}。
+ * 结果为 int、long 或 double 的函数返回 {@link IntFuture}、{@link LongFuture} 或 {@link DoubleFuture}，整个过程不装箱。
+ * 执行器拒绝任务时异常直接抛给调用方。
+ *
+ * @author zhitron
+ */
+public final class Async {
+
+    private Async() {
+    }
+
+    /**
+     * 在执行器上异步执行任务。
+     *
+     * @param task     任务
+     * @param executor 执行器
+     * @return 任务完成时以 null 完成的异步计算
+     */
+    public static CompletableFuture<Void> run(ActuatorThrow<?> task, Executor executor) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                task.executeThrow();
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步获取对象。
+     *
+     * @param supplier 对象供应者
+     * @param executor 执行器
+     * @param <R>      结果类型
+     * @return 异步计算
+     */
+    public static <R> CompletableFuture<R> supply(ObjectSupplierThrow<R, ?> supplier, Executor executor) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.getThrow());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步获取 int 值。
+     *
+     * @param supplier int 值供应者
+     * @param executor 执行器
+     * @return 异步计算
+     */
+    public static IntFuture supplyInt(IntSupplierThrow<?> supplier, Executor executor) {
+        IntFuture future = new IntFuture();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.getAsIntThrow());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步获取 long 值。
+     *
+     * @param supplier long 值供应者
+     * @param executor 执行器
+     * @return 异步计算
+     */
+    public static LongFuture supplyLong(LongSupplierThrow<?> supplier, Executor executor) {
+        LongFuture future = new LongFuture();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.getAsLongThrow());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步获取 double 值。
+     *
+     * @param supplier double 值供应者
+     * @param executor 执行器
+     * @return 异步计算
+     */
+    public static DoubleFuture supplyDouble(DoubleSupplierThrow<?> supplier, Executor executor) {
+        DoubleFuture future = new DoubleFuture();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.getAsDoubleThrow());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步地把函数应用到参数上。
+     *
+     * @param function 函数
+     * @param argument 参数
+     * @param executor 执行器
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @return 异步计算
+     */
+    public static <T, R> CompletableFuture<R> apply(SingleFunctionObjectToObjectThrow<T, R, ?> function, T argument, Executor executor) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(function.applyThrow(argument));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步地把结果为 int 的函数应用到参数上。
+     *
+     * @param function 函数
+     * @param argument 参数
+     * @param executor 执行器
+     * @param <T>      参数类型
+     * @return 异步计算
+     */
+    public static <T> IntFuture applyToInt(SingleFunctionObjectToIntThrow<T, ?> function, T argument, Executor executor) {
+        IntFuture future = new IntFuture();
+        executor.execute(() -> {
+            try {
+                future.complete(function.applyThrow(argument));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步地把结果为 long 的函数应用到参数上。
+     *
+     * @param function 函数
+     * @param argument 参数
+     * @param executor 执行器
+     * @param <T>      参数类型
+     * @return 异步计算
+     */
+    public static <T> LongFuture applyToLong(SingleFunctionObjectToLongThrow<T, ?> function, T argument, Executor executor) {
+        LongFuture future = new LongFuture();
+        executor.execute(() -> {
+            try {
+                future.complete(function.applyThrow(argument));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在执行器上异步地把结果为 double 的函数应用到参数上。
+     *
+     * @param function 函数
+     * @param argument 参数
+     * @param executor 执行器
+     * @param <T>      参数类型
+     * @return 异步计算
+     */
+    public static <T> DoubleFuture applyToDouble(SingleFunctionObjectToDoubleThrow<T, ?> function, T argument, Executor executor) {
+        DoubleFuture future = new DoubleFuture();
+        executor.execute(() -> {
+            try {
+                future.complete(function.applyThrow(argument));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
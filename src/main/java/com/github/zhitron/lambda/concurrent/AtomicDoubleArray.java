@@ -0,0 +1,174 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.operator.DoubleSingleOperator;
+import com.github.zhitron.lambda.operator.DoubleTwiceOperator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 元素可以原子更新的 double 数组，元素以位模式保存在 {@link AtomicLongArray} 中。
+ * <p>
+ * 比较并替换比较的是位模式，因此 NaN 可以被正常替换，而 0.0 与 -0.0 被视为不同的值。
+ * 运算符在竞争时可能被调用多次，应当没有副作用。许多线程频繁写入少量热点元素时，
+ * CAS 冲突会限制伸缩性，这时可以考虑使用 {@link ShardedDoubleArray}。
+ *
+ * @author zhitron
+ */
+public final class AtomicDoubleArray implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 以位模式保存的元素。
+     */
+    private final AtomicLongArray array;
+
+    /**
+     * 创建指定长度、所有元素为 0 的数组。
+     *
+     * @param length 数组长度
+     */
+    public AtomicDoubleArray(int length) {
+        this.array = new AtomicLongArray(length);
+    }
+
+    /**
+     * 创建长度与给定数组相同、元素从给定数组复制的数组。
+     *
+     * @param values 初始元素
+     */
+    public AtomicDoubleArray(double[] values) {
+        long[] bits = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bits[i] = Double.doubleToRawLongBits(values[i]);
+        }
+        this.array = new AtomicLongArray(bits);
+    }
+
+    /**
+     * 获取数组长度。
+     *
+     * @return 数组长度
+     */
+    public int length() {
+        return array.length();
+    }
+
+    /**
+     * 读取元素。
+     *
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public double get(int index) {
+        return Double.longBitsToDouble(array.get(index));
+    }
+
+    /**
+     * 写入元素。
+     *
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public void set(int index, double value) {
+        array.set(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * 延迟写入元素，其他线程可能稍后才能看到新的值。
+     *
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public void lazySet(int index, double value) {
+        array.lazySet(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * 原子地写入元素并返回原来的值。
+     *
+     * @param index 元素下标
+     * @param value 新的值
+     * @return 原来的值
+     */
+    public double getAndSet(int index, double value) {
+        return Double.longBitsToDouble(array.getAndSet(index, Double.doubleToRawLongBits(value)));
+    }
+
+    /**
+     * 当元素的位模式与期望值的位模式相同时原子地替换为新的值。
+     *
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public boolean compareAndSet(int index, double expect, double update) {
+        return Atomics.compareAndSetDouble(array, index, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新元素，返回更新前的值。
+     *
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public double getAndUpdate(int index, DoubleSingleOperator operator) {
+        return Atomics.getAndUpdateDouble(array, index, operator);
+    }
+
+    /**
+     * 以一元运算符原子地更新元素，返回更新后的值。
+     *
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public double updateAndGet(int index, DoubleSingleOperator operator) {
+        return Atomics.updateAndGetDouble(array, index, operator);
+    }
+
+    /**
+     * 以二元运算符原子地把给定值合并到元素上，返回更新前的值。
+     *
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public double getAndAccumulate(int index, double x, DoubleTwiceOperator operator) {
+        return Atomics.getAndAccumulateDouble(array, index, x, operator);
+    }
+
+    /**
+     * 以二元运算符原子地把给定值合并到元素上，返回更新后的值。
+     *
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public double accumulateAndGet(int index, double x, DoubleTwiceOperator operator) {
+        return Atomics.accumulateAndGetDouble(array, index, x, operator);
+    }
+
+    /**
+     * 逐个读取元素复制到新数组中，结果不是原子快照。
+     *
+     * @return 新数组
+     */
+    public double[] toArray() {
+        double[] result = new double[array.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Double.longBitsToDouble(array.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
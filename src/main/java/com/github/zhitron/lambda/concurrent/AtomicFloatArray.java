@@ -0,0 +1,174 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.operator.FloatSingleOperator;
+import com.github.zhitron.lambda.operator.FloatTwiceOperator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 元素可以原子更新的 float 数组，元素以位模式保存在 {@link AtomicIntegerArray} 中。
+ * <p>
+ * 比较并替换比较的是位模式，因此 NaN 可以被正常替换，而 0.0 与 -0.0 被视为不同的值。
+ * 运算符在竞争时可能被调用多次，应当没有副作用。许多线程频繁写入少量热点元素时，
+ * CAS 冲突会限制伸缩性，这时可以考虑使用 {@link ShardedFloatArray}。
+ *
+ * @author zhitron
+ */
+public final class AtomicFloatArray implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 以位模式保存的元素。
+     */
+    private final AtomicIntegerArray array;
+
+    /**
+     * 创建指定长度、所有元素为 0 的数组。
+     *
+     * @param length 数组长度
+     */
+    public AtomicFloatArray(int length) {
+        this.array = new AtomicIntegerArray(length);
+    }
+
+    /**
+     * 创建长度与给定数组相同、元素从给定数组复制的数组。
+     *
+     * @param values 初始元素
+     */
+    public AtomicFloatArray(float[] values) {
+        int[] bits = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bits[i] = Float.floatToRawIntBits(values[i]);
+        }
+        this.array = new AtomicIntegerArray(bits);
+    }
+
+    /**
+     * 获取数组长度。
+     *
+     * @return 数组长度
+     */
+    public int length() {
+        return array.length();
+    }
+
+    /**
+     * 读取元素。
+     *
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public float get(int index) {
+        return Float.intBitsToFloat(array.get(index));
+    }
+
+    /**
+     * 写入元素。
+     *
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public void set(int index, float value) {
+        array.set(index, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * 延迟写入元素，其他线程可能稍后才能看到新的值。
+     *
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public void lazySet(int index, float value) {
+        array.lazySet(index, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * 原子地写入元素并返回原来的值。
+     *
+     * @param index 元素下标
+     * @param value 新的值
+     * @return 原来的值
+     */
+    public float getAndSet(int index, float value) {
+        return Float.intBitsToFloat(array.getAndSet(index, Float.floatToRawIntBits(value)));
+    }
+
+    /**
+     * 当元素的位模式与期望值的位模式相同时原子地替换为新的值。
+     *
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public boolean compareAndSet(int index, float expect, float update) {
+        return Atomics.compareAndSetFloat(array, index, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新元素，返回更新前的值。
+     *
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public float getAndUpdate(int index, FloatSingleOperator operator) {
+        return Atomics.getAndUpdateFloat(array, index, operator);
+    }
+
+    /**
+     * 以一元运算符原子地更新元素，返回更新后的值。
+     *
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public float updateAndGet(int index, FloatSingleOperator operator) {
+        return Atomics.updateAndGetFloat(array, index, operator);
+    }
+
+    /**
+     * 以二元运算符原子地把给定值合并到元素上，返回更新前的值。
+     *
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public float getAndAccumulate(int index, float x, FloatTwiceOperator operator) {
+        return Atomics.getAndAccumulateFloat(array, index, x, operator);
+    }
+
+    /**
+     * 以二元运算符原子地把给定值合并到元素上，返回更新后的值。
+     *
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public float accumulateAndGet(int index, float x, FloatTwiceOperator operator) {
+        return Atomics.accumulateAndGetFloat(array, index, x, operator);
+    }
+
+    /**
+     * 逐个读取元素复制到新数组中，结果不是原子快照。
+     *
+     * @return 新数组
+     */
+    public float[] toArray() {
+        float[] result = new float[array.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Float.intBitsToFloat(array.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,2094 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.operator.BooleanSingleOperator;
+import com.github.zhitron.lambda.operator.BooleanTwiceOperator;
+import com.github.zhitron.lambda.operator.ByteSingleOperator;
+import com.github.zhitron.lambda.operator.ByteTwiceOperator;
+import com.github.zhitron.lambda.operator.CharSingleOperator;
+import com.github.zhitron.lambda.operator.CharTwiceOperator;
+import com.github.zhitron.lambda.operator.DoubleSingleOperator;
+import com.github.zhitron.lambda.operator.DoubleTwiceOperator;
+import com.github.zhitron.lambda.operator.FloatSingleOperator;
+import com.github.zhitron.lambda.operator.FloatTwiceOperator;
+import com.github.zhitron.lambda.operator.IntSingleOperator;
+import com.github.zhitron.lambda.operator.IntTwiceOperator;
+import com.github.zhitron.lambda.operator.LongSingleOperator;
+import com.github.zhitron.lambda.operator.LongTwiceOperator;
+import com.github.zhitron.lambda.operator.ObjectSingleOperator;
+import com.github.zhitron.lambda.operator.ObjectTwiceOperator;
+import com.github.zhitron.lambda.operator.ShortSingleOperator;
+import com.github.zhitron.lambda.operator.ShortTwiceOperator;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * 以本库的运算符原子地更新字段与数组元素的工具类，覆盖全部九种值类型。
+ * <p>
+ * 字段通过 JDK 的字段更新器访问，数组元素通过 JDK 的原子数组访问。JDK 没有对应原子类型的值以位模式保存：
+ * float、short、byte、char 与 boolean 保存在 {@code volatile int} 字段或 {@link AtomicIntegerArray} 中，
+ * float 保存 {@link Float#floatToRawIntBits(float)} 的结果，boolean 保存 0 或 1；
+ * double 保存在 {@code volatile long} 字段或 {@link AtomicLongArray} 中，值为 {@link Double#doubleToRawLongBits(double)} 的结果。
+ * 这些类型的字段与数组元素应当只通过本类读写，{@code getX}/{@code setX} 负责解码与编码。
+ * <p>
+ * 更新以 CAS 循环实现，比较的是位模式，因此 NaN 可以被正常替换，而 0.0 与 -0.0 被视为不同的值。
+ * 运算符在竞争时可能被调用多次，应当没有副作用。连续失败时按 {@link Backoff} 的策略退避，
+ * 在高竞争下比立即重试的 JDK 实现更少地浪费缓存行带宽。
+ *
+ * @author zhitron
+ */
+public final class Atomics {
+
+    private Atomics() {
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以一元运算符原子地更新字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> int getAndUpdateInt(AtomicIntegerFieldUpdater<T> updater, T obj, IntSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = updater.get(obj);
+            int next = operator.apply(prev);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> int updateAndGetInt(AtomicIntegerFieldUpdater<T> updater, T obj, IntSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = updater.get(obj);
+            int next = operator.apply(prev);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> int getAndAccumulateInt(AtomicIntegerFieldUpdater<T> updater, T obj, int x, IntTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = updater.get(obj);
+            int next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> int accumulateAndGetInt(AtomicIntegerFieldUpdater<T> updater, T obj, int x, IntTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = updater.get(obj);
+            int next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以一元运算符原子地更新数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static int getAndUpdateInt(AtomicIntegerArray array, int index, IntSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = array.get(index);
+            int next = operator.apply(prev);
+            if (array.compareAndSet(index, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static int updateAndGetInt(AtomicIntegerArray array, int index, IntSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = array.get(index);
+            int next = operator.apply(prev);
+            if (array.compareAndSet(index, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static int getAndAccumulateInt(AtomicIntegerArray array, int index, int x, IntTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = array.get(index);
+            int next = operator.apply(prev, x);
+            if (array.compareAndSet(index, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static int accumulateAndGetInt(AtomicIntegerArray array, int index, int x, IntTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int prev = array.get(index);
+            int next = operator.apply(prev, x);
+            if (array.compareAndSet(index, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以一元运算符原子地更新字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> long getAndUpdateLong(AtomicLongFieldUpdater<T> updater, T obj, LongSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = updater.get(obj);
+            long next = operator.apply(prev);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> long updateAndGetLong(AtomicLongFieldUpdater<T> updater, T obj, LongSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = updater.get(obj);
+            long next = operator.apply(prev);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> long getAndAccumulateLong(AtomicLongFieldUpdater<T> updater, T obj, long x, LongTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = updater.get(obj);
+            long next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> long accumulateAndGetLong(AtomicLongFieldUpdater<T> updater, T obj, long x, LongTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = updater.get(obj);
+            long next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以一元运算符原子地更新数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static long getAndUpdateLong(AtomicLongArray array, int index, LongSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = array.get(index);
+            long next = operator.apply(prev);
+            if (array.compareAndSet(index, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static long updateAndGetLong(AtomicLongArray array, int index, LongSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = array.get(index);
+            long next = operator.apply(prev);
+            if (array.compareAndSet(index, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static long getAndAccumulateLong(AtomicLongArray array, int index, long x, LongTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = array.get(index);
+            long next = operator.apply(prev, x);
+            if (array.compareAndSet(index, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static long accumulateAndGetLong(AtomicLongArray array, int index, long x, LongTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long prev = array.get(index);
+            long next = operator.apply(prev, x);
+            if (array.compareAndSet(index, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 位模式保存的 float 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param <T>     对象类型
+     * @return 当前值
+     */
+    public static <T> float getFloat(AtomicIntegerFieldUpdater<T> updater, T obj) {
+        return Float.intBitsToFloat(updater.get(obj));
+    }
+
+    /**
+     * 写入以 int 位模式保存的 float 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param value   新的值
+     * @param <T>     对象类型
+     */
+    public static <T> void setFloat(AtomicIntegerFieldUpdater<T> updater, T obj, float value) {
+        updater.set(obj, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * 当以 int 位模式保存的 float 字段的位模式与期望值的位模式相同时原子地替换为新的值。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param expect  期望的当前值
+     * @param update  新的值
+     * @param <T>     对象类型
+     * @return 替换成功时返回 true
+     */
+    public static <T> boolean compareAndSetFloat(AtomicIntegerFieldUpdater<T> updater, T obj, float expect, float update) {
+        return updater.compareAndSet(obj, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 位模式保存的 float 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> float getAndUpdateFloat(AtomicIntegerFieldUpdater<T> updater, T obj, FloatSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, Float.floatToRawIntBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 位模式保存的 float 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> float updateAndGetFloat(AtomicIntegerFieldUpdater<T> updater, T obj, FloatSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, Float.floatToRawIntBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 位模式保存的 float 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> float getAndAccumulateFloat(AtomicIntegerFieldUpdater<T> updater, T obj, float x, FloatTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, Float.floatToRawIntBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 位模式保存的 float 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> float accumulateAndGetFloat(AtomicIntegerFieldUpdater<T> updater, T obj, float x, FloatTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, Float.floatToRawIntBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 位模式保存的 float 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public static float getFloat(AtomicIntegerArray array, int index) {
+        return Float.intBitsToFloat(array.get(index));
+    }
+
+    /**
+     * 写入以 int 位模式保存的 float 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public static void setFloat(AtomicIntegerArray array, int index, float value) {
+        array.set(index, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * 当以 int 位模式保存的 float 数组元素的位模式与期望值的位模式相同时原子地替换为新的值。
+     *
+     * @param array  原子数组
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public static boolean compareAndSetFloat(AtomicIntegerArray array, int index, float expect, float update) {
+        return array.compareAndSet(index, Float.floatToRawIntBits(expect), Float.floatToRawIntBits(update));
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 位模式保存的 float 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static float getAndUpdateFloat(AtomicIntegerArray array, int index, FloatSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, Float.floatToRawIntBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 位模式保存的 float 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static float updateAndGetFloat(AtomicIntegerArray array, int index, FloatSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, Float.floatToRawIntBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 位模式保存的 float 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static float getAndAccumulateFloat(AtomicIntegerArray array, int index, float x, FloatTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, Float.floatToRawIntBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 位模式保存的 float 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static float accumulateAndGetFloat(AtomicIntegerArray array, int index, float x, FloatTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            float prev = Float.intBitsToFloat(bits);
+            float next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, Float.floatToRawIntBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 long 位模式保存的 double 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param <T>     对象类型
+     * @return 当前值
+     */
+    public static <T> double getDouble(AtomicLongFieldUpdater<T> updater, T obj) {
+        return Double.longBitsToDouble(updater.get(obj));
+    }
+
+    /**
+     * 写入以 long 位模式保存的 double 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param value   新的值
+     * @param <T>     对象类型
+     */
+    public static <T> void setDouble(AtomicLongFieldUpdater<T> updater, T obj, double value) {
+        updater.set(obj, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * 当以 long 位模式保存的 double 字段的位模式与期望值的位模式相同时原子地替换为新的值。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param expect  期望的当前值
+     * @param update  新的值
+     * @param <T>     对象类型
+     * @return 替换成功时返回 true
+     */
+    public static <T> boolean compareAndSetDouble(AtomicLongFieldUpdater<T> updater, T obj, double expect, double update) {
+        return updater.compareAndSet(obj, Double.doubleToRawLongBits(expect), Double.doubleToRawLongBits(update));
+    }
+
+    /**
+     * 以一元运算符原子地更新以 long 位模式保存的 double 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> double getAndUpdateDouble(AtomicLongFieldUpdater<T> updater, T obj, DoubleSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = updater.get(obj);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, Double.doubleToRawLongBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 long 位模式保存的 double 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> double updateAndGetDouble(AtomicLongFieldUpdater<T> updater, T obj, DoubleSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = updater.get(obj);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 long 位模式保存的 double 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> double getAndAccumulateDouble(AtomicLongFieldUpdater<T> updater, T obj, double x, DoubleTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = updater.get(obj);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, Double.doubleToRawLongBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 long 位模式保存的 double 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> double accumulateAndGetDouble(AtomicLongFieldUpdater<T> updater, T obj, double x, DoubleTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = updater.get(obj);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 long 位模式保存的 double 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public static double getDouble(AtomicLongArray array, int index) {
+        return Double.longBitsToDouble(array.get(index));
+    }
+
+    /**
+     * 写入以 long 位模式保存的 double 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public static void setDouble(AtomicLongArray array, int index, double value) {
+        array.set(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * 当以 long 位模式保存的 double 数组元素的位模式与期望值的位模式相同时原子地替换为新的值。
+     *
+     * @param array  原子数组
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public static boolean compareAndSetDouble(AtomicLongArray array, int index, double expect, double update) {
+        return array.compareAndSet(index, Double.doubleToRawLongBits(expect), Double.doubleToRawLongBits(update));
+    }
+
+    /**
+     * 以一元运算符原子地更新以 long 位模式保存的 double 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static double getAndUpdateDouble(AtomicLongArray array, int index, DoubleSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = array.get(index);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, Double.doubleToRawLongBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 long 位模式保存的 double 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static double updateAndGetDouble(AtomicLongArray array, int index, DoubleSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = array.get(index);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 long 位模式保存的 double 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static double getAndAccumulateDouble(AtomicLongArray array, int index, double x, DoubleTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = array.get(index);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, Double.doubleToRawLongBits(next))) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 long 位模式保存的 double 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static double accumulateAndGetDouble(AtomicLongArray array, int index, double x, DoubleTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            long bits = array.get(index);
+            double prev = Double.longBitsToDouble(bits);
+            double next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 保存的 short 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param <T>     对象类型
+     * @return 当前值
+     */
+    public static <T> short getShort(AtomicIntegerFieldUpdater<T> updater, T obj) {
+        return (short) updater.get(obj);
+    }
+
+    /**
+     * 写入以 int 保存的 short 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param value   新的值
+     * @param <T>     对象类型
+     */
+    public static <T> void setShort(AtomicIntegerFieldUpdater<T> updater, T obj, short value) {
+        updater.set(obj, value);
+    }
+
+    /**
+     * 当以 int 保存的 short 字段等于期望值时原子地替换为新的值。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param expect  期望的当前值
+     * @param update  新的值
+     * @param <T>     对象类型
+     * @return 替换成功时返回 true
+     */
+    public static <T> boolean compareAndSetShort(AtomicIntegerFieldUpdater<T> updater, T obj, short expect, short update) {
+        return updater.compareAndSet(obj, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 short 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> short getAndUpdateShort(AtomicIntegerFieldUpdater<T> updater, T obj, ShortSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            short prev = (short) bits;
+            short next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 short 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> short updateAndGetShort(AtomicIntegerFieldUpdater<T> updater, T obj, ShortSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            short prev = (short) bits;
+            short next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 short 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> short getAndAccumulateShort(AtomicIntegerFieldUpdater<T> updater, T obj, short x, ShortTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            short prev = (short) bits;
+            short next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 short 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> short accumulateAndGetShort(AtomicIntegerFieldUpdater<T> updater, T obj, short x, ShortTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            short prev = (short) bits;
+            short next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 保存的 short 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public static short getShort(AtomicIntegerArray array, int index) {
+        return (short) array.get(index);
+    }
+
+    /**
+     * 写入以 int 保存的 short 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public static void setShort(AtomicIntegerArray array, int index, short value) {
+        array.set(index, value);
+    }
+
+    /**
+     * 当以 int 保存的 short 数组元素等于期望值时原子地替换为新的值。
+     *
+     * @param array  原子数组
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public static boolean compareAndSetShort(AtomicIntegerArray array, int index, short expect, short update) {
+        return array.compareAndSet(index, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 short 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static short getAndUpdateShort(AtomicIntegerArray array, int index, ShortSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            short prev = (short) bits;
+            short next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 short 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static short updateAndGetShort(AtomicIntegerArray array, int index, ShortSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            short prev = (short) bits;
+            short next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 short 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static short getAndAccumulateShort(AtomicIntegerArray array, int index, short x, ShortTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            short prev = (short) bits;
+            short next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 short 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static short accumulateAndGetShort(AtomicIntegerArray array, int index, short x, ShortTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            short prev = (short) bits;
+            short next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 保存的 byte 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param <T>     对象类型
+     * @return 当前值
+     */
+    public static <T> byte getByte(AtomicIntegerFieldUpdater<T> updater, T obj) {
+        return (byte) updater.get(obj);
+    }
+
+    /**
+     * 写入以 int 保存的 byte 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param value   新的值
+     * @param <T>     对象类型
+     */
+    public static <T> void setByte(AtomicIntegerFieldUpdater<T> updater, T obj, byte value) {
+        updater.set(obj, value);
+    }
+
+    /**
+     * 当以 int 保存的 byte 字段等于期望值时原子地替换为新的值。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param expect  期望的当前值
+     * @param update  新的值
+     * @param <T>     对象类型
+     * @return 替换成功时返回 true
+     */
+    public static <T> boolean compareAndSetByte(AtomicIntegerFieldUpdater<T> updater, T obj, byte expect, byte update) {
+        return updater.compareAndSet(obj, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 byte 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> byte getAndUpdateByte(AtomicIntegerFieldUpdater<T> updater, T obj, ByteSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 byte 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> byte updateAndGetByte(AtomicIntegerFieldUpdater<T> updater, T obj, ByteSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 byte 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> byte getAndAccumulateByte(AtomicIntegerFieldUpdater<T> updater, T obj, byte x, ByteTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 byte 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> byte accumulateAndGetByte(AtomicIntegerFieldUpdater<T> updater, T obj, byte x, ByteTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 保存的 byte 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public static byte getByte(AtomicIntegerArray array, int index) {
+        return (byte) array.get(index);
+    }
+
+    /**
+     * 写入以 int 保存的 byte 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public static void setByte(AtomicIntegerArray array, int index, byte value) {
+        array.set(index, value);
+    }
+
+    /**
+     * 当以 int 保存的 byte 数组元素等于期望值时原子地替换为新的值。
+     *
+     * @param array  原子数组
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public static boolean compareAndSetByte(AtomicIntegerArray array, int index, byte expect, byte update) {
+        return array.compareAndSet(index, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 byte 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static byte getAndUpdateByte(AtomicIntegerArray array, int index, ByteSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 byte 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static byte updateAndGetByte(AtomicIntegerArray array, int index, ByteSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 byte 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static byte getAndAccumulateByte(AtomicIntegerArray array, int index, byte x, ByteTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 byte 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static byte accumulateAndGetByte(AtomicIntegerArray array, int index, byte x, ByteTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            byte prev = (byte) bits;
+            byte next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 保存的 char 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param <T>     对象类型
+     * @return 当前值
+     */
+    public static <T> char getChar(AtomicIntegerFieldUpdater<T> updater, T obj) {
+        return (char) updater.get(obj);
+    }
+
+    /**
+     * 写入以 int 保存的 char 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param value   新的值
+     * @param <T>     对象类型
+     */
+    public static <T> void setChar(AtomicIntegerFieldUpdater<T> updater, T obj, char value) {
+        updater.set(obj, value);
+    }
+
+    /**
+     * 当以 int 保存的 char 字段等于期望值时原子地替换为新的值。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param expect  期望的当前值
+     * @param update  新的值
+     * @param <T>     对象类型
+     * @return 替换成功时返回 true
+     */
+    public static <T> boolean compareAndSetChar(AtomicIntegerFieldUpdater<T> updater, T obj, char expect, char update) {
+        return updater.compareAndSet(obj, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 char 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> char getAndUpdateChar(AtomicIntegerFieldUpdater<T> updater, T obj, CharSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            char prev = (char) bits;
+            char next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 char 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> char updateAndGetChar(AtomicIntegerFieldUpdater<T> updater, T obj, CharSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            char prev = (char) bits;
+            char next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 char 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> char getAndAccumulateChar(AtomicIntegerFieldUpdater<T> updater, T obj, char x, CharTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            char prev = (char) bits;
+            char next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 char 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> char accumulateAndGetChar(AtomicIntegerFieldUpdater<T> updater, T obj, char x, CharTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            char prev = (char) bits;
+            char next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 保存的 char 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public static char getChar(AtomicIntegerArray array, int index) {
+        return (char) array.get(index);
+    }
+
+    /**
+     * 写入以 int 保存的 char 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public static void setChar(AtomicIntegerArray array, int index, char value) {
+        array.set(index, value);
+    }
+
+    /**
+     * 当以 int 保存的 char 数组元素等于期望值时原子地替换为新的值。
+     *
+     * @param array  原子数组
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public static boolean compareAndSetChar(AtomicIntegerArray array, int index, char expect, char update) {
+        return array.compareAndSet(index, expect, update);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 char 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static char getAndUpdateChar(AtomicIntegerArray array, int index, CharSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            char prev = (char) bits;
+            char next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 保存的 char 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static char updateAndGetChar(AtomicIntegerArray array, int index, CharSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            char prev = (char) bits;
+            char next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 char 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static char getAndAccumulateChar(AtomicIntegerArray array, int index, char x, CharTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            char prev = (char) bits;
+            char next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 保存的 char 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static char accumulateAndGetChar(AtomicIntegerArray array, int index, char x, CharTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            char prev = (char) bits;
+            char next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 0/1 保存的 boolean 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param <T>     对象类型
+     * @return 当前值
+     */
+    public static <T> boolean getBoolean(AtomicIntegerFieldUpdater<T> updater, T obj) {
+        return updater.get(obj) != 0;
+    }
+
+    /**
+     * 写入以 int 0/1 保存的 boolean 字段。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param value   新的值
+     * @param <T>     对象类型
+     */
+    public static <T> void setBoolean(AtomicIntegerFieldUpdater<T> updater, T obj, boolean value) {
+        updater.set(obj, value ? 1 : 0);
+    }
+
+    /**
+     * 当以 int 0/1 保存的 boolean 字段等于期望值时原子地替换为新的值。
+     *
+     * @param updater 字段更新器
+     * @param obj     字段所属的对象
+     * @param expect  期望的当前值
+     * @param update  新的值
+     * @param <T>     对象类型
+     * @return 替换成功时返回 true
+     */
+    public static <T> boolean compareAndSetBoolean(AtomicIntegerFieldUpdater<T> updater, T obj, boolean expect, boolean update) {
+        return updater.compareAndSet(obj, expect ? 1 : 0, update ? 1 : 0);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 0/1 保存的 boolean 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> boolean getAndUpdateBoolean(AtomicIntegerFieldUpdater<T> updater, T obj, BooleanSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next ? 1 : 0)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 0/1 保存的 boolean 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> boolean updateAndGetBoolean(AtomicIntegerFieldUpdater<T> updater, T obj, BooleanSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev);
+            if (updater.compareAndSet(obj, bits, next ? 1 : 0)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 0/1 保存的 boolean 字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新前的值
+     */
+    public static <T> boolean getAndAccumulateBoolean(AtomicIntegerFieldUpdater<T> updater, T obj, boolean x, BooleanTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next ? 1 : 0)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 0/1 保存的 boolean 字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @return 更新后的值
+     */
+    public static <T> boolean accumulateAndGetBoolean(AtomicIntegerFieldUpdater<T> updater, T obj, boolean x, BooleanTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = updater.get(obj);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, bits, next ? 1 : 0)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 读取以 int 0/1 保存的 boolean 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @return 当前值
+     */
+    public static boolean getBoolean(AtomicIntegerArray array, int index) {
+        return array.get(index) != 0;
+    }
+
+    /**
+     * 写入以 int 0/1 保存的 boolean 数组元素。
+     *
+     * @param array 原子数组
+     * @param index 元素下标
+     * @param value 新的值
+     */
+    public static void setBoolean(AtomicIntegerArray array, int index, boolean value) {
+        array.set(index, value ? 1 : 0);
+    }
+
+    /**
+     * 当以 int 0/1 保存的 boolean 数组元素等于期望值时原子地替换为新的值。
+     *
+     * @param array  原子数组
+     * @param index  元素下标
+     * @param expect 期望的当前值
+     * @param update 新的值
+     * @return 替换成功时返回 true
+     */
+    public static boolean compareAndSetBoolean(AtomicIntegerArray array, int index, boolean expect, boolean update) {
+        return array.compareAndSet(index, expect ? 1 : 0, update ? 1 : 0);
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 0/1 保存的 boolean 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新前的值
+     */
+    public static boolean getAndUpdateBoolean(AtomicIntegerArray array, int index, BooleanSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next ? 1 : 0)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新以 int 0/1 保存的 boolean 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @return 更新后的值
+     */
+    public static boolean updateAndGetBoolean(AtomicIntegerArray array, int index, BooleanSingleOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev);
+            if (array.compareAndSet(index, bits, next ? 1 : 0)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 0/1 保存的 boolean 数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新前的值
+     */
+    public static boolean getAndAccumulateBoolean(AtomicIntegerArray array, int index, boolean x, BooleanTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next ? 1 : 0)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新以 int 0/1 保存的 boolean 数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @return 更新后的值
+     */
+    public static boolean accumulateAndGetBoolean(AtomicIntegerArray array, int index, boolean x, BooleanTwiceOperator operator) {
+        int failures = 0;
+        while (true) {
+            int bits = array.get(index);
+            boolean prev = bits != 0;
+            boolean next = operator.apply(prev, x);
+            if (array.compareAndSet(index, bits, next ? 1 : 0)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以一元运算符原子地更新字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @param <V>      字段类型
+     * @return 更新前的值
+     */
+    public static <T, V> V getAndUpdateObject(AtomicReferenceFieldUpdater<T, V> updater, T obj, ObjectSingleOperator<V, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = updater.get(obj);
+            V next = operator.apply(prev);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param operator 运算符
+     * @param <T>      对象类型
+     * @param <V>      字段类型
+     * @return 更新后的值
+     */
+    public static <T, V> V updateAndGetObject(AtomicReferenceFieldUpdater<T, V> updater, T obj, ObjectSingleOperator<V, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = updater.get(obj);
+            V next = operator.apply(prev);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新字段，返回更新前的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @param <V>      字段类型
+     * @param <U>      x 的类型
+     * @return 更新前的值
+     */
+    public static <T, V, U> V getAndAccumulateObject(AtomicReferenceFieldUpdater<T, V> updater, T obj, U x, ObjectTwiceOperator<V, U, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = updater.get(obj);
+            V next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新字段，返回更新后的值。
+     *
+     * @param updater  字段更新器
+     * @param obj      字段所属的对象
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <T>      对象类型
+     * @param <V>      字段类型
+     * @param <U>      x 的类型
+     * @return 更新后的值
+     */
+    public static <T, V, U> V accumulateAndGetObject(AtomicReferenceFieldUpdater<T, V> updater, T obj, U x, ObjectTwiceOperator<V, U, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = updater.get(obj);
+            V next = operator.apply(prev, x);
+            if (updater.compareAndSet(obj, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以一元运算符原子地更新数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @param <V>      元素类型
+     * @return 更新前的值
+     */
+    public static <V> V getAndUpdateObject(AtomicReferenceArray<V> array, int index, ObjectSingleOperator<V, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = array.get(index);
+            V next = operator.apply(prev);
+            if (array.compareAndSet(index, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以一元运算符原子地更新数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param operator 运算符
+     * @param <V>      元素类型
+     * @return 更新后的值
+     */
+    public static <V> V updateAndGetObject(AtomicReferenceArray<V> array, int index, ObjectSingleOperator<V, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = array.get(index);
+            V next = operator.apply(prev);
+            if (array.compareAndSet(index, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新数组元素，返回更新前的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <V>      元素类型
+     * @param <U>      x 的类型
+     * @return 更新前的值
+     */
+    public static <V, U> V getAndAccumulateObject(AtomicReferenceArray<V> array, int index, U x, ObjectTwiceOperator<V, U, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = array.get(index);
+            V next = operator.apply(prev, x);
+            if (array.compareAndSet(index, prev, next)) {
+                return prev;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 以二元运算符原子地更新数组元素，返回更新后的值。
+     *
+     * @param array    原子数组
+     * @param index    元素下标
+     * @param x        与当前值合并的值
+     * @param operator 运算符，参数依次为当前值与 x
+     * @param <V>      元素类型
+     * @param <U>      x 的类型
+     * @return 更新后的值
+     */
+    public static <V, U> V accumulateAndGetObject(AtomicReferenceArray<V> array, int index, U x, ObjectTwiceOperator<V, U, V> operator) {
+        int failures = 0;
+        while (true) {
+            V prev = array.get(index);
+            V next = operator.apply(prev, x);
+            if (array.compareAndSet(index, prev, next)) {
+                return next;
+            }
+            Backoff.pause(++failures);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.zhitron.lambda.concurrent;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * CAS 重试循环使用的退避策略。
+ * <p>
+ * 前几次失败立即重试，这是竞争轻微时最快的做法；继续失败时先让出处理器，之后按失败次数指数增长、
+ * 随机选取的时长短暂挂起线程，把同时重试的线程错开，避免它们在同一个缓存行上反复冲突。
+ *
+ * @author zhitron
+ */
+final class Backoff {
+
+    /**
+     * 立即重试的失败次数。
+     */
+    private static final int SPINS = 4;
+
+    /**
+     * 在这个失败次数之前让出处理器，之后开始挂起。
+     */
+    private static final int YIELDS = 8;
+
+    /**
+     * 单次挂起的最长纳秒数。
+     */
+    private static final long MAX_PARK_NANOS = 1L << 16;
+
+    private Backoff() {
+    }
+
+    /**
+     * 在第若干次 CAS 失败之后、下一次重试之前调用。
+     *
+     * @param failures 连续失败的次数，从 1 开始
+     */
+    static void pause(int failures) {
+        if (failures <= SPINS) {
+            return;
+        }
+        if (failures <= YIELDS) {
+            Thread.yield();
+            return;
+        }
+        long bound = Math.min(MAX_PARK_NANOS, 1L << Math.min(failures - YIELDS + 6, 62));
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(1, bound + 1));
+    }
+}
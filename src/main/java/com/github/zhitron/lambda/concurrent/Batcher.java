@@ -0,0 +1,300 @@
+package com.github.zhitron.lambda.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 批量消费者的骨架：多个生产者线程把元素放入有界的无锁环形队列，一个专用的工作线程把它们攒成批次交给批量消费者。
+ * <p>
+ * 环形队列的每个槽位带有一个序号。生产者以 CAS 抢占队尾的位置，写入槽位后把序号推进为“已发布”；
+ * 工作线程只在序号表明槽位已发布时才读取它，读完后把序号推进到下一圈，生产者由此得知槽位可以复用。
+ * 元素数量达到批次大小，或者批次中最早的元素等待超过最长延迟时，工作线程交付批次。
+ * 队列满时阻塞的写入会退避等待，非阻塞的写入直接失败，从而对生产者形成背压。
+ * <p>
+ * 关闭后工作线程会交付所有已经写入的元素再退出；关闭时把队尾标记为负数，之后的抢占一律失败，因此已经写入成功的元素不会丢失。
+ * 子类在构造方法的最后调用 {@link #start()}。
+ *
+ * @author zhitron
+ */
+abstract class Batcher implements AutoCloseable {
+
+    private static final AtomicIntegerFieldUpdater<Batcher> WAIT_STATE = AtomicIntegerFieldUpdater.newUpdater(Batcher.class, "waitState");
+
+    /**
+     * 工作线程正在运行。
+     */
+    private static final int RUNNING = 0;
+
+    /**
+     * 工作线程没有待交付的元素，正在等待任意一个新元素。
+     */
+    private static final int IDLE = 1;
+
+    /**
+     * 工作线程有待交付的元素，正在等待最长延迟到期或者队列攒满一个批次。
+     */
+    private static final int TIMED = 2;
+
+    /**
+     * 为工作线程编号。
+     */
+    private static final AtomicLong THREAD_SEQUENCE = new AtomicLong();
+
+    /**
+     * 队列容量，总是 2 的幂。
+     */
+    final int capacity;
+
+    /**
+     * 槽位下标掩码。
+     */
+    final int mask;
+
+    /**
+     * 批次的最大元素数量。
+     */
+    final int maxBatchSize;
+
+    /**
+     * 批次中最早的元素最长等待的纳秒数。
+     */
+    private final long maxDelayNanos;
+
+    /**
+     * 每个槽位的序号：等于位置时可以写入，等于位置加 1 时已经发布，可以读取。
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * 下一个被抢占的位置，关闭后为负数。
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 下一个被读取的位置，只由工作线程写入。
+     */
+    private volatile long head;
+
+    /**
+     * 工作线程手中尚未交付的批次的起始位置，只由工作线程写入。批次是否攒满以它而不是 {@link #head} 计算。
+     */
+    private volatile long batchStart;
+
+    /**
+     * 工作线程的等待状态。
+     */
+    private volatile int waitState;
+
+    /**
+     * 是否已经请求关闭。
+     */
+    private volatile boolean closed;
+
+    /**
+     * 工作线程。
+     */
+    private final Thread worker;
+
+    Batcher(int capacity, int maxBatchSize, long maxDelay, TimeUnit unit) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Illegal max batch size: " + maxBatchSize);
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("Illegal max delay: " + maxDelay);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.worker = new Thread(this::work, "lambda-batching-" + THREAD_SEQUENCE.incrementAndGet());
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 获取队列中尚未被工作线程取走的元素数量的估计值。
+     *
+     * @return 元素数量的估计值
+     */
+    public final int pending() {
+        long t = tail.get() & Long.MAX_VALUE;
+        return (int) Math.max(0, t - head);
+    }
+
+    /**
+     * 判断是否已经关闭。
+     *
+     * @return 已经关闭时返回 true
+     */
+    public final boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 关闭批量消费者：不再接受新元素，等待工作线程交付所有已经写入的元素后退出。
+     * 等待期间线程被中断时立即返回并保留中断状态，剩余的元素仍会在后台交付。
+     */
+    @Override
+    public final void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+        if (Thread.currentThread() == worker) {
+            return;
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 启动工作线程。
+     */
+    final void start() {
+        worker.start();
+    }
+
+    /**
+     * 抢占一个可以写入的位置。
+     *
+     * @return 位置，队列已满或已经关闭时返回 -1
+     */
+    final long claim() {
+        while (!closed) {
+            long t = tail.get();
+            if (t < 0) {
+                break;
+            }
+            long s = sequences.get((int) t & mask);
+            if (s == t) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    return t;
+                }
+            } else if (s < t) {
+                // 槽位上一圈的元素还没有被取走，队列已满
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 抢占一个可以写入的位置，队列已满时退避等待。
+     *
+     * @return 位置
+     * @throws IllegalStateException 如果已经关闭
+     */
+    final long claimBlocking() {
+        int failures = 0;
+        while (true) {
+            long t = claim();
+            if (t >= 0) {
+                return t;
+            }
+            if (closed) {
+                throw new IllegalStateException("Batching consumer is closed");
+            }
+            signal(Long.MAX_VALUE);
+            Backoff.pause(++failures);
+        }
+    }
+
+    /**
+     * 发布已经写入槽位的位置，必要时唤醒工作线程。
+     *
+     * @param position 位置
+     */
+    final void publish(long position) {
+        sequences.set((int) position & mask, position + 1);
+        signal(position + 1);
+    }
+
+    /**
+     * 把槽位中的元素移动到批次中。
+     *
+     * @param slot  槽位下标
+     * @param index 批次中的下标
+     */
+    abstract void take(int slot, int index);
+
+    /**
+     * 把批次交给批量消费者，之后清理批次。
+     *
+     * @param length 批次中的元素数量
+     */
+    abstract void deliver(int length);
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private void signal(long published) {
+        int state = waitState;
+        if ((state == IDLE || (state == TIMED && published - batchStart >= maxBatchSize))
+                && WAIT_STATE.compareAndSet(this, state, RUNNING)) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void work() {
+        int length = 0;
+        long deadline = 0;
+        while (true) {
+            long h = head;
+            while (length < maxBatchSize) {
+                int slot = (int) h & mask;
+                if (sequences.get(slot) != h + 1) {
+                    break;
+                }
+                take(slot, length);
+                sequences.lazySet(slot, h + capacity);
+                h++;
+                if (length++ == 0) {
+                    deadline = System.nanoTime() + maxDelayNanos;
+                }
+            }
+            head = h;
+            batchStart = h - length;
+            if (length > 0 && (length == maxBatchSize || closed || System.nanoTime() - deadline >= 0)) {
+                deliverSafely(length);
+                length = 0;
+                continue;
+            }
+            if (length == 0 && closed && tail.compareAndSet(h, h | Long.MIN_VALUE)) {
+                return;
+            }
+            if (length == 0) {
+                waitState = IDLE;
+                if (sequences.get((int) h & mask) != h + 1 && !closed) {
+                    LockSupport.park(this);
+                }
+            } else {
+                waitState = TIMED;
+                long remaining = deadline - System.nanoTime();
+                if (tail.get() - (h - length) < maxBatchSize && remaining > 0 && !closed) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+            waitState = RUNNING;
+        }
+    }
+
+    private void deliverSafely(int length) {
+        try {
+            deliver(length);
+        } catch (Throwable e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+}
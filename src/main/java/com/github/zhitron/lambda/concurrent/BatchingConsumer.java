@@ -0,0 +1,101 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.ArrayFactory;
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+import com.github.zhitron.lambda.consumer.TwiceConsumerObjectInt;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 把逐个到达的对象攒成批次交给批量消费者的消费者，适合把逐个元素的 I/O 合并为批量 I/O。
+ * <p>
+ * 任意多个线程可以同时调用 {@link #accept(Object)} 与 {@link #tryAccept(Object)}，
+ * 元素先进入有界的无锁环形队列，再由一个专用的守护线程按到达顺序取出，元素数量达到批次大小或者最早的元素等待超过最长延迟时，
+ * 以“批次数组与元素数量”的形式交给批量消费者。批量消费者总是在同一个线程上被调用，批次数组在两次调用之间被复用，
+ * 调用结束后不能再持有它。批量消费者抛出的异常交给工作线程的未捕获异常处理器，不影响后续批次。
+ * <p>
+ * 队列满时 {@link #accept(Object)} 阻塞等待，{@link #tryAccept(Object)} 返回 false，由调用方决定丢弃还是重试。
+ * 工作线程是守护线程，进程退出前应当调用 {@link #close()}，它会交付所有已经写入的元素。
+ *
+ * @param <T> 元素类型
+ * @author zhitron
+ */
+public final class BatchingConsumer<T> extends Batcher implements SingleConsumerObject<T> {
+
+    /**
+     * 环形队列的槽位。
+     */
+    private final Object[] slots;
+
+    /**
+     * 复用的批次数组。
+     */
+    private final T[] batch;
+
+    /**
+     * 批量消费者。
+     */
+    private final TwiceConsumerObjectInt<T[]> consumer;
+
+    /**
+     * 创建批量消费者并启动工作线程。
+     *
+     * @param capacity      队列容量，会被向上取整为 2 的幂
+     * @param maxBatchSize  批次的最大元素数量
+     * @param maxDelay      批次中最早的元素最长等待的时间
+     * @param unit          时间单位
+     * @param arrayFactory  创建批次数组的工厂
+     * @param consumer      批量消费者，参数为批次数组与其中的元素数量
+     * @throws IllegalArgumentException 当容量、批次大小或最长延迟不合法时抛出
+     */
+    public BatchingConsumer(int capacity, int maxBatchSize, long maxDelay, TimeUnit unit, ArrayFactory<T[]> arrayFactory, TwiceConsumerObjectInt<T[]> consumer) {
+        super(capacity, maxBatchSize, maxDelay, unit);
+        this.slots = new Object[this.capacity];
+        this.batch = arrayFactory.apply(maxBatchSize);
+        this.consumer = consumer;
+        start();
+    }
+
+    /**
+     * 写入元素，队列已满时阻塞等待。
+     *
+     * @param value 元素
+     * @throws IllegalStateException 如果已经关闭
+     */
+    @Override
+    public void accept(T value) {
+        long position = claimBlocking();
+        slots[(int) position & mask] = value;
+        publish(position);
+    }
+
+    /**
+     * 尝试写入元素，队列已满或已经关闭时立即返回。
+     *
+     * @param value 元素
+     * @return 写入成功时返回 true
+     */
+    public boolean tryAccept(T value) {
+        long position = claim();
+        if (position < 0) {
+            return false;
+        }
+        slots[(int) position & mask] = value;
+        publish(position);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void take(int slot, int index) {
+        batch[index] = (T) slots[slot];
+        slots[slot] = null;
+    }
+
+    @Override
+    void deliver(int length) {
+        consumer.accept(batch, length);
+        Arrays.fill(batch, 0, length, null);
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerDouble;
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 结果为 double 的异步计算，结果以原始类型保存，通过 {@link #join()} 或 {@link #whenComplete(SingleConsumerDouble, SingleConsumerObject)} 取得结果时不装箱。
+ * <p>
+ * 异常完成时保存的是原始异常：{@link #join()} 按 {@link CompletableFuture#join()} 的约定以 {@link CompletionException} 包装后抛出，
+ * {@link #get()} 以 {@link ExecutionException} 包装后抛出，回调则直接收到原始异常。
+ * 需要与 JDK 的异步 API 组合时可以用 {@link #toCompletableFuture()} 转换。
+ *
+ * @author zhitron
+ * @see Async
+ */
+public final class DoubleFuture extends PrimitiveFuture {
+
+    /**
+     * 正常完成时的结果。
+     */
+    private double value;
+
+    /**
+     * 创建尚未完成的异步计算。
+     */
+    public DoubleFuture() {
+    }
+
+    /**
+     * 创建已经以给定结果完成的异步计算。
+     *
+     * @param value 结果
+     * @return 异步计算
+     */
+    public static DoubleFuture completed(double value) {
+        DoubleFuture future = new DoubleFuture();
+        future.complete(value);
+        return future;
+    }
+
+    /**
+     * 创建已经以给定异常完成的异步计算。
+     *
+     * @param cause 异常
+     * @return 异步计算
+     */
+    public static DoubleFuture failed(Throwable cause) {
+        DoubleFuture future = new DoubleFuture();
+        future.completeExceptionally(cause);
+        return future;
+    }
+
+    /**
+     * 以结果完成计算，计算已经完成时没有任何效果。
+     *
+     * @param value 结果
+     * @return 这次调用使计算完成时返回 true
+     */
+    public boolean complete(double value) {
+        if (!claim()) {
+            return false;
+        }
+        this.value = value;
+        publish(NORMAL, null);
+        return true;
+    }
+
+    /**
+     * 等待计算完成并返回结果，等待期间不响应中断。
+     *
+     * @return 结果
+     * @throws CompletionException 如果计算以异常完成，包装了原始异常
+     */
+    public double join() {
+        awaitUninterruptibly();
+        reportJoin();
+        return value;
+    }
+
+    /**
+     * 等待计算完成并返回结果。
+     *
+     * @return 结果
+     * @throws InterruptedException 如果等待时线程被中断
+     * @throws ExecutionException   如果计算以异常完成，包装了原始异常
+     */
+    public double get() throws InterruptedException, ExecutionException {
+        await();
+        reportGet();
+        return value;
+    }
+
+    /**
+     * 最多等待给定时间，返回计算的结果。
+     *
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @return 结果
+     * @throws InterruptedException 如果等待时线程被中断
+     * @throws ExecutionException   如果计算以异常完成，包装了原始异常
+     * @throws TimeoutException     如果超时时计算仍未完成
+     */
+    public double get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        await(timeout, unit);
+        reportGet();
+        return value;
+    }
+
+    /**
+     * 已经完成时返回结果，否则返回给定的值。
+     *
+     * @param valueIfAbsent 尚未完成时返回的值
+     * @return 结果或给定的值
+     * @throws CompletionException 如果计算以异常完成，包装了原始异常
+     */
+    public double getNow(double valueIfAbsent) {
+        if (!isDone()) {
+            return valueIfAbsent;
+        }
+        reportJoin();
+        return value;
+    }
+
+    /**
+     * 注册完成时的回调：正常完成时把结果推送给结果消费者，异常完成时把原始异常推送给异常消费者。
+     * 已经完成时回调在当前线程上立即执行，否则在完成计算的线程上执行。
+     *
+     * @param onValue   结果消费者
+     * @param onFailure 异常消费者
+     * @return 当前异步计算
+     */
+    public DoubleFuture whenComplete(SingleConsumerDouble onValue, SingleConsumerObject<Throwable> onFailure) {
+        onComplete(() -> {
+            if (isCompletedExceptionally()) {
+                onFailure.accept(cause());
+            } else {
+                onValue.accept(value);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * 转换为 JDK 的异步计算，结果会被装箱，异常完成时保存同一个原始异常。
+     *
+     * @return JDK 的异步计算
+     */
+    public CompletableFuture<Double> toCompletableFuture() {
+        CompletableFuture<Double> future = new CompletableFuture<>();
+        whenComplete(future::complete, future::completeExceptionally);
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        if (!isDone()) {
+            return "DoubleFuture[Incomplete]";
+        }
+        return isCompletedExceptionally() ? "DoubleFuture[Completed exceptionally: " + cause() + "]" : "DoubleFuture[Completed normally: " + value + "]";
+    }
+}
@@ -0,0 +1,446 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+import com.github.zhitron.lambda.function.SingleFunctionIntToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionIntToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionIntToInt;
+import com.github.zhitron.lambda.function.SingleFunctionIntToLong;
+import com.github.zhitron.lambda.function.SingleFunctionIntToObject;
+import com.github.zhitron.lambda.function.SingleFunctionIntToShort;
+import com.github.zhitron.lambda.operator.DoubleTwiceOperator;
+import com.github.zhitron.lambda.operator.FloatTwiceOperator;
+import com.github.zhitron.lambda.operator.IntTwiceOperator;
+import com.github.zhitron.lambda.operator.LongTwiceOperator;
+import com.github.zhitron.lambda.operator.ObjectTwiceOperator;
+import com.github.zhitron.lambda.operator.ShortTwiceOperator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 在 {@link ForkJoinPool#commonPool()} 上并行遍历和归约整数下标区间 {@code [from, to)} 的工具类，映射与合并全程使用基本类型，不会装箱。
+ * <p>
+ * 区间被递归对半拆分，每次拆分把右半部分派生为可以被其他线程窃取的任务，当前线程继续处理左半部分。
+ * 拆分在区间不大于 {@code 区间长度 / (并行度 * 4)} 时停止；当前线程的队列中已经积压了足够多未被窃取的任务时也会提前停止，
+ * 因此线程池繁忙时叶子区间自动变大，空闲的线程多时拆得更细。
+ * 归约结果按下标顺序合并，合并运算符只需要满足结合律，不需要满足交换律；每个叶子区间都从初始值开始归约，因此初始值必须是合并运算符的单位元。
+ * 并行度为 1 或区间长度不超过 1 时直接在当前线程上顺序执行。
+ *
+ * @author zhitron
+ */
+public final class ParallelRange {
+
+    /**
+     * 每个并行度对应的叶子任务数量。
+     */
+    private static final int LEAVES_PER_THREAD = 4;
+
+    /**
+     * 当前线程积压的未被窃取的任务超过这个数量时停止拆分。
+     */
+    private static final int MAX_SURPLUS = 3;
+
+    private ParallelRange() {
+    }
+
+    /**
+     * 对区间中的每个下标并行执行操作，不保证执行顺序。
+     *
+     * @param from     起始下标（包含）
+     * @param to       结束下标（不包含）
+     * @param consumer 对下标执行的操作
+     * @throws IllegalArgumentException 当起始下标大于结束下标时抛出
+     */
+    public static void forEach(int from, int to, SingleConsumerInt consumer) {
+        invoke(new ForEachTask(from, to, threshold(from, to), consumer));
+    }
+
+    /**
+     * 把区间中的每个下标映射为 int，再按下标顺序并行归约。
+     *
+     * @param from     起始下标（包含）
+     * @param to       结束下标（不包含）
+     * @param mapper   把下标映射为 int 的函数
+     * @param identity 初始值，必须是合并运算符的单位元
+     * @param combiner 满足结合律的合并运算符
+     * @return 归约结果，区间为空时返回初始值
+     * @throws IllegalArgumentException 当起始下标大于结束下标时抛出
+     */
+    public static int mapReduceInt(int from, int to, SingleFunctionIntToInt mapper, int identity, IntTwiceOperator combiner) {
+        return invoke(new IntTask(from, to, threshold(from, to), mapper, identity, combiner)).result;
+    }
+
+    /**
+     * 把区间中的每个下标映射为 short，再按下标顺序并行归约。
+     *
+     * @param from     起始下标（包含）
+     * @param to       结束下标（不包含）
+     * @param mapper   把下标映射为 short 的函数
+     * @param identity 初始值，必须是合并运算符的单位元
+     * @param combiner 满足结合律的合并运算符
+     * @return 归约结果，区间为空时返回初始值
+     * @throws IllegalArgumentException 当起始下标大于结束下标时抛出
+     */
+    public static short mapReduceShort(int from, int to, SingleFunctionIntToShort mapper, short identity, ShortTwiceOperator combiner) {
+        return invoke(new ShortTask(from, to, threshold(from, to), mapper, identity, combiner)).result;
+    }
+
+    /**
+     * 把区间中的每个下标映射为 long，再按下标顺序并行归约。
+     *
+     * @param from     起始下标（包含）
+     * @param to       结束下标（不包含）
+     * @param mapper   把下标映射为 long 的函数
+     * @param identity 初始值，必须是合并运算符的单位元
+     * @param combiner 满足结合律的合并运算符
+     * @return 归约结果，区间为空时返回初始值
+     * @throws IllegalArgumentException 当起始下标大于结束下标时抛出
+     */
+    public static long mapReduceLong(int from, int to, SingleFunctionIntToLong mapper, long identity, LongTwiceOperator combiner) {
+        return invoke(new LongTask(from, to, threshold(from, to), mapper, identity, combiner)).result;
+    }
+
+    /**
+     * 把区间中的每个下标映射为 float，再按下标顺序并行归约。
+     *
+     * @param from     起始下标（包含）
+     * @param to       结束下标（不包含）
+     * @param mapper   把下标映射为 float 的函数
+     * @param identity 初始值，必须是合并运算符的单位元
+     * @param combiner 满足结合律的合并运算符
+     * @return 归约结果，区间为空时返回初始值
+     * @throws IllegalArgumentException 当起始下标大于结束下标时抛出
+     */
+    public static float mapReduceFloat(int from, int to, SingleFunctionIntToFloat mapper, float identity, FloatTwiceOperator combiner) {
+        return invoke(new FloatTask(from, to, threshold(from, to), mapper, identity, combiner)).result;
+    }
+
+    /**
+     * 把区间中的每个下标映射为 double，再按下标顺序并行归约。
+     *
+     * @param from     起始下标（包含）
+     * @param to       结束下标（不包含）
+     * @param mapper   把下标映射为 double 的函数
+     * @param identity 初始值，必须是合并运算符的单位元
+     * @param combiner 满足结合律的合并运算符
+     * @return 归约结果，区间为空时返回初始值
+     * @throws IllegalArgumentException 当起始下标大于结束下标时抛出
+     */
+    public static double mapReduceDouble(int from, int to, SingleFunctionIntToDouble mapper, double identity, DoubleTwiceOperator combiner) {
+        return invoke(new DoubleTask(from, to, threshold(from, to), mapper, identity, combiner)).result;
+    }
+
+    /**
+     * 把区间中的每个下标映射为对象，再按下标顺序并行归约。
+     *
+     * @param from     起始下标（包含）
+     * @param to       结束下标（不包含）
+     * @param mapper   把下标映射为对象的函数
+     * @param identity 初始值，必须是合并运算符的单位元
+     * @param combiner 满足结合律的合并运算符
+     * @param <R>      结果类型
+     * @return 归约结果，区间为空时返回初始值
+     * @throws IllegalArgumentException 当起始下标大于结束下标时抛出
+     */
+    public static <R> R mapReduce(int from, int to, SingleFunctionIntToObject<? extends R> mapper, R identity, ObjectTwiceOperator<R, R, R> combiner) {
+        return invoke(new ObjectTask<>(from, to, threshold(from, to), mapper, identity, combiner)).result;
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private static long threshold(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Illegal range: [" + from + ", " + to + ")");
+        }
+        long size = (long) to - from;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        // 不值得并行时阈值等于区间长度，任务不会拆分
+        return parallelism > 1 && size > 1 ? Math.max(1L, size / ((long) parallelism * LEAVES_PER_THREAD)) : size;
+    }
+
+    private static <T extends RangeTask<T>> T invoke(T task) {
+        if ((long) task.hi - task.lo <= task.threshold) {
+            task.leaf(task.lo, task.hi);
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return task;
+    }
+
+    /**
+     * 递归对半拆分区间的任务，子类保存并合并叶子区间的结果。
+     */
+    private abstract static class RangeTask<T extends RangeTask<T>> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        final long threshold;
+        int lo;
+        int hi;
+
+        RangeTask(int lo, int hi, long threshold) {
+            this.lo = lo;
+            this.hi = hi;
+            this.threshold = threshold;
+        }
+
+        /**
+         * 创建处理子区间的同类任务。
+         */
+        abstract T create(int lo, int hi);
+
+        /**
+         * 顺序处理区间，结果保存在当前任务中。
+         */
+        abstract void leaf(int lo, int hi);
+
+        /**
+         * 把紧随当前区间之后的区间的结果合并到当前任务中。
+         */
+        abstract void merge(T right);
+
+        @Override
+        protected final void compute() {
+            int l = lo, h = hi;
+            if ((long) h - l <= threshold || getSurplusQueuedTaskCount() > MAX_SURPLUS) {
+                leaf(l, h);
+                return;
+            }
+            int mid = l + (int) (((long) h - l) >>> 1);
+            T right = create(mid, h);
+            right.fork();
+            hi = mid;
+            compute();
+            right.join();
+            merge(right);
+        }
+    }
+
+    private static final class ForEachTask extends RangeTask<ForEachTask> {
+        private static final long serialVersionUID = 1L;
+        private final transient SingleConsumerInt consumer;
+
+        ForEachTask(int lo, int hi, long threshold, SingleConsumerInt consumer) {
+            super(lo, hi, threshold);
+            this.consumer = consumer;
+        }
+
+        @Override
+        ForEachTask create(int lo, int hi) {
+            return new ForEachTask(lo, hi, threshold, consumer);
+        }
+
+        @Override
+        void leaf(int lo, int hi) {
+            for (int i = lo; i < hi; i++) {
+                consumer.accept(i);
+            }
+        }
+
+        @Override
+        void merge(ForEachTask right) {
+        }
+    }
+
+    private static final class IntTask extends RangeTask<IntTask> {
+        private static final long serialVersionUID = 1L;
+        private final transient SingleFunctionIntToInt mapper;
+        private final int identity;
+        private final transient IntTwiceOperator combiner;
+        int result;
+
+        IntTask(int lo, int hi, long threshold, SingleFunctionIntToInt mapper, int identity, IntTwiceOperator combiner) {
+            super(lo, hi, threshold);
+            this.mapper = mapper;
+            this.identity = identity;
+            this.combiner = combiner;
+        }
+
+        @Override
+        IntTask create(int lo, int hi) {
+            return new IntTask(lo, hi, threshold, mapper, identity, combiner);
+        }
+
+        @Override
+        void leaf(int lo, int hi) {
+            int r = identity;
+            for (int i = lo; i < hi; i++) {
+                r = combiner.apply(r, mapper.apply(i));
+            }
+            result = r;
+        }
+
+        @Override
+        void merge(IntTask right) {
+            result = combiner.apply(result, right.result);
+        }
+    }
+
+    private static final class ShortTask extends RangeTask<ShortTask> {
+        private static final long serialVersionUID = 1L;
+        private final transient SingleFunctionIntToShort mapper;
+        private final short identity;
+        private final transient ShortTwiceOperator combiner;
+        short result;
+
+        ShortTask(int lo, int hi, long threshold, SingleFunctionIntToShort mapper, short identity, ShortTwiceOperator combiner) {
+            super(lo, hi, threshold);
+            this.mapper = mapper;
+            this.identity = identity;
+            this.combiner = combiner;
+        }
+
+        @Override
+        ShortTask create(int lo, int hi) {
+            return new ShortTask(lo, hi, threshold, mapper, identity, combiner);
+        }
+
+        @Override
+        void leaf(int lo, int hi) {
+            short r = identity;
+            for (int i = lo; i < hi; i++) {
+                r = combiner.apply(r, mapper.apply(i));
+            }
+            result = r;
+        }
+
+        @Override
+        void merge(ShortTask right) {
+            result = combiner.apply(result, right.result);
+        }
+    }
+
+    private static final class LongTask extends RangeTask<LongTask> {
+        private static final long serialVersionUID = 1L;
+        private final transient SingleFunctionIntToLong mapper;
+        private final long identity;
+        private final transient LongTwiceOperator combiner;
+        long result;
+
+        LongTask(int lo, int hi, long threshold, SingleFunctionIntToLong mapper, long identity, LongTwiceOperator combiner) {
+            super(lo, hi, threshold);
+            this.mapper = mapper;
+            this.identity = identity;
+            this.combiner = combiner;
+        }
+
+        @Override
+        LongTask create(int lo, int hi) {
+            return new LongTask(lo, hi, threshold, mapper, identity, combiner);
+        }
+
+        @Override
+        void leaf(int lo, int hi) {
+            long r = identity;
+            for (int i = lo; i < hi; i++) {
+                r = combiner.apply(r, mapper.apply(i));
+            }
+            result = r;
+        }
+
+        @Override
+        void merge(LongTask right) {
+            result = combiner.apply(result, right.result);
+        }
+    }
+
+    private static final class FloatTask extends RangeTask<FloatTask> {
+        private static final long serialVersionUID = 1L;
+        private final transient SingleFunctionIntToFloat mapper;
+        private final float identity;
+        private final transient FloatTwiceOperator combiner;
+        float result;
+
+        FloatTask(int lo, int hi, long threshold, SingleFunctionIntToFloat mapper, float identity, FloatTwiceOperator combiner) {
+            super(lo, hi, threshold);
+            this.mapper = mapper;
+            this.identity = identity;
+            this.combiner = combiner;
+        }
+
+        @Override
+        FloatTask create(int lo, int hi) {
+            return new FloatTask(lo, hi, threshold, mapper, identity, combiner);
+        }
+
+        @Override
+        void leaf(int lo, int hi) {
+            float r = identity;
+            for (int i = lo; i < hi; i++) {
+                r = combiner.apply(r, mapper.apply(i));
+            }
+            result = r;
+        }
+
+        @Override
+        void merge(FloatTask right) {
+            result = combiner.apply(result, right.result);
+        }
+    }
+
+    private static final class DoubleTask extends RangeTask<DoubleTask> {
+        private static final long serialVersionUID = 1L;
+        private final transient SingleFunctionIntToDouble mapper;
+        private final double identity;
+        private final transient DoubleTwiceOperator combiner;
+        double result;
+
+        DoubleTask(int lo, int hi, long threshold, SingleFunctionIntToDouble mapper, double identity, DoubleTwiceOperator combiner) {
+            super(lo, hi, threshold);
+            this.mapper = mapper;
+            this.identity = identity;
+            this.combiner = combiner;
+        }
+
+        @Override
+        DoubleTask create(int lo, int hi) {
+            return new DoubleTask(lo, hi, threshold, mapper, identity, combiner);
+        }
+
+        @Override
+        void leaf(int lo, int hi) {
+            double r = identity;
+            for (int i = lo; i < hi; i++) {
+                r = combiner.apply(r, mapper.apply(i));
+            }
+            result = r;
+        }
+
+        @Override
+        void merge(DoubleTask right) {
+            result = combiner.apply(result, right.result);
+        }
+    }
+
+    private static final class ObjectTask<R> extends RangeTask<ObjectTask<R>> {
+        private static final long serialVersionUID = 1L;
+        private final transient SingleFunctionIntToObject<? extends R> mapper;
+        private final transient R identity;
+        private final transient ObjectTwiceOperator<R, R, R> combiner;
+        transient R result;
+
+        ObjectTask(int lo, int hi, long threshold, SingleFunctionIntToObject<? extends R> mapper, R identity, ObjectTwiceOperator<R, R, R> combiner) {
+            super(lo, hi, threshold);
+            this.mapper = mapper;
+            this.identity = identity;
+            this.combiner = combiner;
+        }
+
+        @Override
+        ObjectTask<R> create(int lo, int hi) {
+            return new ObjectTask<>(lo, hi, threshold, mapper, identity, combiner);
+        }
+
+        @Override
+        void leaf(int lo, int hi) {
+            R r = identity;
+            for (int i = lo; i < hi; i++) {
+                r = combiner.apply(r, mapper.apply(i));
+            }
+            result = r;
+        }
+
+        @Override
+        void merge(ObjectTask<R> right) {
+            result = combiner.apply(result, right.result);
+        }
+    }
+}
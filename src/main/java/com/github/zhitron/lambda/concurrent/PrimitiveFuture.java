@@ -0,0 +1,249 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.Actuator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 原始类型结果的异步计算的骨架，管理完成状态、异常、等待线程与回调，结果值由子类以原始类型保存。
+ * <p>
+ * 子类完成时先调用 {@link #claim()} 抢占完成权，写入结果后再调用 {@link #publish(int, Throwable)} 发布，
+ * 对完成状态的 volatile 写保证其他线程读到完成状态时一定能读到结果。回调在完成它的线程上执行，
+ * 在已经完成之后注册的回调在注册它的线程上立即执行。
+ *
+ * @author zhitron
+ */
+abstract class PrimitiveFuture {
+
+    /**
+     * 尚未完成。
+     */
+    static final int PENDING = 0;
+
+    /**
+     * 已经抢占完成权，正在写入结果。
+     */
+    static final int COMPLETING = 1;
+
+    /**
+     * 正常完成。
+     */
+    static final int NORMAL = 2;
+
+    /**
+     * 异常完成。
+     */
+    static final int EXCEPTIONAL = 3;
+
+    /**
+     * 完成状态。
+     */
+    private volatile int state;
+
+    /**
+     * 异常完成时的异常。
+     */
+    private Throwable cause;
+
+    /**
+     * 完成前注册的回调，完成后为 null。
+     */
+    private List<Actuator> callbacks;
+
+    PrimitiveFuture() {
+    }
+
+    /**
+     * 判断计算是否已经完成，无论正常完成还是异常完成。
+     *
+     * @return 已经完成时返回 true
+     */
+    public final boolean isDone() {
+        return state >= NORMAL;
+    }
+
+    /**
+     * 判断计算是否以异常完成。
+     *
+     * @return 以异常完成时返回 true
+     */
+    public final boolean isCompletedExceptionally() {
+        return state == EXCEPTIONAL;
+    }
+
+    /**
+     * 以异常完成计算，计算已经完成时没有任何效果。
+     *
+     * @param cause 异常
+     * @return 这次调用使计算完成时返回 true
+     */
+    public final boolean completeExceptionally(Throwable cause) {
+        if (!claim()) {
+            return false;
+        }
+        publish(EXCEPTIONAL, cause);
+        return true;
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 抢占完成权。
+     *
+     * @return 抢占成功时返回 true，之后必须调用 {@link #publish(int, Throwable)}
+     */
+    final synchronized boolean claim() {
+        if (state != PENDING) {
+            return false;
+        }
+        state = COMPLETING;
+        return true;
+    }
+
+    /**
+     * 发布完成状态，唤醒等待的线程并执行回调。
+     *
+     * @param state 完成状态
+     * @param cause 异常完成时的异常
+     */
+    final void publish(int state, Throwable cause) {
+        List<Actuator> callbacks;
+        synchronized (this) {
+            this.cause = cause;
+            this.state = state;
+            callbacks = this.callbacks;
+            this.callbacks = null;
+            notifyAll();
+        }
+        if (callbacks != null) {
+            for (Actuator callback : callbacks) {
+                callback.execute();
+            }
+        }
+    }
+
+    /**
+     * 注册完成时执行的回调，已经完成时立即执行。
+     *
+     * @param callback 回调
+     */
+    final void onComplete(Actuator callback) {
+        if (state < NORMAL) {
+            synchronized (this) {
+                if (state < NORMAL) {
+                    if (callbacks == null) {
+                        callbacks = new ArrayList<>(2);
+                    }
+                    callbacks.add(callback);
+                    return;
+                }
+            }
+        }
+        callback.execute();
+    }
+
+    /**
+     * 获取异常完成时的异常。只能在已经完成之后调用。
+     *
+     * @return 异常，正常完成时返回 null
+     */
+    final synchronized Throwable cause() {
+        return cause;
+    }
+
+    /**
+     * 等待计算完成，等待期间不响应中断，返回前恢复中断状态。
+     */
+    final void awaitUninterruptibly() {
+        if (state >= NORMAL) {
+            return;
+        }
+        boolean interrupted = false;
+        synchronized (this) {
+            while (state < NORMAL) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 等待计算完成。
+     *
+     * @throws InterruptedException 如果等待时线程被中断
+     */
+    final void await() throws InterruptedException {
+        if (state >= NORMAL) {
+            return;
+        }
+        synchronized (this) {
+            while (state < NORMAL) {
+                wait();
+            }
+        }
+    }
+
+    /**
+     * 最多等待给定时间，直到计算完成。
+     *
+     * @param timeout 最长等待时间
+     * @param unit    时间单位
+     * @throws InterruptedException 如果等待时线程被中断
+     * @throws TimeoutException     如果超时时计算仍未完成
+     */
+    final void await(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (state >= NORMAL) {
+            return;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (state < NORMAL) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * 按 {@link java.util.concurrent.CompletableFuture#join()} 的约定抛出异常完成时的异常。
+     */
+    final void reportJoin() {
+        if (state == EXCEPTIONAL) {
+            Throwable cause = cause();
+            if (cause instanceof CompletionException || cause instanceof CancellationException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    /**
+     * 按 {@link java.util.concurrent.Future#get()} 的约定抛出异常完成时的异常。
+     *
+     * @throws ExecutionException 包装了异常完成时的异常
+     */
+    final void reportGet() throws ExecutionException {
+        if (state == EXCEPTIONAL) {
+            Throwable cause = cause();
+            if (cause instanceof CancellationException) {
+                throw (CancellationException) cause;
+            }
+            throw new ExecutionException(cause);
+        }
+    }
+}
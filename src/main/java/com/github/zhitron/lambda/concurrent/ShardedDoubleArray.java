@@ -0,0 +1,249 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.operator.DoubleTwiceOperator;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * 以固定的二元运算符累加的 double 数组，每个写入线程拥有一份私有的影子数组，读取时用同一个运算符合并全部影子数组。
+ * <p>
+ * 写入只修改当前线程的影子数组，没有 CAS 也没有跨线程的缓存行争用，适合许多线程同时向少量热点元素累加的场景，
+ * 例如并发构建带权重的直方图。代价是读取需要遍历全部影子数组，内存占用与存活的写入线程数成正比。
+ * 已经结束的线程的影子数组会在新线程第一次写入或者调用 {@link #compact()} 时合并进保留的基础数组并被丢弃，
+ * 其中的值继续计入结果，因此线程频繁创建和销毁的线程池不会让影子数组无限增长。
+ * <p>
+ * 运算符必须满足结合律与交换律，并且恒等值与任意值合并后结果不变。读取不是原子快照：与之并发的写入可能只被部分计入。
+ *
+ * @author zhitron
+ * @see AtomicDoubleArray
+ */
+public final class ShardedDoubleArray {
+
+    private static final AtomicReferenceFieldUpdater<ShardedDoubleArray, Shards> SHARDS =
+            AtomicReferenceFieldUpdater.newUpdater(ShardedDoubleArray.class, Shards.class, "shards");
+
+    /**
+     * 数组长度。
+     */
+    private final int length;
+
+    /**
+     * 合并运算符。
+     */
+    private final DoubleTwiceOperator operator;
+
+    /**
+     * 运算符的恒等值。
+     */
+    private final double identity;
+
+    /**
+     * 当前线程的影子数组。
+     */
+    private final ThreadLocal<Shard> local = ThreadLocal.withInitial(this::register);
+
+    /**
+     * 基础数组与存活线程的影子数组，二者总是一起替换，读取者不会把同一个影子数组计入两次。
+     */
+    private volatile Shards shards;
+
+    /**
+     * 创建分片数组。
+     *
+     * @param length   数组长度
+     * @param operator 满足结合律与交换律的运算符
+     * @param identity 运算符的恒等值，也是每个元素的初始值
+     * @throws NegativeArraySizeException 当长度为负数时抛出
+     */
+    public ShardedDoubleArray(int length, DoubleTwiceOperator operator, double identity) {
+        if (length < 0) {
+            throw new NegativeArraySizeException(String.valueOf(length));
+        }
+        this.length = length;
+        this.operator = operator;
+        this.identity = identity;
+        this.shards = new Shards(filled(), new Shard[0]);
+    }
+
+    /**
+     * 获取数组长度。
+     *
+     * @return 数组长度
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 把值合并到当前线程影子数组的元素上。
+     *
+     * @param index 元素下标
+     * @param x     要合并的值
+     */
+    public void accumulate(int index, double x) {
+        AtomicLongArray values = local.get().values;
+        // 影子数组只有当前线程写入，读改写不需要 CAS，有序写入保证其他线程读到完整的值
+        values.lazySet(index, Double.doubleToRawLongBits(operator.apply(Double.longBitsToDouble(values.get(index)), x)));
+    }
+
+    /**
+     * 合并基础数组与全部影子数组中的元素。
+     *
+     * @param index 元素下标
+     * @return 合并结果
+     */
+    public double get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+        }
+        Shards current = shards;
+        double result = current.base[index];
+        for (Shard shard : current.shards) {
+            result = operator.apply(result, Double.longBitsToDouble(shard.values.get(index)));
+        }
+        return result;
+    }
+
+    /**
+     * 合并基础数组与全部影子数组，返回每个元素的合并结果。
+     *
+     * @return 新数组
+     */
+    public double[] toArray() {
+        Shards current = shards;
+        double[] result = current.base.clone();
+        for (Shard shard : current.shards) {
+            AtomicLongArray values = shard.values;
+            for (int i = 0; i < length; i++) {
+                result[i] = operator.apply(result[i], Double.longBitsToDouble(values.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 把全部元素重置为恒等值。只有在没有并发写入时结果才是精确的。
+     */
+    public void reset() {
+        double[] base = filled();
+        Shards current;
+        do {
+            current = shards;
+        } while (!SHARDS.compareAndSet(this, current, new Shards(base, current.shards)));
+        long bits = Double.doubleToRawLongBits(identity);
+        for (Shard shard : current.shards) {
+            for (int i = 0; i < length; i++) {
+                shard.values.set(i, bits);
+            }
+        }
+    }
+
+    /**
+     * 把已经结束的线程的影子数组合并进基础数组并丢弃它们。新线程第一次写入时会自动执行同样的合并。
+     */
+    public void compact() {
+        while (true) {
+            Shards current = shards;
+            Shards next = fold(current, null);
+            if (next == current || SHARDS.compareAndSet(this, current, next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private double[] filled() {
+        double[] base = new double[length];
+        Arrays.fill(base, identity);
+        return base;
+    }
+
+    private Shard register() {
+        Shard shard = new Shard(Thread.currentThread(), length, Double.doubleToRawLongBits(identity));
+        while (true) {
+            Shards current = shards;
+            if (SHARDS.compareAndSet(this, current, fold(current, shard))) {
+                return shard;
+            }
+        }
+    }
+
+    /**
+     * 计算合并已经结束的线程的影子数组、并追加新影子数组之后的状态。
+     *
+     * @param current 当前状态
+     * @param added   追加的影子数组，可以为 null
+     * @return 新状态，没有变化时返回当前状态
+     */
+    private Shards fold(Shards current, Shard added) {
+        Shard[] live = new Shard[current.shards.length + 1];
+        int count = 0;
+        double[] base = null;
+        for (Shard shard : current.shards) {
+            if (shard.isAlive()) {
+                live[count++] = shard;
+                continue;
+            }
+            // 线程结束先于 isAlive 返回 false，它写入的值此时都是可见的
+            if (base == null) {
+                base = current.base.clone();
+            }
+            AtomicLongArray values = shard.values;
+            for (int i = 0; i < length; i++) {
+                base[i] = operator.apply(base[i], Double.longBitsToDouble(values.get(i)));
+            }
+        }
+        if (base == null && added == null) {
+            return current;
+        }
+        if (added != null) {
+            live[count++] = added;
+        }
+        return new Shards(base == null ? current.base : base, Arrays.copyOf(live, count));
+    }
+
+    /**
+     * 基础数组与存活线程的影子数组。
+     */
+    private static final class Shards {
+        /**
+         * 已经结束的线程合并后的值，发布后不再修改。
+         */
+        final double[] base;
+        final Shard[] shards;
+
+        Shards(double[] base, Shard[] shards) {
+            this.base = base;
+            this.shards = shards;
+        }
+    }
+
+    /**
+     * 单个线程的影子数组。
+     */
+    private static final class Shard {
+        final WeakReference<Thread> owner;
+        final AtomicLongArray values;
+
+        Shard(Thread owner, int length, long identity) {
+            long[] bits = new long[length];
+            Arrays.fill(bits, identity);
+            this.owner = new WeakReference<>(owner);
+            this.values = new AtomicLongArray(bits);
+        }
+
+        boolean isAlive() {
+            Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.github.zhitron.lambda.concurrent;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * 分段累加器的骨架，以 long 位模式保存值，由子类负责编码与合并。
+ * <p>
+ * 没有竞争时所有线程都在基础值上做 CAS；一旦 CAS 失败就惰性地创建单元数组，每个线程按自己的探针散列到其中一个单元上累加。
+ * 单元仍然冲突时先更换探针，多次冲突才把单元数组翻倍，数组长度不超过处理器数量的最小 2 的幂。
+ * 每个单元前后都以若干 long 字段填充，避免相邻单元落在同一缓存行上造成伪共享。
+ * <p>
+ * 读取时用同一个运算符把基础值与全部单元合并，因此运算符必须满足结合律与交换律，并且恒等值与任意值合并后结果不变。
+ * 读取不是原子快照：与之并发的累加可能只被部分计入。
+ *
+ * @author zhitron
+ */
+abstract class Striped {
+
+    /**
+     * 处理器数量，单元数组的长度上限。
+     */
+    private static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    private static final AtomicLongFieldUpdater<Striped> BASE = AtomicLongFieldUpdater.newUpdater(Striped.class, "base");
+
+    private static final AtomicIntegerFieldUpdater<Striped> BUSY = AtomicIntegerFieldUpdater.newUpdater(Striped.class, "busy");
+
+    /**
+     * 为每个线程分配初始探针的种子。
+     */
+    private static final AtomicInteger PROBE_SEED = new AtomicInteger();
+
+    /**
+     * 线程的探针，决定线程累加到哪个单元。
+     */
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> {
+        int probe = PROBE_SEED.addAndGet(0x9E3779B9);
+        return new int[]{probe == 0 ? 1 : probe};
+    });
+
+    /**
+     * 恒等值的位模式。
+     */
+    final long identity;
+
+    /**
+     * 没有竞争时累加到的基础值。
+     */
+    private volatile long base;
+
+    /**
+     * 单元数组，长度总是 2 的幂，为 null 表示还没有发生过竞争。
+     */
+    private volatile Cell[] cells;
+
+    /**
+     * 创建或扩充单元数组时使用的自旋锁。
+     */
+    private volatile int busy;
+
+    Striped(long identity) {
+        this.identity = identity;
+        this.base = identity;
+    }
+
+    /**
+     * 合并两个位模式表示的值。
+     *
+     * @param a 当前值的位模式
+     * @param b 要合并的值的位模式
+     * @return 合并结果的位模式
+     */
+    abstract long combine(long a, long b);
+
+    /**
+     * 累加一个位模式表示的值。
+     *
+     * @param x 要累加的值的位模式
+     */
+    final void accumulateBits(long x) {
+        Cell[] cs;
+        long b, r;
+        if ((cs = cells) != null || ((r = combine(b = base, x)) != b && !BASE.compareAndSet(this, b, r))) {
+            int[] probe = PROBE.get();
+            boolean uncontended = true;
+            Cell c;
+            long v;
+            if (cs == null || (c = cs[probe[0] & (cs.length - 1)]) == null
+                    || !(uncontended = (r = combine(v = c.value, x)) == v || c.compareAndSet(v, r))) {
+                accumulateSlow(x, probe, uncontended);
+            }
+        }
+    }
+
+    /**
+     * 合并基础值与全部单元，返回结果的位模式。
+     *
+     * @return 合并结果的位模式
+     */
+    final long getBits() {
+        long result = base;
+        Cell[] cs = cells;
+        if (cs != null) {
+            for (Cell c : cs) {
+                if (c != null) {
+                    result = combine(result, c.value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 把基础值与全部单元重置为恒等值。只有在没有并发累加时结果才是精确的。
+     */
+    public final void reset() {
+        base = identity;
+        Cell[] cs = cells;
+        if (cs != null) {
+            for (Cell c : cs) {
+                if (c != null) {
+                    c.value = identity;
+                }
+            }
+        }
+    }
+
+    /**
+     * 合并全部值后把基础值与全部单元重置为恒等值，返回合并结果的位模式。
+     *
+     * @return 合并结果的位模式
+     */
+    final long getBitsThenReset() {
+        long result = BASE.getAndSet(this, identity);
+        Cell[] cs = cells;
+        if (cs != null) {
+            for (Cell c : cs) {
+                if (c != null) {
+                    result = combine(result, c.getAndSet(identity));
+                }
+            }
+        }
+        return result;
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private void accumulateSlow(long x, int[] probe, boolean uncontended) {
+        int h = probe[0];
+        boolean collide = false;
+        while (true) {
+            Cell[] cs = cells;
+            int n;
+            if (cs != null && (n = cs.length) > 0) {
+                Cell c = cs[h & (n - 1)];
+                long v;
+                if (c == null) {
+                    if (busy == 0) {
+                        Cell created = new Cell(combine(identity, x));
+                        if (busy == 0 && BUSY.compareAndSet(this, 0, 1)) {
+                            try {
+                                Cell[] rs = cells;
+                                int j;
+                                if (rs != null && rs[j = h & (rs.length - 1)] == null) {
+                                    rs[j] = created;
+                                    break;
+                                }
+                            } finally {
+                                busy = 0;
+                            }
+                            continue;
+                        }
+                    }
+                    collide = false;
+                } else if (!uncontended) {
+                    // 已知在这个单元上发生过竞争，先换一个探针再重试
+                    uncontended = true;
+                } else if (c.compareAndSet(v = c.value, combine(v, x))) {
+                    break;
+                } else if (n >= NCPU || cells != cs) {
+                    collide = false;
+                } else if (!collide) {
+                    collide = true;
+                } else if (busy == 0 && BUSY.compareAndSet(this, 0, 1)) {
+                    try {
+                        if (cells == cs) {
+                            cells = Arrays.copyOf(cs, n << 1);
+                        }
+                    } finally {
+                        busy = 0;
+                    }
+                    collide = false;
+                    continue;
+                }
+                h ^= h << 13;
+                h ^= h >>> 17;
+                h ^= h << 5;
+            } else if (busy == 0 && cells == cs && BUSY.compareAndSet(this, 0, 1)) {
+                boolean initialized = false;
+                try {
+                    if (cells == cs) {
+                        Cell[] rs = new Cell[2];
+                        rs[h & 1] = new Cell(combine(identity, x));
+                        cells = rs;
+                        initialized = true;
+                    }
+                } finally {
+                    busy = 0;
+                }
+                if (initialized) {
+                    break;
+                }
+            } else {
+                long b = base;
+                if (BASE.compareAndSet(this, b, combine(b, x))) {
+                    break;
+                }
+            }
+        }
+        probe[0] = h;
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 单元值之前的填充。
+     */
+    static class CellPadding {
+        long p0, p1, p2, p3, p4, p5, p6;
+    }
+
+    /**
+     * 单元值。
+     */
+    static class CellValue extends CellPadding {
+        volatile long value;
+    }
+
+    /**
+     * 前后都有填充、独占一条缓存行的单元。
+     */
+    static final class Cell extends CellValue {
+        private static final AtomicLongFieldUpdater<CellValue> VALUE = AtomicLongFieldUpdater.newUpdater(CellValue.class, "value");
+
+        long q0, q1, q2, q3, q4, q5, q6;
+
+        Cell(long value) {
+            this.value = value;
+        }
+
+        boolean compareAndSet(long expect, long update) {
+            return VALUE.compareAndSet(this, expect, update);
+        }
+
+        long getAndSet(long value) {
+            return VALUE.getAndSet(this, value);
+        }
+    }
+}
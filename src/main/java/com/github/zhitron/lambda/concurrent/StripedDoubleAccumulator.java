@@ -0,0 +1,68 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.operator.DoubleTwiceOperator;
+
+/**
+ * 以任意满足结合律与交换律的 double 二元运算符累加的分段累加器，在高并发写入下比单个原子变量有更好的伸缩性。
+ * <p>
+ * 例如统计最大值时使用 {@code new StripedDoubleAccumulator(Math::max, Double.NEGATIVE_INFINITY)}。浮点加法不满足严格的结合律，用它求和时结果可能随合并顺序有微小差异。
+ * 写入频繁、读取较少的全局统计量适合使用它；读取需要合并全部单元，代价与单元数量成正比。
+ *
+ * @author zhitron
+ * @see Striped
+ */
+public final class StripedDoubleAccumulator extends Striped {
+
+    /**
+     * 合并运算符。
+     */
+    private final DoubleTwiceOperator operator;
+
+    /**
+     * 创建分段累加器。
+     *
+     * @param operator 满足结合律与交换律的运算符
+     * @param identity 运算符的恒等值，也是累加器的初始值
+     */
+    public StripedDoubleAccumulator(DoubleTwiceOperator operator, double identity) {
+        super(Double.doubleToRawLongBits(identity));
+        this.operator = operator;
+    }
+
+    /**
+     * 把值累加到累加器上。
+     *
+     * @param x 要累加的值
+     */
+    public void accumulate(double x) {
+        accumulateBits(Double.doubleToRawLongBits(x));
+    }
+
+    /**
+     * 合并全部单元，返回当前的累加结果。
+     *
+     * @return 累加结果
+     */
+    public double get() {
+        return Double.longBitsToDouble(getBits());
+    }
+
+    /**
+     * 返回当前的累加结果并把累加器重置为恒等值。
+     *
+     * @return 重置之前的累加结果
+     */
+    public double getThenReset() {
+        return Double.longBitsToDouble(getBitsThenReset());
+    }
+
+    @Override
+    long combine(long a, long b) {
+        return Double.doubleToRawLongBits(operator.apply(Double.longBitsToDouble(a), Double.longBitsToDouble(b)));
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.operator.FloatTwiceOperator;
+
+/**
+ * 以任意满足结合律与交换律的 float 二元运算符累加的分段累加器，在高并发写入下比单个原子变量有更好的伸缩性。
+ * <p>
+ * 例如统计最小值时使用 {@code new StripedFloatAccumulator(Math::min, Float.POSITIVE_INFINITY)}。
+ * 写入频繁、读取较少的全局统计量适合使用它；读取需要合并全部单元，代价与单元数量成正比。
+ *
+ * @author zhitron
+ * @see Striped
+ */
+public final class StripedFloatAccumulator extends Striped {
+
+    /**
+     * 合并运算符。
+     */
+    private final FloatTwiceOperator operator;
+
+    /**
+     * 创建分段累加器。
+     *
+     * @param operator 满足结合律与交换律的运算符
+     * @param identity 运算符的恒等值，也是累加器的初始值
+     */
+    public StripedFloatAccumulator(FloatTwiceOperator operator, float identity) {
+        super(Float.floatToRawIntBits(identity));
+        this.operator = operator;
+    }
+
+    /**
+     * 把值累加到累加器上。
+     *
+     * @param x 要累加的值
+     */
+    public void accumulate(float x) {
+        accumulateBits(Float.floatToRawIntBits(x));
+    }
+
+    /**
+     * 合并全部单元，返回当前的累加结果。
+     *
+     * @return 累加结果
+     */
+    public float get() {
+        return Float.intBitsToFloat((int) getBits());
+    }
+
+    /**
+     * 返回当前的累加结果并把累加器重置为恒等值。
+     *
+     * @return 重置之前的累加结果
+     */
+    public float getThenReset() {
+        return Float.intBitsToFloat((int) getBitsThenReset());
+    }
+
+    @Override
+    long combine(long a, long b) {
+        return Float.floatToRawIntBits(operator.apply(Float.intBitsToFloat((int) a), Float.intBitsToFloat((int) b)));
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.lambda.operator.IntTwiceOperator;
+
+/**
+ * 以任意满足结合律与交换律的 int 二元运算符累加的分段累加器，在高并发写入下比单个原子变量有更好的伸缩性。
+ * <p>
+ * 例如按位或统计出现过的标志位时使用 {@code new StripedIntAccumulator((a, b) -> a | b, 0)}，统计最大值时使用 {@code Integer::max} 与 {@link Integer#MIN_VALUE}。
+ * 写入频繁、读取较少的全局统计量适合使用它；读取需要合并全部单元，代价与单元数量成正比。
+ *
+ * @author zhitron
+ * @see Striped
+ */
+public final class StripedIntAccumulator extends Striped {
+
+    /**
+     * 合并运算符。
+     */
+    private final IntTwiceOperator operator;
+
+    /**
+     * 创建分段累加器。
+     *
+     * @param operator 满足结合律与交换律的运算符
+     * @param identity 运算符的恒等值，也是累加器的初始值
+     */
+    public StripedIntAccumulator(IntTwiceOperator operator, int identity) {
+        super(identity);
+        this.operator = operator;
+    }
+
+    /**
+     * 把值累加到累加器上。
+     *
+     * @param x 要累加的值
+     */
+    public void accumulate(int x) {
+        accumulateBits(x);
+    }
+
+    /**
+     * 合并全部单元，返回当前的累加结果。
+     *
+     * @return 累加结果
+     */
+    public int get() {
+        return (int) getBits();
+    }
+
+    /**
+     * 返回当前的累加结果并把累加器重置为恒等值。
+     *
+     * @return 重置之前的累加结果
+     */
+    public int getThenReset() {
+        return (int) getBitsThenReset();
+    }
+
+    @Override
+    long combine(long a, long b) {
+        return operator.apply((int) a, (int) b);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(get());
+    }
+}
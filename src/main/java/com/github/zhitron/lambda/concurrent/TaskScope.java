@@ -0,0 +1,318 @@
+package com.github.zhitron.lambda.concurrent;
+
+import com.github.zhitron.ActuatorThrow;
+import com.github.zhitron.lambda.supplier.ObjectSupplierThrow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+
+/**
+ * 结构化的并发作用域：在作用域内派生子任务，以 {@link #join()} 等待它们全部完成，关闭作用域时仍未完成的子任务会被取消，
+ * 并且 {@link #close()} 会等待它们真正退出，因此子任务不会在作用域之外继续运行。
+ * <p>
+ * 任意一个子任务失败时，作用域记录第一个失败的原始异常并取消（中断）其余尚未完成的子任务，
+ * {@link #join()} 等待所有子任务退出后以 {@link ExecutionException} 抛出这个原始异常。
+ * 子任务只有在执行它的线程真正离开任务时才算结束，忽略中断的子任务（例如不响应中断的文件读写）会让等待一直持续到它自己完成。
+ * 默认在 {@link VirtualThreads#executor()} 上执行，因此在支持虚拟线程的 JDK 上每个子任务都运行在自己的虚拟线程中。
+ * <pre>{@code
+ * try (TaskScope scope = TaskScope.open()) {
+ *     TaskScope.Subtask<String> user = scope.fork(() -> loadUser(id));
+ *     TaskScope.Subtask<Order> order = scope.fork(() -> loadOrder(id));
+ *     scope.join();
+ *     return render(user.get(), order.get());
+ * }
+ * }</pre>
+ * 作用域应当只被打开它的线程使用。
+ *
+ * @author zhitron
+ */
+public final class TaskScope implements AutoCloseable {
+
+    /**
+     * 执行子任务的执行器。
+     */
+    private final ExecutorService executor;
+
+    /**
+     * 已经派生的子任务。
+     */
+    private final List<Subtask<?>> subtasks = new ArrayList<>();
+
+    /**
+     * 已经提交给执行器但尚未退出的子任务数量，由 this 的监视器保护。
+     */
+    private int pending;
+
+    /**
+     * 第一个失败的子任务的异常，由 this 的监视器保护。
+     */
+    private Throwable failure;
+
+    /**
+     * 作用域是否已经关闭。
+     */
+    private boolean closed;
+
+    private TaskScope(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 打开在共享的阻塞任务执行器上运行子任务的作用域。
+     *
+     * @return 作用域
+     */
+    public static TaskScope open() {
+        return new TaskScope(VirtualThreads.executor());
+    }
+
+    /**
+     * 打开在给定执行器上运行子任务的作用域。
+     *
+     * @param executor 执行器
+     * @return 作用域
+     */
+    public static TaskScope open(ExecutorService executor) {
+        return new TaskScope(executor);
+    }
+
+    /**
+     * 在共享的阻塞任务执行器上并发执行全部任务，等待它们完成后按顺序返回结果。
+     * 任意一个任务失败时取消其余任务，并以 {@link ExecutionException} 抛出第一个失败的原始异常。
+     *
+     * @param tasks 任务
+     * @param <R>   结果类型
+     * @return 与任务顺序相同的结果列表
+     * @throws InterruptedException 如果等待时线程被中断
+     * @throws ExecutionException   如果有任务失败
+     */
+    public static <R> List<R> invokeAll(List<? extends ObjectSupplierThrow<? extends R, ?>> tasks) throws InterruptedException, ExecutionException {
+        try (TaskScope scope = open()) {
+            List<Subtask<? extends R>> forked = new ArrayList<>(tasks.size());
+            for (ObjectSupplierThrow<? extends R, ?> task : tasks) {
+                forked.add(scope.fork(task));
+            }
+            scope.join();
+            List<R> results = new ArrayList<>(forked.size());
+            for (Subtask<? extends R> subtask : forked) {
+                results.add(subtask.get());
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 派生有结果的子任务。
+     *
+     * @param task 任务
+     * @param <R>  结果类型
+     * @return 子任务
+     * @throws IllegalStateException 如果作用域已经关闭
+     */
+    public <R> Subtask<R> fork(ObjectSupplierThrow<R, ?> task) {
+        Subtask<R> subtask = new Subtask<>(this, task::getThrow);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Scope is closed");
+            }
+            subtasks.add(subtask);
+            if (failure != null) {
+                // 已经有子任务失败，新的子任务不再执行
+                subtask.task.cancel(false);
+                return subtask;
+            }
+            pending++;
+        }
+        try {
+            executor.execute(subtask.task);
+        } catch (RuntimeException e) {
+            subtask.task.cancel(false);
+            exited();
+            throw e;
+        }
+        return subtask;
+    }
+
+    /**
+     * 派生没有结果的子任务。
+     *
+     * @param task 任务
+     * @return 子任务，成功时结果为 null
+     * @throws IllegalStateException 如果作用域已经关闭
+     */
+    public Subtask<Void> fork(ActuatorThrow<?> task) {
+        return fork(() -> {
+            task.executeThrow();
+            return null;
+        });
+    }
+
+    /**
+     * 等待全部子任务退出。有子任务失败时其余子任务已被取消，它们全部退出后抛出第一个失败的原始异常。
+     *
+     * @throws InterruptedException 如果等待时线程被中断
+     * @throws ExecutionException   如果有子任务失败，原因为子任务抛出的原始异常
+     */
+    public synchronized void join() throws InterruptedException, ExecutionException {
+        while (pending > 0) {
+            wait();
+        }
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+    }
+
+    /**
+     * 关闭作用域：取消所有尚未完成的子任务，并等待它们全部退出。关闭后不能再派生子任务。
+     * 等待期间线程被中断时仍然继续等待，返回前恢复中断状态。
+     */
+    @Override
+    public void close() {
+        List<Subtask<?>> subtasks;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subtasks = new ArrayList<>(this.subtasks);
+        }
+        for (Subtask<?> subtask : subtasks) {
+            subtask.task.cancel(true);
+        }
+        boolean interrupted = false;
+        synchronized (this) {
+            while (pending > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private void failed(Subtask<?> subtask, Throwable cause) {
+        List<Subtask<?>> siblings;
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+            failure = cause;
+            siblings = new ArrayList<>(subtasks);
+        }
+        for (Subtask<?> sibling : siblings) {
+            if (sibling != subtask) {
+                sibling.task.cancel(true);
+            }
+        }
+    }
+
+    private synchronized void exited() {
+        if (--pending == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * 作用域中派生的子任务。
+     *
+     * @param <R> 结果类型
+     */
+    public static final class Subtask<R> {
+
+        /**
+         * 实际执行的任务，失败时通知作用域取消其他子任务，执行线程离开任务时通知作用域子任务已经退出。
+         */
+        private final FutureTask<R> task;
+
+        private Subtask(TaskScope scope, Callable<R> callable) {
+            this.task = new FutureTask<R>(callable) {
+                @Override
+                public void run() {
+                    try {
+                        super.run();
+                    } finally {
+                        // 取消只会让任务尽快结束，只有执行线程真正离开任务时才算退出
+                        scope.exited();
+                    }
+                }
+
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        return;
+                    }
+                    try {
+                        get();
+                    } catch (ExecutionException e) {
+                        scope.failed(Subtask.this, e.getCause());
+                    } catch (InterruptedException e) {
+                        // 任务已经完成，get 不会阻塞
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+        }
+
+        /**
+         * 判断子任务是否已经结束，无论成功、失败还是被取消。
+         *
+         * @return 已经结束时返回 true
+         */
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        /**
+         * 获取成功完成的子任务的结果，通常在 {@link TaskScope#join()} 成功返回之后调用。
+         *
+         * @return 结果
+         * @throws IllegalStateException 如果子任务尚未结束、失败或被取消
+         */
+        public R get() {
+            if (!task.isDone()) {
+                throw new IllegalStateException("Subtask is not done");
+            }
+            try {
+                return task.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Subtask failed", e.getCause());
+            } catch (CancellationException e) {
+                throw new IllegalStateException("Subtask was cancelled", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * 获取失败的子任务抛出的原始异常。
+         *
+         * @return 原始异常，子任务尚未结束、成功或被取消时返回 null
+         */
+        public Throwable exception() {
+            if (!task.isDone() || task.isCancelled()) {
+                return null;
+            }
+            try {
+                task.get();
+                return null;
+            } catch (ExecutionException e) {
+                return e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.zhitron.lambda.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 执行阻塞任务的共享执行器。
+ * <p>
+ * 运行在支持虚拟线程的 JDK（21 及以上）上时，执行器为每个任务创建一个虚拟线程，数以万计的阻塞任务可以同时运行而不需要估算线程池大小；
+ * 在更早的 JDK 上退化为有界的平台线程池，线程数为处理器数量的 16 倍且至少为 64，多余的任务排队等待。
+ * 是否支持虚拟线程在运行时通过反射检测，因此本库仍然可以在 Java 8 上编译和运行。
+ * <p>
+ * 共享执行器在整个进程中只有一个，调用方不应当关闭它。
+ *
+ * @author zhitron
+ * @see TaskScope
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 判断当前 JDK 是否支持虚拟线程。
+     *
+     * @return 支持时返回 true
+     */
+    public static boolean isSupported() {
+        return Holder.VIRTUAL;
+    }
+
+    /**
+     * 获取执行阻塞任务的共享执行器。
+     *
+     * @return 支持虚拟线程时为每个任务创建虚拟线程的执行器，否则为有界的平台线程池
+     */
+    public static ExecutorService executor() {
+        return Holder.EXECUTOR;
+    }
+
+    /**
+     * 延迟初始化共享执行器。
+     */
+    private static final class Holder {
+        private static final boolean VIRTUAL;
+        private static final ExecutorService EXECUTOR;
+
+        static {
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            VIRTUAL = executor != null;
+            EXECUTOR = VIRTUAL ? executor : newPlatformExecutor();
+        }
+
+        private static ExecutorService newVirtualThreadPerTaskExecutor() {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // 方法不存在，或者是没有启用预览特性的 JDK 19、20
+                return null;
+            }
+        }
+
+        private static ExecutorService newPlatformExecutor() {
+            int threads = Math.max(64, Runtime.getRuntime().availableProcessors() * 16);
+            AtomicInteger sequence = new AtomicInteger();
+            ThreadFactory factory = task -> {
+                Thread thread = new Thread(task, "lambda-blocking-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
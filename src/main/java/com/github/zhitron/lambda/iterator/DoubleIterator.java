@@ -0,0 +1,128 @@
+package com.github.zhitron.lambda.iterator;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerDouble;
+import com.github.zhitron.lambda.operator.DoubleSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateDouble;
+import com.github.zhitron.lambda.supplier.BooleanSupplier;
+import com.github.zhitron.lambda.supplier.DoubleSupplier;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+/**
+ * 专用于 double 值的迭代器，同时是 {@link PrimitiveIterator.OfDouble}，可以直接交给 JDK 的原始类型 API 使用。
+ *
+ * @author zhitron
+ */
+public interface DoubleIterator extends PrimitiveIterator.OfDouble {
+
+    /**
+     * 创建由供应者逐个生成元素的迭代器，每个元素之前先询问 hasNext，询问结果在取出元素之前会被缓存，不会重复询问。
+     *
+     * @param next    元素供应者
+     * @param hasNext 是否还有下一个元素的供应者，一旦返回 false 迭代即结束
+     * @return 迭代器
+     */
+    static DoubleIterator generate(DoubleSupplier next, BooleanSupplier hasNext) {
+        return new DoubleIterator() {
+            /**
+             * 0 表示尚未询问，1 表示还有元素，-1 表示迭代已经结束。
+             */
+            private int state;
+
+            @Override
+            public boolean hasNext() {
+                if (state == 0) {
+                    state = hasNext.getAsBoolean() ? 1 : -1;
+                }
+                return state > 0;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                state = 0;
+                return next.getAsDouble();
+            }
+        };
+    }
+
+    /**
+     * 创建从种子开始、以运算符逐个推导后续元素的迭代器，谓词不成立时迭代结束。
+     * 运算符只在需要下一个元素时才会被调用。
+     *
+     * @param seed    第一个元素
+     * @param hasNext 判断元素是否应当被迭代的谓词
+     * @param next    由上一个元素计算下一个元素的运算符
+     * @return 迭代器
+     */
+    static DoubleIterator iterate(double seed, SinglePredicateDouble hasNext, DoubleSingleOperator next) {
+        return new DoubleIterator() {
+            private double current = seed;
+            private boolean started;
+            private boolean tested;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (!tested && !finished) {
+                    if (started) {
+                        current = next.apply(current);
+                    }
+                    tested = true;
+                    finished = !hasNext.test(current);
+                }
+                return !finished;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                started = true;
+                tested = false;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * 创建以迭代器为数据源、已知元素数量的分割器。
+     * 拆分时把剩余元素的一半（不超过单批上限）拷贝到数组中，拆分出的数组分割器总是对半平衡拆分。
+     *
+     * @param iterator        数据源迭代器
+     * @param size            元素数量
+     * @param characteristics 额外报告的特征值，总是会加上 SIZED 与 SUBSIZED
+     * @return 分割器
+     */
+    static Spliterator.OfDouble spliterator(DoubleIterator iterator, long size, int characteristics) {
+        return new DoubleIteratorSpliterator(iterator, size, characteristics);
+    }
+
+    /**
+     * 创建以迭代器为数据源、元素数量未知的分割器。
+     * 拆分时拷贝到数组中的批次大小按倍数增长，拆分出的数组分割器总是对半平衡拆分。
+     *
+     * @param iterator        数据源迭代器
+     * @param characteristics 额外报告的特征值，SIZED 与 SUBSIZED 会被忽略
+     * @return 分割器
+     */
+    static Spliterator.OfDouble spliteratorUnknownSize(DoubleIterator iterator, int characteristics) {
+        return new DoubleIteratorSpliterator(iterator, characteristics);
+    }
+
+    /**
+     * 将剩余的全部元素推送给消费者。
+     *
+     * @param action 元素的消费者
+     */
+    default void forEachRemainingDouble(SingleConsumerDouble action) {
+        while (hasNext()) {
+            action.accept(nextDouble());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.zhitron.lambda.iterator;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+
+/**
+ * 以 {@link DoubleIterator} 为数据源的分割器，拆分时把一批元素拷贝到数组中并交给数组分割器继续平衡拆分。
+ *
+ * @author zhitron
+ */
+final class DoubleIteratorSpliterator implements Spliterator.OfDouble {
+
+    /**
+     * 元素数量未知时第一次拆分的批次大小。
+     */
+    private static final int BATCH_UNIT = 1 << 10;
+
+    /**
+     * 单次拆分拷贝的最大元素数量。
+     */
+    private static final int MAX_BATCH = 1 << 25;
+
+    private final DoubleIterator iterator;
+    private final int characteristics;
+    private long estimate;
+    private int batch;
+
+    DoubleIteratorSpliterator(DoubleIterator iterator, long size, int characteristics) {
+        this.iterator = iterator;
+        this.estimate = size;
+        this.characteristics = (characteristics & Spliterator.CONCURRENT) == 0
+                ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED
+                : characteristics;
+    }
+
+    DoubleIteratorSpliterator(DoubleIterator iterator, int characteristics) {
+        this.iterator = iterator;
+        this.estimate = Long.MAX_VALUE;
+        this.characteristics = characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        long s = estimate;
+        if (s <= 1 || !iterator.hasNext()) {
+            return null;
+        }
+        int n;
+        if (hasCharacteristics(Spliterator.SIZED)) {
+            n = (int) Math.min((s + 1) >>> 1, MAX_BATCH);
+        } else {
+            n = batch == 0 ? BATCH_UNIT : Math.min(batch << 1, MAX_BATCH);
+        }
+        double[] buffer = new double[n];
+        int j = 0;
+        do {
+            buffer[j] = iterator.nextDouble();
+        } while (++j < n && iterator.hasNext());
+        batch = j;
+        if (s != Long.MAX_VALUE) {
+            estimate = s - j;
+        }
+        return Spliterators.spliterator(buffer, 0, j, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (iterator.hasNext()) {
+            if (estimate != Long.MAX_VALUE && estimate > 0) {
+                estimate--;
+            }
+            action.accept(iterator.nextDouble());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        iterator.forEachRemaining(action);
+        if (estimate != Long.MAX_VALUE) {
+            estimate = 0;
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public Comparator<? super Double> getComparator() {
+        if (hasCharacteristics(Spliterator.SORTED)) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+}
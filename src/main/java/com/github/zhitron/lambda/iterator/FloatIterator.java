@@ -0,0 +1,164 @@
+package com.github.zhitron.lambda.iterator;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerFloat;
+import com.github.zhitron.lambda.operator.FloatSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateFloat;
+import com.github.zhitron.lambda.stream.FloatSpliterator;
+import com.github.zhitron.lambda.supplier.BooleanSupplier;
+import com.github.zhitron.lambda.supplier.FloatSupplier;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+
+/**
+ * 专用于 float 值的迭代器，元素以 {@link #nextFloat()} 或 {@link SingleConsumerFloat} 取出，避免装箱为 {@link Float}。
+ * 只有通过 {@link #next()} 或 {@link Consumer} 访问时才会发生装箱。
+ *
+ * @author zhitron
+ */
+public interface FloatIterator extends PrimitiveIterator<Float, SingleConsumerFloat> {
+
+    /**
+     * 创建由供应者逐个生成元素的迭代器，每个元素之前先询问 hasNext，询问结果在取出元素之前会被缓存，不会重复询问。
+     *
+     * @param next    元素供应者
+     * @param hasNext 是否还有下一个元素的供应者，一旦返回 false 迭代即结束
+     * @return 迭代器
+     */
+    static FloatIterator generate(FloatSupplier next, BooleanSupplier hasNext) {
+        return new FloatIterator() {
+            /**
+             * 0 表示尚未询问，1 表示还有元素，-1 表示迭代已经结束。
+             */
+            private int state;
+
+            @Override
+            public boolean hasNext() {
+                if (state == 0) {
+                    state = hasNext.getAsBoolean() ? 1 : -1;
+                }
+                return state > 0;
+            }
+
+            @Override
+            public float nextFloat() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                state = 0;
+                return next.getAsFloat();
+            }
+        };
+    }
+
+    /**
+     * 创建从种子开始、以运算符逐个推导后续元素的迭代器，谓词不成立时迭代结束。
+     * 运算符只在需要下一个元素时才会被调用。
+     *
+     * @param seed    第一个元素
+     * @param hasNext 判断元素是否应当被迭代的谓词
+     * @param next    由上一个元素计算下一个元素的运算符
+     * @return 迭代器
+     */
+    static FloatIterator iterate(float seed, SinglePredicateFloat hasNext, FloatSingleOperator next) {
+        return new FloatIterator() {
+            private float current = seed;
+            private boolean started;
+            private boolean tested;
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (!tested && !finished) {
+                    if (started) {
+                        current = next.apply(current);
+                    }
+                    tested = true;
+                    finished = !hasNext.test(current);
+                }
+                return !finished;
+            }
+
+            @Override
+            public float nextFloat() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                started = true;
+                tested = false;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * 创建以迭代器为数据源、已知元素数量的分割器。
+     * 拆分时把剩余元素的一半（不超过单批上限）拷贝到数组中，拆分出的数组分割器总是对半平衡拆分。
+     *
+     * @param iterator        数据源迭代器
+     * @param size            元素数量
+     * @param characteristics 额外报告的特征值，总是会加上 SIZED 与 SUBSIZED
+     * @return 分割器
+     */
+    static FloatSpliterator spliterator(FloatIterator iterator, long size, int characteristics) {
+        return new FloatIteratorSpliterator(iterator, size, characteristics);
+    }
+
+    /**
+     * 创建以迭代器为数据源、元素数量未知的分割器。
+     * 拆分时拷贝到数组中的批次大小按倍数增长，拆分出的数组分割器总是对半平衡拆分。
+     *
+     * @param iterator        数据源迭代器
+     * @param characteristics 额外报告的特征值，SIZED 与 SUBSIZED 会被忽略
+     * @return 分割器
+     */
+    static FloatSpliterator spliteratorUnknownSize(FloatIterator iterator, int characteristics) {
+        return new FloatIteratorSpliterator(iterator, characteristics);
+    }
+
+    /**
+     * 返回下一个元素。
+     *
+     * @return 下一个元素
+     * @throws NoSuchElementException 如果没有更多元素
+     */
+    float nextFloat();
+
+    /**
+     * 以装箱的方式返回下一个元素。
+     *
+     * @return 下一个元素
+     * @throws NoSuchElementException 如果没有更多元素
+     */
+    @Override
+    default Float next() {
+        return nextFloat();
+    }
+
+    /**
+     * 将剩余的全部元素推送给消费者。
+     *
+     * @param action 元素的消费者
+     */
+    @Override
+    default void forEachRemaining(SingleConsumerFloat action) {
+        while (hasNext()) {
+            action.accept(nextFloat());
+        }
+    }
+
+    /**
+     * 以装箱的方式推送剩余的全部元素，如果消费者本身是 {@link SingleConsumerFloat} 则不会装箱。
+     *
+     * @param action 元素的消费者
+     */
+    @Override
+    default void forEachRemaining(Consumer<? super Float> action) {
+        if (action instanceof SingleConsumerFloat) {
+            forEachRemaining((SingleConsumerFloat) action);
+        } else {
+            forEachRemaining((SingleConsumerFloat) action::accept);
+        }
+    }
+}
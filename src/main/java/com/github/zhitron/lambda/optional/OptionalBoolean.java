@@ -0,0 +1,312 @@
+package com.github.zhitron.lambda.optional;
+
+import com.github.zhitron.Actuator;
+import com.github.zhitron.lambda.consumer.SingleConsumerBoolean;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToByte;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToChar;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToInt;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToLong;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToObject;
+import com.github.zhitron.lambda.function.SingleFunctionBooleanToShort;
+import com.github.zhitron.lambda.operator.BooleanSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateBoolean;
+import com.github.zhitron.lambda.supplier.BooleanSupplier;
+import com.github.zhitron.lambda.supplier.ObjectSupplier;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 可能包含一个 boolean 值的不可变容器，是 {@code Optional<Boolean>} 的免装箱版本。
+ * <p>
+ * 空实例以及 true、false 两个实例都是预先创建的单例，{@link #of(boolean)} 不会分配新对象。
+ * 该类是值语义的，不应当依赖实例的同一性。
+ *
+ * @author zhitron
+ */
+public final class OptionalBoolean {
+
+    /**
+     * 空实例。
+     */
+    private static final OptionalBoolean EMPTY = new OptionalBoolean(false, false);
+
+    /**
+     * 值为 true 的实例。
+     */
+    private static final OptionalBoolean TRUE = new OptionalBoolean(true, true);
+
+    /**
+     * 值为 false 的实例。
+     */
+    private static final OptionalBoolean FALSE = new OptionalBoolean(true, false);
+
+    /**
+     * 是否包含值。
+     */
+    private final boolean present;
+
+    /**
+     * 包含的值，不包含值时为默认值。
+     */
+    private final boolean value;
+
+    private OptionalBoolean(boolean present, boolean value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 获取空实例。
+     *
+     * @return 空实例
+     */
+    public static OptionalBoolean empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 获取包含给定值的实例。
+     *
+     * @param value 值
+     * @return 包含给定值的实例
+     */
+    public static OptionalBoolean of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * 将可能为 null 的装箱值转换为实例。
+     *
+     * @param value 装箱值，可以为 null
+     * @return 为 null 时返回空实例，否则返回包含该值的实例
+     */
+    public static OptionalBoolean ofNullable(Boolean value) {
+        return value == null ? EMPTY : of(value);
+    }
+
+    /**
+     * 判断是否包含值。
+     *
+     * @return 包含值时返回 true
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * 判断是否为空。
+     *
+     * @return 不包含值时返回 true
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * 获取包含的值。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public boolean getAsBoolean() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * 包含值时将其推送给消费者。
+     *
+     * @param action 值的消费者
+     */
+    public void ifPresent(SingleConsumerBoolean action) {
+        if (present) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * 包含值时将其推送给消费者，否则执行空值动作。
+     *
+     * @param action      值的消费者
+     * @param emptyAction 不包含值时执行的动作
+     */
+    public void ifPresentOrElse(SingleConsumerBoolean action, Actuator emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.execute();
+        }
+    }
+
+    /**
+     * 包含值且值满足谓词时返回当前实例，否则返回空实例。
+     *
+     * @param predicate 值谓词
+     * @return 过滤后的实例
+     */
+    public OptionalBoolean filter(SinglePredicateBoolean predicate) {
+        return present && !predicate.test(value) ? EMPTY : this;
+    }
+
+    /**
+     * 包含值时以运算符映射值，否则返回空实例。
+     *
+     * @param mapper 映射运算符
+     * @return 映射后的实例
+     */
+    public OptionalBoolean map(BooleanSingleOperator mapper) {
+        return present ? of(mapper.apply(value)) : EMPTY;
+    }
+
+    /**
+     * 包含值时以函数映射为 byte 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalByte mapToByte(SingleFunctionBooleanToByte mapper) {
+        return present ? OptionalByte.of(mapper.apply(value)) : OptionalByte.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 char 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalChar mapToChar(SingleFunctionBooleanToChar mapper) {
+        return present ? OptionalChar.of(mapper.apply(value)) : OptionalChar.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 short 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalShort mapToShort(SingleFunctionBooleanToShort mapper) {
+        return present ? OptionalShort.of(mapper.apply(value)) : OptionalShort.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 int 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalInt mapToInt(SingleFunctionBooleanToInt mapper) {
+        return present ? OptionalInt.of(mapper.apply(value)) : OptionalInt.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 long 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalLong mapToLong(SingleFunctionBooleanToLong mapper) {
+        return present ? OptionalLong.of(mapper.apply(value)) : OptionalLong.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 float 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalFloat mapToFloat(SingleFunctionBooleanToFloat mapper) {
+        return present ? OptionalFloat.of(mapper.apply(value)) : OptionalFloat.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 double 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalDouble mapToDouble(SingleFunctionBooleanToDouble mapper) {
+        return present ? OptionalDouble.of(mapper.apply(value)) : OptionalDouble.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为对象，否则返回空实例。函数返回 null 时结果为空实例。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 映射后的实例
+     */
+    public <R> OptionalObject<R> mapToObject(SingleFunctionBooleanToObject<R> mapper) {
+        return present ? OptionalObject.ofNullable(mapper.apply(value)) : OptionalObject.empty();
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回给定的默认值。
+     *
+     * @param other 默认值
+     * @return 包含的值或默认值
+     */
+    public boolean orElse(boolean other) {
+        return present ? value : other;
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回供应者提供的值。
+     *
+     * @param supplier 默认值供应者
+     * @return 包含的值或供应者提供的值
+     */
+    public boolean orElseGet(BooleanSupplier supplier) {
+        return present ? value : supplier.getAsBoolean();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出 {@link NoSuchElementException}。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public boolean orElseThrow() {
+        return getAsBoolean();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出供应者提供的异常。
+     *
+     * @param exceptionSupplier 异常供应者
+     * @param <E>               异常类型
+     * @return 包含的值
+     * @throws E 如果不包含值
+     */
+    public <E extends Throwable> boolean orElseThrow(ObjectSupplier<E> exceptionSupplier) throws E {
+        if (!present) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalBoolean)) {
+            return false;
+        }
+        OptionalBoolean that = (OptionalBoolean) o;
+        return present == that.present && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Boolean.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalBoolean[" + value + "]" : "OptionalBoolean.empty";
+    }
+}
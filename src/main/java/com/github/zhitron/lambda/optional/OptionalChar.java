@@ -0,0 +1,322 @@
+package com.github.zhitron.lambda.optional;
+
+import com.github.zhitron.Actuator;
+import com.github.zhitron.lambda.consumer.SingleConsumerChar;
+import com.github.zhitron.lambda.function.SingleFunctionCharToByte;
+import com.github.zhitron.lambda.function.SingleFunctionCharToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionCharToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionCharToInt;
+import com.github.zhitron.lambda.function.SingleFunctionCharToLong;
+import com.github.zhitron.lambda.function.SingleFunctionCharToObject;
+import com.github.zhitron.lambda.function.SingleFunctionCharToShort;
+import com.github.zhitron.lambda.operator.CharSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateChar;
+import com.github.zhitron.lambda.supplier.CharSupplier;
+import com.github.zhitron.lambda.supplier.ObjectSupplier;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 可能包含一个 char 值的不可变容器，是 {@code Optional<Character>} 的免装箱版本。
+ * <p>
+ * 空实例以及 [0, 127] 区间内的值都是预先创建并缓存的实例，只有缓存之外的值才会分配新的实例。
+ * 该类是值语义的，不应当依赖实例的同一性。
+ *
+ * @author zhitron
+ */
+public final class OptionalChar {
+
+    /**
+     * 空实例。
+     */
+    private static final OptionalChar EMPTY = new OptionalChar(false, '\0');
+
+    /**
+     * 缓存的最小值。
+     */
+    private static final int CACHE_LOW = 0;
+
+    /**
+     * 缓存的最大值。
+     */
+    private static final int CACHE_HIGH = 127;
+
+    /**
+     * [CACHE_LOW, CACHE_HIGH] 区间内的值对应的实例。
+     */
+    private static final OptionalChar[] CACHE = new OptionalChar[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new OptionalChar(true, (char) (i + CACHE_LOW));
+        }
+    }
+
+    /**
+     * 是否包含值。
+     */
+    private final boolean present;
+
+    /**
+     * 包含的值，不包含值时为默认值。
+     */
+    private final char value;
+
+    private OptionalChar(boolean present, char value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 获取空实例。
+     *
+     * @return 空实例
+     */
+    public static OptionalChar empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 获取包含给定值的实例。
+     *
+     * @param value 值
+     * @return 包含给定值的实例
+     */
+    public static OptionalChar of(char value) {
+        return value <= CACHE_HIGH ? CACHE[value] : new OptionalChar(true, value);
+    }
+
+    /**
+     * 将可能为 null 的装箱值转换为实例。
+     *
+     * @param value 装箱值，可以为 null
+     * @return 为 null 时返回空实例，否则返回包含该值的实例
+     */
+    public static OptionalChar ofNullable(Character value) {
+        return value == null ? EMPTY : of(value);
+    }
+
+    /**
+     * 判断是否包含值。
+     *
+     * @return 包含值时返回 true
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * 判断是否为空。
+     *
+     * @return 不包含值时返回 true
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * 获取包含的值。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public char getAsChar() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * 包含值时将其推送给消费者。
+     *
+     * @param action 值的消费者
+     */
+    public void ifPresent(SingleConsumerChar action) {
+        if (present) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * 包含值时将其推送给消费者，否则执行空值动作。
+     *
+     * @param action      值的消费者
+     * @param emptyAction 不包含值时执行的动作
+     */
+    public void ifPresentOrElse(SingleConsumerChar action, Actuator emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.execute();
+        }
+    }
+
+    /**
+     * 包含值且值满足谓词时返回当前实例，否则返回空实例。
+     *
+     * @param predicate 值谓词
+     * @return 过滤后的实例
+     */
+    public OptionalChar filter(SinglePredicateChar predicate) {
+        return present && !predicate.test(value) ? EMPTY : this;
+    }
+
+    /**
+     * 包含值时以运算符映射值，否则返回空实例。
+     *
+     * @param mapper 映射运算符
+     * @return 映射后的实例
+     */
+    public OptionalChar map(CharSingleOperator mapper) {
+        return present ? of(mapper.apply(value)) : EMPTY;
+    }
+
+    /**
+     * 包含值时以谓词的结果作为新值，否则返回空实例。
+     *
+     * @param mapper 映射谓词
+     * @return 映射后的实例
+     */
+    public OptionalBoolean mapToBoolean(SinglePredicateChar mapper) {
+        return present ? OptionalBoolean.of(mapper.test(value)) : OptionalBoolean.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 byte 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalByte mapToByte(SingleFunctionCharToByte mapper) {
+        return present ? OptionalByte.of(mapper.apply(value)) : OptionalByte.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 short 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalShort mapToShort(SingleFunctionCharToShort mapper) {
+        return present ? OptionalShort.of(mapper.apply(value)) : OptionalShort.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 int 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalInt mapToInt(SingleFunctionCharToInt mapper) {
+        return present ? OptionalInt.of(mapper.apply(value)) : OptionalInt.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 long 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalLong mapToLong(SingleFunctionCharToLong mapper) {
+        return present ? OptionalLong.of(mapper.apply(value)) : OptionalLong.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 float 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalFloat mapToFloat(SingleFunctionCharToFloat mapper) {
+        return present ? OptionalFloat.of(mapper.apply(value)) : OptionalFloat.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 double 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalDouble mapToDouble(SingleFunctionCharToDouble mapper) {
+        return present ? OptionalDouble.of(mapper.apply(value)) : OptionalDouble.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为对象，否则返回空实例。函数返回 null 时结果为空实例。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 映射后的实例
+     */
+    public <R> OptionalObject<R> mapToObject(SingleFunctionCharToObject<R> mapper) {
+        return present ? OptionalObject.ofNullable(mapper.apply(value)) : OptionalObject.empty();
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回给定的默认值。
+     *
+     * @param other 默认值
+     * @return 包含的值或默认值
+     */
+    public char orElse(char other) {
+        return present ? value : other;
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回供应者提供的值。
+     *
+     * @param supplier 默认值供应者
+     * @return 包含的值或供应者提供的值
+     */
+    public char orElseGet(CharSupplier supplier) {
+        return present ? value : supplier.getAsChar();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出 {@link NoSuchElementException}。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public char orElseThrow() {
+        return getAsChar();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出供应者提供的异常。
+     *
+     * @param exceptionSupplier 异常供应者
+     * @param <E>               异常类型
+     * @return 包含的值
+     * @throws E 如果不包含值
+     */
+    public <E extends Throwable> char orElseThrow(ObjectSupplier<E> exceptionSupplier) throws E {
+        if (!present) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalChar)) {
+            return false;
+        }
+        OptionalChar that = (OptionalChar) o;
+        return present == that.present && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Character.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalChar[" + value + "]" : "OptionalChar.empty";
+    }
+}
@@ -0,0 +1,320 @@
+package com.github.zhitron.lambda.optional;
+
+import com.github.zhitron.Actuator;
+import com.github.zhitron.lambda.consumer.SingleConsumerDouble;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToByte;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToChar;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToInt;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToLong;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToObject;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToShort;
+import com.github.zhitron.lambda.operator.DoubleSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateDouble;
+import com.github.zhitron.lambda.supplier.DoubleSupplier;
+import com.github.zhitron.lambda.supplier.ObjectSupplier;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 可能包含一个 double 值的不可变容器，是 {@code Optional<Double>} 的免装箱版本。
+ * <p>
+ * 空实例是预先创建的单例，只有有值实例才会分配新的对象。
+ * 该类是值语义的，不应当依赖实例的同一性。
+ *
+ * @author zhitron
+ */
+public final class OptionalDouble {
+
+    /**
+     * 空实例。
+     */
+    private static final OptionalDouble EMPTY = new OptionalDouble(false, 0D);
+
+    /**
+     * 是否包含值。
+     */
+    private final boolean present;
+
+    /**
+     * 包含的值，不包含值时为默认值。
+     */
+    private final double value;
+
+    private OptionalDouble(boolean present, double value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 获取空实例。
+     *
+     * @return 空实例
+     */
+    public static OptionalDouble empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 获取包含给定值的实例。
+     *
+     * @param value 值
+     * @return 包含给定值的实例
+     */
+    public static OptionalDouble of(double value) {
+        return new OptionalDouble(true, value);
+    }
+
+    /**
+     * 将可能为 null 的装箱值转换为实例。
+     *
+     * @param value 装箱值，可以为 null
+     * @return 为 null 时返回空实例，否则返回包含该值的实例
+     */
+    public static OptionalDouble ofNullable(Double value) {
+        return value == null ? EMPTY : of(value);
+    }
+
+    /**
+     * 由 JDK 的 {@link OptionalDouble} 转换。
+     *
+     * @param optional JDK 的可选值
+     * @return 对应的实例
+     */
+    public static OptionalDouble from(java.util.OptionalDouble optional) {
+        return optional.isPresent() ? of(optional.getAsDouble()) : EMPTY;
+    }
+
+    /**
+     * 判断是否包含值。
+     *
+     * @return 包含值时返回 true
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * 判断是否为空。
+     *
+     * @return 不包含值时返回 true
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * 获取包含的值。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public double getAsDouble() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * 包含值时将其推送给消费者。
+     *
+     * @param action 值的消费者
+     */
+    public void ifPresent(SingleConsumerDouble action) {
+        if (present) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * 包含值时将其推送给消费者，否则执行空值动作。
+     *
+     * @param action      值的消费者
+     * @param emptyAction 不包含值时执行的动作
+     */
+    public void ifPresentOrElse(SingleConsumerDouble action, Actuator emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.execute();
+        }
+    }
+
+    /**
+     * 包含值且值满足谓词时返回当前实例，否则返回空实例。
+     *
+     * @param predicate 值谓词
+     * @return 过滤后的实例
+     */
+    public OptionalDouble filter(SinglePredicateDouble predicate) {
+        return present && !predicate.test(value) ? EMPTY : this;
+    }
+
+    /**
+     * 包含值时以运算符映射值，否则返回空实例。
+     *
+     * @param mapper 映射运算符
+     * @return 映射后的实例
+     */
+    public OptionalDouble map(DoubleSingleOperator mapper) {
+        return present ? of(mapper.apply(value)) : EMPTY;
+    }
+
+    /**
+     * 包含值时以谓词的结果作为新值，否则返回空实例。
+     *
+     * @param mapper 映射谓词
+     * @return 映射后的实例
+     */
+    public OptionalBoolean mapToBoolean(SinglePredicateDouble mapper) {
+        return present ? OptionalBoolean.of(mapper.test(value)) : OptionalBoolean.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 byte 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalByte mapToByte(SingleFunctionDoubleToByte mapper) {
+        return present ? OptionalByte.of(mapper.apply(value)) : OptionalByte.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 char 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalChar mapToChar(SingleFunctionDoubleToChar mapper) {
+        return present ? OptionalChar.of(mapper.apply(value)) : OptionalChar.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 short 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalShort mapToShort(SingleFunctionDoubleToShort mapper) {
+        return present ? OptionalShort.of(mapper.apply(value)) : OptionalShort.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 int 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalInt mapToInt(SingleFunctionDoubleToInt mapper) {
+        return present ? OptionalInt.of(mapper.apply(value)) : OptionalInt.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 long 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalLong mapToLong(SingleFunctionDoubleToLong mapper) {
+        return present ? OptionalLong.of(mapper.apply(value)) : OptionalLong.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 float 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalFloat mapToFloat(SingleFunctionDoubleToFloat mapper) {
+        return present ? OptionalFloat.of(mapper.apply(value)) : OptionalFloat.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为对象，否则返回空实例。函数返回 null 时结果为空实例。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 映射后的实例
+     */
+    public <R> OptionalObject<R> mapToObject(SingleFunctionDoubleToObject<R> mapper) {
+        return present ? OptionalObject.ofNullable(mapper.apply(value)) : OptionalObject.empty();
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回给定的默认值。
+     *
+     * @param other 默认值
+     * @return 包含的值或默认值
+     */
+    public double orElse(double other) {
+        return present ? value : other;
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回供应者提供的值。
+     *
+     * @param supplier 默认值供应者
+     * @return 包含的值或供应者提供的值
+     */
+    public double orElseGet(DoubleSupplier supplier) {
+        return present ? value : supplier.getAsDouble();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出 {@link NoSuchElementException}。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public double orElseThrow() {
+        return getAsDouble();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出供应者提供的异常。
+     *
+     * @param exceptionSupplier 异常供应者
+     * @param <E>               异常类型
+     * @return 包含的值
+     * @throws E 如果不包含值
+     */
+    public <E extends Throwable> double orElseThrow(ObjectSupplier<E> exceptionSupplier) throws E {
+        if (!present) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    /**
+     * 转换为 JDK 的 {@link java.util.OptionalDouble}。
+     *
+     * @return JDK 的可选值
+     */
+    public java.util.OptionalDouble toOptional() {
+        return present ? java.util.OptionalDouble.of(value) : java.util.OptionalDouble.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalDouble)) {
+            return false;
+        }
+        OptionalDouble that = (OptionalDouble) o;
+        return present == that.present && Double.compare(value, that.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Double.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalDouble[" + value + "]" : "OptionalDouble.empty";
+    }
+}
@@ -0,0 +1,301 @@
+package com.github.zhitron.lambda.optional;
+
+import com.github.zhitron.Actuator;
+import com.github.zhitron.lambda.consumer.SingleConsumerFloat;
+import com.github.zhitron.lambda.function.SingleFunctionFloatToByte;
+import com.github.zhitron.lambda.function.SingleFunctionFloatToChar;
+import com.github.zhitron.lambda.function.SingleFunctionFloatToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionFloatToInt;
+import com.github.zhitron.lambda.function.SingleFunctionFloatToLong;
+import com.github.zhitron.lambda.function.SingleFunctionFloatToObject;
+import com.github.zhitron.lambda.function.SingleFunctionFloatToShort;
+import com.github.zhitron.lambda.operator.FloatSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateFloat;
+import com.github.zhitron.lambda.supplier.FloatSupplier;
+import com.github.zhitron.lambda.supplier.ObjectSupplier;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 可能包含一个 float 值的不可变容器，是 {@code Optional<Float>} 的免装箱版本。
+ * <p>
+ * 空实例是预先创建的单例，只有有值实例才会分配新的对象。
+ * 该类是值语义的，不应当依赖实例的同一性。
+ *
+ * @author zhitron
+ */
+public final class OptionalFloat {
+
+    /**
+     * 空实例。
+     */
+    private static final OptionalFloat EMPTY = new OptionalFloat(false, 0F);
+
+    /**
+     * 是否包含值。
+     */
+    private final boolean present;
+
+    /**
+     * 包含的值，不包含值时为默认值。
+     */
+    private final float value;
+
+    private OptionalFloat(boolean present, float value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 获取空实例。
+     *
+     * @return 空实例
+     */
+    public static OptionalFloat empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 获取包含给定值的实例。
+     *
+     * @param value 值
+     * @return 包含给定值的实例
+     */
+    public static OptionalFloat of(float value) {
+        return new OptionalFloat(true, value);
+    }
+
+    /**
+     * 将可能为 null 的装箱值转换为实例。
+     *
+     * @param value 装箱值，可以为 null
+     * @return 为 null 时返回空实例，否则返回包含该值的实例
+     */
+    public static OptionalFloat ofNullable(Float value) {
+        return value == null ? EMPTY : of(value);
+    }
+
+    /**
+     * 判断是否包含值。
+     *
+     * @return 包含值时返回 true
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * 判断是否为空。
+     *
+     * @return 不包含值时返回 true
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * 获取包含的值。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public float getAsFloat() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * 包含值时将其推送给消费者。
+     *
+     * @param action 值的消费者
+     */
+    public void ifPresent(SingleConsumerFloat action) {
+        if (present) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * 包含值时将其推送给消费者，否则执行空值动作。
+     *
+     * @param action      值的消费者
+     * @param emptyAction 不包含值时执行的动作
+     */
+    public void ifPresentOrElse(SingleConsumerFloat action, Actuator emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.execute();
+        }
+    }
+
+    /**
+     * 包含值且值满足谓词时返回当前实例，否则返回空实例。
+     *
+     * @param predicate 值谓词
+     * @return 过滤后的实例
+     */
+    public OptionalFloat filter(SinglePredicateFloat predicate) {
+        return present && !predicate.test(value) ? EMPTY : this;
+    }
+
+    /**
+     * 包含值时以运算符映射值，否则返回空实例。
+     *
+     * @param mapper 映射运算符
+     * @return 映射后的实例
+     */
+    public OptionalFloat map(FloatSingleOperator mapper) {
+        return present ? of(mapper.apply(value)) : EMPTY;
+    }
+
+    /**
+     * 包含值时以谓词的结果作为新值，否则返回空实例。
+     *
+     * @param mapper 映射谓词
+     * @return 映射后的实例
+     */
+    public OptionalBoolean mapToBoolean(SinglePredicateFloat mapper) {
+        return present ? OptionalBoolean.of(mapper.test(value)) : OptionalBoolean.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 byte 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalByte mapToByte(SingleFunctionFloatToByte mapper) {
+        return present ? OptionalByte.of(mapper.apply(value)) : OptionalByte.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 char 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalChar mapToChar(SingleFunctionFloatToChar mapper) {
+        return present ? OptionalChar.of(mapper.apply(value)) : OptionalChar.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 short 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalShort mapToShort(SingleFunctionFloatToShort mapper) {
+        return present ? OptionalShort.of(mapper.apply(value)) : OptionalShort.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 int 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalInt mapToInt(SingleFunctionFloatToInt mapper) {
+        return present ? OptionalInt.of(mapper.apply(value)) : OptionalInt.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 long 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalLong mapToLong(SingleFunctionFloatToLong mapper) {
+        return present ? OptionalLong.of(mapper.apply(value)) : OptionalLong.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 double 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalDouble mapToDouble(SingleFunctionFloatToDouble mapper) {
+        return present ? OptionalDouble.of(mapper.apply(value)) : OptionalDouble.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为对象，否则返回空实例。函数返回 null 时结果为空实例。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 映射后的实例
+     */
+    public <R> OptionalObject<R> mapToObject(SingleFunctionFloatToObject<R> mapper) {
+        return present ? OptionalObject.ofNullable(mapper.apply(value)) : OptionalObject.empty();
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回给定的默认值。
+     *
+     * @param other 默认值
+     * @return 包含的值或默认值
+     */
+    public float orElse(float other) {
+        return present ? value : other;
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回供应者提供的值。
+     *
+     * @param supplier 默认值供应者
+     * @return 包含的值或供应者提供的值
+     */
+    public float orElseGet(FloatSupplier supplier) {
+        return present ? value : supplier.getAsFloat();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出 {@link NoSuchElementException}。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public float orElseThrow() {
+        return getAsFloat();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出供应者提供的异常。
+     *
+     * @param exceptionSupplier 异常供应者
+     * @param <E>               异常类型
+     * @return 包含的值
+     * @throws E 如果不包含值
+     */
+    public <E extends Throwable> float orElseThrow(ObjectSupplier<E> exceptionSupplier) throws E {
+        if (!present) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalFloat)) {
+            return false;
+        }
+        OptionalFloat that = (OptionalFloat) o;
+        return present == that.present && Float.compare(value, that.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Float.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalFloat[" + value + "]" : "OptionalFloat.empty";
+    }
+}
@@ -0,0 +1,341 @@
+package com.github.zhitron.lambda.optional;
+
+import com.github.zhitron.Actuator;
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+import com.github.zhitron.lambda.function.SingleFunctionIntToByte;
+import com.github.zhitron.lambda.function.SingleFunctionIntToChar;
+import com.github.zhitron.lambda.function.SingleFunctionIntToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionIntToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionIntToLong;
+import com.github.zhitron.lambda.function.SingleFunctionIntToObject;
+import com.github.zhitron.lambda.function.SingleFunctionIntToShort;
+import com.github.zhitron.lambda.operator.IntSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateInt;
+import com.github.zhitron.lambda.supplier.IntSupplier;
+import com.github.zhitron.lambda.supplier.ObjectSupplier;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 可能包含一个 int 值的不可变容器，是 {@code Optional<Integer>} 的免装箱版本。
+ * <p>
+ * 空实例以及 [-128, 127] 区间内的值都是预先创建并缓存的实例，只有缓存之外的值才会分配新的实例。
+ * 该类是值语义的，不应当依赖实例的同一性。
+ *
+ * @author zhitron
+ */
+public final class OptionalInt {
+
+    /**
+     * 空实例。
+     */
+    private static final OptionalInt EMPTY = new OptionalInt(false, 0);
+
+    /**
+     * 缓存的最小值。
+     */
+    private static final int CACHE_LOW = -128;
+
+    /**
+     * 缓存的最大值。
+     */
+    private static final int CACHE_HIGH = 127;
+
+    /**
+     * [CACHE_LOW, CACHE_HIGH] 区间内的值对应的实例。
+     */
+    private static final OptionalInt[] CACHE = new OptionalInt[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new OptionalInt(true, i + CACHE_LOW);
+        }
+    }
+
+    /**
+     * 是否包含值。
+     */
+    private final boolean present;
+
+    /**
+     * 包含的值，不包含值时为默认值。
+     */
+    private final int value;
+
+    private OptionalInt(boolean present, int value) {
+        this.present = present;
+        this.value = value;
+    }
+
+    /**
+     * 获取空实例。
+     *
+     * @return 空实例
+     */
+    public static OptionalInt empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 获取包含给定值的实例。
+     *
+     * @param value 值
+     * @return 包含给定值的实例
+     */
+    public static OptionalInt of(int value) {
+        return value >= CACHE_LOW && value <= CACHE_HIGH ? CACHE[value - CACHE_LOW] : new OptionalInt(true, value);
+    }
+
+    /**
+     * 将可能为 null 的装箱值转换为实例。
+     *
+     * @param value 装箱值，可以为 null
+     * @return 为 null 时返回空实例，否则返回包含该值的实例
+     */
+    public static OptionalInt ofNullable(Integer value) {
+        return value == null ? EMPTY : of(value);
+    }
+
+    /**
+     * 由 JDK 的 {@link OptionalInt} 转换。
+     *
+     * @param optional JDK 的可选值
+     * @return 对应的实例
+     */
+    public static OptionalInt from(java.util.OptionalInt optional) {
+        return optional.isPresent() ? of(optional.getAsInt()) : EMPTY;
+    }
+
+    /**
+     * 判断是否包含值。
+     *
+     * @return 包含值时返回 true
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * 判断是否为空。
+     *
+     * @return 不包含值时返回 true
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * 获取包含的值。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public int getAsInt() {
+        if (!present) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * 包含值时将其推送给消费者。
+     *
+     * @param action 值的消费者
+     */
+    public void ifPresent(SingleConsumerInt action) {
+        if (present) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * 包含值时将其推送给消费者，否则执行空值动作。
+     *
+     * @param action      值的消费者
+     * @param emptyAction 不包含值时执行的动作
+     */
+    public void ifPresentOrElse(SingleConsumerInt action, Actuator emptyAction) {
+        if (present) {
+            action.accept(value);
+        } else {
+            emptyAction.execute();
+        }
+    }
+
+    /**
+     * 包含值且值满足谓词时返回当前实例，否则返回空实例。
+     *
+     * @param predicate 值谓词
+     * @return 过滤后的实例
+     */
+    public OptionalInt filter(SinglePredicateInt predicate) {
+        return present && !predicate.test(value) ? EMPTY : this;
+    }
+
+    /**
+     * 包含值时以运算符映射值，否则返回空实例。
+     *
+     * @param mapper 映射运算符
+     * @return 映射后的实例
+     */
+    public OptionalInt map(IntSingleOperator mapper) {
+        return present ? of(mapper.apply(value)) : EMPTY;
+    }
+
+    /**
+     * 包含值时以谓词的结果作为新值，否则返回空实例。
+     *
+     * @param mapper 映射谓词
+     * @return 映射后的实例
+     */
+    public OptionalBoolean mapToBoolean(SinglePredicateInt mapper) {
+        return present ? OptionalBoolean.of(mapper.test(value)) : OptionalBoolean.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 byte 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalByte mapToByte(SingleFunctionIntToByte mapper) {
+        return present ? OptionalByte.of(mapper.apply(value)) : OptionalByte.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 char 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalChar mapToChar(SingleFunctionIntToChar mapper) {
+        return present ? OptionalChar.of(mapper.apply(value)) : OptionalChar.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 short 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalShort mapToShort(SingleFunctionIntToShort mapper) {
+        return present ? OptionalShort.of(mapper.apply(value)) : OptionalShort.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 long 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalLong mapToLong(SingleFunctionIntToLong mapper) {
+        return present ? OptionalLong.of(mapper.apply(value)) : OptionalLong.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 float 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalFloat mapToFloat(SingleFunctionIntToFloat mapper) {
+        return present ? OptionalFloat.of(mapper.apply(value)) : OptionalFloat.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 double 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalDouble mapToDouble(SingleFunctionIntToDouble mapper) {
+        return present ? OptionalDouble.of(mapper.apply(value)) : OptionalDouble.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为对象，否则返回空实例。函数返回 null 时结果为空实例。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 映射后的实例
+     */
+    public <R> OptionalObject<R> mapToObject(SingleFunctionIntToObject<R> mapper) {
+        return present ? OptionalObject.ofNullable(mapper.apply(value)) : OptionalObject.empty();
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回给定的默认值。
+     *
+     * @param other 默认值
+     * @return 包含的值或默认值
+     */
+    public int orElse(int other) {
+        return present ? value : other;
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回供应者提供的值。
+     *
+     * @param supplier 默认值供应者
+     * @return 包含的值或供应者提供的值
+     */
+    public int orElseGet(IntSupplier supplier) {
+        return present ? value : supplier.getAsInt();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出 {@link NoSuchElementException}。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public int orElseThrow() {
+        return getAsInt();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出供应者提供的异常。
+     *
+     * @param exceptionSupplier 异常供应者
+     * @param <E>               异常类型
+     * @return 包含的值
+     * @throws E 如果不包含值
+     */
+    public <E extends Throwable> int orElseThrow(ObjectSupplier<E> exceptionSupplier) throws E {
+        if (!present) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    /**
+     * 转换为 JDK 的 {@link java.util.OptionalInt}。
+     *
+     * @return JDK 的可选值
+     */
+    public java.util.OptionalInt toOptional() {
+        return present ? java.util.OptionalInt.of(value) : java.util.OptionalInt.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalInt)) {
+            return false;
+        }
+        OptionalInt that = (OptionalInt) o;
+        return present == that.present && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Integer.hashCode(value) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return present ? "OptionalInt[" + value + "]" : "OptionalInt.empty";
+    }
+}
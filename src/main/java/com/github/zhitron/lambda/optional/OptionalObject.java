@@ -0,0 +1,333 @@
+package com.github.zhitron.lambda.optional;
+
+import com.github.zhitron.Actuator;
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToByte;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToChar;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToInt;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToLong;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObject;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToShort;
+import com.github.zhitron.lambda.predicate.SinglePredicateObject;
+import com.github.zhitron.lambda.supplier.ObjectSupplier;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 可能包含一个非 null 对象的不可变容器，与 {@code Optional} 对应，映射与回调直接使用本库的函数式接口，
+ * 并可以免装箱地映射为其它原始类型的可选值。
+ * <p>
+ * 空实例是预先创建的单例，只有有值实例才会分配新的对象。
+ * 该类是值语义的，不应当依赖实例的同一性。
+ *
+ * @param <T> 值类型
+ * @author zhitron
+ */
+public final class OptionalObject<T> {
+
+    /**
+     * 空实例。
+     */
+    private static final OptionalObject<?> EMPTY = new OptionalObject<>(null);
+
+    /**
+     * 包含的值，不包含值时为 null。
+     */
+    private final T value;
+
+    private OptionalObject(T value) {
+        this.value = value;
+    }
+
+    /**
+     * 获取空实例。
+     *
+     * @param <T> 值类型
+     * @return 空实例
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> OptionalObject<T> empty() {
+        return (OptionalObject<T>) EMPTY;
+    }
+
+    /**
+     * 获取包含给定非 null 值的实例。
+     *
+     * @param value 值
+     * @param <T>   值类型
+     * @return 包含给定值的实例
+     * @throws NullPointerException 如果值为 null
+     */
+    public static <T> OptionalObject<T> of(T value) {
+        return new OptionalObject<>(Objects.requireNonNull(value));
+    }
+
+    /**
+     * 将可能为 null 的值转换为实例。
+     *
+     * @param value 值，可以为 null
+     * @param <T>   值类型
+     * @return 为 null 时返回空实例，否则返回包含该值的实例
+     */
+    public static <T> OptionalObject<T> ofNullable(T value) {
+        return value == null ? empty() : new OptionalObject<>(value);
+    }
+
+    /**
+     * 由 JDK 的 {@link Optional} 转换。
+     *
+     * @param optional JDK 的可选值
+     * @param <T>      值类型
+     * @return 对应的实例
+     */
+    public static <T> OptionalObject<T> from(Optional<T> optional) {
+        return ofNullable(optional.orElse(null));
+    }
+
+    /**
+     * 判断是否包含值。
+     *
+     * @return 包含值时返回 true
+     */
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    /**
+     * 判断是否为空。
+     *
+     * @return 不包含值时返回 true
+     */
+    public boolean isEmpty() {
+        return value == null;
+    }
+
+    /**
+     * 获取包含的值。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public T get() {
+        if (value == null) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * 包含值时将其推送给消费者。
+     *
+     * @param action 值的消费者
+     */
+    public void ifPresent(SingleConsumerObject<T> action) {
+        if (value != null) {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * 包含值时将其推送给消费者，否则执行空值动作。
+     *
+     * @param action      值的消费者
+     * @param emptyAction 不包含值时执行的动作
+     */
+    public void ifPresentOrElse(SingleConsumerObject<T> action, Actuator emptyAction) {
+        if (value != null) {
+            action.accept(value);
+        } else {
+            emptyAction.execute();
+        }
+    }
+
+    /**
+     * 包含值且值满足谓词时返回当前实例，否则返回空实例。
+     *
+     * @param predicate 值谓词
+     * @return 过滤后的实例
+     */
+    public OptionalObject<T> filter(SinglePredicateObject<T> predicate) {
+        return value != null && !predicate.test(value) ? empty() : this;
+    }
+
+    /**
+     * 包含值时以函数映射值，否则返回空实例。函数返回 null 时结果为空实例。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 映射后的实例
+     */
+    public <R> OptionalObject<R> map(SingleFunctionObjectToObject<T, R> mapper) {
+        return value != null ? ofNullable(mapper.apply(value)) : empty();
+    }
+
+    /**
+     * 包含值时以函数映射为另一个可选值，否则返回空实例。
+     *
+     * @param mapper 映射函数，不能返回 null
+     * @param <R>    映射结果类型
+     * @return 映射后的实例
+     */
+    public <R> OptionalObject<R> flatMap(SingleFunctionObjectToObject<T, OptionalObject<R>> mapper) {
+        return value != null ? Objects.requireNonNull(mapper.apply(value)) : empty();
+    }
+
+    /**
+     * 包含值时以谓词的结果作为新值，否则返回空实例。
+     *
+     * @param mapper 映射谓词
+     * @return 映射后的实例
+     */
+    public OptionalBoolean mapToBoolean(SinglePredicateObject<T> mapper) {
+        return value != null ? OptionalBoolean.of(mapper.test(value)) : OptionalBoolean.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 byte 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalByte mapToByte(SingleFunctionObjectToByte<T> mapper) {
+        return value != null ? OptionalByte.of(mapper.apply(value)) : OptionalByte.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 char 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalChar mapToChar(SingleFunctionObjectToChar<T> mapper) {
+        return value != null ? OptionalChar.of(mapper.apply(value)) : OptionalChar.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 short 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalShort mapToShort(SingleFunctionObjectToShort<T> mapper) {
+        return value != null ? OptionalShort.of(mapper.apply(value)) : OptionalShort.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 int 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalInt mapToInt(SingleFunctionObjectToInt<T> mapper) {
+        return value != null ? OptionalInt.of(mapper.apply(value)) : OptionalInt.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 long 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalLong mapToLong(SingleFunctionObjectToLong<T> mapper) {
+        return value != null ? OptionalLong.of(mapper.apply(value)) : OptionalLong.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 float 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalFloat mapToFloat(SingleFunctionObjectToFloat<T> mapper) {
+        return value != null ? OptionalFloat.of(mapper.apply(value)) : OptionalFloat.empty();
+    }
+
+    /**
+     * 包含值时以函数映射为 double 值，否则返回空实例。
+     *
+     * @param mapper 映射函数
+     * @return 映射后的实例
+     */
+    public OptionalDouble mapToDouble(SingleFunctionObjectToDouble<T> mapper) {
+        return value != null ? OptionalDouble.of(mapper.apply(value)) : OptionalDouble.empty();
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回给定的默认值。
+     *
+     * @param other 默认值
+     * @return 包含的值或默认值
+     */
+    public T orElse(T other) {
+        return value != null ? value : other;
+    }
+
+    /**
+     * 获取包含的值，不包含值时返回供应者提供的值。
+     *
+     * @param supplier 默认值供应者
+     * @return 包含的值或供应者提供的值
+     */
+    public T orElseGet(ObjectSupplier<T> supplier) {
+        return value != null ? value : supplier.get();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出 {@link NoSuchElementException}。
+     *
+     * @return 包含的值
+     * @throws NoSuchElementException 如果不包含值
+     */
+    public T orElseThrow() {
+        return get();
+    }
+
+    /**
+     * 获取包含的值，不包含值时抛出供应者提供的异常。
+     *
+     * @param exceptionSupplier 异常供应者
+     * @param <E>               异常类型
+     * @return 包含的值
+     * @throws E 如果不包含值
+     */
+    public <E extends Throwable> T orElseThrow(ObjectSupplier<E> exceptionSupplier) throws E {
+        if (value == null) {
+            throw exceptionSupplier.get();
+        }
+        return value;
+    }
+
+    /**
+     * 转换为 JDK 的 {@link Optional}。
+     *
+     * @return JDK 的可选值
+     */
+    public Optional<T> toOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OptionalObject)) {
+            return false;
+        }
+        return Objects.equals(value, ((OptionalObject<?>) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return value != null ? "OptionalObject[" + value + "]" : "OptionalObject.empty";
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.zhitron.lambda.pipeline;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerDouble;
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+import com.github.zhitron.lambda.consumer.SingleConsumerLong;
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+
+/**
+ * 已编译的流水线，所有阶段已经融合并链接为单个头部消费者。
+ * <p>
+ * 执行时只有一个遍历批次的循环，每个元素直接推入头部消费者，不再创建任何阶段对象，
+ * 也没有 {@code java.util.stream} 中 begin/end/cancellationRequested 之类的协议开销，
+ * 因此同一个实例可以反复用于任意多个批次。实例本身不持有可变状态，是否可以并发执行取决于终端消费者。
+ *
+ * @param <S> 数据源批次的类型
+ * @author zhitron
+ */
+public abstract class CompiledPipeline<S> {
+
+    CompiledPipeline() {
+    }
+
+    /**
+     * 将整个批次推入流水线。
+     *
+     * @param batch 数据批次
+     */
+    public final void run(S batch) {
+        run(batch, 0, length(batch));
+    }
+
+    /**
+     * 将批次的 [fromIndex, toIndex) 区间推入流水线。
+     *
+     * @param batch     数据批次
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     */
+    public final void run(S batch, int fromIndex, int toIndex) {
+        checkRange(length(batch), fromIndex, toIndex);
+        push(batch, fromIndex, toIndex);
+    }
+
+    /**
+     * 获取批次长度。
+     *
+     * @param batch 数据批次
+     * @return 批次长度
+     */
+    abstract int length(S batch);
+
+    /**
+     * 将已经检查过的区间推入头部消费者。
+     *
+     * @param batch     数据批次
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     */
+    abstract void push(S batch, int fromIndex, int toIndex);
+
+    private static void checkRange(int arrayLength, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以 int 数组为数据源的已编译流水线。
+     */
+    static final class OfInt extends CompiledPipeline<int[]> {
+        private final SingleConsumerInt head;
+
+        OfInt(SingleConsumerInt head) {
+            this.head = head;
+        }
+
+        @Override
+        int length(int[] batch) {
+            return batch.length;
+        }
+
+        @Override
+        void push(int[] batch, int fromIndex, int toIndex) {
+            SingleConsumerInt head = this.head;
+            for (int i = fromIndex; i < toIndex; i++) {
+                head.accept(batch[i]);
+            }
+        }
+    }
+
+    /**
+     * 以 long 数组为数据源的已编译流水线。
+     */
+    static final class OfLong extends CompiledPipeline<long[]> {
+        private final SingleConsumerLong head;
+
+        OfLong(SingleConsumerLong head) {
+            this.head = head;
+        }
+
+        @Override
+        int length(long[] batch) {
+            return batch.length;
+        }
+
+        @Override
+        void push(long[] batch, int fromIndex, int toIndex) {
+            SingleConsumerLong head = this.head;
+            for (int i = fromIndex; i < toIndex; i++) {
+                head.accept(batch[i]);
+            }
+        }
+    }
+
+    /**
+     * 以 double 数组为数据源的已编译流水线。
+     */
+    static final class OfDouble extends CompiledPipeline<double[]> {
+        private final SingleConsumerDouble head;
+
+        OfDouble(SingleConsumerDouble head) {
+            this.head = head;
+        }
+
+        @Override
+        int length(double[] batch) {
+            return batch.length;
+        }
+
+        @Override
+        void push(double[] batch, int fromIndex, int toIndex) {
+            SingleConsumerDouble head = this.head;
+            for (int i = fromIndex; i < toIndex; i++) {
+                head.accept(batch[i]);
+            }
+        }
+    }
+
+    /**
+     * 以对象数组为数据源的已编译流水线。
+     *
+     * @param <T> 元素类型
+     */
+    static final class OfObject<T> extends CompiledPipeline<T[]> {
+        private final SingleConsumerObject<Object> head;
+
+        OfObject(SingleConsumerObject<Object> head) {
+            this.head = head;
+        }
+
+        @Override
+        int length(T[] batch) {
+            return batch.length;
+        }
+
+        @Override
+        void push(T[] batch, int fromIndex, int toIndex) {
+            SingleConsumerObject<Object> head = this.head;
+            for (int i = fromIndex; i < toIndex; i++) {
+                head.accept(batch[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.zhitron.lambda.pipeline;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerDouble;
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+import com.github.zhitron.lambda.consumer.SingleConsumerLong;
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToInt;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToLong;
+import com.github.zhitron.lambda.function.SingleFunctionDoubleToObject;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObject;
+import com.github.zhitron.lambda.operator.DoubleSingleOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateDouble;
+
+/**
+ * 输出元素为 {@code double} 的推送式流水线阶段。
+ * <p>
+ * 阶段对象不可变，每次追加操作都返回新的阶段。相邻的映射会被组合为一个函数，相邻的过滤会被组合为一个谓词，
+ * 同一元素类型内尚未链接的映射与过滤会和随后的类型转换或终端消费者融合为一个消费者，
+ * 因此每个元素类型在最终的调用链中只占一层。
+ *
+ * @param <S> 数据源批次的类型
+ * @author zhitron
+ */
+public final class DoubleStage<S> {
+
+    /**
+     * 流水线的数据源。
+     */
+    private final Source<S> source;
+
+    /**
+     * 给定当前阶段入口处的消费者，向上链接出数据源头部消费者的函数。
+     */
+    private final SingleFunctionObjectToObject<SingleConsumerDouble, Object> linker;
+
+    /**
+     * 尚未链接的映射运算符，为 null 表示不映射。
+     */
+    private final DoubleSingleOperator mapper;
+
+    /**
+     * 在映射之后应用的尚未链接的过滤谓词，为 null 表示不过滤。
+     */
+    private final SinglePredicateDouble predicate;
+
+    DoubleStage(Source<S> source, SingleFunctionObjectToObject<SingleConsumerDouble, Object> linker, DoubleSingleOperator mapper, SinglePredicateDouble predicate) {
+        this.source = source;
+        this.linker = linker;
+        this.mapper = mapper;
+        this.predicate = predicate;
+    }
+
+    /**
+     * 追加映射阶段，紧邻的映射会被组合为一个运算符。
+     *
+     * @param mapper 映射运算符
+     * @return 新的阶段
+     */
+    public DoubleStage<S> map(DoubleSingleOperator mapper) {
+        if (predicate != null) {
+            return new DoubleStage<>(source, this::link, mapper, null);
+        }
+        DoubleSingleOperator current = this.mapper;
+        return new DoubleStage<>(source, linker, current == null ? mapper : v -> mapper.apply(current.apply(v)), null);
+    }
+
+    /**
+     * 追加过滤阶段，紧邻的过滤会被组合为一个短路与谓词。
+     *
+     * @param predicate 过滤谓词
+     * @return 新的阶段
+     */
+    public DoubleStage<S> filter(SinglePredicateDouble predicate) {
+        SinglePredicateDouble current = this.predicate;
+        return new DoubleStage<>(source, linker, mapper, current == null ? predicate : v -> current.test(v) && predicate.test(v));
+    }
+
+    /**
+     * 追加转换为 {@code int} 元素的映射阶段。
+     *
+     * @param mapper 映射函数
+     * @return 新的阶段
+     */
+    public IntStage<S> mapToInt(SingleFunctionDoubleToInt mapper) {
+        return new IntStage<>(source, down -> linkToInt(mapper, down), null, null);
+    }
+
+    /**
+     * 追加转换为 {@code long} 元素的映射阶段。
+     *
+     * @param mapper 映射函数
+     * @return 新的阶段
+     */
+    public LongStage<S> mapToLong(SingleFunctionDoubleToLong mapper) {
+        return new LongStage<>(source, down -> linkToLong(mapper, down), null, null);
+    }
+
+    /**
+     * 追加转换为对象元素的映射阶段。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 新的阶段
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ObjectStage<S, R> mapToObject(SingleFunctionDoubleToObject<R> mapper) {
+        return new ObjectStage<>(source, down -> linkTo(mapper, (SingleConsumerObject<R>) (SingleConsumerObject<?>) down), null, null);
+    }
+
+    /**
+     * 以给定消费者结束流水线。
+     *
+     * @param consumer 终端消费者
+     * @return 可编译执行的流水线
+     */
+    public Pipeline<S> sink(SingleConsumerDouble consumer) {
+        return new Pipeline<>(source, () -> link(consumer));
+    }
+
+    /**
+     * 将尚未链接的映射与过滤融合进一个消费者，并向上链接到数据源。
+     *
+     * @param down 下游消费者
+     * @return 数据源头部消费者
+     */
+    private Object link(SingleConsumerDouble down) {
+        DoubleSingleOperator m = mapper;
+        SinglePredicateDouble p = predicate;
+        SingleConsumerDouble head;
+        if (m == null) {
+            head = p == null ? down : v -> {
+                if (p.test(v)) {
+                    down.accept(v);
+                }
+            };
+        } else {
+            head = p == null ? v -> down.accept(m.apply(v)) : v -> {
+                double x = m.apply(v);
+                if (p.test(x)) {
+                    down.accept(x);
+                }
+            };
+        }
+        return linker.apply(head);
+    }
+
+    /**
+     * 将尚未链接的映射、过滤与类型转换融合进一个消费者，并向上链接到数据源。
+     *
+     * @param f    类型转换函数
+     * @param down 下游消费者
+     * @return 数据源头部消费者
+     */
+    private Object linkToInt(SingleFunctionDoubleToInt f, SingleConsumerInt down) {
+        DoubleSingleOperator m = mapper;
+        SinglePredicateDouble p = predicate;
+        SingleConsumerDouble head;
+        if (m == null) {
+            head = p == null ? v -> down.accept(f.apply(v)) : v -> {
+                if (p.test(v)) {
+                    down.accept(f.apply(v));
+                }
+            };
+        } else {
+            head = p == null ? v -> down.accept(f.apply(m.apply(v))) : v -> {
+                double x = m.apply(v);
+                if (p.test(x)) {
+                    down.accept(f.apply(x));
+                }
+            };
+        }
+        return linker.apply(head);
+    }
+
+    /**
+     * 将尚未链接的映射、过滤与类型转换融合进一个消费者，并向上链接到数据源。
+     *
+     * @param f    类型转换函数
+     * @param down 下游消费者
+     * @return 数据源头部消费者
+     */
+    private Object linkToLong(SingleFunctionDoubleToLong f, SingleConsumerLong down) {
+        DoubleSingleOperator m = mapper;
+        SinglePredicateDouble p = predicate;
+        SingleConsumerDouble head;
+        if (m == null) {
+            head = p == null ? v -> down.accept(f.apply(v)) : v -> {
+                if (p.test(v)) {
+                    down.accept(f.apply(v));
+                }
+            };
+        } else {
+            head = p == null ? v -> down.accept(f.apply(m.apply(v))) : v -> {
+                double x = m.apply(v);
+                if (p.test(x)) {
+                    down.accept(f.apply(x));
+                }
+            };
+        }
+        return linker.apply(head);
+    }
+
+    /**
+     * 将尚未链接的映射、过滤与类型转换融合进一个消费者，并向上链接到数据源。
+     *
+     * @param f    类型转换函数
+     * @param down 下游消费者
+     * @param <R>  转换结果类型
+     * @return 数据源头部消费者
+     */
+    private <R> Object linkTo(SingleFunctionDoubleToObject<R> f, SingleConsumerObject<R> down) {
+        DoubleSingleOperator m = mapper;
+        SinglePredicateDouble p = predicate;
+        SingleConsumerDouble head;
+        if (m == null) {
+            head = p == null ? v -> down.accept(f.apply(v)) : v -> {
+                if (p.test(v)) {
+                    down.accept(f.apply(v));
+                }
+            };
+        } else {
+            head = p == null ? v -> down.accept(f.apply(m.apply(v))) : v -> {
+                double x = m.apply(v);
+                if (p.test(x)) {
+                    down.accept(f.apply(x));
+                }
+            };
+        }
+        return linker.apply(head);
+    }
+}
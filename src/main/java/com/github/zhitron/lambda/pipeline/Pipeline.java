@@ -0,0 +1,153 @@
+package com.github.zhitron.lambda.pipeline;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerDouble;
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+import com.github.zhitron.lambda.consumer.SingleConsumerLong;
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+import com.github.zhitron.lambda.supplier.ObjectSupplier;
+
+/**
+ * 以终端消费者结束的推送式流水线，也是创建流水线数据源阶段的入口。
+ * <p>
+ * 流水线只描述各阶段，{@link #compile()} 时才把各阶段融合并链接为一个头部消费者，得到可以反复执行的 {@link CompiledPipeline}：
+ * <pre>{@code
+ * CompiledPipeline<int[]> pipeline = Pipeline.ofInts()
+ *         .map(v -> v * 3)
+ *         .filter(v -> (v & 1) == 0)
+ *         .mapToLong(v -> (long) v * v)
+ *         .sink(sum::add)
+ *         .compile();
+ * for (int[] batch : batches) {
+ *     pipeline.run(batch);
+ * }
+ * }</pre>
+ *
+ * @param <S> 数据源批次的类型
+ * @author zhitron
+ */
+public final class Pipeline<S> {
+
+    /**
+     * 流水线的数据源。
+     */
+    private final Source<S> source;
+
+    /**
+     * 链接出数据源头部消费者的函数。
+     */
+    private final ObjectSupplier<Object> linker;
+
+    Pipeline(Source<S> source, ObjectSupplier<Object> linker) {
+        this.source = source;
+        this.linker = linker;
+    }
+
+    /**
+     * 创建以 int 数组批次为数据源的流水线起始阶段。
+     *
+     * @return 起始阶段
+     */
+    public static IntStage<int[]> ofInts() {
+        return ofInts(null);
+    }
+
+    /**
+     * 创建绑定给定 int 数组的流水线起始阶段，可以通过 {@link #run()} 直接执行。
+     *
+     * @param data 绑定的数据批次
+     * @return 起始阶段
+     */
+    public static IntStage<int[]> ofInts(int[] data) {
+        return new IntStage<>(new Source<>(data, head -> new CompiledPipeline.OfInt((SingleConsumerInt) head)), head -> head, null, null);
+    }
+
+    /**
+     * 创建以 long 数组批次为数据源的流水线起始阶段。
+     *
+     * @return 起始阶段
+     */
+    public static LongStage<long[]> ofLongs() {
+        return ofLongs(null);
+    }
+
+    /**
+     * 创建绑定给定 long 数组的流水线起始阶段，可以通过 {@link #run()} 直接执行。
+     *
+     * @param data 绑定的数据批次
+     * @return 起始阶段
+     */
+    public static LongStage<long[]> ofLongs(long[] data) {
+        return new LongStage<>(new Source<>(data, head -> new CompiledPipeline.OfLong((SingleConsumerLong) head)), head -> head, null, null);
+    }
+
+    /**
+     * 创建以 double 数组批次为数据源的流水线起始阶段。
+     *
+     * @return 起始阶段
+     */
+    public static DoubleStage<double[]> ofDoubles() {
+        return ofDoubles(null);
+    }
+
+    /**
+     * 创建绑定给定 double 数组的流水线起始阶段，可以通过 {@link #run()} 直接执行。
+     *
+     * @param data 绑定的数据批次
+     * @return 起始阶段
+     */
+    public static DoubleStage<double[]> ofDoubles(double[] data) {
+        return new DoubleStage<>(new Source<>(data, head -> new CompiledPipeline.OfDouble((SingleConsumerDouble) head)), head -> head, null, null);
+    }
+
+    /**
+     * 创建以对象数组批次为数据源的流水线起始阶段。
+     *
+     * @param <T> 元素类型
+     * @return 起始阶段
+     */
+    public static <T> ObjectStage<T[], T> ofObjects() {
+        return ofObjects(null);
+    }
+
+    /**
+     * 创建绑定给定对象数组的流水线起始阶段，可以通过 {@link #run()} 直接执行。
+     *
+     * @param data 绑定的数据批次
+     * @param <T>  元素类型
+     * @return 起始阶段
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ObjectStage<T[], T> ofObjects(T[] data) {
+        return new ObjectStage<>(new Source<>(data, head -> new CompiledPipeline.OfObject<>((SingleConsumerObject<Object>) head)), head -> head, null, null);
+    }
+
+    /**
+     * 融合并链接所有阶段，得到可以反复执行的流水线。每次调用都会链接出一份新的消费者链。
+     *
+     * @return 已编译的流水线
+     */
+    public CompiledPipeline<S> compile() {
+        return source.compiler.apply(linker.get());
+    }
+
+    /**
+     * 编译并以绑定的数据批次执行一次流水线。
+     *
+     * @throws IllegalStateException 如果流水线没有绑定数据批次
+     */
+    public void run() {
+        if (source.data == null) {
+            throw new IllegalStateException("pipeline has no bound data");
+        }
+        compile().run(source.data);
+    }
+
+    /**
+     * 编译并以给定数据批次执行一次流水线，需要重复执行时应当复用 {@link #compile()} 的结果。
+     *
+     * @param batch 数据批次
+     */
+    public void run(S batch) {
+        compile().run(batch);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.zhitron.lambda.pipeline;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObject;
+
+/**
+ * 流水线的数据源描述，记录可选的绑定批次以及由头部消费者生成已编译流水线的方式。
+ *
+ * @param <S> 数据源批次的类型
+ * @author zhitron
+ */
+final class Source<S> {
+
+    /**
+     * 绑定的批次，未绑定时为 null。
+     */
+    final S data;
+
+    /**
+     * 由链接完成的头部消费者生成已编译流水线的函数。
+     */
+    final SingleFunctionObjectToObject<Object, CompiledPipeline<S>> compiler;
+
+    Source(S data, SingleFunctionObjectToObject<Object, CompiledPipeline<S>> compiler) {
+        this.data = data;
+        this.compiler = compiler;
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.zhitron.lambda.resilience;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObjectThrow;
+import com.github.zhitron.lambda.supplier.ObjectSupplierThrow;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 以信号量限制并发调用数量的舱壁，防止一个缓慢的依赖占满调用方的全部线程。
+ * <p>
+ * 每次调用前获取一个许可，调用结束后归还。没有空闲许可时最多等待给定时长，仍然获取不到则拒绝调用：
+ * 被拒绝的调用交给降级函数处理，没有降级函数时抛出 {@link CallRejectedException}。
+ * 等待期间线程被中断时同样拒绝调用，并保留中断状态。
+ *
+ * @author zhitron
+ */
+public final class Bulkhead {
+
+    /**
+     * 最大并发调用数量。
+     */
+    private final int maxConcurrentCalls;
+
+    /**
+     * 获取许可最长等待的纳秒数。
+     */
+    private final long maxWaitNanos;
+
+    /**
+     * 并发许可。
+     */
+    private final Semaphore permits;
+
+    /**
+     * 创建没有空闲许可时立即拒绝调用的舱壁。
+     *
+     * @param maxConcurrentCalls 最大并发调用数量
+     * @throws IllegalArgumentException 当最大并发调用数量小于 1 时抛出
+     */
+    public Bulkhead(int maxConcurrentCalls) {
+        this(maxConcurrentCalls, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 创建舱壁。
+     *
+     * @param maxConcurrentCalls 最大并发调用数量
+     * @param maxWait            没有空闲许可时最长等待的时间
+     * @param unit               时间单位
+     * @throws IllegalArgumentException 当最大并发调用数量小于 1 或等待时间为负数时抛出
+     */
+    public Bulkhead(int maxConcurrentCalls, long maxWait, TimeUnit unit) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Illegal max concurrent calls: " + maxConcurrentCalls);
+        }
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("Illegal max wait: " + maxWait);
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = unit.toNanos(maxWait);
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * 获取最大并发调用数量。
+     *
+     * @return 最大并发调用数量
+     */
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * 获取当前空闲的许可数量。
+     *
+     * @return 空闲的许可数量
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 尝试获取许可，获取成功后必须调用 {@link #release()} 归还。
+     *
+     * @return 获取成功时返回 true
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (maxWaitNanos == 0) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 归还许可。
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 装饰对象供应者，被拒绝时抛出 {@link CallRejectedException}。
+     *
+     * @param supplier 对象供应者
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受舱壁保护的对象供应者
+     */
+    public <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier) {
+        return supplier(supplier, null);
+    }
+
+    /**
+     * 装饰对象供应者。
+     *
+     * @param supplier 对象供应者
+     * @param fallback 被拒绝时调用的降级供应者，为 null 时抛出 {@link CallRejectedException}
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受舱壁保护的对象供应者
+     */
+    public <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier, ObjectSupplierThrow<R, E> fallback) {
+        return () -> {
+            if (!tryAcquire()) {
+                if (fallback == null) {
+                    throw new CallRejectedException("Bulkhead is full");
+                }
+                return fallback.getThrow();
+            }
+            try {
+                return supplier.getThrow();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * 装饰函数，被拒绝时抛出 {@link CallRejectedException}。
+     *
+     * @param function 函数
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受舱壁保护的函数
+     */
+    public <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function) {
+        return function(function, null);
+    }
+
+    /**
+     * 装饰函数。
+     *
+     * @param function 函数
+     * @param fallback 被拒绝时调用的降级函数，例如 {@link SingleFunctionObjectToObjectThrow#constant(Object)}，为 null 时抛出 {@link CallRejectedException}
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受舱壁保护的函数
+     */
+    public <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function,
+                                                                                          SingleFunctionObjectToObjectThrow<T, R, E> fallback) {
+        return v1 -> {
+            if (!tryAcquire()) {
+                if (fallback == null) {
+                    throw new CallRejectedException("Bulkhead is full");
+                }
+                return fallback.applyThrow(v1);
+            }
+            try {
+                return function.applyThrow(v1);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead[" + availablePermits() + "/" + maxConcurrentCalls + "]";
+    }
+}
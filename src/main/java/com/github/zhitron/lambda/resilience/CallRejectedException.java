@@ -0,0 +1,20 @@
+package com.github.zhitron.lambda.resilience;
+
+/**
+ * 调用被 {@link CircuitBreaker} 或 {@link Bulkhead} 拒绝、并且没有提供降级函数时抛出的异常，
+ * 以及 {@link RateLimited} 阻塞等待许可时线程被中断而放弃调用时抛出的异常。
+ *
+ * @author zhitron
+ */
+public class CallRejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 创建带有说明的异常。
+     *
+     * @param message 说明
+     */
+    public CallRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.zhitron.lambda.resilience;
+
+/**
+ * 被 {@link Timeout} 装饰的调用在限定时间内没有完成时抛出的异常。
+ *
+ * @author zhitron
+ */
+public class CallTimeoutException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 创建带有说明的异常。
+     *
+     * @param message 说明
+     */
+    public CallTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.zhitron.lambda.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 装饰器共用的工具方法。
+ *
+ * @author zhitron
+ */
+final class Calls {
+
+    private Calls() {
+    }
+
+    /**
+     * 把在另一个线程上捕获的异常原样抛给调用方。运行时异常与错误直接抛出，
+     * 其余异常只可能是被装饰的函数声明的受检异常，以该类型返回给调用方抛出。
+     *
+     * @param cause 异常
+     * @param <E>   被装饰的函数声明的异常类型
+     * @return 受检异常，由调用方抛出
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Exception> E rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return (E) cause;
+    }
+
+    /**
+     * 退避等待，等待期间线程被中断时立即返回并保留中断状态。
+     *
+     * @param nanos 等待的纳秒数
+     * @return 没有被中断时返回 true
+     */
+    static boolean sleep(long nanos) {
+        if (nanos <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.github.zhitron.lambda.resilience;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObjectThrow;
+import com.github.zhitron.lambda.supplier.ObjectSupplierThrow;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 无锁的熔断器：依赖持续失败时快速拒绝调用，避免慢调用堆积拖垮调用方的尾延迟。
+ * <p>
+ * 熔断器记录最近若干次调用的结果，这些结果保存在环形缓冲区中，成功数与失败数以原子计数器随写入增量维护，不需要加锁。
+ * 状态保存在不可变的阶段对象中，打开时间与半开状态的试探许可随阶段一起以一次 CAS 发布，
+ * 因此迟到的调用结果只能作用于它读到的那个阶段，不会延长新的打开时间或者借用上一个半开阶段剩余的许可。
+ * <ul>
+ *     <li>关闭状态下调用全部放行，样本数达到最少调用次数且失败率达到阈值时转为打开状态；</li>
+ *     <li>打开状态下调用全部被拒绝，经过打开时长后第一个到达的调用把熔断器转为半开状态；</li>
+ *     <li>半开状态下只放行给定数量的试探调用，它们全部成功时转为关闭状态并清空窗口，任意一个失败时重新打开。</li>
+ * </ul>
+ * 被拒绝的调用交给降级函数处理，没有降级函数时抛出 {@link CallRejectedException}。
+ * 被装饰的调用抛出任何异常都计为失败，异常原样抛给调用方。
+ *
+ * @author zhitron
+ */
+public final class CircuitBreaker {
+
+    /**
+     * 熔断器的状态。
+     */
+    public enum State {
+        /**
+         * 关闭，调用全部放行。
+         */
+        CLOSED,
+        /**
+         * 打开，调用全部被拒绝。
+         */
+        OPEN,
+        /**
+         * 半开，只放行有限的试探调用。
+         */
+        HALF_OPEN
+    }
+
+    private static final int NONE = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    /**
+     * 滑动窗口的大小。
+     */
+    private final int windowSize;
+
+    /**
+     * 计算失败率之前至少需要的样本数量。
+     */
+    private final int minimumCalls;
+
+    /**
+     * 失败率阈值。
+     */
+    private final double failureRateThreshold;
+
+    /**
+     * 打开状态持续的纳秒数。
+     */
+    private final long openNanos;
+
+    /**
+     * 半开状态下放行的试探调用数量。
+     */
+    private final int halfOpenCalls;
+
+    /**
+     * 最近调用结果的环形缓冲区。
+     */
+    private final AtomicIntegerArray outcomes;
+
+    /**
+     * 下一个写入的位置。
+     */
+    private final AtomicLong cursor = new AtomicLong();
+
+    /**
+     * 窗口中的样本数量。
+     */
+    private final AtomicInteger recorded = new AtomicInteger();
+
+    /**
+     * 窗口中的失败数量。
+     */
+    private final AtomicInteger failed = new AtomicInteger();
+
+    /**
+     * 当前阶段，每次状态转换都发布一个新的阶段对象。
+     */
+    private final AtomicReference<Phase> phase = new AtomicReference<>(Phase.closed());
+
+    /**
+     * 创建熔断器，最少调用次数为窗口大小的一半，半开状态下放行一次试探调用。
+     *
+     * @param windowSize           滑动窗口的大小
+     * @param failureRateThreshold 失败率阈值，取值范围为 (0, 1]
+     * @param openDuration         打开状态持续的时间
+     * @param unit                 时间单位
+     * @return 熔断器
+     */
+    public static CircuitBreaker of(int windowSize, double failureRateThreshold, long openDuration, TimeUnit unit) {
+        return new CircuitBreaker(windowSize, Math.max(1, windowSize / 2), failureRateThreshold, openDuration, unit, 1);
+    }
+
+    /**
+     * 创建熔断器。
+     *
+     * @param windowSize           滑动窗口的大小
+     * @param minimumCalls         计算失败率之前至少需要的样本数量，不超过窗口大小
+     * @param failureRateThreshold 失败率阈值，取值范围为 (0, 1]
+     * @param openDuration         打开状态持续的时间
+     * @param unit                 时间单位
+     * @param halfOpenCalls        半开状态下放行的试探调用数量
+     * @throws IllegalArgumentException 当参数不合法时抛出
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDuration, TimeUnit unit, int halfOpenCalls) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Illegal window size: " + windowSize);
+        }
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Illegal minimum calls: " + minimumCalls);
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("Illegal failure rate threshold: " + failureRateThreshold);
+        }
+        if (openDuration < 0) {
+            throw new IllegalArgumentException("Illegal open duration: " + openDuration);
+        }
+        if (halfOpenCalls < 1) {
+            throw new IllegalArgumentException("Illegal half open calls: " + halfOpenCalls);
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = unit.toNanos(openDuration);
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new AtomicIntegerArray(windowSize);
+    }
+
+    /**
+     * 获取当前状态。打开时长已经过去但还没有调用到达时仍然报告打开状态。
+     *
+     * @return 当前状态
+     */
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * 获取窗口中的失败率。
+     *
+     * @return 失败率，窗口为空时返回 0
+     */
+    public double failureRate() {
+        int n = recorded.get();
+        return n == 0 ? 0 : Math.min(1, failed.get() / (double) n);
+    }
+
+    /**
+     * 尝试获取调用许可。获取成功后必须以 {@link #onSuccess()} 或 {@link #onFailure()} 报告调用结果。
+     *
+     * @return 调用被放行时返回 true
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            Phase p = phase.get();
+            if (p.state == State.CLOSED) {
+                return true;
+            }
+            if (p.state == State.HALF_OPEN) {
+                return tryTrial(p);
+            }
+            if (System.nanoTime() - p.openedAt < openNanos) {
+                return false;
+            }
+            phase.compareAndSet(p, Phase.halfOpen(halfOpenCalls));
+        }
+    }
+
+    /**
+     * 报告被放行的调用成功。
+     */
+    public void onSuccess() {
+        Phase p = phase.get();
+        if (p.state == State.CLOSED) {
+            record(SUCCESS);
+        } else if (p.state == State.HALF_OPEN && p.successes.incrementAndGet() >= halfOpenCalls
+                && phase.compareAndSet(p, Phase.closed())) {
+            clearWindow();
+        }
+    }
+
+    /**
+     * 报告被放行的调用失败。
+     */
+    public void onFailure() {
+        Phase p = phase.get();
+        if (p.state == State.CLOSED) {
+            record(FAILURE);
+            int n = recorded.get();
+            if (n >= minimumCalls && failed.get() >= failureRateThreshold * n) {
+                open(p);
+            }
+        } else if (p.state == State.HALF_OPEN) {
+            open(p);
+        }
+    }
+
+    /**
+     * 把熔断器重置为关闭状态并清空窗口。
+     */
+    public void reset() {
+        phase.set(Phase.closed());
+        clearWindow();
+    }
+
+    /**
+     * 装饰对象供应者，被拒绝时抛出 {@link CallRejectedException}。
+     *
+     * @param supplier 对象供应者
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受熔断器保护的对象供应者
+     */
+    public <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier) {
+        return supplier(supplier, null);
+    }
+
+    /**
+     * 装饰对象供应者。
+     *
+     * @param supplier 对象供应者
+     * @param fallback 被拒绝时调用的降级供应者，为 null 时抛出 {@link CallRejectedException}
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受熔断器保护的对象供应者
+     */
+    public <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier, ObjectSupplierThrow<R, E> fallback) {
+        return () -> {
+            if (!tryAcquire()) {
+                if (fallback == null) {
+                    throw new CallRejectedException("Circuit breaker is open");
+                }
+                return fallback.getThrow();
+            }
+            boolean success = false;
+            try {
+                R result = supplier.getThrow();
+                success = true;
+                return result;
+            } finally {
+                if (success) {
+                    onSuccess();
+                } else {
+                    onFailure();
+                }
+            }
+        };
+    }
+
+    /**
+     * 装饰函数，被拒绝时抛出 {@link CallRejectedException}。
+     *
+     * @param function 函数
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受熔断器保护的函数
+     */
+    public <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function) {
+        return function(function, null);
+    }
+
+    /**
+     * 装饰函数。
+     *
+     * @param function 函数
+     * @param fallback 被拒绝时调用的降级函数，例如 {@link SingleFunctionObjectToObjectThrow#constant(Object)}，为 null 时抛出 {@link CallRejectedException}
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 受熔断器保护的函数
+     */
+    public <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function,
+                                                                                          SingleFunctionObjectToObjectThrow<T, R, E> fallback) {
+        return v1 -> {
+            if (!tryAcquire()) {
+                if (fallback == null) {
+                    throw new CallRejectedException("Circuit breaker is open");
+                }
+                return fallback.applyThrow(v1);
+            }
+            boolean success = false;
+            try {
+                R result = function.applyThrow(v1);
+                success = true;
+                return result;
+            } finally {
+                if (success) {
+                    onSuccess();
+                } else {
+                    onFailure();
+                }
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[" + state() + ", failureRate=" + failureRate() + "]";
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private static boolean tryTrial(Phase p) {
+        while (true) {
+            int permits = p.permits.get();
+            if (permits <= 0) {
+                return false;
+            }
+            if (p.permits.compareAndSet(permits, permits - 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void open(Phase expect) {
+        // 打开时间只随赢得 CAS 的阶段发布，已经被其他线程打开时不会被推后
+        phase.compareAndSet(expect, Phase.open(System.nanoTime()));
+    }
+
+    private void record(int outcome) {
+        int slot = (int) (cursor.getAndIncrement() % windowSize);
+        adjust(outcomes.getAndSet(slot, outcome), outcome);
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < windowSize; i++) {
+            adjust(outcomes.getAndSet(i, NONE), NONE);
+        }
+    }
+
+    /**
+     * 按槽位从旧结果到新结果的变化增量调整计数器。
+     */
+    private void adjust(int old, int outcome) {
+        if (old == NONE && outcome != NONE) {
+            recorded.incrementAndGet();
+        } else if (old != NONE && outcome == NONE) {
+            recorded.decrementAndGet();
+        }
+        if (old == FAILURE && outcome != FAILURE) {
+            failed.decrementAndGet();
+        } else if (old != FAILURE && outcome == FAILURE) {
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * 熔断器的一个阶段。每个阶段都是新的对象，CAS 以对象身份比较，迟到的转换不会作用于后来的阶段。
+     */
+    private static final class Phase {
+        final State state;
+
+        /**
+         * 打开的时间，只对打开阶段有意义。
+         */
+        final long openedAt;
+
+        /**
+         * 剩余可以放行的试探调用数量，只对半开阶段有意义。
+         */
+        final AtomicInteger permits;
+
+        /**
+         * 已经成功的试探调用数量，只对半开阶段有意义。
+         */
+        final AtomicInteger successes;
+
+        private Phase(State state, long openedAt, int permits) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.permits = permits > 0 ? new AtomicInteger(permits) : null;
+            this.successes = permits > 0 ? new AtomicInteger() : null;
+        }
+
+        static Phase closed() {
+            return new Phase(State.CLOSED, 0, 0);
+        }
+
+        static Phase open(long openedAt) {
+            return new Phase(State.OPEN, openedAt, 0);
+        }
+
+        static Phase halfOpen(int permits) {
+            return new Phase(State.HALF_OPEN, 0, permits);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.zhitron.lambda.resilience;
+
+import com.github.zhitron.ActuatorThrow;
+import com.github.zhitron.lambda.concurrent.VirtualThreads;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObjectThrow;
+import com.github.zhitron.lambda.supplier.ObjectSupplierThrow;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 对冲调用的装饰器，装饰结果与被装饰的函数是同一种接口，被装饰的调用必须是幂等的。
+ * <p>
+ * 第一次调用在执行器上执行，当前线程等待 {@link HedgePolicy} 给出的时长；届时仍未完成就在执行器上发起第二次调用，
+ * 两次调用中先成功的结果被返回，较慢的一次不会被中断，它的结果被丢弃。
+ * 第一次调用在等待时长之内失败时直接抛出它的原始异常；两次调用都失败时抛出第一个失败的原始异常。
+ * 执行器拒绝第二次调用时不再对冲，继续等待第一次调用的结果。
+ * 等待期间当前线程被中断时保留中断状态并抛出 {@link CancellationException}。默认的执行器为 {@link VirtualThreads#executor()}。
+ * 策略记录的是第一次调用成功时从开始到结束的耗时，无论它是否被第二次调用抢先，因此较慢的调用同样会被采样。
+ *
+ * @author zhitron
+ */
+public final class Hedge {
+
+    private Hedge() {
+    }
+
+    /**
+     * 装饰对象供应者，在共享的阻塞任务执行器上执行。
+     *
+     * @param supplier 幂等的对象供应者
+     * @param policy   对冲策略
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 对冲的对象供应者
+     */
+    public static <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier, HedgePolicy policy) {
+        return supplier(supplier, policy, VirtualThreads.executor());
+    }
+
+    /**
+     * 装饰对象供应者。
+     *
+     * @param supplier 幂等的对象供应者
+     * @param policy   对冲策略
+     * @param executor 执行调用的执行器
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 对冲的对象供应者
+     */
+    public static <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier, HedgePolicy policy, Executor executor) {
+        return () -> new Race<>(supplier, policy).run(executor);
+    }
+
+    /**
+     * 装饰函数，在共享的阻塞任务执行器上执行。
+     *
+     * @param function 幂等的函数
+     * @param policy   对冲策略
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 对冲的函数
+     */
+    public static <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function, HedgePolicy policy) {
+        return function(function, policy, VirtualThreads.executor());
+    }
+
+    /**
+     * 装饰函数。
+     *
+     * @param function 幂等的函数
+     * @param policy   对冲策略
+     * @param executor 执行调用的执行器
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 对冲的函数
+     */
+    public static <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function, HedgePolicy policy, Executor executor) {
+        return v1 -> new Race<R, E>(() -> function.applyThrow(v1), policy).run(executor);
+    }
+
+    /**
+     * 装饰执行器，在共享的阻塞任务执行器上执行。
+     *
+     * @param actuator 幂等的执行器
+     * @param policy   对冲策略
+     * @param <E>      异常类型
+     * @return 对冲的执行器
+     */
+    public static <E extends Exception> ActuatorThrow<E> actuator(ActuatorThrow<E> actuator, HedgePolicy policy) {
+        return actuator(actuator, policy, VirtualThreads.executor());
+    }
+
+    /**
+     * 装饰执行器。
+     *
+     * @param actuator 幂等的执行器
+     * @param policy   对冲策略
+     * @param executor 执行调用的执行器
+     * @param <E>      异常类型
+     * @return 对冲的执行器
+     */
+    public static <E extends Exception> ActuatorThrow<E> actuator(ActuatorThrow<E> actuator, HedgePolicy policy, Executor executor) {
+        return () -> new Race<Void, E>(() -> {
+            actuator.executeThrow();
+            return null;
+        }, policy).run(executor);
+    }
+
+    /**
+     * 一次对冲调用中相互竞争的至多两次尝试，状态由自身的监视器保护。
+     */
+    private static final class Race<R, E extends Exception> {
+        private final ObjectSupplierThrow<R, E> supplier;
+        private final HedgePolicy policy;
+        private int attempts = 1;
+        private int failures;
+        private boolean done;
+        private boolean succeeded;
+        private R result;
+        private Throwable failure;
+
+        Race(ObjectSupplierThrow<R, E> supplier, HedgePolicy policy) {
+            this.supplier = supplier;
+            this.policy = policy;
+        }
+
+        R run(Executor executor) throws E {
+            long delay = policy.delayNanos();
+            executor.execute(() -> attempt(true));
+            Throwable cause;
+            try {
+                boolean hedge;
+                synchronized (this) {
+                    long deadline = System.nanoTime() + delay;
+                    long remaining;
+                    while (!done && (remaining = deadline - System.nanoTime()) > 0) {
+                        wait(remaining / 1000000, (int) (remaining % 1000000));
+                    }
+                    hedge = !done;
+                    if (hedge) {
+                        attempts = 2;
+                    }
+                }
+                if (hedge) {
+                    try {
+                        executor.execute(() -> attempt(false));
+                    } catch (RejectedExecutionException e) {
+                        // 第二次调用没有被执行，只等待第一次调用
+                        synchronized (this) {
+                            attempts = 1;
+                            if (failures == 1 && !done) {
+                                done = true;
+                            }
+                        }
+                    }
+                }
+                synchronized (this) {
+                    while (!done) {
+                        wait();
+                    }
+                    if (succeeded) {
+                        return result;
+                    }
+                    cause = failure;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for the hedged call");
+            }
+            throw Calls.<E>rethrow(cause);
+        }
+
+        private void attempt(boolean first) {
+            long start = System.nanoTime();
+            try {
+                R value = supplier.getThrow();
+                if (first) {
+                    policy.record(System.nanoTime() - start);
+                }
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    succeeded = true;
+                    result = value;
+                    notifyAll();
+                }
+            } catch (Throwable e) {
+                synchronized (this) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                    if (++failures == attempts && !done) {
+                        done = true;
+                        notifyAll();
+                    }
+                }
+            }
+        }
+    }
+}
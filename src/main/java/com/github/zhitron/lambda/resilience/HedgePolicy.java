@@ -0,0 +1,133 @@
+package com.github.zhitron.lambda.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 对冲调用的策略：第一次调用在多长时间内没有完成时发起第二次调用。
+ * <p>
+ * 固定策略总是等待同一时长。百分位策略记录最近若干次成功调用的耗时，以其中给定百分位的耗时作为等待时长，
+ * 例如取 0.95 时只有最慢的约 5% 的调用会被对冲；样本不足时使用初始时长。
+ * 百分位策略是有状态的，应当为每个被装饰的调用点单独创建一个。记录耗时是无锁的，
+ * 每积累一定数量的新样本才重新排序计算一次百分位。
+ *
+ * @author zhitron
+ * @see Hedge
+ */
+public final class HedgePolicy {
+
+    /**
+     * 保留的最近样本数量。
+     */
+    private static final int WINDOW = 256;
+
+    /**
+     * 开始使用百分位之前至少需要的样本数量。
+     */
+    private static final int MIN_SAMPLES = 32;
+
+    /**
+     * 每积累多少个新样本重新计算一次百分位。
+     */
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    /**
+     * 百分位，取值范围为 (0, 1)，固定策略为 0。
+     */
+    private final double percentile;
+
+    /**
+     * 最近样本的环形缓冲区，固定策略为 null。
+     */
+    private final AtomicLongArray samples;
+
+    /**
+     * 已经记录的样本总数。
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * 当前的等待纳秒数。
+     */
+    private volatile long delayNanos;
+
+    private HedgePolicy(double percentile, long delayNanos) {
+        this.percentile = percentile;
+        this.samples = percentile > 0 ? new AtomicLongArray(WINDOW) : null;
+        this.delayNanos = delayNanos;
+    }
+
+    /**
+     * 创建固定等待时长的对冲策略。
+     *
+     * @param delay 发起第二次调用之前的等待时长
+     * @param unit  时间单位
+     * @return 对冲策略
+     * @throws IllegalArgumentException 当等待时长为负数时抛出
+     */
+    public static HedgePolicy fixed(long delay, TimeUnit unit) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Illegal delay: " + delay);
+        }
+        return new HedgePolicy(0, unit.toNanos(delay));
+    }
+
+    /**
+     * 创建以最近成功调用耗时的百分位作为等待时长的对冲策略。
+     *
+     * @param percentile   百分位，取值范围为 (0, 1)
+     * @param initialDelay 样本不足时的等待时长
+     * @param unit         时间单位
+     * @return 对冲策略
+     * @throws IllegalArgumentException 当百分位不在取值范围内或等待时长为负数时抛出
+     */
+    public static HedgePolicy percentile(double percentile, long initialDelay, TimeUnit unit) {
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException("Illegal percentile: " + percentile);
+        }
+        if (initialDelay < 0) {
+            throw new IllegalArgumentException("Illegal delay: " + initialDelay);
+        }
+        return new HedgePolicy(percentile, unit.toNanos(initialDelay));
+    }
+
+    /**
+     * 获取当前发起第二次调用之前的等待纳秒数。
+     *
+     * @return 等待纳秒数
+     */
+    public long delayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * 记录一次成功调用的耗时。
+     *
+     * @param nanos 耗时纳秒数
+     */
+    void record(long nanos) {
+        AtomicLongArray samples = this.samples;
+        if (samples == null) {
+            return;
+        }
+        long n = count.getAndIncrement();
+        samples.lazySet((int) (n % WINDOW), nanos);
+        n++;
+        if (n >= MIN_SAMPLES && n % RECOMPUTE_INTERVAL == 0) {
+            int size = (int) Math.min(n, WINDOW);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            delayNanos = sorted[(int) Math.min(size - 1, (long) Math.ceil(percentile * size) - 1)];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return percentile > 0 ? "HedgePolicy[p" + percentile * 100 + "=" + delayNanos + "ns]" : "HedgePolicy[fixed=" + delayNanos + "ns]";
+    }
+}
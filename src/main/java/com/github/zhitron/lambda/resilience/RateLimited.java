@@ -0,0 +1,229 @@
+package com.github.zhitron.lambda.resilience;
+
+import com.github.zhitron.ActuatorThrow;
+import com.github.zhitron.lambda.consumer.SingleConsumerDouble;
+import com.github.zhitron.lambda.consumer.SingleConsumerInt;
+import com.github.zhitron.lambda.consumer.SingleConsumerLong;
+import com.github.zhitron.lambda.consumer.SingleConsumerObject;
+import com.github.zhitron.lambda.predicate.SinglePredicateObject;
+import com.github.zhitron.lambda.supplier.BooleanSupplierThrow;
+
+/**
+ * 以 {@link RateLimiter} 限制调用频率的装饰器，装饰结果与被装饰的函数是同一种接口。
+ * <p>
+ * 超出频率的调用按 {@link Policy} 处理：{@link Policy#BLOCK} 等待到许可可用后再调用，
+ * {@link Policy#DROP} 直接丢弃这次调用。阻塞等待期间线程被中断时保留中断状态并抛出 {@link CallRejectedException}。
+ * 需要知道调用是否被丢弃时使用 {@code tryWrap}，它返回的函数在调用被放行时返回 true。
+ * 多个装饰器可以共用同一个限流器，共享同一份频率额度。
+ *
+ * @author zhitron
+ */
+public final class RateLimited {
+
+    /**
+     * 超出频率的调用的处理方式。
+     */
+    public enum Policy {
+        /**
+         * 等待到许可可用后再调用。
+         */
+        BLOCK,
+        /**
+         * 丢弃这次调用。
+         */
+        DROP
+    }
+
+    private RateLimited() {
+    }
+
+    /**
+     * 装饰对象消费者，超出频率时阻塞等待。
+     *
+     * @param consumer         对象消费者
+     * @param permitsPerSecond 每秒允许的调用次数
+     * @param <T>              参数类型
+     * @return 限制频率的对象消费者
+     */
+    public static <T> SingleConsumerObject<T> wrap(SingleConsumerObject<T> consumer, double permitsPerSecond) {
+        return wrap(consumer, new RateLimiter(permitsPerSecond), Policy.BLOCK);
+    }
+
+    /**
+     * 装饰对象消费者。
+     *
+     * @param consumer 对象消费者
+     * @param limiter  限流器
+     * @param policy   超出频率的调用的处理方式
+     * @param <T>      参数类型
+     * @return 限制频率的对象消费者
+     */
+    public static <T> SingleConsumerObject<T> wrap(SingleConsumerObject<T> consumer, RateLimiter limiter, Policy policy) {
+        return v1 -> {
+            if (permit(limiter, policy)) {
+                consumer.accept(v1);
+            }
+        };
+    }
+
+    /**
+     * 装饰 int 消费者，超出频率时阻塞等待。
+     *
+     * @param consumer         int 消费者
+     * @param permitsPerSecond 每秒允许的调用次数
+     * @return 限制频率的 int 消费者
+     */
+    public static SingleConsumerInt wrapInt(SingleConsumerInt consumer, double permitsPerSecond) {
+        return wrapInt(consumer, new RateLimiter(permitsPerSecond), Policy.BLOCK);
+    }
+
+    /**
+     * 装饰 int 消费者。
+     *
+     * @param consumer int 消费者
+     * @param limiter  限流器
+     * @param policy   超出频率的调用的处理方式
+     * @return 限制频率的 int 消费者
+     */
+    public static SingleConsumerInt wrapInt(SingleConsumerInt consumer, RateLimiter limiter, Policy policy) {
+        return v1 -> {
+            if (permit(limiter, policy)) {
+                consumer.accept(v1);
+            }
+        };
+    }
+
+    /**
+     * 装饰 long 消费者，超出频率时阻塞等待。
+     *
+     * @param consumer         long 消费者
+     * @param permitsPerSecond 每秒允许的调用次数
+     * @return 限制频率的 long 消费者
+     */
+    public static SingleConsumerLong wrapLong(SingleConsumerLong consumer, double permitsPerSecond) {
+        return wrapLong(consumer, new RateLimiter(permitsPerSecond), Policy.BLOCK);
+    }
+
+    /**
+     * 装饰 long 消费者。
+     *
+     * @param consumer long 消费者
+     * @param limiter  限流器
+     * @param policy   超出频率的调用的处理方式
+     * @return 限制频率的 long 消费者
+     */
+    public static SingleConsumerLong wrapLong(SingleConsumerLong consumer, RateLimiter limiter, Policy policy) {
+        return v1 -> {
+            if (permit(limiter, policy)) {
+                consumer.accept(v1);
+            }
+        };
+    }
+
+    /**
+     * 装饰 double 消费者，超出频率时阻塞等待。
+     *
+     * @param consumer         double 消费者
+     * @param permitsPerSecond 每秒允许的调用次数
+     * @return 限制频率的 double 消费者
+     */
+    public static SingleConsumerDouble wrapDouble(SingleConsumerDouble consumer, double permitsPerSecond) {
+        return wrapDouble(consumer, new RateLimiter(permitsPerSecond), Policy.BLOCK);
+    }
+
+    /**
+     * 装饰 double 消费者。
+     *
+     * @param consumer double 消费者
+     * @param limiter  限流器
+     * @param policy   超出频率的调用的处理方式
+     * @return 限制频率的 double 消费者
+     */
+    public static SingleConsumerDouble wrapDouble(SingleConsumerDouble consumer, RateLimiter limiter, Policy policy) {
+        return v1 -> {
+            if (permit(limiter, policy)) {
+                consumer.accept(v1);
+            }
+        };
+    }
+
+    /**
+     * 装饰执行器，超出频率时阻塞等待。
+     *
+     * @param actuator         执行器
+     * @param permitsPerSecond 每秒允许的调用次数
+     * @param <E>              异常类型
+     * @return 限制频率的执行器
+     */
+    public static <E extends Exception> ActuatorThrow<E> wrap(ActuatorThrow<E> actuator, double permitsPerSecond) {
+        return wrap(actuator, new RateLimiter(permitsPerSecond), Policy.BLOCK);
+    }
+
+    /**
+     * 装饰执行器。
+     *
+     * @param actuator 执行器
+     * @param limiter  限流器
+     * @param policy   超出频率的调用的处理方式
+     * @param <E>      异常类型
+     * @return 限制频率的执行器
+     */
+    public static <E extends Exception> ActuatorThrow<E> wrap(ActuatorThrow<E> actuator, RateLimiter limiter, Policy policy) {
+        return () -> {
+            if (permit(limiter, policy)) {
+                actuator.executeThrow();
+            }
+        };
+    }
+
+    /**
+     * 以非阻塞的方式装饰对象消费者：返回的谓词在许可可用时调用消费者并返回 true，否则丢弃这次调用并返回 false。
+     *
+     * @param consumer 对象消费者
+     * @param limiter  限流器
+     * @param <T>      参数类型
+     * @return 调用被放行时返回 true 的谓词
+     */
+    public static <T> SinglePredicateObject<T> tryWrap(SingleConsumerObject<T> consumer, RateLimiter limiter) {
+        return v1 -> {
+            if (!limiter.tryAcquire()) {
+                return false;
+            }
+            consumer.accept(v1);
+            return true;
+        };
+    }
+
+    /**
+     * 以非阻塞的方式装饰执行器：返回的供应者在许可可用时执行并返回 true，否则丢弃这次调用并返回 false。
+     *
+     * @param actuator 执行器
+     * @param limiter  限流器
+     * @param <E>      异常类型
+     * @return 调用被放行时返回 true 的供应者
+     */
+    public static <E extends Exception> BooleanSupplierThrow<E> tryWrap(ActuatorThrow<E> actuator, RateLimiter limiter) {
+        return () -> {
+            if (!limiter.tryAcquire()) {
+                return false;
+            }
+            actuator.executeThrow();
+            return true;
+        };
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    private static boolean permit(RateLimiter limiter, Policy policy) {
+        if (policy == Policy.DROP) {
+            return limiter.tryAcquire();
+        }
+        try {
+            limiter.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CallRejectedException("Interrupted while waiting for rate limiter");
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.zhitron.lambda.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁的令牌桶限流器，以 {@link System#nanoTime()} 计时。
+ * <p>
+ * 令牌桶以单个原子变量表示：它记录令牌桶重新装满的理论时间，每发放一个许可就把这个时间推后一个发放间隔。
+ * 理论时间不超过当前时间加上 {@code (容量 - 1) * 发放间隔} 时许可可以立即发放，因此空闲之后最多可以连续发放容量个许可。
+ * 获取许可只需要一次 CAS，没有监视器，也不需要后台线程补充令牌。
+ * <p>
+ * 需要等待的获取会先预订许可再休眠到许可可用的时刻，多个等待的线程因此按预订顺序依次放行，而不会同时醒来争抢。
+ *
+ * @author zhitron
+ * @see RateLimited
+ */
+public final class RateLimiter {
+
+    /**
+     * 每秒发放的许可数量。
+     */
+    private final double permitsPerSecond;
+
+    /**
+     * 令牌桶的容量。
+     */
+    private final int burst;
+
+    /**
+     * 两个许可之间的发放间隔纳秒数。
+     */
+    private final long intervalNanos;
+
+    /**
+     * 理论时间允许领先当前时间的纳秒数。
+     */
+    private final long toleranceNanos;
+
+    /**
+     * 令牌桶重新装满的理论时间。
+     */
+    private final AtomicLong theoreticalTime;
+
+    /**
+     * 创建容量为 1 的限流器，许可严格按发放间隔发放。
+     *
+     * @param permitsPerSecond 每秒发放的许可数量
+     * @throws IllegalArgumentException 当每秒许可数量不是正数时抛出
+     */
+    public RateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, 1);
+    }
+
+    /**
+     * 创建限流器，创建时令牌桶是满的。
+     *
+     * @param permitsPerSecond 每秒发放的许可数量
+     * @param burst            令牌桶的容量，即空闲之后最多可以连续发放的许可数量
+     * @throws IllegalArgumentException 当每秒许可数量不是正数或容量小于 1 时抛出
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("Illegal permits per second: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Illegal burst: " + burst);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+        this.theoreticalTime = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 获取每秒发放的许可数量。
+     *
+     * @return 每秒发放的许可数量
+     */
+    public double permitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * 获取令牌桶的容量。
+     *
+     * @return 令牌桶的容量
+     */
+    public int burst() {
+        return burst;
+    }
+
+    /**
+     * 尝试立即获取一个许可，不会阻塞。
+     *
+     * @return 获取成功时返回 true
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * 尝试获取一个许可，许可在给定时长内可用时等待到可用的时刻。
+     * 许可在给定时长内不会可用时立即返回 false，不会白白等待。
+     *
+     * @param timeout 最长等待的时间
+     * @param unit    时间单位
+     * @return 获取成功时返回 true
+     * @throws InterruptedException 如果等待时线程被中断，已经预订的许可不会归还
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long wait = reserve(unit.toNanos(timeout));
+        if (wait < 0) {
+            return false;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return true;
+    }
+
+    /**
+     * 获取一个许可，必要时等待到许可可用的时刻。
+     *
+     * @throws InterruptedException 如果等待时线程被中断，已经预订的许可不会归还
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve(Long.MAX_VALUE);
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter[permitsPerSecond=" + permitsPerSecond + ", burst=" + burst + "]";
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 在许可能在给定时长内可用时预订它。
+     *
+     * @param maxWaitNanos 最长等待的纳秒数
+     * @return 预订成功时返回需要等待的纳秒数，否则返回 -1
+     */
+    private long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalTime.get();
+            // 令牌桶已经装满时从当前时间开始计算，空闲的时间不会积攒超过容量的许可
+            long start = current - now > 0 ? current : now;
+            long wait = start - toleranceNanos - now;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (theoreticalTime.compareAndSet(current, start + intervalNanos)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+}
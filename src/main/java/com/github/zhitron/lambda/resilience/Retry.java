@@ -0,0 +1,89 @@
+package com.github.zhitron.lambda.resilience;
+
+import com.github.zhitron.ActuatorThrow;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObjectThrow;
+import com.github.zhitron.lambda.supplier.ObjectSupplierThrow;
+
+/**
+ * 按 {@link RetryPolicy} 重试失败调用的装饰器，装饰结果与被装饰的函数是同一种接口。
+ * <p>
+ * 调用在当前线程上执行，成功时直接返回，不创建任何对象。失败时如果策略允许则退避后再次调用，
+ * 否则把最后一次的异常原样抛给调用方；退避期间线程被中断时不再重试，保留中断状态并抛出最后一次的异常。
+ *
+ * @author zhitron
+ */
+public final class Retry {
+
+    private Retry() {
+    }
+
+    /**
+     * 装饰对象供应者。
+     *
+     * @param supplier 对象供应者
+     * @param policy   重试策略
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 失败时重试的对象供应者
+     */
+    public static <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier, RetryPolicy policy) {
+        return () -> {
+            for (int attempts = 1; ; attempts++) {
+                try {
+                    return supplier.getThrow();
+                } catch (Exception e) {
+                    if (!policy.shouldRetry(attempts, e) || !Calls.sleep(policy.delayNanos(attempts))) {
+                        throw e;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 装饰函数。
+     *
+     * @param function 函数
+     * @param policy   重试策略
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 失败时重试的函数
+     */
+    public static <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function, RetryPolicy policy) {
+        return v1 -> {
+            for (int attempts = 1; ; attempts++) {
+                try {
+                    return function.applyThrow(v1);
+                } catch (Exception e) {
+                    if (!policy.shouldRetry(attempts, e) || !Calls.sleep(policy.delayNanos(attempts))) {
+                        throw e;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 装饰执行器。
+     *
+     * @param actuator 执行器
+     * @param policy   重试策略
+     * @param <E>      异常类型
+     * @return 失败时重试的执行器
+     */
+    public static <E extends Exception> ActuatorThrow<E> actuator(ActuatorThrow<E> actuator, RetryPolicy policy) {
+        return () -> {
+            for (int attempts = 1; ; attempts++) {
+                try {
+                    actuator.executeThrow();
+                    return;
+                } catch (Exception e) {
+                    if (!policy.shouldRetry(attempts, e) || !Calls.sleep(policy.delayNanos(attempts))) {
+                        throw e;
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.zhitron.lambda.resilience;
+
+import com.github.zhitron.lambda.predicate.SinglePredicateObject;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 不可变的重试策略：最多尝试次数、两次尝试之间的退避时间，以及哪些异常值得重试。
+ * <p>
+ * 第 n 次失败之后的退避时间为 {@code min(初始延迟 * 倍数^(n-1), 最长延迟)}，固定退避的倍数为 1。
+ * 设置抖动系数 j 后，实际退避时间在 {@code [(1-j) * 退避时间, 退避时间]} 内均匀随机，
+ * 避免许多调用方在同一时刻一起重试。默认所有异常都会重试。
+ *
+ * @author zhitron
+ * @see Retry
+ */
+public final class RetryPolicy {
+
+    /**
+     * 最多尝试次数，包括第一次调用。
+     */
+    private final int maxAttempts;
+
+    /**
+     * 第一次失败之后的退避纳秒数。
+     */
+    private final long initialDelayNanos;
+
+    /**
+     * 最长的退避纳秒数。
+     */
+    private final long maxDelayNanos;
+
+    /**
+     * 每次失败之后退避时间的倍数。
+     */
+    private final double multiplier;
+
+    /**
+     * 抖动系数，取值范围为 [0, 1]。
+     */
+    private final double jitter;
+
+    /**
+     * 判断异常是否值得重试的谓词。
+     */
+    private final SinglePredicateObject<Exception> retryOn;
+
+    private RetryPolicy(int maxAttempts, long initialDelayNanos, long maxDelayNanos, double multiplier, double jitter,
+                        SinglePredicateObject<Exception> retryOn) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryOn = retryOn;
+    }
+
+    /**
+     * 创建固定退避时间的重试策略。
+     *
+     * @param maxAttempts 最多尝试次数，包括第一次调用
+     * @param delay       两次尝试之间的退避时间
+     * @param unit        时间单位
+     * @return 重试策略
+     * @throws IllegalArgumentException 当尝试次数小于 1 或退避时间为负数时抛出
+     */
+    public static RetryPolicy fixed(int maxAttempts, long delay, TimeUnit unit) {
+        long nanos = unit.toNanos(delay);
+        return of(maxAttempts, nanos, nanos, 1);
+    }
+
+    /**
+     * 创建指数退避的重试策略，每次失败之后退避时间翻倍，直到最长延迟。
+     *
+     * @param maxAttempts  最多尝试次数，包括第一次调用
+     * @param initialDelay 第一次失败之后的退避时间
+     * @param maxDelay     最长的退避时间
+     * @param unit         时间单位
+     * @return 重试策略
+     * @throws IllegalArgumentException 当尝试次数小于 1、退避时间为负数或最长延迟小于初始延迟时抛出
+     */
+    public static RetryPolicy exponential(int maxAttempts, long initialDelay, long maxDelay, TimeUnit unit) {
+        return of(maxAttempts, unit.toNanos(initialDelay), unit.toNanos(maxDelay), 2);
+    }
+
+    private static RetryPolicy of(int maxAttempts, long initialDelayNanos, long maxDelayNanos, double multiplier) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Illegal max attempts: " + maxAttempts);
+        }
+        if (initialDelayNanos < 0 || maxDelayNanos < initialDelayNanos) {
+            throw new IllegalArgumentException("Illegal delay: " + initialDelayNanos + "ns, max delay: " + maxDelayNanos + "ns");
+        }
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, 0, SinglePredicateObject.constant(true));
+    }
+
+    /**
+     * 返回修改了退避倍数的重试策略。
+     *
+     * @param multiplier 每次失败之后退避时间的倍数，至少为 1
+     * @return 新的重试策略
+     * @throws IllegalArgumentException 当倍数小于 1 时抛出
+     */
+    public RetryPolicy withMultiplier(double multiplier) {
+        if (!(multiplier >= 1)) {
+            throw new IllegalArgumentException("Illegal multiplier: " + multiplier);
+        }
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn);
+    }
+
+    /**
+     * 返回修改了抖动系数的重试策略。
+     *
+     * @param jitter 抖动系数，取值范围为 [0, 1]，0 表示不抖动
+     * @return 新的重试策略
+     * @throws IllegalArgumentException 当抖动系数不在取值范围内时抛出
+     */
+    public RetryPolicy withJitter(double jitter) {
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("Illegal jitter: " + jitter);
+        }
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn);
+    }
+
+    /**
+     * 返回只重试满足谓词的异常的重试策略，不满足谓词的异常立即抛给调用方。
+     *
+     * @param retryOn 判断异常是否值得重试的谓词
+     * @return 新的重试策略
+     */
+    public RetryPolicy retryOn(SinglePredicateObject<Exception> retryOn) {
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryOn);
+    }
+
+    /**
+     * 获取最多尝试次数。
+     *
+     * @return 最多尝试次数，包括第一次调用
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    //------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 判断第若干次尝试失败之后是否应当重试。
+     *
+     * @param attempts  已经尝试的次数
+     * @param exception 这一次尝试抛出的异常
+     * @return 应当重试时返回 true
+     */
+    boolean shouldRetry(int attempts, Exception exception) {
+        return attempts < maxAttempts && retryOn.test(exception);
+    }
+
+    /**
+     * 计算第若干次失败之后的退避纳秒数。
+     *
+     * @param failures 已经失败的次数，从 1 开始
+     * @return 退避纳秒数
+     */
+    long delayNanos(int failures) {
+        double delay = initialDelayNanos * Math.pow(multiplier, failures - 1);
+        long nanos = delay >= maxDelayNanos ? maxDelayNanos : (long) delay;
+        if (jitter > 0 && nanos > 0) {
+            nanos -= (long) (nanos * jitter * ThreadLocalRandom.current().nextDouble());
+        }
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy[maxAttempts=" + maxAttempts + ", initialDelay=" + initialDelayNanos + "ns, maxDelay=" + maxDelayNanos
+                + "ns, multiplier=" + multiplier + ", jitter=" + jitter + "]";
+    }
+}
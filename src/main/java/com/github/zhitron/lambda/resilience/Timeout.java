@@ -0,0 +1,138 @@
+package com.github.zhitron.lambda.resilience;
+
+import com.github.zhitron.ActuatorThrow;
+import com.github.zhitron.lambda.concurrent.VirtualThreads;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObjectThrow;
+import com.github.zhitron.lambda.supplier.ObjectSupplierThrow;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 为每次调用限定时间的装饰器，装饰结果与被装饰的函数是同一种接口。
+ * <p>
+ * 调用在执行器上执行，当前线程最多等待限定时间：按时完成时返回结果或原样抛出原始异常；
+ * 超时时中断执行调用的线程并抛出 {@link CallTimeoutException}；等待期间当前线程被中断时同样中断调用，
+ * 保留中断状态并抛出 {@link CancellationException}。默认的执行器为 {@link VirtualThreads#executor()}。
+ * 由于调用必须交给另一个线程，每次调用都会创建一个任务对象。
+ *
+ * @author zhitron
+ */
+public final class Timeout {
+
+    private Timeout() {
+    }
+
+    /**
+     * 装饰对象供应者，在共享的阻塞任务执行器上执行。
+     *
+     * @param supplier 对象供应者
+     * @param timeout  限定时间
+     * @param unit     时间单位
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 限定时间的对象供应者
+     */
+    public static <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier, long timeout, TimeUnit unit) {
+        return supplier(supplier, timeout, unit, VirtualThreads.executor());
+    }
+
+    /**
+     * 装饰对象供应者。
+     *
+     * @param supplier 对象供应者
+     * @param timeout  限定时间
+     * @param unit     时间单位
+     * @param executor 执行调用的执行器
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 限定时间的对象供应者
+     */
+    public static <R, E extends Exception> ObjectSupplierThrow<R, E> supplier(ObjectSupplierThrow<R, E> supplier, long timeout, TimeUnit unit, Executor executor) {
+        long nanos = unit.toNanos(timeout);
+        return () -> call(new FutureTask<>(supplier::getThrow), nanos, executor);
+    }
+
+    /**
+     * 装饰函数，在共享的阻塞任务执行器上执行。
+     *
+     * @param function 函数
+     * @param timeout  限定时间
+     * @param unit     时间单位
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 限定时间的函数
+     */
+    public static <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function, long timeout, TimeUnit unit) {
+        return function(function, timeout, unit, VirtualThreads.executor());
+    }
+
+    /**
+     * 装饰函数。
+     *
+     * @param function 函数
+     * @param timeout  限定时间
+     * @param unit     时间单位
+     * @param executor 执行调用的执行器
+     * @param <T>      参数类型
+     * @param <R>      结果类型
+     * @param <E>      异常类型
+     * @return 限定时间的函数
+     */
+    public static <T, R, E extends Exception> SingleFunctionObjectToObjectThrow<T, R, E> function(SingleFunctionObjectToObjectThrow<T, R, E> function, long timeout, TimeUnit unit, Executor executor) {
+        long nanos = unit.toNanos(timeout);
+        return v1 -> call(new FutureTask<>(() -> function.applyThrow(v1)), nanos, executor);
+    }
+
+    /**
+     * 装饰执行器，在共享的阻塞任务执行器上执行。
+     *
+     * @param actuator 执行器
+     * @param timeout  限定时间
+     * @param unit     时间单位
+     * @param <E>      异常类型
+     * @return 限定时间的执行器
+     */
+    public static <E extends Exception> ActuatorThrow<E> actuator(ActuatorThrow<E> actuator, long timeout, TimeUnit unit) {
+        return actuator(actuator, timeout, unit, VirtualThreads.executor());
+    }
+
+    /**
+     * 装饰执行器。
+     *
+     * @param actuator 执行器
+     * @param timeout  限定时间
+     * @param unit     时间单位
+     * @param executor 执行调用的执行器
+     * @param <E>      异常类型
+     * @return 限定时间的执行器
+     */
+    public static <E extends Exception> ActuatorThrow<E> actuator(ActuatorThrow<E> actuator, long timeout, TimeUnit unit, Executor executor) {
+        long nanos = unit.toNanos(timeout);
+        return () -> Timeout.<Void, E>call(new FutureTask<>(() -> {
+            actuator.executeThrow();
+            return null;
+        }), nanos, executor);
+    }
+
+    private static <R, E extends Exception> R call(FutureTask<R> task, long nanos, Executor executor) throws E {
+        executor.execute(task);
+        try {
+            return task.get(nanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw Calls.<E>rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw new CallTimeoutException("Call did not complete within " + nanos + "ns");
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the call");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerBoolean;
+
+import java.util.Spliterator;
+
+/**
+ * 基于 boolean 数组区间的分割器，拆分时总是对半平衡拆分。
+ *
+ * @author zhitron
+ */
+final class BooleanArraySpliterator implements BooleanSpliterator {
+    private final boolean[] array;
+    private final int characteristics;
+    private final int fence;
+    private int index;
+
+    BooleanArraySpliterator(boolean[] array, int fromIndex, int toIndex, int additionalCharacteristics) {
+        this.array = array;
+        this.index = fromIndex;
+        this.fence = toIndex;
+        this.characteristics = additionalCharacteristics | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    @Override
+    public BooleanSpliterator trySplit() {
+        int low = index, middle = (low + fence) >>> 1;
+        if (low >= middle) {
+            return null;
+        }
+        index = middle;
+        return new BooleanArraySpliterator(array, low, middle, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(SingleConsumerBoolean action) {
+        if (index < fence) {
+            action.accept(array[index++]);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(SingleConsumerBoolean action) {
+        boolean[] array = this.array;
+        int i = index, fence = this.fence;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.SingleConsumerBoolean;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 专用于 boolean 值的分割器，元素以 {@link SingleConsumerBoolean} 推送，避免装箱为 {@link Boolean}。
+ * 只有通过 {@link Consumer} 访问时才会发生装箱。
+ *
+ * @author zhitron
+ */
+public interface BooleanSpliterator extends Spliterator.OfPrimitive<Boolean, SingleConsumerBoolean, BooleanSpliterator> {
+
+    /**
+     * 创建覆盖整个数组的分割器，拆分时总是对半平衡拆分。
+     *
+     * @param array 数据源数组
+     * @return 数组分割器
+     */
+    static BooleanSpliterator of(boolean[] array) {
+        return new BooleanArraySpliterator(array, 0, array.length, Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * 创建覆盖数组指定区间的分割器，拆分时总是对半平衡拆分。
+     *
+     * @param array                      数据源数组
+     * @param fromIndex                  区间起始下标（包含）
+     * @param toIndex                    区间结束下标（不包含）
+     * @param additionalCharacteristics 除 SIZED、SUBSIZED、ORDERED 之外额外报告的特征值
+     * @return 数组分割器
+     */
+    static BooleanSpliterator of(boolean[] array, int fromIndex, int toIndex, int additionalCharacteristics) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", length: " + array.length);
+        }
+        return new BooleanArraySpliterator(array, fromIndex, toIndex, additionalCharacteristics);
+    }
+
+    /**
+     * 以装箱的方式推送下一个元素，如果消费者本身是 {@link SingleConsumerBoolean} 则不会装箱。
+     *
+     * @param action 元素的消费者
+     * @return 如果存在下一个元素返回 true
+     */
+    @Override
+    default boolean tryAdvance(Consumer<? super Boolean> action) {
+        if (action instanceof SingleConsumerBoolean) {
+            return tryAdvance((SingleConsumerBoolean) action);
+        }
+        return tryAdvance((SingleConsumerBoolean) action::accept);
+    }
+
+    /**
+     * 以装箱的方式推送剩余的全部元素，如果消费者本身是 {@link SingleConsumerBoolean} 则不会装箱。
+     *
+     * @param action 元素的消费者
+     */
+    @Override
+    default void forEachRemaining(Consumer<? super Boolean> action) {
+        if (action instanceof SingleConsumerBoolean) {
+            forEachRemaining((SingleConsumerBoolean) action);
+        } else {
+            forEachRemaining((SingleConsumerBoolean) action::accept);
+        }
+    }
+}
@@ -0,0 +1,1171 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.BasicConstant;
+import com.github.zhitron.lambda.consumer.SingleConsumerBoolean;
+import com.github.zhitron.lambda.consumer.SingleConsumerByte;
+import com.github.zhitron.lambda.consumer.SingleConsumerChar;
+import com.github.zhitron.lambda.consumer.SingleConsumerFloat;
+import com.github.zhitron.lambda.consumer.SingleConsumerShort;
+import com.github.zhitron.lambda.function.SingleFunctionCharToByte;
+import com.github.zhitron.lambda.function.SingleFunctionCharToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionCharToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionCharToInt;
+import com.github.zhitron.lambda.function.SingleFunctionCharToLong;
+import com.github.zhitron.lambda.function.SingleFunctionCharToObject;
+import com.github.zhitron.lambda.function.SingleFunctionCharToShort;
+import com.github.zhitron.lambda.operator.CharSingleOperator;
+import com.github.zhitron.lambda.operator.CharTwiceOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateChar;
+import com.github.zhitron.lambda.supplier.CharSupplier;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 元素为 char 的惰性流，所有中间操作与终止操作都直接接受本库的原始类型函数式接口，整个流水线不会装箱。
+ * <p>
+ * 流水线由逐级包装的 {@link CharSpliterator} 构成，顺序模式下在调用线程中直接推送元素，
+ * 并行模式下在 {@link java.util.concurrent.ForkJoinPool#commonPool()} 上拆分分割器并按遇到顺序合并结果。
+ * 与 JDK 流一样，每个流实例只能被操作一次。
+ *
+ * @author zhitron
+ */
+public final class CharStream {
+
+    /**
+     * 当前阶段的数据源分割器。
+     */
+    private final CharSpliterator spliterator;
+
+    /**
+     * 是否处于并行模式。
+     */
+    private boolean parallel;
+
+    /**
+     * 当前阶段是否已经被链接或消费。
+     */
+    private boolean linked;
+
+    CharStream(CharSpliterator spliterator, boolean parallel) {
+        this.spliterator = spliterator;
+        this.parallel = parallel;
+    }
+
+    /**
+     * 创建一个空流。
+     *
+     * @return 空流
+     */
+    public static CharStream empty() {
+        return of(BasicConstant.EMPTY_CHAR_ARRAY);
+    }
+
+    /**
+     * 创建包含给定元素的顺序流。
+     *
+     * @param values 流的元素
+     * @return 顺序流
+     */
+    public static CharStream of(char... values) {
+        return new CharStream(CharSpliterator.of(values), false);
+    }
+
+    /**
+     * 创建覆盖数组指定区间的顺序流。
+     *
+     * @param array     数据源数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @return 顺序流
+     */
+    public static CharStream of(char[] array, int fromIndex, int toIndex) {
+        return new CharStream(CharSpliterator.of(array, fromIndex, toIndex, Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * 基于给定的分割器创建流。
+     *
+     * @param spliterator 数据源分割器
+     * @param parallel    是否为并行流
+     * @return 新的流
+     */
+    public static CharStream stream(CharSpliterator spliterator, boolean parallel) {
+        return new CharStream(spliterator, parallel);
+    }
+
+    /**
+     * 创建由提供者无限生成元素的顺序流，通常需要配合 {@link #limit(long)} 使用。
+     *
+     * @param supplier 元素提供者
+     * @return 无限顺序流
+     */
+    public static CharStream generate(CharSupplier supplier) {
+        return new CharStream(new Generator(supplier), false);
+    }
+
+    /**
+     * 创建遍历字符序列中每个 char 的顺序流，遍历期间字符序列不应被修改。
+     *
+     * @param sequence 字符序列
+     * @return 顺序流
+     */
+    public static CharStream of(CharSequence sequence) {
+        return new CharStream(new SequenceSpliterator(sequence, 0, sequence.length()), false);
+    }
+
+    /**
+     * 将流切换为并行模式。
+     *
+     * @return 当前流
+     */
+    public CharStream parallel() {
+        parallel = true;
+        return this;
+    }
+
+    /**
+     * 将流切换为顺序模式。
+     *
+     * @return 当前流
+     */
+    public CharStream sequential() {
+        parallel = false;
+        return this;
+    }
+
+    /**
+     * 判断流是否处于并行模式。
+     *
+     * @return 如果为并行流返回 true
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private CharSpliterator link() {
+        if (linked) {
+            throw new IllegalStateException("stream has already been operated upon");
+        }
+        linked = true;
+        return spliterator;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 保留满足谓词的元素。
+     *
+     * @param predicate 元素谓词
+     * @return 新的流
+     */
+    public CharStream filter(SinglePredicateChar predicate) {
+        return new CharStream(new Filter(link(), predicate), parallel);
+    }
+
+    /**
+     * 将每个元素映射为同类型的新值。
+     *
+     * @param mapper 映射运算符
+     * @return 新的流
+     */
+    public CharStream map(CharSingleOperator mapper) {
+        return new CharStream(new Map(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 byte 值，返回 {@link ByteStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public ByteStream mapToByte(SingleFunctionCharToByte mapper) {
+        return new ByteStream(new MapToByte(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 short 值，返回 {@link ShortStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public ShortStream mapToShort(SingleFunctionCharToShort mapper) {
+        return new ShortStream(new MapToShort(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 float 值，返回 {@link FloatStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public FloatStream mapToFloat(SingleFunctionCharToFloat mapper) {
+        return new FloatStream(new MapToFloat(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 boolean 值，返回 {@link BooleanStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public BooleanStream mapToBoolean(SinglePredicateChar mapper) {
+        return new BooleanStream(new MapToBoolean(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 int 值，返回 JDK 的 {@link IntStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public IntStream mapToInt(SingleFunctionCharToInt mapper) {
+        return StreamSupport.intStream(new MapToInt(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 long 值，返回 JDK 的 {@link LongStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public LongStream mapToLong(SingleFunctionCharToLong mapper) {
+        return StreamSupport.longStream(new MapToLong(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 double 值，返回 JDK 的 {@link DoubleStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public DoubleStream mapToDouble(SingleFunctionCharToDouble mapper) {
+        return StreamSupport.doubleStream(new MapToDouble(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为对象，返回 JDK 的 {@link Stream}。
+     *
+     * @param mapper 映射函数
+     * @param <R> 映射结果类型
+     * @return 新的流
+     */
+    public <R> Stream<R> mapToObject(SingleFunctionCharToObject<R> mapper) {
+        return StreamSupport.stream(new MapToObject<>(link(), mapper), parallel);
+    }
+
+    /**
+     * 将元素装箱为 {@link Character}，返回 JDK 的 {@link Stream}。
+     *
+     * @return 新的流
+     */
+    public Stream<Character> boxed() {
+        return mapToObject(Character::valueOf);
+    }
+
+    /**
+     * 截取最多 maxSize 个元素，截取之后的流水线不再拆分。
+     *
+     * @param maxSize 最大元素数量
+     * @return 新的流
+     */
+    public CharStream limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(Long.toString(maxSize));
+        }
+        return new CharStream(new Slice(link(), 0, maxSize), parallel);
+    }
+
+    /**
+     * 跳过前 n 个元素，跳过之后的流水线不再拆分。
+     *
+     * @param n 跳过的元素数量
+     * @return 新的流
+     */
+    public CharStream skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(Long.toString(n));
+        }
+        return new CharStream(new Slice(link(), n, Long.MAX_VALUE), parallel);
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 对每个元素执行操作，并行模式下不保证执行顺序。
+     *
+     * @param action 元素的消费者，并行模式下需要支持并发调用
+     */
+    public void forEach(SingleConsumerChar action) {
+        CharSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            StreamTasks.evaluate(source, s -> {
+                s.forEachRemaining(action);
+                return null;
+            }, (left, right) -> null);
+        } else {
+            source.forEachRemaining(action);
+        }
+    }
+
+    /**
+     * 按遇到顺序对每个元素执行操作，即使在并行模式下也在调用线程中顺序执行。
+     *
+     * @param action 元素的消费者
+     */
+    public void forEachOrdered(SingleConsumerChar action) {
+        link().forEachRemaining(action);
+    }
+
+    /**
+     * 使用满足结合律的运算符归约所有元素。
+     *
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     * @return 归约结果，流为空时返回单位元
+     */
+    public char reduce(char identity, CharTwiceOperator operator) {
+        CharSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, s -> reduce(s, identity, operator), operator::apply);
+        }
+        return reduce(source, identity, operator);
+    }
+
+    private static char reduce(CharSpliterator spliterator, char identity, CharTwiceOperator operator) {
+        Reducer reducer = new Reducer(identity, operator);
+        spliterator.forEachRemaining(reducer);
+        return reducer.result;
+    }
+
+    /**
+     * 统计元素数量。
+     *
+     * @return 元素数量
+     */
+    public long count() {
+        CharSpliterator source = link();
+        long size = source.getExactSizeIfKnown();
+        if (size >= 0) {
+            return size;
+        }
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, CharStream::count, Long::sum);
+        }
+        return count(source);
+    }
+
+    private static long count(CharSpliterator spliterator) {
+        long[] count = {0L};
+        spliterator.forEachRemaining((SingleConsumerChar) v -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 按遇到顺序将所有元素收集到数组中。
+     *
+     * @return 元素数组
+     */
+    public char[] toArray() {
+        CharSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, CharStream::toArray, (left, right) -> {
+                char[] result = Arrays.copyOf(left, left.length + right.length);
+                System.arraycopy(right, 0, result, left.length, right.length);
+                return result;
+            });
+        }
+        return toArray(source);
+    }
+
+    private static char[] toArray(CharSpliterator spliterator) {
+        long size = spliterator.getExactSizeIfKnown();
+        Collector collector = new Collector(size >= 0 && size < Integer.MAX_VALUE - 8 ? (int) size : 16);
+        spliterator.forEachRemaining(collector);
+        return collector.values.length == collector.size ? collector.values : Arrays.copyOf(collector.values, collector.size);
+    }
+
+    /**
+     * 判断是否存在满足谓词的元素，找到后立即停止遍历。
+     *
+     * @param predicate 元素谓词
+     * @return 如果存在满足谓词的元素返回 true
+     */
+    public boolean anyMatch(SinglePredicateChar predicate) {
+        return match(predicate, true);
+    }
+
+    /**
+     * 判断是否所有元素都满足谓词，遇到不满足的元素后立即停止遍历。
+     *
+     * @param predicate 元素谓词
+     * @return 如果所有元素都满足谓词返回 true，空流返回 true
+     */
+    public boolean allMatch(SinglePredicateChar predicate) {
+        return !match(predicate, false);
+    }
+
+    /**
+     * 判断是否没有元素满足谓词，找到满足的元素后立即停止遍历。
+     *
+     * @param predicate 元素谓词
+     * @return 如果没有元素满足谓词返回 true，空流返回 true
+     */
+    public boolean noneMatch(SinglePredicateChar predicate) {
+        return !match(predicate, true);
+    }
+
+    /**
+     * 查找是否存在谓词结果等于 expected 的元素。
+     *
+     * @param predicate 元素谓词
+     * @param expected  期望的谓词结果
+     * @return 如果找到返回 true
+     */
+    private boolean match(SinglePredicateChar predicate, boolean expected) {
+        CharSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            AtomicBoolean found = new AtomicBoolean();
+            StreamTasks.evaluate(source, s -> {
+                Matcher matcher = new Matcher(predicate, expected);
+                while (!matcher.found && !found.get() && s.tryAdvance(matcher)) {
+                    if (matcher.found) {
+                        found.set(true);
+                    }
+                }
+                return null;
+            }, (left, right) -> null);
+            return found.get();
+        }
+        Matcher matcher = new Matcher(predicate, expected);
+        while (!matcher.found && source.tryAdvance(matcher)) {
+            // 逐个推进直到找到匹配的元素
+        }
+        return matcher.found;
+    }
+
+    /**
+     * 返回当前流的分割器，之后该流不能再被操作。
+     *
+     * @return 分割器
+     */
+    public CharSpliterator spliterator() {
+        return link();
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 归约操作的累加器。
+     */
+    private static final class Reducer implements SingleConsumerChar {
+        private final CharTwiceOperator operator;
+        private char result;
+
+        Reducer(char identity, CharTwiceOperator operator) {
+            this.result = identity;
+            this.operator = operator;
+        }
+
+        @Override
+        public void accept(char v1) {
+            result = operator.apply(result, v1);
+        }
+    }
+
+    /**
+     * 收集操作的可增长缓冲区。
+     */
+    private static final class Collector implements SingleConsumerChar {
+        private char[] values;
+        private int size;
+
+        Collector(int capacity) {
+            this.values = new char[capacity];
+        }
+
+        @Override
+        public void accept(char v1) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, size + (size >> 1)));
+            }
+            values[size++] = v1;
+        }
+    }
+
+    /**
+     * 短路匹配操作的检测器。
+     */
+    private static final class Matcher implements SingleConsumerChar {
+        private final SinglePredicateChar predicate;
+        private final boolean expected;
+        private boolean found;
+
+        Matcher(SinglePredicateChar predicate, boolean expected) {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        @Override
+        public void accept(char v1) {
+            if (predicate.test(v1) == expected) {
+                found = true;
+            }
+        }
+    }
+
+    /**
+     * 由提供者无限生成元素的分割器，不支持拆分。
+     */
+    private static final class Generator implements CharSpliterator {
+        private final CharSupplier supplier;
+
+        Generator(CharSupplier supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerChar action) {
+            action.accept(supplier.getAsChar());
+            return true;
+        }
+
+        @Override
+        public CharSpliterator trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.IMMUTABLE;
+        }
+    }
+
+    /**
+     * 过滤阶段的分割器。
+     */
+    private static final class Filter implements CharSpliterator, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SinglePredicateChar predicate;
+        private char value;
+        private boolean matched;
+
+        Filter(CharSpliterator upstream, SinglePredicateChar predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void accept(char v1) {
+            if (predicate.test(v1)) {
+                value = v1;
+                matched = true;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerChar action) {
+            matched = false;
+            while (!matched && upstream.tryAdvance(this)) {
+                // 逐个推进直到找到满足谓词的元素
+            }
+            if (matched) {
+                action.accept(value);
+            }
+            return matched;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerChar action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> {
+                if (predicate.test(v)) {
+                    action.accept(v);
+                }
+            });
+        }
+
+        @Override
+        public CharSpliterator trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new Filter(prefix, predicate);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    /**
+     * 截取与跳过阶段的分割器，不支持拆分。
+     */
+    private static final class Slice implements CharSpliterator, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private long skip;
+        private long remaining;
+        private char value;
+
+        Slice(CharSpliterator upstream, long skip, long limit) {
+            this.upstream = upstream;
+            this.skip = skip;
+            this.remaining = limit;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = v1;
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerChar action) {
+            while (skip > 0) {
+                skip--;
+                if (!upstream.tryAdvance(this)) {
+                    skip = 0;
+                    remaining = 0;
+                }
+            }
+            if (remaining > 0 && upstream.tryAdvance(this)) {
+                remaining--;
+                action.accept(value);
+                return true;
+            }
+            remaining = 0;
+            return false;
+        }
+
+        @Override
+        public CharSpliterator trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = upstream.estimateSize();
+            if (size == Long.MAX_VALUE && (upstream.characteristics() & Spliterator.SIZED) == 0) {
+                return remaining;
+            }
+            return Math.max(0, Math.min(size - skip, remaining));
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    /**
+     * 同类型映射阶段的分割器。
+     */
+    private static final class Map implements CharSpliterator, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final CharSingleOperator mapper;
+        private char value;
+
+        Map(CharSpliterator upstream, CharSingleOperator mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerChar action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerChar action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public CharSpliterator trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new Map(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 byte 阶段的分割器。
+     */
+    private static final class MapToByte implements ByteSpliterator, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SingleFunctionCharToByte mapper;
+        private byte value;
+
+        MapToByte(CharSpliterator upstream, SingleFunctionCharToByte mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerByte action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerByte action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public ByteSpliterator trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToByte(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 short 阶段的分割器。
+     */
+    private static final class MapToShort implements ShortSpliterator, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SingleFunctionCharToShort mapper;
+        private short value;
+
+        MapToShort(CharSpliterator upstream, SingleFunctionCharToShort mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerShort action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerShort action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public ShortSpliterator trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToShort(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 float 阶段的分割器。
+     */
+    private static final class MapToFloat implements FloatSpliterator, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SingleFunctionCharToFloat mapper;
+        private float value;
+
+        MapToFloat(CharSpliterator upstream, SingleFunctionCharToFloat mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerFloat action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerFloat action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public FloatSpliterator trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToFloat(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 boolean 阶段的分割器。
+     */
+    private static final class MapToBoolean implements BooleanSpliterator, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SinglePredicateChar mapper;
+        private boolean value;
+
+        MapToBoolean(CharSpliterator upstream, SinglePredicateChar mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.test(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerBoolean action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerBoolean action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.test(v)));
+        }
+
+        @Override
+        public BooleanSpliterator trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToBoolean(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 int 阶段的分割器。
+     */
+    private static final class MapToInt implements Spliterator.OfInt, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SingleFunctionCharToInt mapper;
+        private int value;
+
+        MapToInt(CharSpliterator upstream, SingleFunctionCharToInt mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToInt(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 long 阶段的分割器。
+     */
+    private static final class MapToLong implements Spliterator.OfLong, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SingleFunctionCharToLong mapper;
+        private long value;
+
+        MapToLong(CharSpliterator upstream, SingleFunctionCharToLong mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToLong(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 double 阶段的分割器。
+     */
+    private static final class MapToDouble implements Spliterator.OfDouble, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SingleFunctionCharToDouble mapper;
+        private double value;
+
+        MapToDouble(CharSpliterator upstream, SingleFunctionCharToDouble mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToDouble(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 对象 阶段的分割器。
+     */
+    private static final class MapToObject<R> implements Spliterator<R>, SingleConsumerChar {
+        private final CharSpliterator upstream;
+        private final SingleFunctionCharToObject<R> mapper;
+        private R value;
+
+        MapToObject(CharSpliterator upstream, SingleFunctionCharToObject<R> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(char v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            upstream.forEachRemaining((SingleConsumerChar) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            CharSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToObject<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        }
+    }
+
+    /**
+     * 基于字符序列区间的分割器，拆分时对半平衡拆分。
+     */
+    private static final class SequenceSpliterator implements CharSpliterator {
+        private final CharSequence sequence;
+        private final int fence;
+        private int index;
+
+        SequenceSpliterator(CharSequence sequence, int index, int fence) {
+            this.sequence = sequence;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerChar action) {
+            if (index < fence) {
+                action.accept(sequence.charAt(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerChar action) {
+            CharSequence sequence = this.sequence;
+            int i = index, fence = this.fence;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept(sequence.charAt(i));
+            }
+        }
+
+        @Override
+        public CharSpliterator trySplit() {
+            int low = index, middle = (low + fence) >>> 1;
+            if (low >= middle) {
+                return null;
+            }
+            index = middle;
+            return new SequenceSpliterator(sequence, low, middle);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerInt;
+
+import java.util.Spliterator;
+
+/**
+ * 基于两个数组相同区间的二元组分割器，拆分时总是对半平衡拆分。
+ *
+ * @author zhitron
+ */
+final class IntIntArraySpliterator implements IntIntSpliterator {
+    private final int[] firsts;
+    private final int[] seconds;
+    private final int fence;
+    private int index;
+
+    IntIntArraySpliterator(int[] firsts, int[] seconds, int fromIndex, int toIndex) {
+        this.firsts = firsts;
+        this.seconds = seconds;
+        this.index = fromIndex;
+        this.fence = toIndex;
+    }
+
+    @Override
+    public IntIntSpliterator trySplit() {
+        int low = index, middle = (low + fence) >>> 1;
+        if (low >= middle) {
+            return null;
+        }
+        index = middle;
+        return new IntIntArraySpliterator(firsts, seconds, low, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(TwiceConsumerInt action) {
+        if (index < fence) {
+            action.accept(firsts[index], seconds[index]);
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(TwiceConsumerInt action) {
+        int[] firsts = this.firsts;
+        int[] seconds = this.seconds;
+        int i = index, fence = this.fence;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(firsts[i], seconds[i]);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerInt;
+
+/**
+ * 元素为 (int, int) 二元组的分割器，二元组从不实例化为对象，两个分量通过 {@link TwiceConsumerInt} 直接推送。
+ *
+ * @author zhitron
+ */
+public interface IntIntSpliterator extends PairSpliterator<IntIntSpliterator> {
+
+    /**
+     * 创建覆盖两个等长数组的分割器，下标相同的元素组成一个二元组，拆分时总是对半平衡拆分。
+     *
+     * @param firsts  第一个分量数组
+     * @param seconds 第二个分量数组
+     * @return 数组分割器
+     * @throws IllegalArgumentException 当两个数组长度不一致时抛出
+     */
+    static IntIntSpliterator of(int[] firsts, int[] seconds) {
+        if (firsts.length != seconds.length) {
+            throw new IllegalArgumentException("Length mismatch: " + firsts.length + " != " + seconds.length);
+        }
+        return of(firsts, seconds, 0, firsts.length);
+    }
+
+    /**
+     * 创建覆盖两个数组相同区间的分割器，下标相同的元素组成一个二元组，拆分时总是对半平衡拆分。
+     *
+     * @param firsts    第一个分量数组
+     * @param seconds   第二个分量数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @return 数组分割器
+     */
+    static IntIntSpliterator of(int[] firsts, int[] seconds, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > firsts.length || toIndex > seconds.length) {
+            throw new ArrayIndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+        }
+        return new IntIntArraySpliterator(firsts, seconds, fromIndex, toIndex);
+    }
+
+    /**
+     * 如果存在剩余元素，则将下一个二元组推送给消费者。
+     *
+     * @param action 二元组的消费者
+     * @return 如果存在下一个元素返回 true
+     */
+    boolean tryAdvance(TwiceConsumerInt action);
+
+    /**
+     * 将剩余的全部二元组依次推送给消费者。
+     *
+     * @param action 二元组的消费者
+     */
+    default void forEachRemaining(TwiceConsumerInt action) {
+        while (tryAdvance(action)) {
+            // 逐个推进直到没有剩余元素
+        }
+    }
+}
@@ -0,0 +1,710 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerInt;
+import com.github.zhitron.lambda.function.TwiceFunctionIntToDouble;
+import com.github.zhitron.lambda.function.TwiceFunctionIntToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionIntToLong;
+import com.github.zhitron.lambda.function.TwiceFunctionIntToObject;
+import com.github.zhitron.lambda.predicate.TwicePredicateInt;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 元素为 (int, int) 二元组的惰性流，二元组在整个流水线中从不实例化为对象，
+ * 每个阶段都直接以两个分量调用本库的双参数函数式接口，从而避免为每个元素分配 {@code Map.Entry} 之类的包装对象。
+ * <p>
+ * 并行模式下终止操作在 {@link java.util.concurrent.ForkJoinPool#commonPool()} 上拆分分割器求值。
+ * 与 JDK 流一样，每个流实例只能被操作一次。
+ *
+ * @author zhitron
+ */
+public final class IntIntStream {
+
+    /**
+     * 当前阶段的数据源分割器。
+     */
+    private final IntIntSpliterator spliterator;
+
+    /**
+     * 是否处于并行模式。
+     */
+    private boolean parallel;
+
+    /**
+     * 当前阶段是否已经被链接或消费。
+     */
+    private boolean linked;
+
+    IntIntStream(IntIntSpliterator spliterator, boolean parallel) {
+        this.spliterator = spliterator;
+        this.parallel = parallel;
+    }
+
+    /**
+     * 创建由两个等长数组中下标相同的元素组成二元组的顺序流。
+     *
+     * @param firsts  第一个分量数组
+     * @param seconds 第二个分量数组
+     * @return 顺序流
+     */
+    public static IntIntStream of(int[] firsts, int[] seconds) {
+        return new IntIntStream(IntIntSpliterator.of(firsts, seconds), false);
+    }
+
+    /**
+     * 创建由两个数组相同区间中下标相同的元素组成二元组的顺序流。
+     *
+     * @param firsts    第一个分量数组
+     * @param seconds   第二个分量数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @return 顺序流
+     */
+    public static IntIntStream of(int[] firsts, int[] seconds, int fromIndex, int toIndex) {
+        return new IntIntStream(IntIntSpliterator.of(firsts, seconds, fromIndex, toIndex), false);
+    }
+
+    /**
+     * 基于给定的二元组分割器创建流。
+     *
+     * @param spliterator 数据源分割器
+     * @param parallel    是否为并行流
+     * @return 新的流
+     */
+    public static IntIntStream stream(IntIntSpliterator spliterator, boolean parallel) {
+        return new IntIntStream(spliterator, parallel);
+    }
+
+    /**
+     * 将流切换为并行模式。
+     *
+     * @return 当前流
+     */
+    public IntIntStream parallel() {
+        parallel = true;
+        return this;
+    }
+
+    /**
+     * 将流切换为顺序模式。
+     *
+     * @return 当前流
+     */
+    public IntIntStream sequential() {
+        parallel = false;
+        return this;
+    }
+
+    /**
+     * 判断流是否处于并行模式。
+     *
+     * @return 如果为并行流返回 true
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private IntIntSpliterator link() {
+        if (linked) {
+            throw new IllegalStateException("stream has already been operated upon");
+        }
+        linked = true;
+        return spliterator;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 保留满足谓词的二元组。
+     *
+     * @param predicate 二元组谓词
+     * @return 新的流
+     */
+    public IntIntStream filter(TwicePredicateInt predicate) {
+        return new IntIntStream(new Filter(link(), predicate), parallel);
+    }
+
+    /**
+     * 使用二元组计算新的第一个分量，第二个分量保持不变。
+     *
+     * @param mapper 第一个分量的映射函数
+     * @return 新的流
+     */
+    public IntIntStream mapFirst(TwiceFunctionIntToInt mapper) {
+        return new IntIntStream(new MapFirst(link(), mapper), parallel);
+    }
+
+    /**
+     * 使用二元组计算新的第二个分量，第一个分量保持不变。
+     *
+     * @param mapper 第二个分量的映射函数
+     * @return 新的流
+     */
+    public IntIntStream mapSecond(TwiceFunctionIntToInt mapper) {
+        return new IntIntStream(new MapSecond(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 int 值，返回 JDK 的 {@link IntStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public IntStream mapToInt(TwiceFunctionIntToInt mapper) {
+        return StreamSupport.intStream(new MapToInt(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 long 值，返回 JDK 的 {@link LongStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public LongStream mapToLong(TwiceFunctionIntToLong mapper) {
+        return StreamSupport.longStream(new MapToLong(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 double 值，返回 JDK 的 {@link DoubleStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public DoubleStream mapToDouble(TwiceFunctionIntToDouble mapper) {
+        return StreamSupport.doubleStream(new MapToDouble(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 对象，返回 JDK 的 {@link Stream}。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 新的流
+     */
+    public <R> Stream<R> mapToObject(TwiceFunctionIntToObject<R> mapper) {
+        return StreamSupport.stream(new MapToObject<>(link(), mapper), parallel);
+    }
+
+    /**
+     * 只保留二元组的第一个分量。
+     *
+     * @return 第一个分量组成的流
+     */
+    public IntStream firsts() {
+        return mapToInt((TwiceFunctionIntToInt) (v1, v2) -> v1);
+    }
+
+    /**
+     * 只保留二元组的第二个分量。
+     *
+     * @return 第二个分量组成的流
+     */
+    public IntStream seconds() {
+        return mapToInt((TwiceFunctionIntToInt) (v1, v2) -> v2);
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 对每个二元组执行操作，并行模式下不保证执行顺序。
+     *
+     * @param action 二元组的消费者，并行模式下需要支持并发调用
+     */
+    public void forEach(TwiceConsumerInt action) {
+        IntIntSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            StreamTasks.evaluate(source, s -> {
+                s.forEachRemaining(action);
+                return null;
+            }, (left, right) -> null);
+        } else {
+            source.forEachRemaining(action);
+        }
+    }
+
+    /**
+     * 按遇到顺序对每个二元组执行操作，即使在并行模式下也在调用线程中顺序执行。
+     *
+     * @param action 二元组的消费者
+     */
+    public void forEachOrdered(TwiceConsumerInt action) {
+        link().forEachRemaining(action);
+    }
+
+    /**
+     * 统计二元组数量。
+     *
+     * @return 二元组数量
+     */
+    public long count() {
+        IntIntSpliterator source = link();
+        long size = source.getExactSizeIfKnown();
+        if (size >= 0) {
+            return size;
+        }
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, IntIntStream::count, Long::sum);
+        }
+        return count(source);
+    }
+
+    private static long count(IntIntSpliterator spliterator) {
+        long[] count = {0L};
+        spliterator.forEachRemaining((TwiceConsumerInt) (v1, v2) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 判断是否存在满足谓词的二元组，找到后立即停止遍历。
+     *
+     * @param predicate 二元组谓词
+     * @return 如果存在满足谓词的二元组返回 true
+     */
+    public boolean anyMatch(TwicePredicateInt predicate) {
+        return match(predicate, true);
+    }
+
+    /**
+     * 判断是否所有二元组都满足谓词，遇到不满足的二元组后立即停止遍历。
+     *
+     * @param predicate 二元组谓词
+     * @return 如果所有二元组都满足谓词返回 true，空流返回 true
+     */
+    public boolean allMatch(TwicePredicateInt predicate) {
+        return !match(predicate, false);
+    }
+
+    /**
+     * 判断是否没有二元组满足谓词，找到满足的二元组后立即停止遍历。
+     *
+     * @param predicate 二元组谓词
+     * @return 如果没有二元组满足谓词返回 true，空流返回 true
+     */
+    public boolean noneMatch(TwicePredicateInt predicate) {
+        return !match(predicate, true);
+    }
+
+    private boolean match(TwicePredicateInt predicate, boolean expected) {
+        IntIntSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            AtomicBoolean found = new AtomicBoolean();
+            StreamTasks.evaluate(source, s -> {
+                Matcher matcher = new Matcher(predicate, expected);
+                while (!matcher.found && !found.get() && s.tryAdvance(matcher)) {
+                    if (matcher.found) {
+                        found.set(true);
+                    }
+                }
+                return null;
+            }, (left, right) -> null);
+            return found.get();
+        }
+        Matcher matcher = new Matcher(predicate, expected);
+        while (!matcher.found && source.tryAdvance(matcher)) {
+            // 逐个推进直到找到匹配的二元组
+        }
+        return matcher.found;
+    }
+
+    /**
+     * 返回当前流的分割器，之后该流不能再被操作。
+     *
+     * @return 分割器
+     */
+    public IntIntSpliterator spliterator() {
+        return link();
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 短路匹配操作的检测器。
+     */
+    private static final class Matcher implements TwiceConsumerInt {
+        private final TwicePredicateInt predicate;
+        private final boolean expected;
+        private boolean found;
+
+        Matcher(TwicePredicateInt predicate, boolean expected) {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            if (predicate.test(v1, v2) == expected) {
+                found = true;
+            }
+        }
+    }
+
+    /**
+     * 过滤阶段的分割器。
+     */
+    private static final class Filter implements IntIntSpliterator, TwiceConsumerInt {
+        private final IntIntSpliterator upstream;
+        private final TwicePredicateInt predicate;
+        private int first;
+        private int second;
+        private boolean matched;
+
+        Filter(IntIntSpliterator upstream, TwicePredicateInt predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            if (predicate.test(v1, v2)) {
+                first = v1;
+                second = v2;
+                matched = true;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(TwiceConsumerInt action) {
+            matched = false;
+            while (!matched && upstream.tryAdvance(this)) {
+                // 逐个推进直到找到满足谓词的二元组
+            }
+            if (matched) {
+                action.accept(first, second);
+            }
+            return matched;
+        }
+
+        @Override
+        public void forEachRemaining(TwiceConsumerInt action) {
+            upstream.forEachRemaining((TwiceConsumerInt) (v1, v2) -> {
+                if (predicate.test(v1, v2)) {
+                    action.accept(v1, v2);
+                }
+            });
+        }
+
+        @Override
+        public IntIntSpliterator trySplit() {
+            IntIntSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new Filter(prefix, predicate);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    /**
+     * 映射第一个分量阶段的分割器。
+     */
+    private static final class MapFirst implements IntIntSpliterator, TwiceConsumerInt {
+        private final IntIntSpliterator upstream;
+        private final TwiceFunctionIntToInt mapper;
+        private int first;
+        private int second;
+
+        MapFirst(IntIntSpliterator upstream, TwiceFunctionIntToInt mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            first = mapper.apply(v1, v2);
+            second = v2;
+        }
+
+        @Override
+        public boolean tryAdvance(TwiceConsumerInt action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(first, second);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(TwiceConsumerInt action) {
+            upstream.forEachRemaining((TwiceConsumerInt) (v1, v2) -> action.accept(mapper.apply(v1, v2), v2));
+        }
+
+        @Override
+        public IntIntSpliterator trySplit() {
+            IntIntSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapFirst(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射第二个分量阶段的分割器。
+     */
+    private static final class MapSecond implements IntIntSpliterator, TwiceConsumerInt {
+        private final IntIntSpliterator upstream;
+        private final TwiceFunctionIntToInt mapper;
+        private int first;
+        private int second;
+
+        MapSecond(IntIntSpliterator upstream, TwiceFunctionIntToInt mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            first = v1;
+            second = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(TwiceConsumerInt action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(first, second);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(TwiceConsumerInt action) {
+            upstream.forEachRemaining((TwiceConsumerInt) (v1, v2) -> action.accept(v1, mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public IntIntSpliterator trySplit() {
+            IntIntSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapSecond(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 int 值 阶段的分割器。
+     */
+    private static final class MapToInt implements Spliterator.OfInt, TwiceConsumerInt {
+        private final IntIntSpliterator upstream;
+        private final TwiceFunctionIntToInt mapper;
+        private int value;
+
+        MapToInt(IntIntSpliterator upstream, TwiceFunctionIntToInt mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            upstream.forEachRemaining((TwiceConsumerInt) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            IntIntSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToInt(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 long 值 阶段的分割器。
+     */
+    private static final class MapToLong implements Spliterator.OfLong, TwiceConsumerInt {
+        private final IntIntSpliterator upstream;
+        private final TwiceFunctionIntToLong mapper;
+        private long value;
+
+        MapToLong(IntIntSpliterator upstream, TwiceFunctionIntToLong mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            upstream.forEachRemaining((TwiceConsumerInt) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            IntIntSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToLong(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 double 值 阶段的分割器。
+     */
+    private static final class MapToDouble implements Spliterator.OfDouble, TwiceConsumerInt {
+        private final IntIntSpliterator upstream;
+        private final TwiceFunctionIntToDouble mapper;
+        private double value;
+
+        MapToDouble(IntIntSpliterator upstream, TwiceFunctionIntToDouble mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            upstream.forEachRemaining((TwiceConsumerInt) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            IntIntSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToDouble(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 对象 阶段的分割器。
+     */
+    private static final class MapToObject<R> implements Spliterator<R>, TwiceConsumerInt {
+        private final IntIntSpliterator upstream;
+        private final TwiceFunctionIntToObject<R> mapper;
+        private R value;
+
+        MapToObject(IntIntSpliterator upstream, TwiceFunctionIntToObject<R> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, int v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            upstream.forEachRemaining((TwiceConsumerInt) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            IntIntSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToObject<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerIntLong;
+
+import java.util.Spliterator;
+
+/**
+ * 基于两个数组相同区间的二元组分割器，拆分时总是对半平衡拆分。
+ *
+ * @author zhitron
+ */
+final class IntLongArraySpliterator implements IntLongSpliterator {
+    private final int[] firsts;
+    private final long[] seconds;
+    private final int fence;
+    private int index;
+
+    IntLongArraySpliterator(int[] firsts, long[] seconds, int fromIndex, int toIndex) {
+        this.firsts = firsts;
+        this.seconds = seconds;
+        this.index = fromIndex;
+        this.fence = toIndex;
+    }
+
+    @Override
+    public IntLongSpliterator trySplit() {
+        int low = index, middle = (low + fence) >>> 1;
+        if (low >= middle) {
+            return null;
+        }
+        index = middle;
+        return new IntLongArraySpliterator(firsts, seconds, low, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(TwiceConsumerIntLong action) {
+        if (index < fence) {
+            action.accept(firsts[index], seconds[index]);
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(TwiceConsumerIntLong action) {
+        int[] firsts = this.firsts;
+        long[] seconds = this.seconds;
+        int i = index, fence = this.fence;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(firsts[i], seconds[i]);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,710 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerIntLong;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToDouble;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToLong;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToObject;
+import com.github.zhitron.lambda.predicate.TwicePredicateIntLong;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 元素为 (int, long) 二元组的惰性流，二元组在整个流水线中从不实例化为对象，
+ * 每个阶段都直接以两个分量调用本库的双参数函数式接口，从而避免为每个元素分配 {@code Map.Entry} 之类的包装对象。
+ * <p>
+ * 并行模式下终止操作在 {@link java.util.concurrent.ForkJoinPool#commonPool()} 上拆分分割器求值。
+ * 与 JDK 流一样，每个流实例只能被操作一次。
+ *
+ * @author zhitron
+ */
+public final class IntLongStream {
+
+    /**
+     * 当前阶段的数据源分割器。
+     */
+    private final IntLongSpliterator spliterator;
+
+    /**
+     * 是否处于并行模式。
+     */
+    private boolean parallel;
+
+    /**
+     * 当前阶段是否已经被链接或消费。
+     */
+    private boolean linked;
+
+    IntLongStream(IntLongSpliterator spliterator, boolean parallel) {
+        this.spliterator = spliterator;
+        this.parallel = parallel;
+    }
+
+    /**
+     * 创建由两个等长数组中下标相同的元素组成二元组的顺序流。
+     *
+     * @param firsts  第一个分量数组
+     * @param seconds 第二个分量数组
+     * @return 顺序流
+     */
+    public static IntLongStream of(int[] firsts, long[] seconds) {
+        return new IntLongStream(IntLongSpliterator.of(firsts, seconds), false);
+    }
+
+    /**
+     * 创建由两个数组相同区间中下标相同的元素组成二元组的顺序流。
+     *
+     * @param firsts    第一个分量数组
+     * @param seconds   第二个分量数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @return 顺序流
+     */
+    public static IntLongStream of(int[] firsts, long[] seconds, int fromIndex, int toIndex) {
+        return new IntLongStream(IntLongSpliterator.of(firsts, seconds, fromIndex, toIndex), false);
+    }
+
+    /**
+     * 基于给定的二元组分割器创建流。
+     *
+     * @param spliterator 数据源分割器
+     * @param parallel    是否为并行流
+     * @return 新的流
+     */
+    public static IntLongStream stream(IntLongSpliterator spliterator, boolean parallel) {
+        return new IntLongStream(spliterator, parallel);
+    }
+
+    /**
+     * 将流切换为并行模式。
+     *
+     * @return 当前流
+     */
+    public IntLongStream parallel() {
+        parallel = true;
+        return this;
+    }
+
+    /**
+     * 将流切换为顺序模式。
+     *
+     * @return 当前流
+     */
+    public IntLongStream sequential() {
+        parallel = false;
+        return this;
+    }
+
+    /**
+     * 判断流是否处于并行模式。
+     *
+     * @return 如果为并行流返回 true
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private IntLongSpliterator link() {
+        if (linked) {
+            throw new IllegalStateException("stream has already been operated upon");
+        }
+        linked = true;
+        return spliterator;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 保留满足谓词的二元组。
+     *
+     * @param predicate 二元组谓词
+     * @return 新的流
+     */
+    public IntLongStream filter(TwicePredicateIntLong predicate) {
+        return new IntLongStream(new Filter(link(), predicate), parallel);
+    }
+
+    /**
+     * 使用二元组计算新的第一个分量，第二个分量保持不变。
+     *
+     * @param mapper 第一个分量的映射函数
+     * @return 新的流
+     */
+    public IntLongStream mapFirst(TwiceFunctionIntLongToInt mapper) {
+        return new IntLongStream(new MapFirst(link(), mapper), parallel);
+    }
+
+    /**
+     * 使用二元组计算新的第二个分量，第一个分量保持不变。
+     *
+     * @param mapper 第二个分量的映射函数
+     * @return 新的流
+     */
+    public IntLongStream mapSecond(TwiceFunctionIntLongToLong mapper) {
+        return new IntLongStream(new MapSecond(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 int 值，返回 JDK 的 {@link IntStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public IntStream mapToInt(TwiceFunctionIntLongToInt mapper) {
+        return StreamSupport.intStream(new MapToInt(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 long 值，返回 JDK 的 {@link LongStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public LongStream mapToLong(TwiceFunctionIntLongToLong mapper) {
+        return StreamSupport.longStream(new MapToLong(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 double 值，返回 JDK 的 {@link DoubleStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public DoubleStream mapToDouble(TwiceFunctionIntLongToDouble mapper) {
+        return StreamSupport.doubleStream(new MapToDouble(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个二元组映射为 对象，返回 JDK 的 {@link Stream}。
+     *
+     * @param mapper 映射函数
+     * @param <R>    映射结果类型
+     * @return 新的流
+     */
+    public <R> Stream<R> mapToObject(TwiceFunctionIntLongToObject<R> mapper) {
+        return StreamSupport.stream(new MapToObject<>(link(), mapper), parallel);
+    }
+
+    /**
+     * 只保留二元组的第一个分量。
+     *
+     * @return 第一个分量组成的流
+     */
+    public IntStream firsts() {
+        return mapToInt((TwiceFunctionIntLongToInt) (v1, v2) -> v1);
+    }
+
+    /**
+     * 只保留二元组的第二个分量。
+     *
+     * @return 第二个分量组成的流
+     */
+    public LongStream seconds() {
+        return mapToLong((TwiceFunctionIntLongToLong) (v1, v2) -> v2);
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 对每个二元组执行操作，并行模式下不保证执行顺序。
+     *
+     * @param action 二元组的消费者，并行模式下需要支持并发调用
+     */
+    public void forEach(TwiceConsumerIntLong action) {
+        IntLongSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            StreamTasks.evaluate(source, s -> {
+                s.forEachRemaining(action);
+                return null;
+            }, (left, right) -> null);
+        } else {
+            source.forEachRemaining(action);
+        }
+    }
+
+    /**
+     * 按遇到顺序对每个二元组执行操作，即使在并行模式下也在调用线程中顺序执行。
+     *
+     * @param action 二元组的消费者
+     */
+    public void forEachOrdered(TwiceConsumerIntLong action) {
+        link().forEachRemaining(action);
+    }
+
+    /**
+     * 统计二元组数量。
+     *
+     * @return 二元组数量
+     */
+    public long count() {
+        IntLongSpliterator source = link();
+        long size = source.getExactSizeIfKnown();
+        if (size >= 0) {
+            return size;
+        }
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, IntLongStream::count, Long::sum);
+        }
+        return count(source);
+    }
+
+    private static long count(IntLongSpliterator spliterator) {
+        long[] count = {0L};
+        spliterator.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 判断是否存在满足谓词的二元组，找到后立即停止遍历。
+     *
+     * @param predicate 二元组谓词
+     * @return 如果存在满足谓词的二元组返回 true
+     */
+    public boolean anyMatch(TwicePredicateIntLong predicate) {
+        return match(predicate, true);
+    }
+
+    /**
+     * 判断是否所有二元组都满足谓词，遇到不满足的二元组后立即停止遍历。
+     *
+     * @param predicate 二元组谓词
+     * @return 如果所有二元组都满足谓词返回 true，空流返回 true
+     */
+    public boolean allMatch(TwicePredicateIntLong predicate) {
+        return !match(predicate, false);
+    }
+
+    /**
+     * 判断是否没有二元组满足谓词，找到满足的二元组后立即停止遍历。
+     *
+     * @param predicate 二元组谓词
+     * @return 如果没有二元组满足谓词返回 true，空流返回 true
+     */
+    public boolean noneMatch(TwicePredicateIntLong predicate) {
+        return !match(predicate, true);
+    }
+
+    private boolean match(TwicePredicateIntLong predicate, boolean expected) {
+        IntLongSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            AtomicBoolean found = new AtomicBoolean();
+            StreamTasks.evaluate(source, s -> {
+                Matcher matcher = new Matcher(predicate, expected);
+                while (!matcher.found && !found.get() && s.tryAdvance(matcher)) {
+                    if (matcher.found) {
+                        found.set(true);
+                    }
+                }
+                return null;
+            }, (left, right) -> null);
+            return found.get();
+        }
+        Matcher matcher = new Matcher(predicate, expected);
+        while (!matcher.found && source.tryAdvance(matcher)) {
+            // 逐个推进直到找到匹配的二元组
+        }
+        return matcher.found;
+    }
+
+    /**
+     * 返回当前流的分割器，之后该流不能再被操作。
+     *
+     * @return 分割器
+     */
+    public IntLongSpliterator spliterator() {
+        return link();
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 短路匹配操作的检测器。
+     */
+    private static final class Matcher implements TwiceConsumerIntLong {
+        private final TwicePredicateIntLong predicate;
+        private final boolean expected;
+        private boolean found;
+
+        Matcher(TwicePredicateIntLong predicate, boolean expected) {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            if (predicate.test(v1, v2) == expected) {
+                found = true;
+            }
+        }
+    }
+
+    /**
+     * 过滤阶段的分割器。
+     */
+    private static final class Filter implements IntLongSpliterator, TwiceConsumerIntLong {
+        private final IntLongSpliterator upstream;
+        private final TwicePredicateIntLong predicate;
+        private int first;
+        private long second;
+        private boolean matched;
+
+        Filter(IntLongSpliterator upstream, TwicePredicateIntLong predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            if (predicate.test(v1, v2)) {
+                first = v1;
+                second = v2;
+                matched = true;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(TwiceConsumerIntLong action) {
+            matched = false;
+            while (!matched && upstream.tryAdvance(this)) {
+                // 逐个推进直到找到满足谓词的二元组
+            }
+            if (matched) {
+                action.accept(first, second);
+            }
+            return matched;
+        }
+
+        @Override
+        public void forEachRemaining(TwiceConsumerIntLong action) {
+            upstream.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> {
+                if (predicate.test(v1, v2)) {
+                    action.accept(v1, v2);
+                }
+            });
+        }
+
+        @Override
+        public IntLongSpliterator trySplit() {
+            IntLongSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new Filter(prefix, predicate);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    /**
+     * 映射第一个分量阶段的分割器。
+     */
+    private static final class MapFirst implements IntLongSpliterator, TwiceConsumerIntLong {
+        private final IntLongSpliterator upstream;
+        private final TwiceFunctionIntLongToInt mapper;
+        private int first;
+        private long second;
+
+        MapFirst(IntLongSpliterator upstream, TwiceFunctionIntLongToInt mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            first = mapper.apply(v1, v2);
+            second = v2;
+        }
+
+        @Override
+        public boolean tryAdvance(TwiceConsumerIntLong action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(first, second);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(TwiceConsumerIntLong action) {
+            upstream.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> action.accept(mapper.apply(v1, v2), v2));
+        }
+
+        @Override
+        public IntLongSpliterator trySplit() {
+            IntLongSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapFirst(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射第二个分量阶段的分割器。
+     */
+    private static final class MapSecond implements IntLongSpliterator, TwiceConsumerIntLong {
+        private final IntLongSpliterator upstream;
+        private final TwiceFunctionIntLongToLong mapper;
+        private int first;
+        private long second;
+
+        MapSecond(IntLongSpliterator upstream, TwiceFunctionIntLongToLong mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            first = v1;
+            second = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(TwiceConsumerIntLong action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(first, second);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(TwiceConsumerIntLong action) {
+            upstream.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> action.accept(v1, mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public IntLongSpliterator trySplit() {
+            IntLongSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapSecond(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 int 值 阶段的分割器。
+     */
+    private static final class MapToInt implements Spliterator.OfInt, TwiceConsumerIntLong {
+        private final IntLongSpliterator upstream;
+        private final TwiceFunctionIntLongToInt mapper;
+        private int value;
+
+        MapToInt(IntLongSpliterator upstream, TwiceFunctionIntLongToInt mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            upstream.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            IntLongSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToInt(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 long 值 阶段的分割器。
+     */
+    private static final class MapToLong implements Spliterator.OfLong, TwiceConsumerIntLong {
+        private final IntLongSpliterator upstream;
+        private final TwiceFunctionIntLongToLong mapper;
+        private long value;
+
+        MapToLong(IntLongSpliterator upstream, TwiceFunctionIntLongToLong mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            upstream.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            IntLongSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToLong(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 double 值 阶段的分割器。
+     */
+    private static final class MapToDouble implements Spliterator.OfDouble, TwiceConsumerIntLong {
+        private final IntLongSpliterator upstream;
+        private final TwiceFunctionIntLongToDouble mapper;
+        private double value;
+
+        MapToDouble(IntLongSpliterator upstream, TwiceFunctionIntLongToDouble mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            upstream.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            IntLongSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToDouble(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 对象 阶段的分割器。
+     */
+    private static final class MapToObject<R> implements Spliterator<R>, TwiceConsumerIntLong {
+        private final IntLongSpliterator upstream;
+        private final TwiceFunctionIntLongToObject<R> mapper;
+        private R value;
+
+        MapToObject(IntLongSpliterator upstream, TwiceFunctionIntLongToObject<R> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(int v1, long v2) {
+            value = mapper.apply(v1, v2);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            upstream.forEachRemaining((TwiceConsumerIntLong) (v1, v2) -> action.accept(mapper.apply(v1, v2)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            IntLongSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToObject<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerLongDouble;
+
+import java.util.Spliterator;
+
+/**
+ * 基于两个数组相同区间的二元组分割器，拆分时总是对半平衡拆分。
+ *
+ * @author zhitron
+ */
+final class LongDoubleArraySpliterator implements LongDoubleSpliterator {
+    private final long[] firsts;
+    private final double[] seconds;
+    private final int fence;
+    private int index;
+
+    LongDoubleArraySpliterator(long[] firsts, double[] seconds, int fromIndex, int toIndex) {
+        this.firsts = firsts;
+        this.seconds = seconds;
+        this.index = fromIndex;
+        this.fence = toIndex;
+    }
+
+    @Override
+    public LongDoubleSpliterator trySplit() {
+        int low = index, middle = (low + fence) >>> 1;
+        if (low >= middle) {
+            return null;
+        }
+        index = middle;
+        return new LongDoubleArraySpliterator(firsts, seconds, low, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(TwiceConsumerLongDouble action) {
+        if (index < fence) {
+            action.accept(firsts[index], seconds[index]);
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(TwiceConsumerLongDouble action) {
+        long[] firsts = this.firsts;
+        double[] seconds = this.seconds;
+        int i = index, fence = this.fence;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(firsts[i], seconds[i]);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
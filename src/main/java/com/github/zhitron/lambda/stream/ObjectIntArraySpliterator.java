@@ -0,0 +1,66 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerObjectInt;
+
+import java.util.Spliterator;
+
+/**
+ * 基于两个数组相同区间的二元组分割器，拆分时总是对半平衡拆分。
+ *
+ * @param <T> 第一个分量的类型
+ * @author zhitron
+ */
+final class ObjectIntArraySpliterator<T> implements ObjectIntSpliterator<T> {
+    private final T[] firsts;
+    private final int[] seconds;
+    private final int fence;
+    private int index;
+
+    ObjectIntArraySpliterator(T[] firsts, int[] seconds, int fromIndex, int toIndex) {
+        this.firsts = firsts;
+        this.seconds = seconds;
+        this.index = fromIndex;
+        this.fence = toIndex;
+    }
+
+    @Override
+    public ObjectIntSpliterator<T> trySplit() {
+        int low = index, middle = (low + fence) >>> 1;
+        if (low >= middle) {
+            return null;
+        }
+        index = middle;
+        return new ObjectIntArraySpliterator<>(firsts, seconds, low, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(TwiceConsumerObjectInt<T> action) {
+        if (index < fence) {
+            action.accept(firsts[index], seconds[index]);
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(TwiceConsumerObjectInt<T> action) {
+        T[] firsts = this.firsts;
+        int[] seconds = this.seconds;
+        int i = index, fence = this.fence;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(firsts[i], seconds[i]);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.zhitron.lambda.stream;
+
+import java.util.Spliterator;
+
+/**
+ * 二元组分割器的公共部分，元素在概念上是由两个分量组成的二元组，但从不实例化为对象，
+ * 分量通过具体子接口的双参数消费者直接推送。特征值沿用 {@link Spliterator} 中定义的常量。
+ *
+ * @param <S> 具体的分割器类型
+ * @author zhitron
+ */
+public interface PairSpliterator<S extends PairSpliterator<S>> {
+
+    /**
+     * 尝试将部分元素拆分为一个新的分割器，语义与 {@link Spliterator#trySplit()} 相同。
+     *
+     * @return 覆盖前一部分元素的分割器，无法拆分时返回 null
+     */
+    S trySplit();
+
+    /**
+     * 估计剩余的元素数量，语义与 {@link Spliterator#estimateSize()} 相同。
+     *
+     * @return 剩余元素数量的估计值，未知时返回 {@link Long#MAX_VALUE}
+     */
+    long estimateSize();
+
+    /**
+     * 获取分割器的特征值，取值为 {@link Spliterator} 中定义的常量组合。
+     *
+     * @return 特征值
+     */
+    int characteristics();
+
+    /**
+     * 在报告了 {@link Spliterator#SIZED} 特征时返回精确的剩余元素数量。
+     *
+     * @return 精确的剩余元素数量，未知时返回 -1
+     */
+    default long getExactSizeIfKnown() {
+        return (characteristics() & Spliterator.SIZED) == 0 ? -1L : estimateSize();
+    }
+}
@@ -0,0 +1,1107 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.BasicConstant;
+import com.github.zhitron.lambda.consumer.SingleConsumerBoolean;
+import com.github.zhitron.lambda.consumer.SingleConsumerByte;
+import com.github.zhitron.lambda.consumer.SingleConsumerChar;
+import com.github.zhitron.lambda.consumer.SingleConsumerFloat;
+import com.github.zhitron.lambda.consumer.SingleConsumerShort;
+import com.github.zhitron.lambda.function.SingleFunctionShortToByte;
+import com.github.zhitron.lambda.function.SingleFunctionShortToChar;
+import com.github.zhitron.lambda.function.SingleFunctionShortToDouble;
+import com.github.zhitron.lambda.function.SingleFunctionShortToFloat;
+import com.github.zhitron.lambda.function.SingleFunctionShortToInt;
+import com.github.zhitron.lambda.function.SingleFunctionShortToLong;
+import com.github.zhitron.lambda.function.SingleFunctionShortToObject;
+import com.github.zhitron.lambda.operator.ShortSingleOperator;
+import com.github.zhitron.lambda.operator.ShortTwiceOperator;
+import com.github.zhitron.lambda.predicate.SinglePredicateShort;
+import com.github.zhitron.lambda.supplier.ShortSupplier;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 元素为 short 的惰性流，所有中间操作与终止操作都直接接受本库的原始类型函数式接口，整个流水线不会装箱。
+ * <p>
+ * 流水线由逐级包装的 {@link ShortSpliterator} 构成，顺序模式下在调用线程中直接推送元素，
+ * 并行模式下在 {@link java.util.concurrent.ForkJoinPool#commonPool()} 上拆分分割器并按遇到顺序合并结果。
+ * 与 JDK 流一样，每个流实例只能被操作一次。
+ *
+ * @author zhitron
+ */
+public final class ShortStream {
+
+    /**
+     * 当前阶段的数据源分割器。
+     */
+    private final ShortSpliterator spliterator;
+
+    /**
+     * 是否处于并行模式。
+     */
+    private boolean parallel;
+
+    /**
+     * 当前阶段是否已经被链接或消费。
+     */
+    private boolean linked;
+
+    ShortStream(ShortSpliterator spliterator, boolean parallel) {
+        this.spliterator = spliterator;
+        this.parallel = parallel;
+    }
+
+    /**
+     * 创建一个空流。
+     *
+     * @return 空流
+     */
+    public static ShortStream empty() {
+        return of(BasicConstant.SHORT_EMPTY_ARRAY);
+    }
+
+    /**
+     * 创建包含给定元素的顺序流。
+     *
+     * @param values 流的元素
+     * @return 顺序流
+     */
+    public static ShortStream of(short... values) {
+        return new ShortStream(ShortSpliterator.of(values), false);
+    }
+
+    /**
+     * 创建覆盖数组指定区间的顺序流。
+     *
+     * @param array     数据源数组
+     * @param fromIndex 区间起始下标（包含）
+     * @param toIndex   区间结束下标（不包含）
+     * @return 顺序流
+     */
+    public static ShortStream of(short[] array, int fromIndex, int toIndex) {
+        return new ShortStream(ShortSpliterator.of(array, fromIndex, toIndex, Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * 基于给定的分割器创建流。
+     *
+     * @param spliterator 数据源分割器
+     * @param parallel    是否为并行流
+     * @return 新的流
+     */
+    public static ShortStream stream(ShortSpliterator spliterator, boolean parallel) {
+        return new ShortStream(spliterator, parallel);
+    }
+
+    /**
+     * 创建由提供者无限生成元素的顺序流，通常需要配合 {@link #limit(long)} 使用。
+     *
+     * @param supplier 元素提供者
+     * @return 无限顺序流
+     */
+    public static ShortStream generate(ShortSupplier supplier) {
+        return new ShortStream(new Generator(supplier), false);
+    }
+
+    /**
+     * 将流切换为并行模式。
+     *
+     * @return 当前流
+     */
+    public ShortStream parallel() {
+        parallel = true;
+        return this;
+    }
+
+    /**
+     * 将流切换为顺序模式。
+     *
+     * @return 当前流
+     */
+    public ShortStream sequential() {
+        parallel = false;
+        return this;
+    }
+
+    /**
+     * 判断流是否处于并行模式。
+     *
+     * @return 如果为并行流返回 true
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private ShortSpliterator link() {
+        if (linked) {
+            throw new IllegalStateException("stream has already been operated upon");
+        }
+        linked = true;
+        return spliterator;
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 保留满足谓词的元素。
+     *
+     * @param predicate 元素谓词
+     * @return 新的流
+     */
+    public ShortStream filter(SinglePredicateShort predicate) {
+        return new ShortStream(new Filter(link(), predicate), parallel);
+    }
+
+    /**
+     * 将每个元素映射为同类型的新值。
+     *
+     * @param mapper 映射运算符
+     * @return 新的流
+     */
+    public ShortStream map(ShortSingleOperator mapper) {
+        return new ShortStream(new Map(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 char 值，返回 {@link CharStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public CharStream mapToChar(SingleFunctionShortToChar mapper) {
+        return new CharStream(new MapToChar(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 byte 值，返回 {@link ByteStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public ByteStream mapToByte(SingleFunctionShortToByte mapper) {
+        return new ByteStream(new MapToByte(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 float 值，返回 {@link FloatStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public FloatStream mapToFloat(SingleFunctionShortToFloat mapper) {
+        return new FloatStream(new MapToFloat(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 boolean 值，返回 {@link BooleanStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public BooleanStream mapToBoolean(SinglePredicateShort mapper) {
+        return new BooleanStream(new MapToBoolean(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 int 值，返回 JDK 的 {@link IntStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public IntStream mapToInt(SingleFunctionShortToInt mapper) {
+        return StreamSupport.intStream(new MapToInt(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 long 值，返回 JDK 的 {@link LongStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public LongStream mapToLong(SingleFunctionShortToLong mapper) {
+        return StreamSupport.longStream(new MapToLong(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为 double 值，返回 JDK 的 {@link DoubleStream}。
+     *
+     * @param mapper 映射函数
+     * @return 新的流
+     */
+    public DoubleStream mapToDouble(SingleFunctionShortToDouble mapper) {
+        return StreamSupport.doubleStream(new MapToDouble(link(), mapper), parallel);
+    }
+
+    /**
+     * 将每个元素映射为对象，返回 JDK 的 {@link Stream}。
+     *
+     * @param mapper 映射函数
+     * @param <R> 映射结果类型
+     * @return 新的流
+     */
+    public <R> Stream<R> mapToObject(SingleFunctionShortToObject<R> mapper) {
+        return StreamSupport.stream(new MapToObject<>(link(), mapper), parallel);
+    }
+
+    /**
+     * 将元素装箱为 {@link Short}，返回 JDK 的 {@link Stream}。
+     *
+     * @return 新的流
+     */
+    public Stream<Short> boxed() {
+        return mapToObject(Short::valueOf);
+    }
+
+    /**
+     * 截取最多 maxSize 个元素，截取之后的流水线不再拆分。
+     *
+     * @param maxSize 最大元素数量
+     * @return 新的流
+     */
+    public ShortStream limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(Long.toString(maxSize));
+        }
+        return new ShortStream(new Slice(link(), 0, maxSize), parallel);
+    }
+
+    /**
+     * 跳过前 n 个元素，跳过之后的流水线不再拆分。
+     *
+     * @param n 跳过的元素数量
+     * @return 新的流
+     */
+    public ShortStream skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(Long.toString(n));
+        }
+        return new ShortStream(new Slice(link(), n, Long.MAX_VALUE), parallel);
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 对每个元素执行操作，并行模式下不保证执行顺序。
+     *
+     * @param action 元素的消费者，并行模式下需要支持并发调用
+     */
+    public void forEach(SingleConsumerShort action) {
+        ShortSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            StreamTasks.evaluate(source, s -> {
+                s.forEachRemaining(action);
+                return null;
+            }, (left, right) -> null);
+        } else {
+            source.forEachRemaining(action);
+        }
+    }
+
+    /**
+     * 按遇到顺序对每个元素执行操作，即使在并行模式下也在调用线程中顺序执行。
+     *
+     * @param action 元素的消费者
+     */
+    public void forEachOrdered(SingleConsumerShort action) {
+        link().forEachRemaining(action);
+    }
+
+    /**
+     * 使用满足结合律的运算符归约所有元素。
+     *
+     * @param identity 运算符的单位元
+     * @param operator 满足结合律的运算符
+     * @return 归约结果，流为空时返回单位元
+     */
+    public short reduce(short identity, ShortTwiceOperator operator) {
+        ShortSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, s -> reduce(s, identity, operator), operator::apply);
+        }
+        return reduce(source, identity, operator);
+    }
+
+    private static short reduce(ShortSpliterator spliterator, short identity, ShortTwiceOperator operator) {
+        Reducer reducer = new Reducer(identity, operator);
+        spliterator.forEachRemaining(reducer);
+        return reducer.result;
+    }
+
+    /**
+     * 统计元素数量。
+     *
+     * @return 元素数量
+     */
+    public long count() {
+        ShortSpliterator source = link();
+        long size = source.getExactSizeIfKnown();
+        if (size >= 0) {
+            return size;
+        }
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, ShortStream::count, Long::sum);
+        }
+        return count(source);
+    }
+
+    private static long count(ShortSpliterator spliterator) {
+        long[] count = {0L};
+        spliterator.forEachRemaining((SingleConsumerShort) v -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 按遇到顺序将所有元素收集到数组中。
+     *
+     * @return 元素数组
+     */
+    public short[] toArray() {
+        ShortSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            return StreamTasks.evaluate(source, ShortStream::toArray, (left, right) -> {
+                short[] result = Arrays.copyOf(left, left.length + right.length);
+                System.arraycopy(right, 0, result, left.length, right.length);
+                return result;
+            });
+        }
+        return toArray(source);
+    }
+
+    private static short[] toArray(ShortSpliterator spliterator) {
+        long size = spliterator.getExactSizeIfKnown();
+        Collector collector = new Collector(size >= 0 && size < Integer.MAX_VALUE - 8 ? (int) size : 16);
+        spliterator.forEachRemaining(collector);
+        return collector.values.length == collector.size ? collector.values : Arrays.copyOf(collector.values, collector.size);
+    }
+
+    /**
+     * 判断是否存在满足谓词的元素，找到后立即停止遍历。
+     *
+     * @param predicate 元素谓词
+     * @return 如果存在满足谓词的元素返回 true
+     */
+    public boolean anyMatch(SinglePredicateShort predicate) {
+        return match(predicate, true);
+    }
+
+    /**
+     * 判断是否所有元素都满足谓词，遇到不满足的元素后立即停止遍历。
+     *
+     * @param predicate 元素谓词
+     * @return 如果所有元素都满足谓词返回 true，空流返回 true
+     */
+    public boolean allMatch(SinglePredicateShort predicate) {
+        return !match(predicate, false);
+    }
+
+    /**
+     * 判断是否没有元素满足谓词，找到满足的元素后立即停止遍历。
+     *
+     * @param predicate 元素谓词
+     * @return 如果没有元素满足谓词返回 true，空流返回 true
+     */
+    public boolean noneMatch(SinglePredicateShort predicate) {
+        return !match(predicate, true);
+    }
+
+    /**
+     * 查找是否存在谓词结果等于 expected 的元素。
+     *
+     * @param predicate 元素谓词
+     * @param expected  期望的谓词结果
+     * @return 如果找到返回 true
+     */
+    private boolean match(SinglePredicateShort predicate, boolean expected) {
+        ShortSpliterator source = link();
+        if (StreamTasks.isParallel(parallel)) {
+            AtomicBoolean found = new AtomicBoolean();
+            StreamTasks.evaluate(source, s -> {
+                Matcher matcher = new Matcher(predicate, expected);
+                while (!matcher.found && !found.get() && s.tryAdvance(matcher)) {
+                    if (matcher.found) {
+                        found.set(true);
+                    }
+                }
+                return null;
+            }, (left, right) -> null);
+            return found.get();
+        }
+        Matcher matcher = new Matcher(predicate, expected);
+        while (!matcher.found && source.tryAdvance(matcher)) {
+            // 逐个推进直到找到匹配的元素
+        }
+        return matcher.found;
+    }
+
+    /**
+     * 返回当前流的分割器，之后该流不能再被操作。
+     *
+     * @return 分割器
+     */
+    public ShortSpliterator spliterator() {
+        return link();
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 归约操作的累加器。
+     */
+    private static final class Reducer implements SingleConsumerShort {
+        private final ShortTwiceOperator operator;
+        private short result;
+
+        Reducer(short identity, ShortTwiceOperator operator) {
+            this.result = identity;
+            this.operator = operator;
+        }
+
+        @Override
+        public void accept(short v1) {
+            result = operator.apply(result, v1);
+        }
+    }
+
+    /**
+     * 收集操作的可增长缓冲区。
+     */
+    private static final class Collector implements SingleConsumerShort {
+        private short[] values;
+        private int size;
+
+        Collector(int capacity) {
+            this.values = new short[capacity];
+        }
+
+        @Override
+        public void accept(short v1) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, size + (size >> 1)));
+            }
+            values[size++] = v1;
+        }
+    }
+
+    /**
+     * 短路匹配操作的检测器。
+     */
+    private static final class Matcher implements SingleConsumerShort {
+        private final SinglePredicateShort predicate;
+        private final boolean expected;
+        private boolean found;
+
+        Matcher(SinglePredicateShort predicate, boolean expected) {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        @Override
+        public void accept(short v1) {
+            if (predicate.test(v1) == expected) {
+                found = true;
+            }
+        }
+    }
+
+    /**
+     * 由提供者无限生成元素的分割器，不支持拆分。
+     */
+    private static final class Generator implements ShortSpliterator {
+        private final ShortSupplier supplier;
+
+        Generator(ShortSupplier supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerShort action) {
+            action.accept(supplier.getAsShort());
+            return true;
+        }
+
+        @Override
+        public ShortSpliterator trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.IMMUTABLE;
+        }
+    }
+
+    /**
+     * 过滤阶段的分割器。
+     */
+    private static final class Filter implements ShortSpliterator, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SinglePredicateShort predicate;
+        private short value;
+        private boolean matched;
+
+        Filter(ShortSpliterator upstream, SinglePredicateShort predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void accept(short v1) {
+            if (predicate.test(v1)) {
+                value = v1;
+                matched = true;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerShort action) {
+            matched = false;
+            while (!matched && upstream.tryAdvance(this)) {
+                // 逐个推进直到找到满足谓词的元素
+            }
+            if (matched) {
+                action.accept(value);
+            }
+            return matched;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerShort action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> {
+                if (predicate.test(v)) {
+                    action.accept(v);
+                }
+            });
+        }
+
+        @Override
+        public ShortSpliterator trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new Filter(prefix, predicate);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    /**
+     * 截取与跳过阶段的分割器，不支持拆分。
+     */
+    private static final class Slice implements ShortSpliterator, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private long skip;
+        private long remaining;
+        private short value;
+
+        Slice(ShortSpliterator upstream, long skip, long limit) {
+            this.upstream = upstream;
+            this.skip = skip;
+            this.remaining = limit;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = v1;
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerShort action) {
+            while (skip > 0) {
+                skip--;
+                if (!upstream.tryAdvance(this)) {
+                    skip = 0;
+                    remaining = 0;
+                }
+            }
+            if (remaining > 0 && upstream.tryAdvance(this)) {
+                remaining--;
+                action.accept(value);
+                return true;
+            }
+            remaining = 0;
+            return false;
+        }
+
+        @Override
+        public ShortSpliterator trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = upstream.estimateSize();
+            if (size == Long.MAX_VALUE && (upstream.characteristics() & Spliterator.SIZED) == 0) {
+                return remaining;
+            }
+            return Math.max(0, Math.min(size - skip, remaining));
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+        }
+    }
+
+    /**
+     * 同类型映射阶段的分割器。
+     */
+    private static final class Map implements ShortSpliterator, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final ShortSingleOperator mapper;
+        private short value;
+
+        Map(ShortSpliterator upstream, ShortSingleOperator mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerShort action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerShort action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public ShortSpliterator trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new Map(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 char 阶段的分割器。
+     */
+    private static final class MapToChar implements CharSpliterator, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SingleFunctionShortToChar mapper;
+        private char value;
+
+        MapToChar(ShortSpliterator upstream, SingleFunctionShortToChar mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerChar action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerChar action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public CharSpliterator trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToChar(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 byte 阶段的分割器。
+     */
+    private static final class MapToByte implements ByteSpliterator, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SingleFunctionShortToByte mapper;
+        private byte value;
+
+        MapToByte(ShortSpliterator upstream, SingleFunctionShortToByte mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerByte action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerByte action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public ByteSpliterator trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToByte(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 float 阶段的分割器。
+     */
+    private static final class MapToFloat implements FloatSpliterator, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SingleFunctionShortToFloat mapper;
+        private float value;
+
+        MapToFloat(ShortSpliterator upstream, SingleFunctionShortToFloat mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerFloat action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerFloat action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public FloatSpliterator trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToFloat(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 boolean 阶段的分割器。
+     */
+    private static final class MapToBoolean implements BooleanSpliterator, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SinglePredicateShort mapper;
+        private boolean value;
+
+        MapToBoolean(ShortSpliterator upstream, SinglePredicateShort mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.test(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(SingleConsumerBoolean action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(SingleConsumerBoolean action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.test(v)));
+        }
+
+        @Override
+        public BooleanSpliterator trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToBoolean(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 int 阶段的分割器。
+     */
+    private static final class MapToInt implements Spliterator.OfInt, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SingleFunctionShortToInt mapper;
+        private int value;
+
+        MapToInt(ShortSpliterator upstream, SingleFunctionShortToInt mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToInt(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 long 阶段的分割器。
+     */
+    private static final class MapToLong implements Spliterator.OfLong, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SingleFunctionShortToLong mapper;
+        private long value;
+
+        MapToLong(ShortSpliterator upstream, SingleFunctionShortToLong mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToLong(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 double 阶段的分割器。
+     */
+    private static final class MapToDouble implements Spliterator.OfDouble, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SingleFunctionShortToDouble mapper;
+        private double value;
+
+        MapToDouble(ShortSpliterator upstream, SingleFunctionShortToDouble mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToDouble(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT);
+        }
+    }
+
+    /**
+     * 映射为 对象 阶段的分割器。
+     */
+    private static final class MapToObject<R> implements Spliterator<R>, SingleConsumerShort {
+        private final ShortSpliterator upstream;
+        private final SingleFunctionShortToObject<R> mapper;
+        private R value;
+
+        MapToObject(ShortSpliterator upstream, SingleFunctionShortToObject<R> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(short v1) {
+            value = mapper.apply(v1);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (upstream.tryAdvance(this)) {
+                action.accept(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            upstream.forEachRemaining((SingleConsumerShort) v -> action.accept(mapper.apply(v)));
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            ShortSpliterator prefix = upstream.trySplit();
+            return prefix == null ? null : new MapToObject<>(prefix, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return upstream.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return upstream.characteristics() & ~(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.zhitron.lambda.stream;
+
+import com.github.zhitron.lambda.function.SingleFunctionObjectToLong;
+import com.github.zhitron.lambda.function.SingleFunctionObjectToObject;
+import com.github.zhitron.lambda.operator.ObjectTwiceOperator;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 流终止操作的并行求值工具类，在 {@link ForkJoinPool#commonPool()} 上递归拆分分割器，
+ * 对每个叶子分割器求值后按遇到顺序合并结果。
+ *
+ * @author zhitron
+ */
+final class StreamTasks {
+
+    /**
+     * 每个并行度对应的叶子任务数量。
+     */
+    private static final int LEAVES_PER_THREAD = 4;
+
+    private StreamTasks() {
+    }
+
+    /**
+     * 判断当前环境下是否值得并行求值。
+     *
+     * @param parallel 流是否处于并行模式
+     * @return 如果应当并行求值返回 true
+     */
+    static boolean isParallel(boolean parallel) {
+        return parallel && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * 并行拆分分割器并求值。
+     *
+     * @param spliterator 数据源分割器
+     * @param leaf        对单个叶子分割器求值的函数
+     * @param combiner    按遇到顺序合并左右两部分结果的运算符
+     * @param <S>         分割器类型
+     * @param <R>         结果类型
+     * @return 合并后的结果
+     */
+    @SuppressWarnings("unchecked")
+    static <S extends Spliterator<?>, R> R evaluate(S spliterator, SingleFunctionObjectToObject<S, R> leaf, ObjectTwiceOperator<R, R, R> combiner) {
+        return evaluate(spliterator, s -> (S) s.trySplit(), Spliterator::estimateSize, leaf, combiner);
+    }
+
+    /**
+     * 并行拆分二元组分割器并求值。
+     *
+     * @param spliterator 数据源分割器
+     * @param leaf        对单个叶子分割器求值的函数
+     * @param combiner    按遇到顺序合并左右两部分结果的运算符
+     * @param <S>         分割器类型
+     * @param <R>         结果类型
+     * @return 合并后的结果
+     */
+    static <S extends PairSpliterator<S>, R> R evaluate(S spliterator, SingleFunctionObjectToObject<S, R> leaf, ObjectTwiceOperator<R, R, R> combiner) {
+        return evaluate(spliterator, PairSpliterator::trySplit, PairSpliterator::estimateSize, leaf, combiner);
+    }
+
+    private static <S, R> R evaluate(S spliterator, SingleFunctionObjectToObject<S, S> splitter, SingleFunctionObjectToLong<S> sizer,
+                                     SingleFunctionObjectToObject<S, R> leaf, ObjectTwiceOperator<R, R, R> combiner) {
+        long threshold = Math.max(1L, sizer.apply(spliterator) / ((long) ForkJoinPool.getCommonPoolParallelism() * LEAVES_PER_THREAD));
+        return ForkJoinPool.commonPool().invoke(new Task<>(spliterator, threshold, splitter, sizer, leaf, combiner));
+    }
+
+    /**
+     * 递归拆分分割器的求值任务。
+     */
+    private static final class Task<S, R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+        private final transient S spliterator;
+        private final long threshold;
+        private final transient SingleFunctionObjectToObject<S, S> splitter;
+        private final transient SingleFunctionObjectToLong<S> sizer;
+        private final transient SingleFunctionObjectToObject<S, R> leaf;
+        private final transient ObjectTwiceOperator<R, R, R> combiner;
+
+        Task(S spliterator, long threshold, SingleFunctionObjectToObject<S, S> splitter, SingleFunctionObjectToLong<S> sizer,
+             SingleFunctionObjectToObject<S, R> leaf, ObjectTwiceOperator<R, R, R> combiner) {
+            this.spliterator = spliterator;
+            this.threshold = threshold;
+            this.splitter = splitter;
+            this.sizer = sizer;
+            this.leaf = leaf;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            S prefix;
+            if (sizer.apply(spliterator) <= threshold || (prefix = splitter.apply(spliterator)) == null) {
+                return leaf.apply(spliterator);
+            }
+            Task<S, R> left = new Task<>(prefix, threshold, splitter, sizer, leaf, combiner);
+            left.fork();
+            R right = new Task<>(spliterator, threshold, splitter, sizer, leaf, combiner).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+}
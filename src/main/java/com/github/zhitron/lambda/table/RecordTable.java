@@ -0,0 +1,7235 @@
+package com.github.zhitron.lambda.table;
+
+import com.github.zhitron.lambda.ArrayFactory;
+import com.github.zhitron.lambda.consumer.*;
+import com.github.zhitron.lambda.function.*;
+import com.github.zhitron.lambda.predicate.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 以列式（数组结构体）方式存储大量小记录的表，每一列都是一个独立的原始类型数组。
+ * <p>
+ * 与 {@code List<Record>} 相比，列式存储省去了每条记录的对象头和引用间接寻址，按列扫描时访问是连续的，对缓存更加友好。
+ * 列通过 {@code add*Column} 方法创建并以强类型的列对象访问，行通过 {@link #addRow()} 追加，
+ * 多列的遍历与过滤直接使用库中已有的 {@code Twice*}、{@code Triple*} 多参数函数式接口，整个过程不会装箱。
+ * 该类不是线程安全的。
+ *
+ * @author zhitron
+ */
+public final class RecordTable {
+
+    /**
+     * 默认的初始行容量。
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * 表中的全部列，按创建顺序排列。
+     */
+    private final List<Column> columns = new ArrayList<>();
+
+    /**
+     * 当前的行容量，即每个列数组的长度。
+     */
+    private int capacity;
+
+    /**
+     * 当前的行数。
+     */
+    private int size;
+
+    /**
+     * 创建一个使用默认初始容量的空表。
+     */
+    public RecordTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 创建一个指定初始行容量的空表。
+     *
+     * @param initialCapacity 初始行容量
+     * @throws IllegalArgumentException 当初始容量为负数时抛出
+     */
+    public RecordTable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.capacity = initialCapacity;
+    }
+
+    /**
+     * 获取表的行数。
+     *
+     * @return 行数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取表中全部列的只读视图。
+     *
+     * @return 按创建顺序排列的列
+     */
+    public List<Column> columns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * 根据名称查找列。
+     *
+     * @param name 列名
+     * @return 对应的列，不存在时返回 null
+     */
+    public Column column(String name) {
+        for (Column column : columns) {
+            if (column.name.equals(name)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 追加一行，新行的各列取对应类型的默认值。
+     *
+     * @return 新行的行号
+     */
+    public int addRow() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+
+    /**
+     * 一次追加多行，新行的各列取对应类型的默认值。
+     *
+     * @param count 追加的行数
+     * @return 第一个新行的行号
+     */
+    public int addRows(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Illegal count: " + count);
+        }
+        ensureCapacity(size + count);
+        int first = size;
+        size += count;
+        return first;
+    }
+
+    /**
+     * 清空所有行，保留列定义和已分配的容量。
+     */
+    public void clear() {
+        for (Column column : columns) {
+            column.reset(0, size);
+        }
+        size = 0;
+    }
+
+    /**
+     * 确保表至少能容纳指定的行数，不足时所有列按 1.5 倍扩容。
+     *
+     * @param minCapacity 需要的最小行容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity is too large");
+        }
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        if (newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        for (Column column : columns) {
+            column.resize(newCapacity);
+        }
+        capacity = newCapacity;
+    }
+
+    private <C extends Column> C addColumn(C column) {
+        if (column(column.name) != null) {
+            throw new IllegalArgumentException("Duplicate column: " + column.name);
+        }
+        columns.add(column);
+        return column;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+
+    private void checkColumn(Column column) {
+        if (column.table != this) {
+            throw new IllegalArgumentException("Column '" + column.name + "' does not belong to this table");
+        }
+    }
+
+    private static int[] rows(int[] rows, int count) {
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * 表中列的公共基类。
+     */
+    public abstract static class Column {
+
+        /**
+         * 所属的表。
+         */
+        final RecordTable table;
+
+        /**
+         * 列名。
+         */
+        final String name;
+
+        Column(RecordTable table, String name) {
+            this.table = table;
+            this.name = name;
+        }
+
+        /**
+         * 获取列名。
+         *
+         * @return 列名
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * 获取列的元素类型。
+         *
+         * @return 元素类型，原始类型列返回对应的原始类型 Class
+         */
+        public abstract Class<?> type();
+
+        /**
+         * 将列数组调整为新的容量。
+         *
+         * @param capacity 新容量
+         */
+        abstract void resize(int capacity);
+
+        /**
+         * 将指定行区间恢复为默认值。
+         *
+         * @param fromRow 起始行（包含）
+         * @param toRow   结束行（不包含）
+         */
+        abstract void reset(int fromRow, int toRow);
+    }
+
+    /**
+     * 新增一个 boolean 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public BooleanColumn addBooleanColumn(String name) {
+        return addColumn(new BooleanColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个 byte 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public ByteColumn addByteColumn(String name) {
+        return addColumn(new ByteColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个 char 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public CharColumn addCharColumn(String name) {
+        return addColumn(new CharColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个 short 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public ShortColumn addShortColumn(String name) {
+        return addColumn(new ShortColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个 int 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public IntColumn addIntColumn(String name) {
+        return addColumn(new IntColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个 long 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public LongColumn addLongColumn(String name) {
+        return addColumn(new LongColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个 float 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public FloatColumn addFloatColumn(String name) {
+        return addColumn(new FloatColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个 double 类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @return 新建的列
+     */
+    public DoubleColumn addDoubleColumn(String name) {
+        return addColumn(new DoubleColumn(this, name, capacity));
+    }
+
+    /**
+     * 新增一个对象类型的列，已有的行在该列上取默认值。
+     *
+     * @param name 列名，在表内必须唯一
+     * @param <T> 列的元素类型
+     * @return 新建的列
+     */
+    public <T> ObjectColumn<T> addObjectColumn(String name) {
+        return addColumn(new ObjectColumn<>(this, name, capacity));
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, BooleanColumn secondColumn, TwiceConsumerBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, DoubleColumn secondColumn, TwiceConsumerBooleanDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, IntColumn secondColumn, TwiceConsumerBooleanInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, LongColumn secondColumn, TwiceConsumerBooleanLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, DoubleColumn secondColumn, TwiceConsumerDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, BooleanColumn secondColumn, TwiceConsumerDoubleBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, IntColumn secondColumn, TwiceConsumerDoubleInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, LongColumn secondColumn, TwiceConsumerDoubleLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, IntColumn secondColumn, TwiceConsumerInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, BooleanColumn secondColumn, TwiceConsumerIntBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, DoubleColumn secondColumn, TwiceConsumerIntDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, LongColumn secondColumn, TwiceConsumerIntLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, LongColumn secondColumn, TwiceConsumerLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, BooleanColumn secondColumn, TwiceConsumerLongBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, DoubleColumn secondColumn, TwiceConsumerLongDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, IntColumn secondColumn, TwiceConsumerLongInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> void forEachRow(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, TwiceConsumerObject<T, U> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], (U) second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, TwiceConsumerObjectBoolean<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, TwiceConsumerObjectDouble<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, IntColumn secondColumn, TwiceConsumerObjectInt<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 2 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, LongColumn secondColumn, TwiceConsumerObjectLong<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerBooleanDoubleBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TripleConsumerBooleanDoubleInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TripleConsumerBooleanDoubleLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerBooleanIntBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerBooleanIntDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TripleConsumerBooleanIntLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerBooleanLongBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerBooleanLongDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TripleConsumerBooleanLongInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerBooleanTwDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TripleConsumerBooleanTwInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TripleConsumerBooleanTwLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerDoubleBooleanDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TripleConsumerDoubleBooleanInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TripleConsumerDoubleBooleanLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerDoubleIntBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerDoubleIntDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TripleConsumerDoubleIntLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerDoubleLongBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerDoubleLongDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TripleConsumerDoubleLongInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerDoubleTwBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TripleConsumerDoubleTwInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TripleConsumerDoubleTwLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TripleConsumerInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerIntBooleanDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TripleConsumerIntBooleanInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TripleConsumerIntBooleanLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerIntDoubleBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TripleConsumerIntDoubleInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TripleConsumerIntDoubleLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerIntLongBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerIntLongDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TripleConsumerIntLongInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerIntTwBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerIntTwDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TripleConsumerIntTwLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TripleConsumerLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerLongBooleanDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TripleConsumerLongBooleanInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TripleConsumerLongBooleanLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerLongDoubleBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TripleConsumerLongDoubleInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TripleConsumerLongDoubleLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerLongIntBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerLongIntDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TripleConsumerLongIntLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerLongTwBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerLongTwDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TripleConsumerLongTwInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param <V> 第 3 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U, V> void forEachRow(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, ObjectColumn<V> thirdColumn, TripleConsumerObject<T, U, V> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        Object[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], (U) second[row], (V) third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerObjectBooleanDouble<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TripleConsumerObjectBooleanInt<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TripleConsumerObjectBooleanLong<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerObjectDoubleBoolean<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TripleConsumerObjectDoubleInt<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TripleConsumerObjectDoubleLong<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerObjectIntBoolean<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerObjectIntDouble<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TripleConsumerObjectIntLong<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerObjectLongBoolean<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerObjectLongDouble<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TripleConsumerObjectLongInt<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerObjectTwBoolean<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerObjectTwDouble<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TripleConsumerObjectTwInt<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void forEachRow(ObjectColumn<T> firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TripleConsumerObjectTwLong<T> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerTwBooleanDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TripleConsumerTwBooleanInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(BooleanColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TripleConsumerTwBooleanLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerTwDoubleBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TripleConsumerTwDoubleInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(DoubleColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TripleConsumerTwDoubleLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerTwIntBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerTwIntDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(IntColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TripleConsumerTwIntLong consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TripleConsumerTwLongBoolean consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TripleConsumerTwLongDouble consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param consumer 行的消费者
+     */
+    public void forEachRow(LongColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TripleConsumerTwLongInt consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept(first[row], second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> void forEachRow(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, BooleanColumn thirdColumn, TripleConsumerTwObjectBoolean<T, U> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], (U) second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> void forEachRow(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, DoubleColumn thirdColumn, TripleConsumerTwObjectDouble<T, U> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], (U) second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> void forEachRow(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, IntColumn thirdColumn, TripleConsumerTwObjectInt<T, U> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], (U) second[row], third[row]);
+        }
+    }
+
+    /**
+     * 按行号顺序遍历指定 3 列的每一行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param consumer 行的消费者
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> void forEachRow(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, LongColumn thirdColumn, TripleConsumerTwObjectLong<T, U> consumer) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        for (int row = 0, size = this.size; row < size; row++) {
+            consumer.accept((T) first[row], (U) second[row], third[row]);
+        }
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, BooleanColumn secondColumn, TwicePredicateBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, DoubleColumn secondColumn, TwicePredicateBooleanDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, IntColumn secondColumn, TwicePredicateBooleanInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, LongColumn secondColumn, TwicePredicateBooleanLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, DoubleColumn secondColumn, TwicePredicateDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, BooleanColumn secondColumn, TwicePredicateDoubleBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, IntColumn secondColumn, TwicePredicateDoubleInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, LongColumn secondColumn, TwicePredicateDoubleLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, IntColumn secondColumn, TwicePredicateInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, BooleanColumn secondColumn, TwicePredicateIntBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, DoubleColumn secondColumn, TwicePredicateIntDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, LongColumn secondColumn, TwicePredicateIntLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, LongColumn secondColumn, TwicePredicateLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, BooleanColumn secondColumn, TwicePredicateLongBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, DoubleColumn secondColumn, TwicePredicateLongDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, IntColumn secondColumn, TwicePredicateLongInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> int[] filter(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, TwicePredicateObject<T, U> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], (U) second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, TwicePredicateObjectBoolean<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, TwicePredicateObjectDouble<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, IntColumn secondColumn, TwicePredicateObjectInt<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 2 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, LongColumn secondColumn, TwicePredicateObjectLong<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateBooleanDoubleBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TriplePredicateBooleanDoubleInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TriplePredicateBooleanDoubleLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateBooleanIntBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateBooleanIntDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TriplePredicateBooleanIntLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateBooleanLongBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateBooleanLongDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TriplePredicateBooleanLongInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateBooleanTwDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TriplePredicateBooleanTwInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TriplePredicateBooleanTwLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateDoubleBooleanDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TriplePredicateDoubleBooleanInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TriplePredicateDoubleBooleanLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateDoubleIntBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateDoubleIntDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TriplePredicateDoubleIntLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateDoubleLongBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateDoubleLongDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TriplePredicateDoubleLongInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateDoubleTwBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TriplePredicateDoubleTwInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TriplePredicateDoubleTwLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TriplePredicateInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateIntBooleanDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TriplePredicateIntBooleanInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TriplePredicateIntBooleanLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateIntDoubleBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TriplePredicateIntDoubleInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TriplePredicateIntDoubleLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateIntLongBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateIntLongDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TriplePredicateIntLongInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateIntTwBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateIntTwDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TriplePredicateIntTwLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TriplePredicateLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateLongBooleanDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TriplePredicateLongBooleanInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TriplePredicateLongBooleanLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateLongDoubleBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TriplePredicateLongDoubleInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TriplePredicateLongDoubleLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateLongIntBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateLongIntDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TriplePredicateLongIntLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateLongTwBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateLongTwDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TriplePredicateLongTwInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param <V> 第 3 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U, V> int[] filter(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, ObjectColumn<V> thirdColumn, TriplePredicateObject<T, U, V> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        Object[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], (U) second[row], (V) third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateObjectBooleanDouble<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TriplePredicateObjectBooleanInt<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TriplePredicateObjectBooleanLong<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateObjectDoubleBoolean<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TriplePredicateObjectDoubleInt<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TriplePredicateObjectDoubleLong<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateObjectIntBoolean<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateObjectIntDouble<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TriplePredicateObjectIntLong<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateObjectLongBoolean<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateObjectLongDouble<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TriplePredicateObjectLongInt<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, BooleanColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateObjectTwBoolean<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, DoubleColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateObjectTwDouble<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, IntColumn secondColumn, IntColumn thirdColumn, TriplePredicateObjectTwInt<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T> int[] filter(ObjectColumn<T> firstColumn, LongColumn secondColumn, LongColumn thirdColumn, TriplePredicateObjectTwLong<T> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, BooleanColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateTwBooleanDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, BooleanColumn secondColumn, IntColumn thirdColumn, TriplePredicateTwBooleanInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(BooleanColumn firstColumn, BooleanColumn secondColumn, LongColumn thirdColumn, TriplePredicateTwBooleanLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        boolean[] first = firstColumn.values;
+        boolean[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, DoubleColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateTwDoubleBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, DoubleColumn secondColumn, IntColumn thirdColumn, TriplePredicateTwDoubleInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(DoubleColumn firstColumn, DoubleColumn secondColumn, LongColumn thirdColumn, TriplePredicateTwDoubleLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        double[] first = firstColumn.values;
+        double[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, IntColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateTwIntBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, IntColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateTwIntDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(IntColumn firstColumn, IntColumn secondColumn, LongColumn thirdColumn, TriplePredicateTwIntLong predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        int[] first = firstColumn.values;
+        int[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, LongColumn secondColumn, BooleanColumn thirdColumn, TriplePredicateTwLongBoolean predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, LongColumn secondColumn, DoubleColumn thirdColumn, TriplePredicateTwLongDouble predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    public int[] filter(LongColumn firstColumn, LongColumn secondColumn, IntColumn thirdColumn, TriplePredicateTwLongInt predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        long[] first = firstColumn.values;
+        long[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test(first[row], second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> int[] filter(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, BooleanColumn thirdColumn, TriplePredicateTwObjectBoolean<T, U> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        boolean[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], (U) second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> int[] filter(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, DoubleColumn thirdColumn, TriplePredicateTwObjectDouble<T, U> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        double[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], (U) second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> int[] filter(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, IntColumn thirdColumn, TriplePredicateTwObjectInt<T, U> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        int[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], (U) second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    /**
+     * 筛选指定 3 列上满足谓词的行。
+     *
+     * @param firstColumn 第 1 列
+     * @param secondColumn 第 2 列
+     * @param thirdColumn 第 3 列
+     * @param <T> 第 1 个对象列的元素类型
+     * @param <U> 第 2 个对象列的元素类型
+     * @param predicate 行的谓词
+     * @return 满足谓词的行号，按升序排列
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> int[] filter(ObjectColumn<T> firstColumn, ObjectColumn<U> secondColumn, LongColumn thirdColumn, TriplePredicateTwObjectLong<T, U> predicate) {
+        checkColumn(firstColumn);
+        checkColumn(secondColumn);
+        checkColumn(thirdColumn);
+        Object[] first = firstColumn.values;
+        Object[] second = secondColumn.values;
+        long[] third = thirdColumn.values;
+        int size = this.size, count = 0;
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            if (predicate.test((T) first[row], (U) second[row], third[row])) {
+                rows[count++] = row;
+            }
+        }
+        return rows(rows, count);
+    }
+
+    //-------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * 以 boolean[] 数组存储的 boolean 列。
+     */
+    public static final class BooleanColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        boolean[] values;
+
+        BooleanColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new boolean[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return boolean.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, false);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public boolean get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, boolean value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerBoolean consumer) {
+            boolean[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerIntBoolean consumer) {
+            boolean[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateBoolean predicate) {
+            boolean[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionBooleanToByte function) {
+            boolean[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionBooleanToChar function) {
+            boolean[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionBooleanToShort function) {
+            boolean[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionBooleanToInt function) {
+            boolean[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionBooleanToLong function) {
+            boolean[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionBooleanToFloat function) {
+            boolean[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionBooleanToDouble function) {
+            boolean[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionBooleanToObject<R> function, ArrayFactory<R[]> factory) {
+            boolean[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 byte[] 数组存储的 byte 列。
+     */
+    public static final class ByteColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        byte[] values;
+
+        ByteColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new byte[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return byte.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, (byte) 0);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public byte get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, byte value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerByte consumer) {
+            byte[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerInt consumer) {
+            byte[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateByte predicate) {
+            byte[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionByteToByte function) {
+            byte[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionByteToChar function) {
+            byte[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionByteToShort function) {
+            byte[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionByteToInt function) {
+            byte[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionByteToLong function) {
+            byte[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionByteToFloat function) {
+            byte[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionByteToDouble function) {
+            byte[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionByteToObject<R> function, ArrayFactory<R[]> factory) {
+            byte[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 char[] 数组存储的 char 列。
+     */
+    public static final class CharColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        char[] values;
+
+        CharColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new char[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return char.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, '\0');
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public char get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, char value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerChar consumer) {
+            char[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerInt consumer) {
+            char[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateChar predicate) {
+            char[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionCharToByte function) {
+            char[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionCharToChar function) {
+            char[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionCharToShort function) {
+            char[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionCharToInt function) {
+            char[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionCharToLong function) {
+            char[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionCharToFloat function) {
+            char[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionCharToDouble function) {
+            char[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionCharToObject<R> function, ArrayFactory<R[]> factory) {
+            char[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 short[] 数组存储的 short 列。
+     */
+    public static final class ShortColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        short[] values;
+
+        ShortColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new short[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return short.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, (short) 0);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public short get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, short value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerShort consumer) {
+            short[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerInt consumer) {
+            short[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateShort predicate) {
+            short[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionShortToByte function) {
+            short[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionShortToChar function) {
+            short[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionShortToShort function) {
+            short[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionShortToInt function) {
+            short[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionShortToLong function) {
+            short[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionShortToFloat function) {
+            short[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionShortToDouble function) {
+            short[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionShortToObject<R> function, ArrayFactory<R[]> factory) {
+            short[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 int[] 数组存储的 int 列。
+     */
+    public static final class IntColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        int[] values;
+
+        IntColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new int[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return int.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, 0);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public int get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, int value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerInt consumer) {
+            int[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerInt consumer) {
+            int[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateInt predicate) {
+            int[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionIntToByte function) {
+            int[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionIntToChar function) {
+            int[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionIntToShort function) {
+            int[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionIntToInt function) {
+            int[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionIntToLong function) {
+            int[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionIntToFloat function) {
+            int[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionIntToDouble function) {
+            int[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionIntToObject<R> function, ArrayFactory<R[]> factory) {
+            int[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 long[] 数组存储的 long 列。
+     */
+    public static final class LongColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        long[] values;
+
+        LongColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new long[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return long.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, 0L);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public long get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, long value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerLong consumer) {
+            long[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerIntLong consumer) {
+            long[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateLong predicate) {
+            long[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionLongToByte function) {
+            long[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionLongToChar function) {
+            long[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionLongToShort function) {
+            long[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionLongToInt function) {
+            long[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionLongToLong function) {
+            long[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionLongToFloat function) {
+            long[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionLongToDouble function) {
+            long[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionLongToObject<R> function, ArrayFactory<R[]> factory) {
+            long[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 float[] 数组存储的 float 列。
+     */
+    public static final class FloatColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        float[] values;
+
+        FloatColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new float[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return float.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, 0.0f);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public float get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, float value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerFloat consumer) {
+            float[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerIntDouble consumer) {
+            float[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateFloat predicate) {
+            float[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionFloatToByte function) {
+            float[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionFloatToChar function) {
+            float[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionFloatToShort function) {
+            float[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionFloatToInt function) {
+            float[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionFloatToLong function) {
+            float[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionFloatToFloat function) {
+            float[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionFloatToDouble function) {
+            float[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionFloatToObject<R> function, ArrayFactory<R[]> factory) {
+            float[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 double[] 数组存储的 double 列。
+     */
+    public static final class DoubleColumn extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        double[] values;
+
+        DoubleColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new double[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return double.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, 0.0d);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        public double get(int row) {
+            table.checkRow(row);
+            return values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, double value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        public void forEach(SingleConsumerDouble consumer) {
+            double[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收行号与值的消费者
+         */
+        public void forEachIndexed(TwiceConsumerIntDouble consumer) {
+            double[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept(row, values[row]);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        public int[] filter(SinglePredicateDouble predicate) {
+            double[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test(values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public byte[] mapToByte(SingleFunctionDoubleToByte function) {
+            double[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public char[] mapToChar(SingleFunctionDoubleToChar function) {
+            double[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public short[] mapToShort(SingleFunctionDoubleToShort function) {
+            double[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public int[] mapToInt(SingleFunctionDoubleToInt function) {
+            double[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public long[] mapToLong(SingleFunctionDoubleToLong function) {
+            double[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public float[] mapToFloat(SingleFunctionDoubleToFloat function) {
+            double[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        public double[] mapToDouble(SingleFunctionDoubleToDouble function) {
+            double[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        public <R> R[] mapToObject(SingleFunctionDoubleToObject<R> function, ArrayFactory<R[]> factory) {
+            double[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply(values[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 以 Object[] 数组存储的对象列。
+     *
+     * @param <T> 列的元素类型
+     */
+    public static final class ObjectColumn<T> extends Column {
+
+        /**
+         * 列数据，长度等于表的行容量。
+         */
+        Object[] values;
+
+        ObjectColumn(RecordTable table, String name, int capacity) {
+            super(table, name);
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        public Class<?> type() {
+            return Object.class;
+        }
+
+        @Override
+        void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void reset(int fromRow, int toRow) {
+            Arrays.fill(values, fromRow, toRow, null);
+        }
+
+        /**
+         * 获取指定行在该列上的值。
+         *
+         * @param row 行号
+         * @return 该列的值
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int row) {
+            table.checkRow(row);
+            return (T) values[row];
+        }
+
+        /**
+         * 设置指定行在该列上的值。
+         *
+         * @param row   行号
+         * @param value 新值
+         */
+        public void set(int row, T value) {
+            table.checkRow(row);
+            values[row] = value;
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值。
+         *
+         * @param consumer 值的消费者
+         */
+        @SuppressWarnings("unchecked")
+        public void forEach(SingleConsumerObject<T> consumer) {
+            Object[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept((T) values[row]);
+            }
+        }
+
+        /**
+         * 按行号顺序遍历该列的所有值及其行号。
+         *
+         * @param consumer 接收值与行号的消费者
+         */
+        @SuppressWarnings("unchecked")
+        public void forEachIndexed(TwiceConsumerObjectInt<T> consumer) {
+            Object[] values = this.values;
+            for (int row = 0, size = table.size; row < size; row++) {
+                consumer.accept((T) values[row], row);
+            }
+        }
+
+        /**
+         * 筛选该列上满足谓词的行。
+         *
+         * @param predicate 值的谓词
+         * @return 满足谓词的行号，按升序排列
+         */
+        @SuppressWarnings("unchecked")
+        public int[] filter(SinglePredicateObject<T> predicate) {
+            Object[] values = this.values;
+            int size = table.size, count = 0;
+            int[] rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                if (predicate.test((T) values[row])) {
+                    rows[count++] = row;
+                }
+            }
+            return RecordTable.rows(rows, count);
+        }
+
+        /**
+         * 将该列投影为 byte 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public byte[] mapToByte(SingleFunctionObjectToByte<T> function) {
+            Object[] values = this.values;
+            int size = table.size;
+            byte[] result = new byte[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 char 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public char[] mapToChar(SingleFunctionObjectToChar<T> function) {
+            Object[] values = this.values;
+            int size = table.size;
+            char[] result = new char[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 short 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public short[] mapToShort(SingleFunctionObjectToShort<T> function) {
+            Object[] values = this.values;
+            int size = table.size;
+            short[] result = new short[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 int 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public int[] mapToInt(SingleFunctionObjectToInt<T> function) {
+            Object[] values = this.values;
+            int size = table.size;
+            int[] result = new int[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 long 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public long[] mapToLong(SingleFunctionObjectToLong<T> function) {
+            Object[] values = this.values;
+            int size = table.size;
+            long[] result = new long[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 float 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public float[] mapToFloat(SingleFunctionObjectToFloat<T> function) {
+            Object[] values = this.values;
+            int size = table.size;
+            float[] result = new float[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为 double 数组。
+         *
+         * @param function 投影函数
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public double[] mapToDouble(SingleFunctionObjectToDouble<T> function) {
+            Object[] values = this.values;
+            int size = table.size;
+            double[] result = new double[size];
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+
+        /**
+         * 将该列投影为对象数组。
+         *
+         * @param function 投影函数
+         * @param factory  结果数组的创建工厂
+         * @param <R>      投影结果类型
+         * @return 与行一一对应的投影结果
+         */
+        @SuppressWarnings("unchecked")
+        public <R> R[] mapToObject(SingleFunctionObjectToObject<T, R> function, ArrayFactory<R[]> factory) {
+            Object[] values = this.values;
+            int size = table.size;
+            R[] result = factory.apply(size);
+            for (int row = 0; row < size; row++) {
+                result[row] = function.apply((T) values[row]);
+            }
+            return result;
+        }
+    }
+}
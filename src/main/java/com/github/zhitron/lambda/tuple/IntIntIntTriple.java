@@ -0,0 +1,193 @@
+package com.github.zhitron.lambda.tuple;
+
+import com.github.zhitron.lambda.consumer.TripleConsumerInt;
+import com.github.zhitron.lambda.function.TripleFunctionIntToDouble;
+import com.github.zhitron.lambda.function.TripleFunctionIntToInt;
+import com.github.zhitron.lambda.function.TripleFunctionIntToLong;
+import com.github.zhitron.lambda.function.TripleFunctionIntToObject;
+import com.github.zhitron.lambda.predicate.TriplePredicateInt;
+
+/**
+ * 由 int、int、int 组成的不可变三元组。
+ * <p>
+ * 分量以原始类型字段保存，不会装箱；{@code apply*}、{@link #test}、{@link #consume} 把分量直接展开传给本库对应的三参数函数式接口。
+ *
+ * @author zhitron
+ */
+public final class IntIntIntTriple {
+
+    /**
+     * 第一个分量。
+     */
+    private final int first;
+
+    /**
+     * 第二个分量。
+     */
+    private final int second;
+
+    /**
+     * 第三个分量。
+     */
+    private final int third;
+
+    private IntIntIntTriple(int first, int second, int third) {
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    /**
+     * 创建三元组。
+     *
+     * @param first  第一个分量
+     * @param second 第二个分量
+     * @param third  第三个分量
+     * @return 新的三元组
+     */
+    public static IntIntIntTriple of(int first, int second, int third) {
+        return new IntIntIntTriple(first, second, third);
+    }
+
+    /**
+     * 获取第一个分量。
+     *
+     * @return 第一个分量
+     */
+    public int first() {
+        return first;
+    }
+
+    /**
+     * 获取第二个分量。
+     *
+     * @return 第二个分量
+     */
+    public int second() {
+        return second;
+    }
+
+    /**
+     * 获取第三个分量。
+     *
+     * @return 第三个分量
+     */
+    public int third() {
+        return third;
+    }
+
+    /**
+     * 创建替换了第一个分量的新三元组。
+     *
+     * @param first 新的第一个分量
+     * @return 新的三元组
+     */
+    public IntIntIntTriple withFirst(int first) {
+        return new IntIntIntTriple(first, second, third);
+    }
+
+    /**
+     * 创建替换了第二个分量的新三元组。
+     *
+     * @param second 新的第二个分量
+     * @return 新的三元组
+     */
+    public IntIntIntTriple withSecond(int second) {
+        return new IntIntIntTriple(first, second, third);
+    }
+
+    /**
+     * 创建替换了第三个分量的新三元组。
+     *
+     * @param third 新的第三个分量
+     * @return 新的三元组
+     */
+    public IntIntIntTriple withThird(int third) {
+        return new IntIntIntTriple(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public int applyAsInt(TripleFunctionIntToInt function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public long applyAsLong(TripleFunctionIntToLong function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public double applyAsDouble(TripleFunctionIntToDouble function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @param <R>      结果类型
+     * @return 函数结果
+     */
+    public <R> R apply(TripleFunctionIntToObject<R> function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用谓词。
+     *
+     * @param predicate 谓词
+     * @return 谓词结果
+     */
+    public boolean test(TriplePredicateInt predicate) {
+        return predicate.test(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用消费者。
+     *
+     * @param consumer 消费者
+     */
+    public void consume(TripleConsumerInt consumer) {
+        consumer.accept(first, second, third);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntIntIntTriple)) {
+            return false;
+        }
+        IntIntIntTriple that = (IntIntIntTriple) o;
+        return first == that.first && second == that.second && third == that.third;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(first);
+        result = 31 * result + Integer.hashCode(second);
+        result = 31 * result + Integer.hashCode(third);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ", " + third + ")";
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.zhitron.lambda.tuple;
+
+import com.github.zhitron.lambda.consumer.TripleConsumerIntLongDouble;
+import com.github.zhitron.lambda.function.TripleFunctionIntLongDoubleToDouble;
+import com.github.zhitron.lambda.function.TripleFunctionIntLongDoubleToInt;
+import com.github.zhitron.lambda.function.TripleFunctionIntLongDoubleToLong;
+import com.github.zhitron.lambda.function.TripleFunctionIntLongDoubleToObject;
+import com.github.zhitron.lambda.predicate.TriplePredicateIntLongDouble;
+
+/**
+ * 由 int、long、double 组成的不可变三元组。
+ * <p>
+ * 分量以原始类型字段保存，不会装箱；{@code apply*}、{@link #test}、{@link #consume} 把分量直接展开传给本库对应的三参数函数式接口。
+ *
+ * @author zhitron
+ */
+public final class IntLongDoubleTriple {
+
+    /**
+     * 第一个分量。
+     */
+    private final int first;
+
+    /**
+     * 第二个分量。
+     */
+    private final long second;
+
+    /**
+     * 第三个分量。
+     */
+    private final double third;
+
+    private IntLongDoubleTriple(int first, long second, double third) {
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    /**
+     * 创建三元组。
+     *
+     * @param first  第一个分量
+     * @param second 第二个分量
+     * @param third  第三个分量
+     * @return 新的三元组
+     */
+    public static IntLongDoubleTriple of(int first, long second, double third) {
+        return new IntLongDoubleTriple(first, second, third);
+    }
+
+    /**
+     * 获取第一个分量。
+     *
+     * @return 第一个分量
+     */
+    public int first() {
+        return first;
+    }
+
+    /**
+     * 获取第二个分量。
+     *
+     * @return 第二个分量
+     */
+    public long second() {
+        return second;
+    }
+
+    /**
+     * 获取第三个分量。
+     *
+     * @return 第三个分量
+     */
+    public double third() {
+        return third;
+    }
+
+    /**
+     * 创建替换了第一个分量的新三元组。
+     *
+     * @param first 新的第一个分量
+     * @return 新的三元组
+     */
+    public IntLongDoubleTriple withFirst(int first) {
+        return new IntLongDoubleTriple(first, second, third);
+    }
+
+    /**
+     * 创建替换了第二个分量的新三元组。
+     *
+     * @param second 新的第二个分量
+     * @return 新的三元组
+     */
+    public IntLongDoubleTriple withSecond(long second) {
+        return new IntLongDoubleTriple(first, second, third);
+    }
+
+    /**
+     * 创建替换了第三个分量的新三元组。
+     *
+     * @param third 新的第三个分量
+     * @return 新的三元组
+     */
+    public IntLongDoubleTriple withThird(double third) {
+        return new IntLongDoubleTriple(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public int applyAsInt(TripleFunctionIntLongDoubleToInt function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public long applyAsLong(TripleFunctionIntLongDoubleToLong function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public double applyAsDouble(TripleFunctionIntLongDoubleToDouble function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @param <R>      结果类型
+     * @return 函数结果
+     */
+    public <R> R apply(TripleFunctionIntLongDoubleToObject<R> function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用谓词。
+     *
+     * @param predicate 谓词
+     * @return 谓词结果
+     */
+    public boolean test(TriplePredicateIntLongDouble predicate) {
+        return predicate.test(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用消费者。
+     *
+     * @param consumer 消费者
+     */
+    public void consume(TripleConsumerIntLongDouble consumer) {
+        consumer.accept(first, second, third);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntLongDoubleTriple)) {
+            return false;
+        }
+        IntLongDoubleTriple that = (IntLongDoubleTriple) o;
+        return first == that.first && second == that.second && Double.compare(third, that.third) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(first);
+        result = 31 * result + Long.hashCode(second);
+        result = 31 * result + Double.hashCode(third);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ", " + third + ")";
+    }
+}
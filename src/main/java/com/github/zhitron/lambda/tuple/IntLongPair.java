@@ -0,0 +1,167 @@
+package com.github.zhitron.lambda.tuple;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerIntLong;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToDouble;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToLong;
+import com.github.zhitron.lambda.function.TwiceFunctionIntLongToObject;
+import com.github.zhitron.lambda.predicate.TwicePredicateIntLong;
+
+/**
+ * 由 int、long 组成的不可变二元组。
+ * <p>
+ * 分量以原始类型字段保存，不会装箱；{@code apply*}、{@link #test}、{@link #consume} 把分量直接展开传给本库对应的双参数函数式接口。
+ * 需要大量存放时应当使用 {@link IntLongPairArray}，它把分量分别保存在并行数组中。
+ *
+ * @author zhitron
+ */
+public final class IntLongPair {
+
+    /**
+     * 第一个分量。
+     */
+    private final int first;
+
+    /**
+     * 第二个分量。
+     */
+    private final long second;
+
+    private IntLongPair(int first, long second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * 创建二元组。
+     *
+     * @param first  第一个分量
+     * @param second 第二个分量
+     * @return 新的二元组
+     */
+    public static IntLongPair of(int first, long second) {
+        return new IntLongPair(first, second);
+    }
+
+    /**
+     * 获取第一个分量。
+     *
+     * @return 第一个分量
+     */
+    public int first() {
+        return first;
+    }
+
+    /**
+     * 获取第二个分量。
+     *
+     * @return 第二个分量
+     */
+    public long second() {
+        return second;
+    }
+
+    /**
+     * 创建替换了第一个分量的新二元组。
+     *
+     * @param first 新的第一个分量
+     * @return 新的二元组
+     */
+    public IntLongPair withFirst(int first) {
+        return new IntLongPair(first, second);
+    }
+
+    /**
+     * 创建替换了第二个分量的新二元组。
+     *
+     * @param second 新的第二个分量
+     * @return 新的二元组
+     */
+    public IntLongPair withSecond(long second) {
+        return new IntLongPair(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public int applyAsInt(TwiceFunctionIntLongToInt function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public long applyAsLong(TwiceFunctionIntLongToLong function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public double applyAsDouble(TwiceFunctionIntLongToDouble function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @param <R>      结果类型
+     * @return 函数结果
+     */
+    public <R> R apply(TwiceFunctionIntLongToObject<R> function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用谓词。
+     *
+     * @param predicate 谓词
+     * @return 谓词结果
+     */
+    public boolean test(TwicePredicateIntLong predicate) {
+        return predicate.test(first, second);
+    }
+
+    /**
+     * 以全部分量调用消费者。
+     *
+     * @param consumer 消费者
+     */
+    public void consume(TwiceConsumerIntLong consumer) {
+        consumer.accept(first, second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntLongPair)) {
+            return false;
+        }
+        IntLongPair that = (IntLongPair) o;
+        return first == that.first && second == that.second;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(first);
+        result = 31 * result + Long.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.zhitron.lambda.tuple;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerLongDouble;
+import com.github.zhitron.lambda.function.TwiceFunctionLongDoubleToDouble;
+import com.github.zhitron.lambda.function.TwiceFunctionLongDoubleToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionLongDoubleToLong;
+import com.github.zhitron.lambda.function.TwiceFunctionLongDoubleToObject;
+import com.github.zhitron.lambda.predicate.TwicePredicateLongDouble;
+
+/**
+ * 由 long、double 组成的不可变二元组。
+ * <p>
+ * 分量以原始类型字段保存，不会装箱；{@code apply*}、{@link #test}、{@link #consume} 把分量直接展开传给本库对应的双参数函数式接口。
+ * 需要大量存放时应当使用 {@link LongDoublePairArray}，它把分量分别保存在并行数组中。
+ *
+ * @author zhitron
+ */
+public final class LongDoublePair {
+
+    /**
+     * 第一个分量。
+     */
+    private final long first;
+
+    /**
+     * 第二个分量。
+     */
+    private final double second;
+
+    private LongDoublePair(long first, double second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * 创建二元组。
+     *
+     * @param first  第一个分量
+     * @param second 第二个分量
+     * @return 新的二元组
+     */
+    public static LongDoublePair of(long first, double second) {
+        return new LongDoublePair(first, second);
+    }
+
+    /**
+     * 获取第一个分量。
+     *
+     * @return 第一个分量
+     */
+    public long first() {
+        return first;
+    }
+
+    /**
+     * 获取第二个分量。
+     *
+     * @return 第二个分量
+     */
+    public double second() {
+        return second;
+    }
+
+    /**
+     * 创建替换了第一个分量的新二元组。
+     *
+     * @param first 新的第一个分量
+     * @return 新的二元组
+     */
+    public LongDoublePair withFirst(long first) {
+        return new LongDoublePair(first, second);
+    }
+
+    /**
+     * 创建替换了第二个分量的新二元组。
+     *
+     * @param second 新的第二个分量
+     * @return 新的二元组
+     */
+    public LongDoublePair withSecond(double second) {
+        return new LongDoublePair(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public int applyAsInt(TwiceFunctionLongDoubleToInt function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public long applyAsLong(TwiceFunctionLongDoubleToLong function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public double applyAsDouble(TwiceFunctionLongDoubleToDouble function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @param <R>      结果类型
+     * @return 函数结果
+     */
+    public <R> R apply(TwiceFunctionLongDoubleToObject<R> function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用谓词。
+     *
+     * @param predicate 谓词
+     * @return 谓词结果
+     */
+    public boolean test(TwicePredicateLongDouble predicate) {
+        return predicate.test(first, second);
+    }
+
+    /**
+     * 以全部分量调用消费者。
+     *
+     * @param consumer 消费者
+     */
+    public void consume(TwiceConsumerLongDouble consumer) {
+        consumer.accept(first, second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongDoublePair)) {
+            return false;
+        }
+        LongDoublePair that = (LongDoublePair) o;
+        return first == that.first && Double.compare(second, that.second) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(first);
+        result = 31 * result + Double.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+}
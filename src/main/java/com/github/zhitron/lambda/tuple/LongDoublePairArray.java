@@ -0,0 +1,241 @@
+package com.github.zhitron.lambda.tuple;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerLongDouble;
+import com.github.zhitron.lambda.predicate.TwicePredicateLongDouble;
+
+import java.util.Arrays;
+
+/**
+ * 以两个并行数组存放 (long, double) 二元组的可增长列表，每个元素只占两个数组槽位，不为二元组创建对象。
+ * <p>
+ * 元素按下标以分量形式读写，遍历与删除直接使用本库的双参数函数式接口；只有 {@link #get(int)} 会创建 {@link LongDoublePair} 实例。
+ * 容量不足时两个数组按 1.5 倍扩容。该类不是线程安全的。
+ *
+ * @author zhitron
+ */
+public final class LongDoublePairArray {
+
+    /**
+     * 默认的初始容量。
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * 第一个分量数组。
+     */
+    private long[] firsts;
+
+    /**
+     * 第二个分量数组。
+     */
+    private double[] seconds;
+
+    /**
+     * 元素数量。
+     */
+    private int size;
+
+    /**
+     * 创建一个使用默认初始容量的空列表。
+     */
+    public LongDoublePairArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 创建一个指定初始容量的空列表。
+     *
+     * @param initialCapacity 初始容量
+     * @throws IllegalArgumentException 当初始容量为负数时抛出
+     */
+    public LongDoublePairArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.firsts = new long[initialCapacity];
+        this.seconds = new double[initialCapacity];
+    }
+
+    /**
+     * 获取元素数量。
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断列表是否为空。
+     *
+     * @return 为空时返回 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 在末尾追加一个元素。
+     *
+     * @param first  第一个分量
+     * @param second 第二个分量
+     */
+    public void add(long first, double second) {
+        ensureCapacity(size + 1);
+        firsts[size] = first;
+        seconds[size] = second;
+        size++;
+    }
+
+    /**
+     * 在末尾追加一个二元组的分量。
+     *
+     * @param pair 二元组
+     */
+    public void add(LongDoublePair pair) {
+        add(pair.first(), pair.second());
+    }
+
+    /**
+     * 获取指定下标元素的第一个分量。
+     *
+     * @param index 下标
+     * @return 第一个分量
+     */
+    public long getFirst(int index) {
+        checkIndex(index);
+        return firsts[index];
+    }
+
+    /**
+     * 获取指定下标元素的第二个分量。
+     *
+     * @param index 下标
+     * @return 第二个分量
+     */
+    public double getSecond(int index) {
+        checkIndex(index);
+        return seconds[index];
+    }
+
+    /**
+     * 以二元组的形式获取指定下标的元素，每次调用都会创建新的二元组。
+     *
+     * @param index 下标
+     * @return 二元组
+     */
+    public LongDoublePair get(int index) {
+        return LongDoublePair.of(getFirst(index), seconds[index]);
+    }
+
+    /**
+     * 设置指定下标的元素。
+     *
+     * @param index  下标
+     * @param first  第一个分量
+     * @param second 第二个分量
+     */
+    public void set(int index, long first, double second) {
+        checkIndex(index);
+        firsts[index] = first;
+        seconds[index] = second;
+    }
+
+    /**
+     * 按下标顺序把每个元素的分量推送给消费者。
+     *
+     * @param action 元素的消费者
+     */
+    public void forEach(TwiceConsumerLongDouble action) {
+        long[] firsts = this.firsts;
+        double[] seconds = this.seconds;
+        for (int i = 0, n = size; i < n; i++) {
+            action.accept(firsts[i], seconds[i]);
+        }
+    }
+
+    /**
+     * 删除所有满足谓词的元素，剩余元素保持原有顺序。
+     *
+     * @param predicate 元素谓词
+     * @return 删除的元素数量
+     */
+    public int removeIf(TwicePredicateLongDouble predicate) {
+        long[] firsts = this.firsts;
+        double[] seconds = this.seconds;
+        int n = size, j = 0;
+        for (int i = 0; i < n; i++) {
+            long first = firsts[i];
+            double second = seconds[i];
+            if (!predicate.test(first, second)) {
+                firsts[j] = first;
+                seconds[j] = second;
+                j++;
+            }
+        }
+        size = j;
+        return n - j;
+    }
+
+    /**
+     * 获取全部第一个分量的副本。
+     *
+     * @return 长度等于元素数量的数组
+     */
+    public long[] firsts() {
+        return Arrays.copyOf(firsts, size);
+    }
+
+    /**
+     * 获取全部第二个分量的副本。
+     *
+     * @return 长度等于元素数量的数组
+     */
+    public double[] seconds() {
+        return Arrays.copyOf(seconds, size);
+    }
+
+    /**
+     * 清空所有元素，保留已分配的容量。
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 确保列表至少能容纳指定数量的元素，不足时两个数组按 1.5 倍扩容。
+     *
+     * @param minCapacity 需要的最小容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity is too large");
+        }
+        int capacity = firsts.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        if (newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        firsts = Arrays.copyOf(firsts, newCapacity);
+        seconds = Arrays.copyOf(seconds, newCapacity);
+    }
+
+    /**
+     * 将容量缩减为当前元素数量。
+     */
+    public void trimToSize() {
+        if (size < firsts.length) {
+            firsts = Arrays.copyOf(firsts, size);
+            seconds = Arrays.copyOf(seconds, size);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.zhitron.lambda.tuple;
+
+import com.github.zhitron.lambda.consumer.TripleConsumerObjectIntLong;
+import com.github.zhitron.lambda.function.TripleFunctionObjectIntLongToDouble;
+import com.github.zhitron.lambda.function.TripleFunctionObjectIntLongToInt;
+import com.github.zhitron.lambda.function.TripleFunctionObjectIntLongToLong;
+import com.github.zhitron.lambda.function.TripleFunctionObjectIntLongToObject;
+import com.github.zhitron.lambda.predicate.TriplePredicateObjectIntLong;
+
+import java.util.Objects;
+
+/**
+ * 由 对象、int、long 组成的不可变三元组。
+ * <p>
+ * 分量以原始类型字段保存，不会装箱；{@code apply*}、{@link #test}、{@link #consume} 把分量直接展开传给本库对应的三参数函数式接口。
+ *
+ * @param <T> 第一个分量的类型
+ * @author zhitron
+ */
+public final class ObjectIntLongTriple<T> {
+
+    /**
+     * 第一个分量。
+     */
+    private final T first;
+
+    /**
+     * 第二个分量。
+     */
+    private final int second;
+
+    /**
+     * 第三个分量。
+     */
+    private final long third;
+
+    private ObjectIntLongTriple(T first, int second, long third) {
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    /**
+     * 创建三元组。
+     *
+     * @param first  第一个分量
+     * @param second 第二个分量
+     * @param third  第三个分量
+     * @param <T>    第一个分量的类型
+     * @return 新的三元组
+     */
+    public static <T> ObjectIntLongTriple<T> of(T first, int second, long third) {
+        return new ObjectIntLongTriple<>(first, second, third);
+    }
+
+    /**
+     * 获取第一个分量。
+     *
+     * @return 第一个分量
+     */
+    public T first() {
+        return first;
+    }
+
+    /**
+     * 获取第二个分量。
+     *
+     * @return 第二个分量
+     */
+    public int second() {
+        return second;
+    }
+
+    /**
+     * 获取第三个分量。
+     *
+     * @return 第三个分量
+     */
+    public long third() {
+        return third;
+    }
+
+    /**
+     * 创建替换了第一个分量的新三元组。
+     *
+     * @param first 新的第一个分量
+     * @param <R>   新的第一个分量类型
+     * @return 新的三元组
+     */
+    public <R> ObjectIntLongTriple<R> withFirst(R first) {
+        return new ObjectIntLongTriple<>(first, second, third);
+    }
+
+    /**
+     * 创建替换了第二个分量的新三元组。
+     *
+     * @param second 新的第二个分量
+     * @return 新的三元组
+     */
+    public ObjectIntLongTriple<T> withSecond(int second) {
+        return new ObjectIntLongTriple<>(first, second, third);
+    }
+
+    /**
+     * 创建替换了第三个分量的新三元组。
+     *
+     * @param third 新的第三个分量
+     * @return 新的三元组
+     */
+    public ObjectIntLongTriple<T> withThird(long third) {
+        return new ObjectIntLongTriple<>(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public int applyAsInt(TripleFunctionObjectIntLongToInt<T> function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public long applyAsLong(TripleFunctionObjectIntLongToLong<T> function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public double applyAsDouble(TripleFunctionObjectIntLongToDouble<T> function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @param <R>      结果类型
+     * @return 函数结果
+     */
+    public <R> R apply(TripleFunctionObjectIntLongToObject<T, R> function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用谓词。
+     *
+     * @param predicate 谓词
+     * @return 谓词结果
+     */
+    public boolean test(TriplePredicateObjectIntLong<T> predicate) {
+        return predicate.test(first, second, third);
+    }
+
+    /**
+     * 以全部分量调用消费者。
+     *
+     * @param consumer 消费者
+     */
+    public void consume(TripleConsumerObjectIntLong<T> consumer) {
+        consumer.accept(first, second, third);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ObjectIntLongTriple)) {
+            return false;
+        }
+        ObjectIntLongTriple<?> that = (ObjectIntLongTriple<?>) o;
+        return Objects.equals(first, that.first) && second == that.second && third == that.third;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(first);
+        result = 31 * result + Integer.hashCode(second);
+        result = 31 * result + Long.hashCode(third);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ", " + third + ")";
+    }
+}
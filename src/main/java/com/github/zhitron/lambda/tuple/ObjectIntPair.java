@@ -0,0 +1,172 @@
+package com.github.zhitron.lambda.tuple;
+
+import com.github.zhitron.lambda.consumer.TwiceConsumerObjectInt;
+import com.github.zhitron.lambda.function.TwiceFunctionObjectIntToDouble;
+import com.github.zhitron.lambda.function.TwiceFunctionObjectIntToInt;
+import com.github.zhitron.lambda.function.TwiceFunctionObjectIntToLong;
+import com.github.zhitron.lambda.function.TwiceFunctionObjectIntToObject;
+import com.github.zhitron.lambda.predicate.TwicePredicateObjectInt;
+
+import java.util.Objects;
+
+/**
+ * 由 对象、int 组成的不可变二元组。
+ * <p>
+ * 分量以原始类型字段保存，不会装箱；{@code apply*}、{@link #test}、{@link #consume} 把分量直接展开传给本库对应的双参数函数式接口。
+ * 需要大量存放时应当使用 {@link ObjectIntPairArray}，它把分量分别保存在并行数组中。
+ *
+ * @param <T> 第一个分量的类型
+ * @author zhitron
+ */
+public final class ObjectIntPair<T> {
+
+    /**
+     * 第一个分量。
+     */
+    private final T first;
+
+    /**
+     * 第二个分量。
+     */
+    private final int second;
+
+    private ObjectIntPair(T first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * 创建二元组。
+     *
+     * @param first  第一个分量
+     * @param second 第二个分量
+     * @param <T>    第一个分量的类型
+     * @return 新的二元组
+     */
+    public static <T> ObjectIntPair<T> of(T first, int second) {
+        return new ObjectIntPair<>(first, second);
+    }
+
+    /**
+     * 获取第一个分量。
+     *
+     * @return 第一个分量
+     */
+    public T first() {
+        return first;
+    }
+
+    /**
+     * 获取第二个分量。
+     *
+     * @return 第二个分量
+     */
+    public int second() {
+        return second;
+    }
+
+    /**
+     * 创建替换了第一个分量的新二元组。
+     *
+     * @param first 新的第一个分量
+     * @param <R>   新的第一个分量类型
+     * @return 新的二元组
+     */
+    public <R> ObjectIntPair<R> withFirst(R first) {
+        return new ObjectIntPair<>(first, second);
+    }
+
+    /**
+     * 创建替换了第二个分量的新二元组。
+     *
+     * @param second 新的第二个分量
+     * @return 新的二元组
+     */
+    public ObjectIntPair<T> withSecond(int second) {
+        return new ObjectIntPair<>(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public int applyAsInt(TwiceFunctionObjectIntToInt<T> function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public long applyAsLong(TwiceFunctionObjectIntToLong<T> function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @return 函数结果
+     */
+    public double applyAsDouble(TwiceFunctionObjectIntToDouble<T> function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用函数。
+     *
+     * @param function 函数
+     * @param <R>      结果类型
+     * @return 函数结果
+     */
+    public <R> R apply(TwiceFunctionObjectIntToObject<T, R> function) {
+        return function.apply(first, second);
+    }
+
+    /**
+     * 以全部分量调用谓词。
+     *
+     * @param predicate 谓词
+     * @return 谓词结果
+     */
+    public boolean test(TwicePredicateObjectInt<T> predicate) {
+        return predicate.test(first, second);
+    }
+
+    /**
+     * 以全部分量调用消费者。
+     *
+     * @param consumer 消费者
+     */
+    public void consume(TwiceConsumerObjectInt<T> consumer) {
+        consumer.accept(first, second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ObjectIntPair)) {
+            return false;
+        }
+        ObjectIntPair<?> that = (ObjectIntPair<?>) o;
+        return Objects.equals(first, that.first) && second == that.second;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(first);
+        result = 31 * result + Integer.hashCode(second);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+}
@@ -0,0 +1,765 @@
+package com.github.zhitron.lambda;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.zhitron.lambda.LambdaType.*;
+
+/**
+ * RecordTableGenerator 是一个代码生成器，用于生成 {@code table/RecordTable.java}。
+ * <p>
+ * RecordTable 中的 {@code add*Column} 方法、每种元素类型的列类以及多列的 {@code forEachRow}、{@code filter} 重载都是按类型组合展开的，
+ * 其中多列重载与 consumer、predicate 目录下已有的 {@code Twice*}、{@code Triple*} 接口一一对应，因此该生成器会扫描这两个目录，
+ * 为每个不抛出异常的多参数接口生成一个重载。新增或删除多参数接口后重新运行该生成器即可同步 RecordTable。
+ *
+ * @author zhitron
+ */
+public class RecordTableGenerator extends TemplateGenerator {
+
+    /**
+     * 列支持的元素类型，按生成顺序排列。
+     */
+    private static final LambdaType[] ELEMENTS = {BOOLEAN, BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE, OBJECT};
+
+    /**
+     * 多参数接口名中表示参数类型的片段，{@code Tw} 表示其后的类型连续出现两次。
+     */
+    private static final Pattern TOKEN = Pattern.compile("Tw|Boolean|Int|Long|Double|Object");
+
+    /**
+     * 多列方法中各列参数的名称。
+     */
+    private static final String[] NAMES = {"first", "second", "third"};
+
+    /**
+     * 各部分之间的分隔线。
+     */
+    private static final String SEPARATOR = "\n    //-------------------------------------------------------------------------------------------------------------------------------------------------------------\n";
+
+    private static final String HEAD = lines(
+            "package com.github.zhitron.lambda.table;",
+            "",
+            "import com.github.zhitron.lambda.ArrayFactory;",
+            "import com.github.zhitron.lambda.consumer.*;",
+            "import com.github.zhitron.lambda.function.*;",
+            "import com.github.zhitron.lambda.predicate.*;",
+            "",
+            "import java.util.ArrayList;",
+            "import java.util.Arrays;",
+            "import java.util.Collections;",
+            "import java.util.List;",
+            "",
+            "/**",
+            " * 以列式（数组结构体）方式存储大量小记录的表，每一列都是一个独立的原始类型数组。",
+            " * <p>",
+            " * 与 {@code List<Record>} 相比，列式存储省去了每条记录的对象头和引用间接寻址，按列扫描时访问是连续的，对缓存更加友好。",
+            " * 列通过 {@code add*Column} 方法创建并以强类型的列对象访问，行通过 {@link #addRow()} 追加，",
+            " * 多列的遍历与过滤直接使用库中已有的 {@code Twice*}、{@code Triple*} 多参数函数式接口，整个过程不会装箱。",
+            " * 该类不是线程安全的。",
+            " *",
+            " * @author zhitron",
+            " */",
+            "public final class RecordTable {",
+            "",
+            "    /**",
+            "     * 默认的初始行容量。",
+            "     */",
+            "    private static final int DEFAULT_CAPACITY = 16;",
+            "",
+            "    /**",
+            "     * 表中的全部列，按创建顺序排列。",
+            "     */",
+            "    private final List<Column> columns = new ArrayList<>();",
+            "",
+            "    /**",
+            "     * 当前的行容量，即每个列数组的长度。",
+            "     */",
+            "    private int capacity;",
+            "",
+            "    /**",
+            "     * 当前的行数。",
+            "     */",
+            "    private int size;",
+            "",
+            "    /**",
+            "     * 创建一个使用默认初始容量的空表。",
+            "     */",
+            "    public RecordTable() {",
+            "        this(DEFAULT_CAPACITY);",
+            "    }",
+            "",
+            "    /**",
+            "     * 创建一个指定初始行容量的空表。",
+            "     *",
+            "     * @param initialCapacity 初始行容量",
+            "     * @throws IllegalArgumentException 当初始容量为负数时抛出",
+            "     */",
+            "    public RecordTable(int initialCapacity) {",
+            "        if (initialCapacity < 0) {",
+            "            throw new IllegalArgumentException(\"Illegal capacity: \" + initialCapacity);",
+            "        }",
+            "        this.capacity = initialCapacity;",
+            "    }",
+            "",
+            "    /**",
+            "     * 获取表的行数。",
+            "     *",
+            "     * @return 行数",
+            "     */",
+            "    public int size() {",
+            "        return size;",
+            "    }",
+            "",
+            "    /**",
+            "     * 获取表中全部列的只读视图。",
+            "     *",
+            "     * @return 按创建顺序排列的列",
+            "     */",
+            "    public List<Column> columns() {",
+            "        return Collections.unmodifiableList(columns);",
+            "    }",
+            "",
+            "    /**",
+            "     * 根据名称查找列。",
+            "     *",
+            "     * @param name 列名",
+            "     * @return 对应的列，不存在时返回 null",
+            "     */",
+            "    public Column column(String name) {",
+            "        for (Column column : columns) {",
+            "            if (column.name.equals(name)) {",
+            "                return column;",
+            "            }",
+            "        }",
+            "        return null;",
+            "    }",
+            "",
+            "    /**",
+            "     * 追加一行，新行的各列取对应类型的默认值。",
+            "     *",
+            "     * @return 新行的行号",
+            "     */",
+            "    public int addRow() {",
+            "        ensureCapacity(size + 1);",
+            "        return size++;",
+            "    }",
+            "",
+            "    /**",
+            "     * 一次追加多行，新行的各列取对应类型的默认值。",
+            "     *",
+            "     * @param count 追加的行数",
+            "     * @return 第一个新行的行号",
+            "     */",
+            "    public int addRows(int count) {",
+            "        if (count < 0) {",
+            "            throw new IllegalArgumentException(\"Illegal count: \" + count);",
+            "        }",
+            "        ensureCapacity(size + count);",
+            "        int first = size;",
+            "        size += count;",
+            "        return first;",
+            "    }",
+            "",
+            "    /**",
+            "     * 清空所有行，保留列定义和已分配的容量。",
+            "     */",
+            "    public void clear() {",
+            "        for (Column column : columns) {",
+            "            column.reset(0, size);",
+            "        }",
+            "        size = 0;",
+            "    }",
+            "",
+            "    /**",
+            "     * 确保表至少能容纳指定的行数，不足时所有列按 1.5 倍扩容。",
+            "     *",
+            "     * @param minCapacity 需要的最小行容量",
+            "     */",
+            "    public void ensureCapacity(int minCapacity) {",
+            "        if (minCapacity < 0) {",
+            "            throw new OutOfMemoryError(\"Required capacity is too large\");",
+            "        }",
+            "        if (minCapacity <= capacity) {",
+            "            return;",
+            "        }",
+            "        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));",
+            "        if (newCapacity < 0) {",
+            "            newCapacity = minCapacity;",
+            "        }",
+            "        for (Column column : columns) {",
+            "            column.resize(newCapacity);",
+            "        }",
+            "        capacity = newCapacity;",
+            "    }",
+            "",
+            "    private <C extends Column> C addColumn(C column) {",
+            "        if (column(column.name) != null) {",
+            "            throw new IllegalArgumentException(\"Duplicate column: \" + column.name);",
+            "        }",
+            "        columns.add(column);",
+            "        return column;",
+            "    }",
+            "",
+            "    private void checkRow(int row) {",
+            "        if (row < 0 || row >= size) {",
+            "            throw new IndexOutOfBoundsException(\"Row: \" + row + \", Size: \" + size);",
+            "        }",
+            "    }",
+            "",
+            "    private void checkColumn(Column column) {",
+            "        if (column.table != this) {",
+            "            throw new IllegalArgumentException(\"Column '\" + column.name + \"' does not belong to this table\");",
+            "        }",
+            "    }",
+            "",
+            "    private static int[] rows(int[] rows, int count) {",
+            "        return count == rows.length ? rows : Arrays.copyOf(rows, count);",
+            "    }",
+            "",
+            "    /**",
+            "     * 表中列的公共基类。",
+            "     */",
+            "    public abstract static class Column {",
+            "",
+            "        /**",
+            "         * 所属的表。",
+            "         */",
+            "        final RecordTable table;",
+            "",
+            "        /**",
+            "         * 列名。",
+            "         */",
+            "        final String name;",
+            "",
+            "        Column(RecordTable table, String name) {",
+            "            this.table = table;",
+            "            this.name = name;",
+            "        }",
+            "",
+            "        /**",
+            "         * 获取列名。",
+            "         *",
+            "         * @return 列名",
+            "         */",
+            "        public String name() {",
+            "            return name;",
+            "        }",
+            "",
+            "        /**",
+            "         * 获取列的元素类型。",
+            "         *",
+            "         * @return 元素类型，原始类型列返回对应的原始类型 Class",
+            "         */",
+            "        public abstract Class<?> type();",
+            "",
+            "        /**",
+            "         * 将列数组调整为新的容量。",
+            "         *",
+            "         * @param capacity 新容量",
+            "         */",
+            "        abstract void resize(int capacity);",
+            "",
+            "        /**",
+            "         * 将指定行区间恢复为默认值。",
+            "         *",
+            "         * @param fromRow 起始行（包含）",
+            "         * @param toRow   结束行（不包含）",
+            "         */",
+            "        abstract void reset(int fromRow, int toRow);",
+            "    }",
+            ""
+    );
+
+    private static final String ADDCOL = lines(
+            "",
+            "    /**",
+            "     * 新增一个{D}类型的列，已有的行在该列上取默认值。",
+            "     *",
+            "     * @param name 列名，在表内必须唯一",
+            "     {GDOC}* @return 新建的列",
+            "     */",
+            "    public {G}{CT} add{Cap}Column(String name) {",
+            "        return addColumn(new {CT}(this, name, capacity));",
+            "    }",
+            ""
+    );
+
+    private static final String COLUMN = lines(
+            "",
+            "    /**",
+            "     * 以 {ARRT} 数组存储的{D}列。",
+            "     {GDOC}*/",
+            "    public static final class {CTD} extends Column {",
+            "",
+            "        /**",
+            "         * 列数据，长度等于表的行容量。",
+            "         */",
+            "        {ARRT} values;",
+            "",
+            "        {CN}(RecordTable table, String name, int capacity) {",
+            "            super(table, name);",
+            "            this.values = {NEWARR};",
+            "        }",
+            "",
+            "        @Override",
+            "        public Class<?> type() {",
+            "            return {TYPECLASS};",
+            "        }",
+            "",
+            "        @Override",
+            "        void resize(int capacity) {",
+            "            values = Arrays.copyOf(values, capacity);",
+            "        }",
+            "",
+            "        @Override",
+            "        void reset(int fromRow, int toRow) {",
+            "            {RESET}",
+            "        }",
+            "",
+            "        /**",
+            "         * 获取指定行在该列上的值。",
+            "         *",
+            "         * @param row 行号",
+            "         * @return 该列的值",
+            "         */",
+            "        public {T} get(int row) {",
+            "            table.checkRow(row);",
+            "            return {GETCAST}values[row];",
+            "        }",
+            "",
+            "        /**",
+            "         * 设置指定行在该列上的值。",
+            "         *",
+            "         * @param row   行号",
+            "         * @param value 新值",
+            "         */",
+            "        public void set(int row, {T} value) {",
+            "            table.checkRow(row);",
+            "            values[row] = value;",
+            "        }",
+            "",
+            "        /**",
+            "         * 按行号顺序遍历该列的所有值。",
+            "         *",
+            "         * @param consumer 值的消费者",
+            "         */",
+            "        {UNCHECKED}public void forEach({SC} consumer) {",
+            "            {ARRT} values = this.values;",
+            "            for (int row = 0, size = table.size; row < size; row++) {",
+            "                consumer.accept({GETCAST}values[row]);",
+            "            }",
+            "        }",
+            "",
+            "        /**",
+            "         * 按行号顺序遍历该列的所有值及其行号。",
+            "         *",
+            "         * @param consumer 接收{TCIDOC}的消费者",
+            "         */",
+            "        {UNCHECKED}public void forEachIndexed({TCI} consumer) {",
+            "            {ARRT} values = this.values;",
+            "            for (int row = 0, size = table.size; row < size; row++) {",
+            "                consumer.accept({TCIARGS});",
+            "            }",
+            "        }",
+            "",
+            "        /**",
+            "         * 筛选该列上满足谓词的行。",
+            "         *",
+            "         * @param predicate 值的谓词",
+            "         * @return 满足谓词的行号，按升序排列",
+            "         */",
+            "        {UNCHECKED}public int[] filter({SP} predicate) {",
+            "            {ARRT} values = this.values;",
+            "            int size = table.size, count = 0;",
+            "            int[] rows = new int[size];",
+            "            for (int row = 0; row < size; row++) {",
+            "                if (predicate.test({GETCAST}values[row])) {",
+            "                    rows[count++] = row;",
+            "                }",
+            "            }",
+            "            return RecordTable.rows(rows, count);",
+            "        }",
+            "{MAPS}    }",
+            ""
+    );
+
+    private static final String MAP = lines(
+            "",
+            "        /**",
+            "         * 将该列投影为 {YD} 数组。",
+            "         *",
+            "         * @param function 投影函数",
+            "         * @return 与行一一对应的投影结果",
+            "         */",
+            "        {UNCHECKED}public {MG}{YT}[] mapTo{YCap}({F} function) {",
+            "            {ARRT} values = this.values;",
+            "            int size = table.size;",
+            "            {YT}[] result = new {YT}[size];",
+            "            for (int row = 0; row < size; row++) {",
+            "                result[row] = function.apply({GETCAST}values[row]);",
+            "            }",
+            "            return result;",
+            "        }",
+            ""
+    );
+
+    private static final String MAPOBJ = lines(
+            "",
+            "        /**",
+            "         * 将该列投影为对象数组。",
+            "         *",
+            "         * @param function 投影函数",
+            "         * @param factory  结果数组的创建工厂",
+            "         * @param <R>      投影结果类型",
+            "         * @return 与行一一对应的投影结果",
+            "         */",
+            "        {UNCHECKED}public <R> R[] mapToObject({F} function, ArrayFactory<R[]> factory) {",
+            "            {ARRT} values = this.values;",
+            "            int size = table.size;",
+            "            R[] result = factory.apply(size);",
+            "            for (int row = 0; row < size; row++) {",
+            "                result[row] = function.apply({GETCAST}values[row]);",
+            "            }",
+            "            return result;",
+            "        }",
+            ""
+    );
+
+    /**
+     * 程序入口函数，创建RecordTableGenerator实例并执行executeThrow方法
+     *
+     * @param args 命令行参数数组
+     * @throws Exception 当executeThrow方法执行过程中发生异常时抛出
+     */
+    public static void main(String[] args) throws Exception {
+        new RecordTableGenerator().executeThrow();
+    }
+
+    /**
+     * 定义需要抛出异常的执行方法，用于生成 RecordTable 文件
+     *
+     * @throws Exception 异常类型，由接口实现时指定
+     */
+    @Override
+    public void executeThrow() throws Exception {
+        StringBuilder sb = new StringBuilder(HEAD);
+
+        // 1、生成每种元素类型的 add*Column 方法
+        for (LambdaType element : ELEMENTS) {
+            generateAddColumn(sb, element);
+        }
+
+        // 2、生成多列遍历方法，与 Twice*、Triple* 消费者接口一一对应
+        sb.append(SEPARATOR);
+        generateMulti(sb, "consumer", "TwiceConsumer", 2);
+        generateMulti(sb, "consumer", "TripleConsumer", 3);
+
+        // 3、生成多列筛选方法，与 Twice*、Triple* 谓词接口一一对应
+        sb.append(SEPARATOR);
+        generateMulti(sb, "predicate", "TwicePredicate", 2);
+        generateMulti(sb, "predicate", "TriplePredicate", 3);
+
+        // 4、生成每种元素类型的列类
+        sb.append(SEPARATOR);
+        for (LambdaType element : ELEMENTS) {
+            generateColumn(sb, element);
+        }
+        sb.append("}\n");
+
+        Path path = root.resolve("table");
+        if (!Files.exists(path)) {
+            Files.createDirectories(path);
+        }
+        Files.write(path.resolve("RecordTable.java"), sb.toString().getBytes(charset));
+    }
+
+    /**
+     * 生成指定元素类型的 add*Column 方法
+     *
+     * @param sb      代码输出
+     * @param element 列的元素类型
+     */
+    private void generateAddColumn(StringBuilder sb, LambdaType element) {
+        if (element.isGeneric()) {
+            sb.append(ADDCOL.replace("{D}", "对象")
+                    .replace("{GDOC}", "* @param <T> 列的元素类型\n     ")
+                    .replace("{G}", "<T> ")
+                    .replace("{CT}", "ObjectColumn<T>")
+                    .replace("{Cap}", element.getCapitalizedName())
+                    .replace("new ObjectColumn<T>", "new ObjectColumn<>"));
+        } else {
+            sb.append(ADDCOL.replace("{D}", " " + element.getReturnType() + " ")
+                    .replace("{GDOC}", "")
+                    .replace("{G}", "")
+                    .replace("{CT}", element.getCapitalizedName() + "Column")
+                    .replace("{Cap}", element.getCapitalizedName()));
+        }
+    }
+
+    /**
+     * 为目录下指定前缀的每个多参数接口生成一个多列方法，消费者接口生成 forEachRow，谓词接口生成 filter
+     *
+     * @param sb      代码输出
+     * @param dirname 接口所在的目录
+     * @param prefix  接口名前缀
+     * @param arity   接口的参数个数
+     * @throws IOException 如果读取目录时发生I/O错误
+     */
+    private void generateMulti(StringBuilder sb, String dirname, String prefix, int arity) throws IOException {
+        boolean forEach = "consumer".equals(dirname);
+        List<String> names;
+        try (Stream<Path> stream = Files.list(root.resolve(dirname))) {
+            names = stream.map(p -> p.getFileName().toString())
+                    .filter(f -> f.startsWith(prefix) && !f.endsWith("Throw.java"))
+                    .sorted()
+                    .map(f -> f.substring(0, f.length() - ".java".length()))
+                    .collect(Collectors.toList());
+        }
+        for (String name : names) {
+            List<LambdaType> types = parse(name, prefix, arity);
+            List<String> generics = new ArrayList<>();
+            StringBuilder params = new StringBuilder();
+            StringBuilder docs = new StringBuilder();
+            StringBuilder genericDocs = new StringBuilder();
+            StringBuilder checks = new StringBuilder();
+            StringBuilder locals = new StringBuilder();
+            StringBuilder args = new StringBuilder();
+            for (int i = 0; i < arity; i++) {
+                LambdaType type = types.get(i);
+                String n = NAMES[i];
+                if (i > 0) {
+                    params.append(", ");
+                    args.append(", ");
+                }
+                docs.append("     * @param ").append(n).append("Column 第 ").append(i + 1).append(" 列\n");
+                checks.append("        checkColumn(").append(n).append("Column);\n");
+                if (type.isGeneric()) {
+                    String generic = OBJECT.getParamType(generics.size());
+                    generics.add(generic);
+                    params.append("ObjectColumn<").append(generic).append("> ").append(n).append("Column");
+                    genericDocs.append("     * @param <").append(generic).append("> 第 ").append(generics.size()).append(" 个对象列的元素类型\n");
+                    locals.append("        Object[] ").append(n).append(" = ").append(n).append("Column.values;\n");
+                    args.append("(").append(generic).append(") ").append(n).append("[row]");
+                } else {
+                    params.append(type.getCapitalizedName()).append("Column ").append(n).append("Column");
+                    locals.append("        ").append(type.getReturnType()).append("[] ").append(n).append(" = ").append(n).append("Column.values;\n");
+                    args.append(n).append("[row]");
+                }
+            }
+            String genericDeclaration = generics.isEmpty() ? "" : "<" + String.join(", ", generics) + ">";
+
+            sb.append("\n");
+            sb.append("    /**\n");
+            if (forEach) {
+                sb.append("     * 按行号顺序遍历指定 ").append(arity).append(" 列的每一行。\n");
+            } else {
+                sb.append("     * 筛选指定 ").append(arity).append(" 列上满足谓词的行。\n");
+            }
+            sb.append("     *\n");
+            sb.append(docs).append(genericDocs);
+            if (forEach) {
+                sb.append("     * @param consumer 行的消费者\n");
+            } else {
+                sb.append("     * @param predicate 行的谓词\n");
+                sb.append("     * @return 满足谓词的行号，按升序排列\n");
+            }
+            sb.append("     */\n");
+            if (!generics.isEmpty()) {
+                sb.append("    @SuppressWarnings(\"unchecked\")\n");
+            }
+            sb.append("    public ");
+            if (!generics.isEmpty()) {
+                sb.append(genericDeclaration).append(" ");
+            }
+            sb.append(forEach ? "void forEachRow(" : "int[] filter(").append(params).append(", ")
+                    .append(name).append(genericDeclaration).append(forEach ? " consumer) {\n" : " predicate) {\n");
+            sb.append(checks).append(locals);
+            if (forEach) {
+                sb.append("        for (int row = 0, size = this.size; row < size; row++) {\n");
+                sb.append("            consumer.accept(").append(args).append(");\n");
+                sb.append("        }\n");
+            } else {
+                sb.append("        int size = this.size, count = 0;\n");
+                sb.append("        int[] rows = new int[size];\n");
+                sb.append("        for (int row = 0; row < size; row++) {\n");
+                sb.append("            if (predicate.test(").append(args).append(")) {\n");
+                sb.append("                rows[count++] = row;\n");
+                sb.append("            }\n");
+                sb.append("        }\n");
+                sb.append("        return rows(rows, count);\n");
+            }
+            sb.append("    }\n");
+        }
+    }
+
+    /**
+     * 从多参数接口名中解析各参数的类型，只有一个类型片段时表示所有参数都是该类型
+     *
+     * @param name   接口名
+     * @param prefix 接口名前缀
+     * @param arity  接口的参数个数
+     * @return 各参数的类型
+     */
+    private static List<LambdaType> parse(String name, String prefix, int arity) {
+        List<LambdaType> types = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(name.substring(prefix.length()));
+        boolean twice = false;
+        while (matcher.find()) {
+            String token = matcher.group();
+            if ("Tw".equals(token)) {
+                twice = true;
+                continue;
+            }
+            LambdaType type = LambdaType.valueOf(token.toUpperCase());
+            types.add(type);
+            if (twice) {
+                types.add(type);
+                twice = false;
+            }
+        }
+        if (types.size() == 1) {
+            while (types.size() < arity) {
+                types.add(types.get(0));
+            }
+        }
+        if (types.size() != arity) {
+            throw new IllegalArgumentException("the number of parameters is incorrect: " + name);
+        }
+        return types;
+    }
+
+    /**
+     * 生成指定元素类型的列类
+     *
+     * @param sb      代码输出
+     * @param element 列的元素类型
+     */
+    private void generateColumn(StringBuilder sb, LambdaType element) {
+        boolean generic = element.isGeneric();
+        String cap = element.getCapitalizedName();
+        StringBuilder maps = new StringBuilder();
+        for (LambdaType target : ELEMENTS) {
+            if (target == BOOLEAN) {
+                continue;
+            }
+            String function;
+            if (generic) {
+                function = "SingleFunctionObjectTo" + target.getCapitalizedName() + (target.isGeneric() ? "<T, R>" : "<T>");
+            } else {
+                function = "SingleFunction" + cap + "To" + target.getCapitalizedName() + (target.isGeneric() ? "<R>" : "");
+            }
+            if (target.isGeneric()) {
+                maps.append(MAPOBJ.replace("{F}", function));
+            } else {
+                maps.append(MAP.replace("{YD}", target.getReturnType())
+                        .replace("{YT}", target.getReturnType())
+                        .replace("{YCap}", target.getCapitalizedName())
+                        .replace("{F}", function)
+                        .replace("{MG}", ""));
+            }
+        }
+        String column = COLUMN.replace("{MAPS}", maps);
+        if (generic) {
+            column = column.replace("{ARRT}", "Object[]")
+                    .replace("{D}", "对象")
+                    .replace("{GDOC}", "*\n     * @param <T> 列的元素类型\n     ")
+                    .replace("{CTD}", "ObjectColumn<T>")
+                    .replace("{CN}", "ObjectColumn")
+                    .replace("{NEWARR}", "new Object[capacity]")
+                    .replace("{TYPECLASS}", "Object.class")
+                    .replace("{RESET}", "Arrays.fill(values, fromRow, toRow, null);")
+                    .replace("{T}", "T")
+                    .replace("{GETCAST}", "(T) ")
+                    .replace("{UNCHECKED}", "@SuppressWarnings(\"unchecked\")\n        ")
+                    .replace("{SC}", "SingleConsumerObject<T>")
+                    .replace("{SP}", "SinglePredicateObject<T>")
+                    .replace("{TCI}", "TwiceConsumerObjectInt<T>")
+                    .replace("{TCIDOC}", "值与行号")
+                    .replace("{TCIARGS}", "(T) values[row], row")
+                    .replace("        public T get(int row)", "        @SuppressWarnings(\"unchecked\")\n        public T get(int row)");
+        } else {
+            String type = element.getReturnType();
+            column = column.replace("{ARRT}", type + "[]")
+                    .replace("{D}", " " + type + " ")
+                    .replace("{GDOC}", "")
+                    .replace("{CTD}", cap + "Column")
+                    .replace("{CN}", cap + "Column")
+                    .replace("{NEWARR}", "new " + type + "[capacity]")
+                    .replace("{TYPECLASS}", type + ".class")
+                    .replace("{RESET}", "Arrays.fill(values, fromRow, toRow, " + defaultValue(element) + ");")
+                    .replace("{T}", type)
+                    .replace("{GETCAST}", "")
+                    .replace("{UNCHECKED}", "")
+                    .replace("{SC}", "SingleConsumer" + cap)
+                    .replace("{SP}", "SinglePredicate" + cap)
+                    .replace("{TCI}", indexedConsumer(element))
+                    .replace("{TCIDOC}", "行号与值")
+                    .replace("{TCIARGS}", "row, values[row]");
+        }
+        sb.append(column.replace("    {GDOC}", "    "));
+    }
+
+    /**
+     * 获取原始类型列 forEachIndexed 使用的消费者接口，byte、char、short 拓宽为 int，float 拓宽为 double
+     *
+     * @param element 列的元素类型
+     * @return 接收行号与值的消费者接口名
+     */
+    private static String indexedConsumer(LambdaType element) {
+        switch (element) {
+            case BOOLEAN:
+                return "TwiceConsumerIntBoolean";
+            case LONG:
+                return "TwiceConsumerIntLong";
+            case FLOAT:
+            case DOUBLE:
+                return "TwiceConsumerIntDouble";
+            default:
+                return "TwiceConsumerInt";
+        }
+    }
+
+    /**
+     * 获取原始类型的默认值字面量
+     *
+     * @param element 列的元素类型
+     * @return 默认值字面量
+     */
+    private static String defaultValue(LambdaType element) {
+        switch (element) {
+            case BOOLEAN:
+                return "false";
+            case BYTE:
+                return "(byte) 0";
+            case CHAR:
+                return "'\\0'";
+            case SHORT:
+                return "(short) 0";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0.0f";
+            case DOUBLE:
+                return "0.0d";
+            default:
+                return "0";
+        }
+    }
+
+    /**
+     * 将多行文本拼接为一个模板
+     *
+     * @param lines 模板的各行
+     * @return 以换行符连接的模板
+     */
+    private static String lines(String... lines) {
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.zhitron.lambda.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link CustomHashIntMap} 的测试。
+ *
+ * @author zhitron
+ */
+class CustomHashIntMapTest {
+
+    private static CustomHashIntMap<String> newMap() {
+        return new CustomHashIntMap<>(String::hashCode, String::equals);
+    }
+
+    @Test
+    void computeIfAbsentStoresMappedValue() {
+        CustomHashIntMap<String> map = newMap();
+        assertEquals(7, map.computeIfAbsent("k", k -> 7));
+        assertEquals(7, map.computeIfAbsent("k", k -> 9));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void computeIfAbsentRejectsMapperInsertingSameKey() {
+        CustomHashIntMap<String> map = newMap();
+        assertThrows(ConcurrentModificationException.class, () -> map.computeIfAbsent("k", k -> {
+            map.put(k, 1);
+            return 2;
+        }));
+        assertEquals(1, map.getOrDefault("k", 0));
+        assertEquals(1, map.size());
+    }
+}
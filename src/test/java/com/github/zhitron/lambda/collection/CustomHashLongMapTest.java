@@ -0,0 +1,39 @@
+package com.github.zhitron.lambda.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link CustomHashLongMap} 的测试。
+ *
+ * @author zhitron
+ */
+class CustomHashLongMapTest {
+
+    private static CustomHashLongMap<String> newMap() {
+        return new CustomHashLongMap<>(String::hashCode, String::equals);
+    }
+
+    @Test
+    void computeIfAbsentStoresMappedValue() {
+        CustomHashLongMap<String> map = newMap();
+        assertEquals(7, map.computeIfAbsent("k", k -> 7));
+        assertEquals(7, map.computeIfAbsent("k", k -> 9));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void computeIfAbsentRejectsMapperInsertingSameKey() {
+        CustomHashLongMap<String> map = newMap();
+        assertThrows(ConcurrentModificationException.class, () -> map.computeIfAbsent("k", k -> {
+            map.put(k, 1L);
+            return 2;
+        }));
+        assertEquals(1L, map.getOrDefault("k", 0L));
+        assertEquals(1, map.size());
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.zhitron.lambda.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BatchingConsumer} 的测试。
+ *
+ * @author zhitron
+ */
+class BatchingConsumerTest {
+
+    @Test
+    void batchFilledAfterWorkerParksIsDeliveredWithoutWaitingForMaxDelay() throws InterruptedException {
+        BlockingQueue<Integer> sizes = new ArrayBlockingQueue<>(16);
+        try (BatchingConsumer<String> batching = new BatchingConsumer<>(64, 10, 3, TimeUnit.SECONDS, String[]::new,
+                (batch, length) -> sizes.add(length))) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                batching.accept("a" + i);
+            }
+            // 让工作线程取走前 5 个元素后以最长延迟休眠
+            Thread.sleep(100);
+            for (int i = 0; i < 5; i++) {
+                batching.accept("b" + i);
+            }
+            Integer size = sizes.poll(1, TimeUnit.SECONDS);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertNotNull(size, "full batch was not delivered before max delay");
+            assertEquals(10, size);
+            assertTrue(elapsedMillis < 1000, "full batch delivered after " + elapsedMillis + "ms");
+        }
+    }
+
+    @Test
+    void partialBatchIsDeliveredAfterMaxDelay() throws InterruptedException {
+        BlockingQueue<Integer> sizes = new ArrayBlockingQueue<>(16);
+        try (BatchingConsumer<String> batching = new BatchingConsumer<>(64, 10, 50, TimeUnit.MILLISECONDS, String[]::new,
+                (batch, length) -> sizes.add(length))) {
+            for (int i = 0; i < 3; i++) {
+                batching.accept("a" + i);
+            }
+            assertEquals(3, sizes.poll(1, TimeUnit.SECONDS));
+        }
+    }
+}
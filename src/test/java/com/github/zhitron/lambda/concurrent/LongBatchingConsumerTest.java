@@ -0,0 +1,46 @@
+package com.github.zhitron.lambda.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link LongBatchingConsumer} 的测试。
+ *
+ * @author zhitron
+ */
+class LongBatchingConsumerTest {
+
+    @Test
+    void batchFilledAfterWorkerParksIsDeliveredWithoutWaitingForMaxDelay() throws InterruptedException {
+        BlockingQueue<Long> sums = new ArrayBlockingQueue<>(16);
+        try (LongBatchingConsumer batching = new LongBatchingConsumer(64, 10, 3, TimeUnit.SECONDS, (batch, length) -> {
+            long sum = 0;
+            for (int i = 0; i < length; i++) {
+                sum += batch[i];
+            }
+            sums.add(sum);
+        })) {
+            long start = System.nanoTime();
+            for (int i = 1; i <= 5; i++) {
+                batching.accept(i);
+            }
+            // 让工作线程取走前 5 个元素后以最长延迟休眠
+            Thread.sleep(100);
+            for (int i = 6; i <= 10; i++) {
+                batching.accept(i);
+            }
+            Long sum = sums.poll(1, TimeUnit.SECONDS);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertNotNull(sum, "full batch was not delivered before max delay");
+            assertEquals(55L, sum);
+            assertTrue(elapsedMillis < 1000, "full batch delivered after " + elapsedMillis + "ms");
+        }
+    }
+}
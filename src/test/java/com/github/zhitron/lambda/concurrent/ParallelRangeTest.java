@@ -0,0 +1,28 @@
+package com.github.zhitron.lambda.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link ParallelRange} 的测试。
+ *
+ * @author zhitron
+ */
+class ParallelRangeTest {
+
+    @Test
+    void mapReduceShortMatchesSequentialReduction() {
+        short expected = 0;
+        for (int i = 0; i < 100_000; i++) {
+            expected = (short) Math.max(expected, (short) (i % 3001));
+        }
+        assertEquals(expected, ParallelRange.mapReduceShort(0, 100_000, i -> (short) (i % 3001), Short.MIN_VALUE,
+                (a, b) -> (short) Math.max(a, b)));
+    }
+
+    @Test
+    void mapReduceShortOfEmptyRangeIsIdentity() {
+        assertEquals((short) 7, ParallelRange.mapReduceShort(5, 5, i -> (short) i, (short) 7, (a, b) -> (short) (a + b)));
+    }
+}